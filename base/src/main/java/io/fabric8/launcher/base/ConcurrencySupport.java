@@ -0,0 +1,54 @@
+package io.fabric8.launcher.base;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.IntConsumer;
+
+/**
+ * Helpers to run the calls made to a remote API with a bounded concurrency
+ */
+public final class ConcurrencySupport {
+
+    /**
+     * Maximum number of calls made at the same time on the same remote resource (a repository, a project...)
+     */
+    public static final int MAX_CONCURRENT_CALLS = 4;
+
+    private ConcurrencySupport() {
+        throw new IllegalAccessError("Utility class");
+    }
+
+    /**
+     * Runs the action for each index, at most maxConcurrency at a time, and waits for all of them.
+     * <p>
+     * Each lane runs the action for every n-th index, one after the other, so no call waits for a free thread.
+     *
+     * @param indexes        the indexes to run the action for
+     * @param maxConcurrency the maximum number of actions running at the same time
+     * @param action         the action, called with each index
+     * @param executor       the {@link Executor} running the actions
+     * @throws RuntimeException the first exception thrown by an action, once every lane is done
+     */
+    public static void applyInLanes(List<Integer> indexes, int maxConcurrency, IntConsumer action, Executor executor) {
+        final int lanes = Math.min(maxConcurrency, indexes.size());
+        final CompletableFuture<?>[] futures = new CompletableFuture<?>[lanes];
+        for (int lane = 0; lane < lanes; lane++) {
+            CompletableFuture<Void> future = CompletableFuture.completedFuture(null);
+            for (int i = lane; i < indexes.size(); i += lanes) {
+                final int index = indexes.get(i);
+                future = future.thenRunAsync(() -> action.accept(index), executor);
+            }
+            futures[lane] = future;
+        }
+        try {
+            CompletableFuture.allOf(futures).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package io.fabric8.launcher.base;
 
 import static io.fabric8.launcher.base.EnvironmentSupport.getBooleanEnvVarOrSysProp;
 import static io.fabric8.launcher.base.EnvironmentSupport.getEnvVarOrSysProp;
+import static io.fabric8.launcher.base.EnvironmentSupport.getIntEnvVarOrSysProp;
 import static io.fabric8.launcher.base.EnvironmentSupport.getRequiredEnvVarOrSysProp;
 
 /**
@@ -35,6 +36,10 @@ public interface EnvironmentEnum {
         return getBooleanEnvVarOrSysProp(propertyKey(), defaultValue);
     }
 
+    default int intValue(int defaultValue) {
+        return getIntEnvVarOrSysProp(propertyKey(), defaultValue);
+    }
+
     default boolean isSet() {
         return value() != null;
     }
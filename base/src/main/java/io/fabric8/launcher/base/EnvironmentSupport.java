@@ -94,6 +94,28 @@ public final class EnvironmentSupport {
     }
 
 
+    /**
+     * Obtains the environment variable or system property, with preference to the system
+     * property in the case both are defined. Returns the parsed integer value if defined and valid,
+     * otherwise falls back to the default value.
+     *
+     * @param envVarOrSysProp the environment variable or system property name
+     * @param defaultValue    defaultValue in case not specified or not a valid integer
+     * @return the integer value of the environment variable or system property
+     * @throws IllegalArgumentException If the env var or sysprop name is not specified
+     */
+    public static int getIntEnvVarOrSysProp(final String envVarOrSysProp, final int defaultValue) {
+        String value = getEnvVarOrSysProp(envVarOrSysProp);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
     /**
      * Obtains the required environment variable or system property, with preference to the system
      * property in the case both are defined.
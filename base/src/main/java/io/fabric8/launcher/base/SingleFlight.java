@@ -0,0 +1,51 @@
+package io.fabric8.launcher.base;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Shares a remote call between the concurrent callers of the same key.
+ * <p>
+ * A call is forgotten once completed, failed calls are not cached: the next caller starts a new one.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the results
+ */
+public final class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> calls = new ConcurrentHashMap<>();
+
+    /**
+     * @param key  the key of the call
+     * @param call starts the call, only invoked when no call of the same key is running
+     * @return the running call of the key
+     * @throws RuntimeException the exception thrown while starting the call
+     */
+    public CompletableFuture<V> call(K key, Supplier<? extends CompletionStage<V>> call) {
+        final CompletableFuture<V> started = new CompletableFuture<>();
+        final CompletableFuture<V> existing = calls.putIfAbsent(key, started);
+        if (existing != null) {
+            return existing;
+        }
+        final CompletionStage<V> stage;
+        try {
+            stage = call.get();
+        } catch (RuntimeException e) {
+            calls.remove(key, started);
+            started.completeExceptionally(e);
+            throw e;
+        }
+        stage.whenComplete((value, error) -> {
+            calls.remove(key, started);
+            if (error != null) {
+                started.completeExceptionally(error);
+            } else {
+                started.complete(value);
+            }
+        });
+        return started;
+    }
+}
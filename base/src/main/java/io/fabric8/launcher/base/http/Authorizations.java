@@ -1,10 +1,18 @@
 package io.fabric8.launcher.base.http;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
 import java.util.Base64;
+import java.util.Optional;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import io.fabric8.launcher.base.JsonUtils;
 import io.fabric8.launcher.base.identity.Identity;
 import io.fabric8.launcher.base.identity.IdentityVisitor;
 import io.fabric8.launcher.base.identity.TokenIdentity;
@@ -77,6 +85,48 @@ public final class Authorizations {
         return token != null && TOKEN_PREDICATE.test(token);
     }
 
+    /**
+     * Creates a fingerprint of the identity credentials, suitable as a cache key without keeping the credentials
+     *
+     * @param identity the {@link Identity}
+     * @return the SHA-256 of the default authorization, hex encoded
+     */
+    public static String fingerprint(final Identity identity) {
+        requireNonNull(identity, "identity must be specified.");
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+        final StringBuilder sb = new StringBuilder();
+        for (byte b : digest.digest(identity.toRequestAuthorization().getBytes(StandardCharsets.UTF_8))) {
+            sb.append(String.format("%02x", b));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Reads the "exp" claim if the token is a JWT. The signature is not verified
+     *
+     * @param token the token
+     * @return the expiration time, empty if the token is opaque or does not expire
+     */
+    public static Optional<Instant> getExpirationTime(final String token) {
+        requireNonNull(token, "token must be specified.");
+        final String[] parts = token.split("\\.");
+        if (parts.length != 3) {
+            return Optional.empty();
+        }
+        try {
+            final JsonNode payload = JsonUtils.readTree(new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8));
+            final JsonNode exp = payload.get("exp");
+            return exp != null && exp.canConvertToLong() ? Optional.of(Instant.ofEpochSecond(exp.asLong())) : Optional.empty();
+        } catch (IllegalArgumentException | IOException e) {
+            return Optional.empty();
+        }
+    }
+
     private static String createAuthorization(final TokenIdentity identity, final AuthorizationType type) {
         if (type == AuthorizationType.BEARER_TOKEN) {
             return addBearerPrefix(identity.getToken());
@@ -6,6 +6,7 @@ import java.security.cert.X509Certificate;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -20,6 +21,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import io.fabric8.launcher.base.JsonUtils;
 import okhttp3.Call;
 import okhttp3.Callback;
+import okhttp3.ConnectionPool;
 import okhttp3.Dispatcher;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
@@ -87,6 +89,71 @@ public class HttpClient {
         return client;
     }
 
+    /**
+     * Returns a {@link HttpClient} with its own dispatcher limits, connection pool and timeouts, as described by the
+     * given {@link HttpClientProfile}. Async calls still run in the executor of this instance.
+     *
+     * @param profile  the {@link HttpClientProfile} to apply
+     * @param recorder the {@link HttpEventRecorder} receiving the DNS, connect, TLS and response timings
+     * @return a new {@link HttpClient}
+     */
+    public HttpClient withProfile(final HttpClientProfile profile, final HttpEventRecorder recorder) {
+        requireNonNull(profile, "profile must be specified.");
+        requireNonNull(recorder, "recorder must be specified.");
+        final Dispatcher dispatcher = new Dispatcher(client.dispatcher().executorService());
+        dispatcher.setMaxRequests(profile.getMaxRequests());
+        dispatcher.setMaxRequestsPerHost(profile.getMaxRequestsPerHost());
+        return new HttpClient(client.newBuilder()
+                .dispatcher(dispatcher)
+                .connectionPool(new ConnectionPool(profile.getMaxIdleConnections(), profile.getKeepAlive(), TimeUnit.SECONDS))
+                .connectTimeout(profile.getConnectTimeout(), TimeUnit.SECONDS)
+                .readTimeout(profile.getReadTimeout(), TimeUnit.SECONDS)
+                .writeTimeout(profile.getWriteTimeout(), TimeUnit.SECONDS)
+                .eventListenerFactory(TimingEventListener.factory(profile.getName(), recorder))
+                .build());
+    }
+
+    /**
+     * @return the number of async calls waiting for a free slot in the dispatcher
+     */
+    public int getQueuedCallsCount() {
+        return client.dispatcher().queuedCallsCount();
+    }
+
+    /**
+     * @return the number of calls currently executing
+     */
+    public int getRunningCallsCount() {
+        return client.dispatcher().runningCallsCount();
+    }
+
+    /**
+     * @return the number of open connections in the pool
+     */
+    public int getConnectionCount() {
+        return client.connectionPool().connectionCount();
+    }
+
+    /**
+     * @return the number of idle connections in the pool
+     */
+    public int getIdleConnectionCount() {
+        return client.connectionPool().idleConnectionCount();
+    }
+
+    /**
+     * Returns a {@link HttpClient} revalidating GET requests against the given {@link HttpResponseCache}.
+     *
+     * The returned instance shares the connection pool and dispatcher with this one.
+     *
+     * @param cache the {@link HttpResponseCache} to use
+     * @return a new {@link HttpClient}
+     */
+    public HttpClient withResponseCache(final HttpResponseCache cache) {
+        requireNonNull(cache, "cache must be specified.");
+        return new HttpClient(client.newBuilder().addInterceptor(cache).build());
+    }
+
     @Nullable
     @SuppressWarnings("squid:S1192")
     public <T> T executeAndMap(Request request, Function<Response, T> mapFunction) {
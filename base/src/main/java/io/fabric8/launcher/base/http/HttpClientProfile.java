@@ -0,0 +1,91 @@
+package io.fabric8.launcher.base.http;
+
+import java.util.Locale;
+
+import org.immutables.value.Value;
+
+import static io.fabric8.launcher.base.EnvironmentSupport.getIntEnvVarOrSysProp;
+
+/**
+ * Dispatcher limits, connection pool and timeouts used when calling an {@link Upstream}
+ *
+ * @see HttpClient#withProfile(HttpClientProfile, HttpEventRecorder)
+ */
+@Value.Immutable
+public interface HttpClientProfile {
+
+    String getName();
+
+    @Value.Default
+    default int getMaxRequests() {
+        return 64;
+    }
+
+    @Value.Default
+    default int getMaxRequestsPerHost() {
+        return 5;
+    }
+
+    @Value.Default
+    default int getMaxIdleConnections() {
+        return 5;
+    }
+
+    /**
+     * @return the keep alive duration of idle connections in seconds
+     */
+    @Value.Default
+    default int getKeepAlive() {
+        return 300;
+    }
+
+    /**
+     * @return the connect timeout in seconds
+     */
+    @Value.Default
+    default int getConnectTimeout() {
+        return 10;
+    }
+
+    /**
+     * @return the read timeout in seconds
+     */
+    @Value.Default
+    default int getReadTimeout() {
+        return 10;
+    }
+
+    /**
+     * @return the write timeout in seconds
+     */
+    @Value.Default
+    default int getWriteTimeout() {
+        return 10;
+    }
+
+    /**
+     * Reads the profile of the given {@link Upstream}. Every value can be overridden with an env var or system property
+     * named after the upstream, eg. LAUNCHER_HTTP_GIT_MAX_REQUESTS_PER_HOST or LAUNCHER_HTTP_KEYCLOAK_READ_TIMEOUT
+     *
+     * @param upstream the {@link Upstream}
+     * @return the {@link HttpClientProfile}
+     */
+    static HttpClientProfile forUpstream(Upstream upstream) {
+        String prefix = "LAUNCHER_HTTP_" + upstream.name() + "_";
+        HttpClientProfile defaults = ImmutableHttpClientProfile.builder()
+                .name(upstream.name().toLowerCase(Locale.ENGLISH))
+                .maxRequestsPerHost(upstream.getDefaultMaxRequestsPerHost())
+                .readTimeout(upstream.getDefaultReadTimeout())
+                .build();
+        return ImmutableHttpClientProfile.builder()
+                .name(defaults.getName())
+                .maxRequests(getIntEnvVarOrSysProp(prefix + "MAX_REQUESTS", defaults.getMaxRequests()))
+                .maxRequestsPerHost(getIntEnvVarOrSysProp(prefix + "MAX_REQUESTS_PER_HOST", defaults.getMaxRequestsPerHost()))
+                .maxIdleConnections(getIntEnvVarOrSysProp(prefix + "MAX_IDLE_CONNECTIONS", defaults.getMaxIdleConnections()))
+                .keepAlive(getIntEnvVarOrSysProp(prefix + "KEEP_ALIVE", defaults.getKeepAlive()))
+                .connectTimeout(getIntEnvVarOrSysProp(prefix + "CONNECT_TIMEOUT", defaults.getConnectTimeout()))
+                .readTimeout(getIntEnvVarOrSysProp(prefix + "READ_TIMEOUT", defaults.getReadTimeout()))
+                .writeTimeout(getIntEnvVarOrSysProp(prefix + "WRITE_TIMEOUT", defaults.getWriteTimeout()))
+                .build();
+    }
+}
@@ -0,0 +1,25 @@
+package io.fabric8.launcher.base.http;
+
+/**
+ * Receives the timings measured by the {@link HttpClient} of an {@link HttpClientProfile}
+ */
+@FunctionalInterface
+public interface HttpEventRecorder {
+
+    HttpEventRecorder NOOP = (profile, phase, durationNanos) -> {
+    };
+
+    enum Phase {
+        DNS,
+        CONNECT,
+        TLS,
+        /**
+         * From the start of the call until the response headers start arriving
+         */
+        TIME_TO_FIRST_BYTE,
+        CALL,
+        CALL_FAILED
+    }
+
+    void record(String profile, Phase phase, long durationNanos);
+}
@@ -0,0 +1,271 @@
+package io.fabric8.launcher.base.http;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import okhttp3.Headers;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+import static java.util.Arrays.asList;
+
+/**
+ * A size-bounded, in-memory cache of GET responses that always revalidates with the server using
+ * {@code If-None-Match}/{@code If-Modified-Since}. A 304 answer is turned into the cached response, so callers
+ * never notice the difference, and content is never served without the server confirming it is still current.
+ * <p>
+ * Entries are partitioned per identity: the key contains a hash of the headers carrying the credentials, so the
+ * same URL requested by two users never shares an entry and tokens are not kept in memory.
+ * <p>
+ * Register it with {@link HttpClient#withResponseCache(HttpResponseCache)}.
+ */
+public class HttpResponseCache implements Interceptor {
+
+    /**
+     * Headers identifying who is asking. Gitea uses Sudo to impersonate users
+     */
+    private static final List<String> IDENTITY_HEADERS = asList("Authorization", "Private-Token", "Sudo");
+
+    /**
+     * Headers of a 304 response that must not replace the ones stored with the cached body
+     */
+    private static final List<String> ENTITY_HEADERS = asList("Content-Length", "Content-Type", "Content-Encoding", "Transfer-Encoding");
+
+    private final long maxSize;
+
+    private final long maxEntrySize;
+
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+
+    private long size;
+
+    private final AtomicLong hitCount = new AtomicLong();
+
+    private final AtomicLong missCount = new AtomicLong();
+
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    /**
+     * @param maxSize the maximum number of bytes kept in memory. 0 disables the cache
+     */
+    public HttpResponseCache(long maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("maxSize must not be negative");
+        }
+        this.maxSize = maxSize;
+        // A single huge listing should not flush everything else
+        this.maxEntrySize = maxSize / 8;
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        if (maxSize == 0 || !isCacheable(request)) {
+            return chain.proceed(request);
+        }
+        String key = keyOf(request);
+        Entry cached = get(key);
+        Request networkRequest = request;
+        if (cached != null) {
+            Request.Builder builder = request.newBuilder();
+            if (cached.etag != null) {
+                builder.header("If-None-Match", cached.etag);
+            }
+            if (cached.lastModified != null) {
+                builder.header("If-Modified-Since", cached.lastModified);
+            }
+            networkRequest = builder.build();
+        }
+        Response response = chain.proceed(networkRequest);
+        if (cached != null && response.code() == 304) {
+            hitCount.incrementAndGet();
+            response.close();
+            return cached.toResponse(request, response);
+        }
+        missCount.incrementAndGet();
+        if (response.code() != 200) {
+            if (cached != null) {
+                remove(key);
+            }
+            return response;
+        }
+        return store(key, response);
+    }
+
+    /**
+     * @return the number of requests answered from the cache after a 304 revalidation
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * @return the number of cacheable requests that needed a full response from the server
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * @return the number of entries dropped to stay below the maximum size
+     */
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    /**
+     * @return the ratio of hits among the cacheable requests, 0 if none was made yet
+     */
+    public double getHitRatio() {
+        long hits = hitCount.get();
+        long total = hits + missCount.get();
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+
+    /**
+     * @return the number of bytes currently held
+     */
+    public synchronized long getSize() {
+        return size;
+    }
+
+    public long getMaxSize() {
+        return maxSize;
+    }
+
+    public synchronized int getEntryCount() {
+        return entries.size();
+    }
+
+    public synchronized void evictAll() {
+        evictionCount.addAndGet(entries.size());
+        entries.clear();
+        size = 0;
+    }
+
+    private Response store(String key, Response response) throws IOException {
+        String etag = response.header("ETag");
+        String lastModified = response.header("Last-Modified");
+        if ((etag == null && lastModified == null) || response.cacheControl().noStore()) {
+            return response;
+        }
+        // peekBody leaves the original body untouched, so oversized responses are returned as they are
+        ResponseBody peeked = response.peekBody(maxEntrySize + 1);
+        byte[] body = peeked.bytes();
+        if (body.length > maxEntrySize) {
+            return response;
+        }
+        put(key, new Entry(response, etag, lastModified, body));
+        return response;
+    }
+
+    private synchronized Entry get(String key) {
+        return entries.get(key);
+    }
+
+    private synchronized void put(String key, Entry entry) {
+        Entry previous = entries.put(key, entry);
+        if (previous != null) {
+            size -= previous.weight();
+        }
+        size += entry.weight();
+        Iterator<Entry> eldest = entries.values().iterator();
+        while (size > maxSize && eldest.hasNext()) {
+            size -= eldest.next().weight();
+            eldest.remove();
+            evictionCount.incrementAndGet();
+        }
+    }
+
+    private synchronized void remove(String key) {
+        Entry previous = entries.remove(key);
+        if (previous != null) {
+            size -= previous.weight();
+        }
+    }
+
+    private static boolean isCacheable(Request request) {
+        // Requests already carrying validators are handled by the caller
+        return "GET".equals(request.method())
+                && request.header("If-None-Match") == null
+                && request.header("If-Modified-Since") == null
+                && !request.cacheControl().noStore();
+    }
+
+    static String keyOf(Request request) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+        for (String header : IDENTITY_HEADERS) {
+            String value = request.header(header);
+            digest.update((header + ':' + (value == null ? "" : value) + '\n').getBytes(StandardCharsets.UTF_8));
+        }
+        StringBuilder key = new StringBuilder();
+        for (byte b : digest.digest()) {
+            key.append(String.format("%02x", b));
+        }
+        // Accept selects the media type (eg. GitHub previews), so it is part of the variant
+        String accept = request.header("Accept");
+        return key.append(' ').append(accept == null ? "" : accept).append(' ').append(request.url()).toString();
+    }
+
+    private static final class Entry {
+
+        private final int code;
+
+        private final String message;
+
+        private final Headers headers;
+
+        private final String etag;
+
+        private final String lastModified;
+
+        private final byte[] body;
+
+        private Entry(Response response, String etag, String lastModified, byte[] body) {
+            this.code = response.code();
+            this.message = response.message();
+            this.headers = response.headers();
+            this.etag = etag;
+            this.lastModified = lastModified;
+            this.body = body;
+        }
+
+        private long weight() {
+            return body.length + headers.byteCount();
+        }
+
+        private Response toResponse(Request request, Response notModified) {
+            Headers.Builder merged = headers.newBuilder();
+            // Keep what the server sent with the 304 (eg. rate limit headers)
+            for (Map.Entry<String, List<String>> header : notModified.headers().toMultimap().entrySet()) {
+                if (ENTITY_HEADERS.stream().noneMatch(header.getKey()::equalsIgnoreCase)) {
+                    merged.removeAll(header.getKey());
+                    header.getValue().forEach(value -> merged.add(header.getKey(), value));
+                }
+            }
+            String contentType = headers.get("Content-Type");
+            return notModified.newBuilder()
+                    .request(request)
+                    .code(code)
+                    .message(message)
+                    .headers(merged.build())
+                    .body(ResponseBody.create(contentType == null ? null : MediaType.parse(contentType), body))
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package io.fabric8.launcher.base.http;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import javax.enterprise.util.AnnotationLiteral;
+import javax.inject.Qualifier;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.ElementType.TYPE;
+
+/**
+ * Selects the {@link HttpClient} configured for the given {@link Upstream}
+ */
+@Qualifier
+@Retention(RetentionPolicy.RUNTIME)
+@Target({TYPE, FIELD, PARAMETER, METHOD})
+public @interface HttpUpstream {
+
+    Upstream value();
+
+    final class HttpUpstreamLiteral extends AnnotationLiteral<HttpUpstream> implements HttpUpstream {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Upstream value;
+
+        public static HttpUpstreamLiteral of(Upstream value) {
+            return new HttpUpstreamLiteral(value);
+        }
+
+        @Override
+        public Upstream value() {
+            return value;
+        }
+
+        private HttpUpstreamLiteral(Upstream value) {
+            this.value = value;
+        }
+
+    }
+}
@@ -0,0 +1,113 @@
+package io.fabric8.launcher.base.http;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+import okhttp3.Call;
+import okhttp3.EventListener;
+import okhttp3.Handshake;
+import okhttp3.Protocol;
+
+import static io.fabric8.launcher.base.http.HttpEventRecorder.Phase.CALL;
+import static io.fabric8.launcher.base.http.HttpEventRecorder.Phase.CALL_FAILED;
+import static io.fabric8.launcher.base.http.HttpEventRecorder.Phase.CONNECT;
+import static io.fabric8.launcher.base.http.HttpEventRecorder.Phase.DNS;
+import static io.fabric8.launcher.base.http.HttpEventRecorder.Phase.TIME_TO_FIRST_BYTE;
+import static io.fabric8.launcher.base.http.HttpEventRecorder.Phase.TLS;
+
+/**
+ * Measures the phases of a single call and hands them to a {@link HttpEventRecorder}
+ */
+class TimingEventListener extends EventListener {
+
+    private final String profile;
+
+    private final HttpEventRecorder recorder;
+
+    private long callStart;
+
+    private long dnsStart;
+
+    private long connectStart;
+
+    private long secureConnectStart;
+
+    private boolean firstByteRecorded;
+
+    private TimingEventListener(String profile, HttpEventRecorder recorder) {
+        this.profile = profile;
+        this.recorder = recorder;
+    }
+
+    static EventListener.Factory factory(String profile, HttpEventRecorder recorder) {
+        return call -> new TimingEventListener(profile, recorder);
+    }
+
+    @Override
+    public void callStart(Call call) {
+        callStart = System.nanoTime();
+    }
+
+    @Override
+    public void dnsStart(Call call, String domainName) {
+        dnsStart = System.nanoTime();
+    }
+
+    @Override
+    public void dnsEnd(Call call, String domainName, List<InetAddress> inetAddressList) {
+        record(DNS, dnsStart);
+    }
+
+    @Override
+    public void connectStart(Call call, InetSocketAddress inetSocketAddress, Proxy proxy) {
+        connectStart = System.nanoTime();
+    }
+
+    @Override
+    public void secureConnectStart(Call call) {
+        secureConnectStart = System.nanoTime();
+    }
+
+    @Override
+    public void secureConnectEnd(Call call, @Nullable Handshake handshake) {
+        record(TLS, secureConnectStart);
+    }
+
+    @Override
+    public void connectEnd(Call call, InetSocketAddress inetSocketAddress, Proxy proxy, @Nullable Protocol protocol) {
+        record(CONNECT, connectStart);
+    }
+
+    @Override
+    public void connectFailed(Call call, InetSocketAddress inetSocketAddress, Proxy proxy, @Nullable Protocol protocol, IOException ioe) {
+        record(CONNECT, connectStart);
+    }
+
+    @Override
+    public void responseHeadersStart(Call call) {
+        // Redirects and retries start new responses within the same call
+        if (!firstByteRecorded) {
+            firstByteRecorded = true;
+            record(TIME_TO_FIRST_BYTE, callStart);
+        }
+    }
+
+    @Override
+    public void callEnd(Call call) {
+        record(CALL, callStart);
+    }
+
+    @Override
+    public void callFailed(Call call, IOException ioe) {
+        record(CALL_FAILED, callStart);
+    }
+
+    private void record(HttpEventRecorder.Phase phase, long start) {
+        recorder.record(profile, phase, System.nanoTime() - start);
+    }
+}
@@ -0,0 +1,48 @@
+package io.fabric8.launcher.base.http;
+
+/**
+ * The remote services called by the launcher. Each one gets its own {@link HttpClientProfile}, so a slow upstream
+ * only exhausts its own dispatcher and connection pool.
+ */
+public enum Upstream {
+
+    /**
+     * Token verification and broker token exchange, called on most requests
+     */
+    KEYCLOAK(20, 10),
+
+    /**
+     * GitHub, GitLab, Gitea and Bitbucket REST APIs
+     */
+    GIT(20, 30),
+
+    /**
+     * OpenShift cluster APIs
+     */
+    OPENSHIFT(10, 60),
+
+    /**
+     * Cluster subscriptions in manage.openshift.com
+     */
+    SUBSCRIPTION(5, 10);
+
+    private final int defaultMaxRequestsPerHost;
+
+    private final int defaultReadTimeout;
+
+    Upstream(int defaultMaxRequestsPerHost, int defaultReadTimeout) {
+        this.defaultMaxRequestsPerHost = defaultMaxRequestsPerHost;
+        this.defaultReadTimeout = defaultReadTimeout;
+    }
+
+    int getDefaultMaxRequestsPerHost() {
+        return defaultMaxRequestsPerHost;
+    }
+
+    /**
+     * @return the default read timeout in seconds
+     */
+    int getDefaultReadTimeout() {
+        return defaultReadTimeout;
+    }
+}
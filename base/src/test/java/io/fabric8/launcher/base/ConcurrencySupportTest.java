@@ -0,0 +1,56 @@
+package io.fabric8.launcher.base;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConcurrencySupportTest {
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void should_apply_every_index_with_a_bounded_concurrency() {
+        List<Integer> applied = new CopyOnWriteArrayList<>();
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        ConcurrencySupport.applyInLanes(Arrays.asList(0, 1, 2, 3, 4, 5, 6), 3, index -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            running.decrementAndGet();
+            applied.add(index);
+        }, executor);
+
+        assertThat(applied).containsExactlyInAnyOrder(0, 1, 2, 3, 4, 5, 6);
+        assertThat(maxRunning.get()).isBetween(1, 3);
+    }
+
+    @Test
+    void should_rethrow_the_exception_of_an_action() {
+        IllegalStateException failure = new IllegalStateException("Conflict");
+
+        assertThatThrownBy(() -> ConcurrencySupport.applyInLanes(Arrays.asList(0, 1), 4, index -> {
+            if (index == 1) {
+                throw failure;
+            }
+        }, executor)).isSameAs(failure);
+    }
+}
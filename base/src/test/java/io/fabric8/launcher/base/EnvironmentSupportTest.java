@@ -7,6 +7,7 @@ import org.junit.jupiter.api.Test;
 
 import static io.fabric8.launcher.base.EnvironmentSupport.getBooleanEnvVarOrSysProp;
 import static io.fabric8.launcher.base.EnvironmentSupport.getEnvVarOrSysProp;
+import static io.fabric8.launcher.base.EnvironmentSupport.getIntEnvVarOrSysProp;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 /**
@@ -37,4 +38,19 @@ class EnvironmentSupportTest {
         Assert.assertFalse(value);
     }
 
+    @Test
+    void testGetEnvVarOrSysPropInt() {
+        System.setProperty("launcher.test.int", "42");
+        try {
+            Assert.assertEquals(42, getIntEnvVarOrSysProp("launcher.test.int", 7));
+        } finally {
+            System.clearProperty("launcher.test.int");
+        }
+    }
+
+    @Test
+    void testGetEnvVarOrSysPropIntDefault() {
+        Assert.assertEquals(7, getIntEnvVarOrSysProp("launcher.test.int.foo", 7));
+    }
+
 }
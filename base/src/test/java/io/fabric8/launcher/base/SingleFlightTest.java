@@ -0,0 +1,55 @@
+package io.fabric8.launcher.base;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class SingleFlightTest {
+
+    private final SingleFlight<String, String> calls = new SingleFlight<>();
+
+    @Test
+    void should_share_the_running_call_of_a_key() {
+        AtomicInteger started = new AtomicInteger();
+        CompletableFuture<String> response = new CompletableFuture<>();
+
+        CompletableFuture<String> first = calls.call("joe", () -> {
+            started.incrementAndGet();
+            return response;
+        });
+        CompletableFuture<String> second = calls.call("joe", () -> {
+            started.incrementAndGet();
+            return CompletableFuture.completedFuture("other");
+        });
+        response.complete("clusters");
+
+        assertThat(started.get()).isEqualTo(1);
+        assertThat(first.join()).isEqualTo("clusters");
+        assertThat(second.join()).isEqualTo("clusters");
+    }
+
+    @Test
+    void should_throw_when_the_call_cannot_start() {
+        assertThatIllegalArgumentException().isThrownBy(() -> calls.call("joe", () -> {
+            throw new IllegalArgumentException("Invalid URL");
+        }));
+
+        assertThat(calls.call("joe", () -> CompletableFuture.completedFuture("clusters")).join()).isEqualTo("clusters");
+    }
+
+    @Test
+    void should_not_remember_a_failed_call() {
+        CompletableFuture<String> response = new CompletableFuture<>();
+        CompletableFuture<String> failed = calls.call("joe", () -> response);
+        response.completeExceptionally(new IllegalStateException("Unavailable"));
+
+        CompletableFuture<String> next = calls.call("joe", () -> CompletableFuture.completedFuture("clusters"));
+
+        assertThat(failed).isCompletedExceptionally();
+        assertThat(next.join()).isEqualTo("clusters");
+    }
+}
@@ -1,10 +1,16 @@
 package io.fabric8.launcher.base.http;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
 import io.fabric8.launcher.base.identity.TokenIdentity;
 import org.junit.jupiter.api.Test;
 
 import static io.fabric8.launcher.base.http.Authorizations.addBearerPrefix;
 import static io.fabric8.launcher.base.http.Authorizations.createAuthorization;
+import static io.fabric8.launcher.base.http.Authorizations.fingerprint;
+import static io.fabric8.launcher.base.http.Authorizations.getExpirationTime;
 import static io.fabric8.launcher.base.http.Authorizations.isBearerAuthentication;
 import static io.fabric8.launcher.base.http.Authorizations.isTokenOnly;
 import static io.fabric8.launcher.base.http.Authorizations.removeBearerPrefix;
@@ -76,4 +82,25 @@ class AuthorizationsTest {
         assertThat(authorization).isEqualTo("token foo");
     }
 
-}
\ No newline at end of file
+    @Test
+    void fingerprintDoesNotContainTheToken() {
+        String fingerprint = fingerprint(TokenIdentity.of("foo"));
+        assertThat(fingerprint).hasSize(64).doesNotContain("foo");
+        assertThat(fingerprint).isEqualTo(fingerprint(TokenIdentity.of("foo")));
+        assertThat(fingerprint).isNotEqualTo(fingerprint(TokenIdentity.of("bar")));
+    }
+
+    @Test
+    void expirationTimeIsReadFromJwt() {
+        String payload = Base64.getUrlEncoder().withoutPadding().encodeToString("{\"exp\":1550200000}".getBytes(StandardCharsets.UTF_8));
+        assertThat(getExpirationTime("eyJhbGciOiJSUzI1NiJ9." + payload + ".c2lnbmF0dXJl"))
+                .contains(Instant.ofEpochSecond(1550200000));
+    }
+
+    @Test
+    void expirationTimeIsEmptyForOpaqueTokens() {
+        assertThat(getExpirationTime("6e11fb0f5e199972e38157e338d7e51bd6b4aff0")).isEmpty();
+        assertThat(getExpirationTime("not.a.jwt")).isEmpty();
+    }
+
+}
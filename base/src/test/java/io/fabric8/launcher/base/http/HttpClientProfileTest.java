@@ -0,0 +1,33 @@
+package io.fabric8.launcher.base.http;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HttpClientProfileTest {
+
+    @AfterEach
+    void clearProperties() {
+        System.clearProperty("LAUNCHER_HTTP_KEYCLOAK_MAX_REQUESTS_PER_HOST");
+        System.clearProperty("LAUNCHER_HTTP_KEYCLOAK_READ_TIMEOUT");
+    }
+
+    @Test
+    void should_use_upstream_defaults() {
+        HttpClientProfile profile = HttpClientProfile.forUpstream(Upstream.OPENSHIFT);
+        assertThat(profile.getName()).isEqualTo("openshift");
+        assertThat(profile.getMaxRequestsPerHost()).isEqualTo(Upstream.OPENSHIFT.getDefaultMaxRequestsPerHost());
+        assertThat(profile.getReadTimeout()).isEqualTo(Upstream.OPENSHIFT.getDefaultReadTimeout());
+    }
+
+    @Test
+    void should_override_defaults_with_properties() {
+        System.setProperty("LAUNCHER_HTTP_KEYCLOAK_MAX_REQUESTS_PER_HOST", "42");
+        System.setProperty("LAUNCHER_HTTP_KEYCLOAK_READ_TIMEOUT", "3");
+        HttpClientProfile profile = HttpClientProfile.forUpstream(Upstream.KEYCLOAK);
+        assertThat(profile.getMaxRequestsPerHost()).isEqualTo(42);
+        assertThat(profile.getReadTimeout()).isEqualTo(3);
+        assertThat(profile.getConnectTimeout()).isEqualTo(10);
+    }
+}
@@ -1,6 +1,8 @@
 package io.fabric8.launcher.base.http;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
 import java.util.function.Function;
 
@@ -154,4 +156,20 @@ public class HttpClientTest {
                 .withMessageEndingWith("HTTP Error 422: {\"message\":\"Validation Failed\",\"errors\":[{\"resource\":\"Search\",\"field\":\"q\",\"code\":\"missing\"}],\"documentation_url\":\"https://developer.github.com/v3/search\"}.");
     }
 
+    @Test
+    public void should_record_timings_of_profiled_calls() {
+        final List<HttpEventRecorder.Phase> phases = new CopyOnWriteArrayList<>();
+        final HttpClientProfile profile = HttpClientProfile.forUpstream(Upstream.GIT);
+        final HttpClient profiled = httpClient.withProfile(profile, (name, phase, durationNanos) -> {
+            assertThat(name).isEqualTo("git");
+            assertThat(durationNanos).isNotNegative();
+            phases.add(phase);
+        });
+        final Request request = new Request.Builder().url("https://jsonplaceholder.typicode.com").build();
+        assertThat(profiled.execute(request)).isTrue();
+        assertThat(phases).contains(HttpEventRecorder.Phase.TIME_TO_FIRST_BYTE, HttpEventRecorder.Phase.CALL);
+        assertThat(profiled.getClient().dispatcher().getMaxRequestsPerHost()).isEqualTo(profile.getMaxRequestsPerHost());
+        assertThat(profiled.getClient().dispatcher()).isNotSameAs(httpClient.getClient().dispatcher());
+    }
+
 }
@@ -0,0 +1,90 @@
+package io.fabric8.launcher.base.http;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.fabric8.launcher.base.test.hoverfly.LauncherPerTestHoverflyRule;
+import io.specto.hoverfly.junit.rule.HoverflyRule;
+import okhttp3.Request;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.RuleChain;
+
+import static io.fabric8.launcher.base.test.hoverfly.LauncherHoverflyEnvironment.createDefaultHoverflyEnvironment;
+import static io.fabric8.launcher.base.test.hoverfly.LauncherHoverflyRuleConfigurer.createMultiTestHoverflyProxy;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class HttpResponseCacheTest {
+
+    private static final HoverflyRule HOVERFLY_RULE = createMultiTestHoverflyProxy("api.github.com");
+
+    @ClassRule
+    public static final RuleChain RULE_CHAIN = RuleChain
+            .outerRule(createDefaultHoverflyEnvironment(HOVERFLY_RULE))
+            .around(HOVERFLY_RULE);
+
+    @Rule
+    public LauncherPerTestHoverflyRule hoverflyPerTestRule = new LauncherPerTestHoverflyRule(HOVERFLY_RULE);
+
+    private final HttpResponseCache cache = new HttpResponseCache(1024 * 1024);
+
+    private final HttpClient httpClient = HttpClient.create().withResponseCache(cache);
+
+    @Test
+    public void should_revalidate_with_etag() {
+        assertThat(get("/user", "alice").get("login").asText()).isEqualTo("alice");
+        Integer networkCode = httpClient.executeAndMap(request("/user", "alice"), response -> {
+            assertThat(response.code()).isEqualTo(200);
+            // Headers sent with the 304 are kept
+            assertThat(response.header("X-Ratelimit-Remaining")).isEqualTo("5000");
+            return response.networkResponse().code();
+        });
+        assertThat(networkCode).isEqualTo(304);
+        assertThat(get("/user", "alice").get("login").asText()).isEqualTo("alice");
+
+        assertThat(cache.getHitCount()).isEqualTo(2);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+        assertThat(cache.getHitRatio()).isEqualTo(2.0 / 3);
+    }
+
+    @Test
+    public void should_revalidate_with_last_modified() {
+        assertThat(get("/user/orgs", "alice").get(0).get("login").asText()).isEqualTo("fabric8-launcher");
+        assertThat(get("/user/orgs", "alice").get(0).get("login").asText()).isEqualTo("fabric8-launcher");
+        assertThat(cache.getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void should_partition_entries_per_identity() {
+        assertThat(get("/user", "alice").get("login").asText()).isEqualTo("alice");
+        assertThat(get("/user", "bob").get("login").asText()).isEqualTo("bob");
+        assertThat(cache.getHitCount()).isZero();
+        assertThat(cache.getEntryCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void should_not_cache_responses_without_validators() {
+        get("/rate_limit", "alice");
+        get("/rate_limit", "alice");
+        assertThat(cache.getEntryCount()).isZero();
+        assertThat(cache.getMissCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void should_not_keep_credentials_in_keys() {
+        assertThat(HttpResponseCache.keyOf(request("/user", "alice")))
+                .doesNotContain("alice")
+                .endsWith("https://api.github.com/user")
+                .isNotEqualTo(HttpResponseCache.keyOf(request("/user", "bob")));
+    }
+
+    private JsonNode get(String path, String user) {
+        return httpClient.executeAndParseJson(request(path, user), node -> node).orElseThrow(AssertionError::new);
+    }
+
+    private static Request request(String path, String user) {
+        return new Request.Builder()
+                .url("https://api.github.com" + path)
+                .header("Authorization", "token " + user)
+                .build();
+    }
+}
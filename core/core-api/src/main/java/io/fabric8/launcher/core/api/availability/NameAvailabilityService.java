@@ -0,0 +1,38 @@
+package io.fabric8.launcher.core.api.availability;
+
+import io.fabric8.launcher.service.git.api.GitRepository;
+import io.fabric8.launcher.service.git.api.GitService;
+import io.fabric8.launcher.service.openshift.api.OpenShiftService;
+
+/**
+ * Answers the "is this name taken" checks made while the user types a repository or project name.
+ * <p>
+ * Implementations may answer from a snapshot of the names known to the identity behind each service,
+ * so the answers can lag behind changes made outside of the launcher for a short while.
+ */
+public interface NameAvailabilityService {
+
+    /**
+     * @param gitService the {@link GitService} of the current identity
+     * @param repository the repository name, qualified with its owner or not
+     * @return true if the repository exists
+     */
+    boolean repositoryExists(GitService gitService, String repository);
+
+    /**
+     * @param openShiftService the {@link OpenShiftService} of the current identity
+     * @param project          the project name
+     * @return true if the project exists
+     */
+    boolean projectExists(OpenShiftService openShiftService, String project);
+
+    /**
+     * Records a repository created by the launcher
+     */
+    void repositoryCreated(GitService gitService, GitRepository repository);
+
+    /**
+     * Records a project created by the launcher
+     */
+    void projectCreated(OpenShiftService openShiftService, String project);
+}
@@ -0,0 +1,33 @@
+package io.fabric8.launcher.core.api.events;
+
+/**
+ * Statistics of the {@link StatusMessageEvent} messages buffered by a {@link StatusMessageEventBroker} until their
+ * consumer is set
+ */
+public interface StatusMessageStatistics {
+
+    /**
+     * @return the number of keys having buffered messages
+     */
+    int getBufferedKeyCount();
+
+    /**
+     * @return the size of the buffered messages
+     */
+    long getBufferedBytes();
+
+    /**
+     * @return the number of buffered messages dropped before reaching a consumer
+     */
+    long getEvictionCount();
+
+    /**
+     * @return the number of buffered messages delivered to a consumer
+     */
+    long getDeliveredCount();
+
+    /**
+     * @return the total time, in milliseconds, the delivered messages waited in the buffer
+     */
+    long getDeliveryLagMillis();
+}
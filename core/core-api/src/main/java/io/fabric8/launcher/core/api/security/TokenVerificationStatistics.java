@@ -0,0 +1,22 @@
+package io.fabric8.launcher.core.api.security;
+
+/**
+ * Statistics of the tokens verified by the {@link Secured} endpoints
+ */
+public interface TokenVerificationStatistics {
+
+    /**
+     * @return the number of verified tokens kept
+     */
+    int getSize();
+
+    /**
+     * @return the number of requests carrying a token already verified
+     */
+    long getHitCount();
+
+    /**
+     * @return the number of requests whose token signature had to be verified
+     */
+    long getMissCount();
+}
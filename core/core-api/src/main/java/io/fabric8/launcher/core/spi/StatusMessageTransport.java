@@ -0,0 +1,28 @@
+package io.fabric8.launcher.core.spi;
+
+import java.util.function.Consumer;
+
+/**
+ * A publish/subscribe channel shared by all the launcher replicas, used to route the status messages of a launch
+ * to the replica holding its consumer.
+ * <p>
+ * Every published message must reach all the listeners, including the ones of the publishing replica, in the order
+ * it was published.
+ */
+public interface StatusMessageTransport {
+
+    /**
+     * @param message the message to deliver to all the replicas
+     */
+    void publish(String message);
+
+    /**
+     * @param listener called with every message published
+     */
+    void subscribe(Consumer<String> listener);
+
+    /**
+     * @param listener a listener previously subscribed
+     */
+    void unsubscribe(Consumer<String> listener);
+}
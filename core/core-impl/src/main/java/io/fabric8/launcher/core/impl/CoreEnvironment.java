@@ -10,7 +10,21 @@ public enum CoreEnvironment implements EnvironmentEnum {
     LAUNCHER_BOOSTER_CATALOG_FILTER,
     LAUNCHER_KEYCLOAK_URL,
     LAUNCHER_KEYCLOAK_REALM,
+    LAUNCHER_KEYCLOAK_KEYS_REFRESH_INTERVAL,
+    LAUNCHER_KEYCLOAK_KEYS_REFETCH_INTERVAL,
+    LAUNCHER_KEYCLOAK_KEYS_FETCH_TIMEOUT,
+    LAUNCHER_KEYCLOAK_BROKER_TOKEN_CACHE_SIZE,
+    LAUNCHER_KEYCLOAK_BROKER_TOKEN_CACHE_TTL,
     HOSTNAME,
     LAUNCHER_FILTER_RUNTIME,
-    LAUNCHER_FILTER_VERSION
+    LAUNCHER_FILTER_VERSION,
+    LAUNCHER_HTTP_CACHE_MAX_SIZE,
+    LAUNCHER_NAME_CACHE_SIZE,
+    LAUNCHER_NAME_CACHE_TTL,
+    LAUNCHER_NAME_NEGATIVE_TTL,
+    LAUNCHER_TOKEN_CACHE_SIZE,
+    LAUNCHER_TOKEN_CACHE_SKEW,
+    LAUNCHER_STATUS_BUFFER_TTL,
+    LAUNCHER_STATUS_BUFFER_SIZE,
+    LAUNCHER_STATUS_BUFFER_MAX_BYTES
 }
@@ -18,6 +18,8 @@ import io.fabric8.launcher.core.spi.ProjectileEnricher;
 import io.fabric8.launcher.core.spi.ProjectilePreparer;
 import io.fabric8.launcher.service.git.api.GitRepository;
 import io.fabric8.launcher.service.openshift.api.OpenShiftProject;
+import io.fabric8.launcher.service.openshift.api.OpenShiftTemplate;
+import org.eclipse.microprofile.context.ManagedExecutor;
 
 import javax.enterprise.context.Dependent;
 import javax.enterprise.inject.Instance;
@@ -25,6 +27,8 @@ import javax.inject.Inject;
 import java.net.URL;
 import java.nio.file.Files;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -56,6 +60,9 @@ public class MissionControlImpl implements DefaultMissionControl {
     @Inject
     RhoarBoosterCatalogFactory catalogFactory;
 
+    @Inject
+    ManagedExecutor executor;
+
 
     @Override
     public CreateProjectile prepare(CreateProjectileContext context) {
@@ -97,15 +104,47 @@ public class MissionControlImpl implements DefaultMissionControl {
         try {
             enrichers.forEach(enricher -> enricher.accept(projectile));
 
-            GitRepository gitRepository = null;
+            // The Git repository and the OpenShift project do not depend on each other, so they are set up at the same time
+            final CompletableFuture<GitRepository> gitRepositoryFuture;
             // If the git repository name was not provided, do not create/push to git repository
             if (projectile.getGitRepositoryName() != null) {
-                gitRepository = gitSteps.createGitRepository(projectile);
-                gitSteps.pushToGitRepository(projectile, gitRepository);
+                gitRepositoryFuture = CompletableFuture.supplyAsync(() -> {
+                    GitRepository repository = gitSteps.createGitRepository(projectile);
+                    gitSteps.pushToGitRepository(projectile, repository);
+                    return repository;
+                }, executor);
+            } else {
+                gitRepositoryFuture = CompletableFuture.completedFuture(null);
+            }
+
+            final OpenShiftProject openShiftProject;
+            final List<OpenShiftTemplate> templates;
+            try {
+                openShiftProject = openShiftSteps.findOrCreateOpenShiftProject(projectile);
+                templates = openShiftSteps.findTemplates(projectile);
+            } catch (RuntimeException e) {
+                // The Git steps come first, so their failure is the one to report
+                try {
+                    join(gitRepositoryFuture);
+                } catch (RuntimeException gitError) {
+                    gitError.addSuppressed(e);
+                    throw gitError;
+                }
+                throw e;
+            }
+            final GitRepository gitRepository;
+            try {
+                gitRepository = join(gitRepositoryFuture);
+            } catch (RuntimeException e) {
+                // The project was set up alongside the Git steps, it stays (and counts against the user quota) until a retry reuses it
+                logger.log(Level.WARNING, "Git steps failed, the OpenShift project {0} set up for the launch is kept", openShiftProject.getName());
+                throw e;
             }
+            // Report the project only once the Git steps are reported, so the status events keep their order
+            openShiftSteps.openShiftProjectCreated(projectile, openShiftProject);
 
-            OpenShiftProject openShiftProject = openShiftSteps.createOpenShiftProject(projectile);
-            openShiftSteps.configureBuildPipeline(projectile, openShiftProject, gitRepository);
+            // The build configurations clone the repository, so the code must have been pushed already
+            openShiftSteps.configureBuildPipeline(projectile, openShiftProject, gitRepository, templates);
 
             if (gitRepository != null) {
                 List<URL> webhooks = openShiftSteps.getWebhooks(openShiftProject);
@@ -122,4 +161,18 @@ public class MissionControlImpl implements DefaultMissionControl {
             openShiftStepsInstance.destroy(openShiftSteps);
         }
     }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
 }
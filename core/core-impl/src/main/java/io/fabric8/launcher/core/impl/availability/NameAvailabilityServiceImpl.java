@@ -0,0 +1,235 @@
+package io.fabric8.launcher.core.impl.availability;
+
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import io.fabric8.kubernetes.client.Config;
+import io.fabric8.launcher.base.http.Authorizations;
+import io.fabric8.launcher.base.identity.Identity;
+import io.fabric8.launcher.base.identity.ImmutableUserPasswordIdentity;
+import io.fabric8.launcher.base.identity.TokenIdentity;
+import io.fabric8.launcher.core.api.availability.NameAvailabilityService;
+import io.fabric8.launcher.service.git.api.GitRepository;
+import io.fabric8.launcher.service.git.api.GitService;
+import io.fabric8.launcher.service.git.api.ImmutableGitRepositoryFilter;
+import io.fabric8.launcher.service.openshift.api.OpenShiftService;
+import io.fabric8.openshift.client.OpenShiftClient;
+import org.cache2k.Cache;
+import org.cache2k.Cache2kBuilder;
+import org.eclipse.microprofile.context.ManagedExecutor;
+
+import static io.fabric8.launcher.core.impl.CoreEnvironment.LAUNCHER_NAME_CACHE_SIZE;
+import static io.fabric8.launcher.core.impl.CoreEnvironment.LAUNCHER_NAME_CACHE_TTL;
+import static io.fabric8.launcher.core.impl.CoreEnvironment.LAUNCHER_NAME_NEGATIVE_TTL;
+import static java.util.stream.Collectors.toCollection;
+
+/**
+ * Keeps a snapshot of the repository and project names of each identity and answers the existence checks from it.
+ * <p>
+ * Snapshots are loaded on the first check and expire LAUNCHER_NAME_CACHE_TTL seconds (5 minutes by default) after
+ * being loaded. Once older than LAUNCHER_NAME_NEGATIVE_TTL seconds (30 seconds by default), a snapshot is refreshed in
+ * the background while it keeps answering the checks, but it no longer proves that a name is free.
+ * <p>
+ * Names the snapshot cannot answer for are looked up in the provider. Concurrent lookups of the same name share a
+ * single call, and "not found" answers are only kept for LAUNCHER_NAME_NEGATIVE_TTL seconds.
+ */
+@ApplicationScoped
+public class NameAvailabilityServiceImpl implements NameAvailabilityService {
+
+    private static final Logger log = Logger.getLogger(NameAvailabilityServiceImpl.class.getName());
+
+    private final Executor executor;
+
+    private final long negativeTtlMillis;
+
+    private final Cache<String, Snapshot> snapshots;
+
+    private final Cache<String, Boolean> lookups;
+
+    @Inject
+    public NameAvailabilityServiceImpl(ManagedExecutor executor) {
+        this(executor, LAUNCHER_NAME_CACHE_SIZE.intValue(1000),
+             TimeUnit.SECONDS.toMillis(LAUNCHER_NAME_CACHE_TTL.intValue(300)),
+             TimeUnit.SECONDS.toMillis(LAUNCHER_NAME_NEGATIVE_TTL.intValue(30)));
+    }
+
+    NameAvailabilityServiceImpl(Executor executor, long capacity, long ttlMillis, long negativeTtlMillis) {
+        this.executor = executor;
+        this.negativeTtlMillis = negativeTtlMillis;
+        this.snapshots = Cache2kBuilder.of(String.class, Snapshot.class)
+                .entryCapacity(capacity)
+                .expireAfterWrite(ttlMillis, TimeUnit.MILLISECONDS)
+                .build();
+        this.lookups = Cache2kBuilder.of(String.class, Boolean.class)
+                .entryCapacity(capacity)
+                .sharpExpiry(true)
+                .expiryPolicy((key, exists, loadTime, oldEntry) -> loadTime + (exists ? ttlMillis : negativeTtlMillis))
+                .build();
+    }
+
+    /**
+     * no-args constructor used by CDI for proxying only
+     * but is subsequently replaced with an instance
+     * created using the above constructor.
+     *
+     * @deprecated do not use this constructor
+     */
+    @Deprecated
+    NameAvailabilityServiceImpl() {
+        this.executor = null;
+        this.negativeTtlMillis = 0;
+        this.snapshots = null;
+        this.lookups = null;
+    }
+
+    @Override
+    public boolean repositoryExists(GitService gitService, String repository) {
+        final String login = gitService.getLoggedUser().getLogin();
+        final String fullName = repository.indexOf('/') < 0 ? login + '/' + repository : repository;
+        final String key = gitKey(gitService);
+        final Snapshot snapshot = snapshot(key, () -> gitService.getRepositoriesAsync(ImmutableGitRepositoryFilter.of(), executor)
+                .thenApply(repositories -> names(repositories.stream().map(GitRepository::getFullName))));
+        // Repositories of organizations are only in the snapshot if the user can see them
+        final boolean owned = normalize(fullName).startsWith(normalize(login) + '/');
+        return exists(key, fullName, snapshot, owned, () -> gitService.getRepository(fullName).isPresent());
+    }
+
+    @Override
+    public boolean projectExists(OpenShiftService openShiftService, String project) {
+        final String key = openShiftKey(openShiftService);
+        final Snapshot snapshot = snapshot(key, () -> openShiftService.getProjectNamesAsync(executor)
+                .thenApply(names -> names(names.stream())));
+        // Project names are unique in the whole cluster, the snapshot only has the projects the user can see
+        return exists(key, project, snapshot, false, () -> openShiftService.projectExists(project));
+    }
+
+    @Override
+    public void repositoryCreated(GitService gitService, GitRepository repository) {
+        created(gitKey(gitService), repository.getFullName());
+    }
+
+    @Override
+    public void projectCreated(OpenShiftService openShiftService, String project) {
+        created(openShiftKey(openShiftService), project);
+    }
+
+    private boolean exists(String key, String name, Snapshot snapshot, boolean authoritative, Supplier<Boolean> lookup) {
+        final String normalized = normalize(name);
+        if (snapshot.isLoaded()) {
+            if (snapshot.getNames().contains(normalized)) {
+                return true;
+            }
+            if (authoritative && !snapshot.isOlderThan(negativeTtlMillis)) {
+                return false;
+            }
+        }
+        return lookups.computeIfAbsent(key + '/' + normalized, lookup::get);
+    }
+
+    private void created(String key, String name) {
+        final String normalized = normalize(name);
+        final Snapshot snapshot = snapshots.peek(key);
+        if (snapshot != null) {
+            snapshot.names.thenAccept(names -> names.add(normalized));
+        }
+        lookups.remove(key + '/' + normalized);
+    }
+
+    /**
+     * Returns the snapshot of the given key, loading it if needed and refreshing it in the background if it is stale.
+     * The first load is shared by the concurrent callers.
+     */
+    private Snapshot snapshot(String key, Supplier<CompletionStage<Set<String>>> loader) {
+        final Snapshot snapshot = snapshots.computeIfAbsent(key, () -> load(key, loader));
+        if (snapshot.names.isCompletedExceptionally()) {
+            // The load may have failed before the snapshot was stored
+            snapshots.removeIfEquals(key, snapshot);
+        } else if (snapshot.isLoaded() && snapshot.isOlderThan(negativeTtlMillis) && snapshot.refreshing.compareAndSet(false, true)) {
+            final Snapshot refreshed = new Snapshot(loader.get());
+            refreshed.names.whenComplete((names, error) -> {
+                if (error == null) {
+                    snapshots.replaceIfEquals(key, snapshot, refreshed);
+                } else {
+                    log.log(Level.FINE, "Error while refreshing names", error);
+                    snapshot.refreshing.set(false);
+                }
+            });
+        }
+        return snapshot;
+    }
+
+    private Snapshot load(String key, Supplier<CompletionStage<Set<String>>> loader) {
+        final Snapshot snapshot = new Snapshot(loader.get());
+        snapshot.names.whenComplete((names, error) -> {
+            if (error != null) {
+                log.log(Level.FINE, "Error while loading names", error);
+                snapshots.removeIfEquals(key, snapshot);
+            }
+        });
+        return snapshot;
+    }
+
+    private static String gitKey(GitService gitService) {
+        return "git:" + gitService.getProvider() + ':' + Authorizations.fingerprint(gitService.getIdentity());
+    }
+
+    private static String openShiftKey(OpenShiftService openShiftService) {
+        final OpenShiftClient client = openShiftService.getOpenShiftClient();
+        final Config config = client.getConfiguration();
+        final Identity identity = config.getOauthToken() != null ?
+                TokenIdentity.of(config.getOauthToken()) :
+                ImmutableUserPasswordIdentity.of(config.getUsername(), config.getPassword());
+        return "openshift:" + client.getMasterUrl() + ':' + config.getRequestConfig().getImpersonateUsername() + ':' +
+                Authorizations.fingerprint(identity);
+    }
+
+    private static Set<String> names(Stream<String> names) {
+        return names.map(NameAvailabilityServiceImpl::normalize)
+                .collect(toCollection(ConcurrentHashMap::newKeySet));
+    }
+
+    /**
+     * Git providers compare names case-insensitively, OpenShift project names are lowercase anyway
+     */
+    private static String normalize(String name) {
+        return name.toLowerCase(Locale.ENGLISH);
+    }
+
+    private static class Snapshot {
+
+        private final CompletableFuture<Set<String>> names;
+
+        private final long loadedAt = System.currentTimeMillis();
+
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+
+        Snapshot(CompletionStage<Set<String>> names) {
+            this.names = names.toCompletableFuture();
+        }
+
+        boolean isLoaded() {
+            return names.isDone() && !names.isCompletedExceptionally();
+        }
+
+        boolean isOlderThan(long millis) {
+            return System.currentTimeMillis() - loadedAt > millis;
+        }
+
+        Set<String> getNames() {
+            return names.join();
+        }
+    }
+}
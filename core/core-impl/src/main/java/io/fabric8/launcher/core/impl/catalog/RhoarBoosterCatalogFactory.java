@@ -23,6 +23,7 @@ import javax.inject.Inject;
 
 import io.fabric8.launcher.base.Paths;
 import io.fabric8.launcher.base.http.HttpClient;
+import io.fabric8.launcher.base.http.HttpUpstream;
 import io.fabric8.launcher.booster.catalog.rhoar.RhoarBooster;
 import io.fabric8.launcher.booster.catalog.rhoar.RhoarBoosterCatalog;
 import io.fabric8.launcher.booster.catalog.rhoar.RhoarBoosterCatalogService;
@@ -31,6 +32,7 @@ import io.quarkus.runtime.StartupEvent;
 import okhttp3.Request;
 import org.eclipse.microprofile.context.ManagedExecutor;
 
+import static io.fabric8.launcher.base.http.Upstream.GIT;
 import static io.fabric8.launcher.booster.catalog.LauncherConfiguration.boosterCatalogRepositoryRef;
 import static io.fabric8.launcher.booster.catalog.LauncherConfiguration.boosterCatalogRepositoryURI;
 import static io.fabric8.launcher.booster.catalog.rhoar.BoosterPredicates.withRuntimeMatches;
@@ -58,7 +60,7 @@ public class RhoarBoosterCatalogFactory implements BoosterCatalogFactory {
     private final HttpClient httpClient;
 
     @Inject
-    public RhoarBoosterCatalogFactory(ManagedExecutor async, HttpClient httpClient) {
+    public RhoarBoosterCatalogFactory(ManagedExecutor async, @HttpUpstream(GIT) HttpClient httpClient) {
         this.async = async;
         this.httpClient = httpClient;
     }
@@ -0,0 +1,148 @@
+package io.fabric8.launcher.core.impl.events;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.fabric8.launcher.base.JsonUtils;
+import io.fabric8.launcher.core.api.events.StatusMessageEvent;
+import io.fabric8.launcher.core.api.events.StatusMessageEventBroker;
+import io.fabric8.launcher.core.spi.StatusMessageTransport;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@link StatusMessageEventBroker} spanning all the replicas sharing a {@link StatusMessageTransport}, so a launch
+ * and its consumer may be handled by different replicas.
+ * <p>
+ * The replica setting a consumer announces it. Every other replica then forwards the messages of that key over the
+ * transport, starting with the ones it buffered, until the consumer is removed or, in case the removal is never
+ * announced, until no message was forwarded for the TTL of the local buffers. Messages without a consumer are
+ * buffered by the {@link LocalStatusMessageEventBroker} of the replica sending them. A replica started after a
+ * consumer was announced does not forward the messages of that consumer.
+ */
+public class DistributedStatusMessageEventBroker implements StatusMessageEventBroker {
+
+    private static final Logger log = Logger.getLogger(DistributedStatusMessageEventBroker.class.getName());
+
+    private static final String SUBSCRIBE = "subscribe";
+
+    private static final String UNSUBSCRIBE = "unsubscribe";
+
+    private static final String MESSAGE = "message";
+
+    private final String node = UUID.randomUUID().toString();
+
+    private final LocalStatusMessageEventBroker local;
+
+    private final StatusMessageTransport transport;
+
+    private final Consumer<String> listener = this::receive;
+
+    /**
+     * The consumers set on this replica
+     */
+    private final Map<UUID, Consumer<String>> consumers = new ConcurrentHashMap<>();
+
+    public DistributedStatusMessageEventBroker(LocalStatusMessageEventBroker local, StatusMessageTransport transport) {
+        this.local = requireNonNull(local, "Local broker must be specified");
+        this.transport = requireNonNull(transport, "Transport must be specified");
+        transport.subscribe(listener);
+    }
+
+    @Override
+    public void setConsumer(UUID key, Consumer<String> consumer) {
+        requireNonNull(key, "Key must be specified");
+        requireNonNull(consumer, "Consumer must be specified");
+        consumers.put(key, consumer);
+        local.setConsumer(key, consumer);
+        publish(SUBSCRIBE, key, null);
+    }
+
+    @Override
+    public void removeConsumer(UUID key) {
+        requireNonNull(key, "Key must be specified");
+        if (consumers.remove(key) != null) {
+            publish(UNSUBSCRIBE, key, null);
+        }
+        local.removeConsumer(key);
+    }
+
+    @Override
+    public void send(StatusMessageEvent event) {
+        local.send(event);
+    }
+
+    @Override
+    public void close() {
+        transport.unsubscribe(listener);
+        consumers.clear();
+    }
+
+    private void receive(String envelope) {
+        try {
+            final JsonNode node = JsonUtils.readTree(envelope);
+            if (this.node.equals(node.path("node").asText())) {
+                return;
+            }
+            final UUID key = UUID.fromString(node.path("key").asText());
+            switch (node.path("type").asText()) {
+                case SUBSCRIBE:
+                    // Only one consumer is supported, the latest one wins
+                    consumers.remove(key);
+                    // Replays the buffered messages, then forwards the next ones
+                    local.setExpiringConsumer(key, message -> forward(key, message));
+                    break;
+                case UNSUBSCRIBE:
+                    if (!consumers.containsKey(key)) {
+                        local.removeConsumer(key);
+                    }
+                    break;
+                case MESSAGE:
+                    final Consumer<String> consumer = consumers.get(key);
+                    if (consumer != null) {
+                        consumer.accept(node.path("message").asText());
+                    }
+                    break;
+                default:
+                    log.log(Level.FINE, "Ignoring status message envelope: {0}", envelope);
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            log.log(Level.WARNING, "Invalid status message envelope: " + envelope, e);
+        }
+    }
+
+    /**
+     * Forwards a message sent on this replica, a transport failure must not fail the launch sending it
+     */
+    private void forward(UUID key, String message) {
+        try {
+            publish(MESSAGE, key, message);
+        } catch (RuntimeException e) {
+            log.log(Level.WARNING, "Could not forward the status message of " + key, e);
+        }
+    }
+
+    private void publish(String type, UUID key, String message) {
+        final ObjectNode envelope = JsonUtils.createObjectNode()
+                .put("node", node)
+                .put("type", type)
+                .put("key", key.toString());
+        if (message != null) {
+            envelope.put("message", message);
+        }
+        try {
+            transport.publish(JsonUtils.toString(envelope));
+        } catch (IOException e) {
+            // Should never happen
+            throw new UncheckedIOException(e);
+        }
+    }
+}
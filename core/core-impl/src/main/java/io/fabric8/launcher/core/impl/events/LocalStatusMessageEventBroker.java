@@ -2,51 +2,140 @@ package io.fabric8.launcher.core.impl.events;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
-import java.util.ArrayList;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 import io.fabric8.launcher.base.JsonUtils;
 import io.fabric8.launcher.core.api.events.StatusMessageEvent;
 import io.fabric8.launcher.core.api.events.StatusMessageEventBroker;
+import io.fabric8.launcher.core.api.events.StatusMessageStatistics;
 
+import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
 import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.inject.Typed;
 
+import static io.fabric8.launcher.core.impl.CoreEnvironment.LAUNCHER_STATUS_BUFFER_MAX_BYTES;
+import static io.fabric8.launcher.core.impl.CoreEnvironment.LAUNCHER_STATUS_BUFFER_SIZE;
+import static io.fabric8.launcher.core.impl.CoreEnvironment.LAUNCHER_STATUS_BUFFER_TTL;
 import static java.util.Objects.requireNonNull;
 
 /**
  * The default implementation for {@link StatusMessageEventBroker}
+ * <p>
+ * Messages sent before their consumer is set are buffered, keeping the last LAUNCHER_STATUS_BUFFER_SIZE messages
+ * of each key (256 by default). A buffer not written for LAUNCHER_STATUS_BUFFER_TTL seconds (10 minutes by default)
+ * is dropped, as are the least recently written buffers once all of them exceed LAUNCHER_STATUS_BUFFER_MAX_BYTES
+ * (16 MiB by default).
+ * <p>
+ * The {@link StatusMessageEventBroker} in use is chosen by {@link io.fabric8.launcher.core.impl.producers.StatusMessageEventBrokerProducer}
  *
  * @author <a href="mailto:ggastald@redhat.com">George Gastaldi</a>
  */
 @ApplicationScoped
-public class LocalStatusMessageEventBroker implements StatusMessageEventBroker {
+@Typed({LocalStatusMessageEventBroker.class, StatusMessageStatistics.class})
+public class LocalStatusMessageEventBroker implements StatusMessageEventBroker, StatusMessageStatistics {
 
-    private final Map<UUID, List<String>> buffer = new ConcurrentHashMap<>();
+    private static final ScheduledExecutorService sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "status-message-sweeper");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final ConcurrentMap<UUID, Buffer> buffers = new ConcurrentHashMap<>();
 
     private final Map<UUID, Consumer<String>> consumers = new ConcurrentHashMap<>();
 
+    /**
+     * The last use of the consumers expiring when idle
+     */
+    private final Map<UUID, Long> expiringConsumers = new ConcurrentHashMap<>();
+
+    private long ttlMillis;
+
+    private int maxMessages;
+
+    private long maxBytes;
+
+    private ScheduledFuture<?> sweep;
+
+    private final AtomicLong bytes = new AtomicLong();
+
+    private final AtomicLong evictions = new AtomicLong();
+
+    private final AtomicLong delivered = new AtomicLong();
+
+    private final AtomicLong deliveryLag = new AtomicLong();
+
+    /**
+     * Used in proxies, the bean is started by {@link #start()}
+     */
+    @Deprecated
+    public LocalStatusMessageEventBroker() {
+    }
+
+    LocalStatusMessageEventBroker(long ttlMillis, int maxMessages, long maxBytes) {
+        start(ttlMillis, maxMessages, maxBytes);
+    }
+
+    @PostConstruct
+    void start() {
+        start(TimeUnit.SECONDS.toMillis(LAUNCHER_STATUS_BUFFER_TTL.intValue(600)),
+              LAUNCHER_STATUS_BUFFER_SIZE.intValue(256),
+              LAUNCHER_STATUS_BUFFER_MAX_BYTES.intValue(16 * 1024 * 1024));
+    }
+
+    private void start(long ttlMillis, int maxMessages, long maxBytes) {
+        this.ttlMillis = ttlMillis;
+        this.maxMessages = maxMessages;
+        this.maxBytes = maxBytes;
+        final long sweepMillis = Math.max(1, Math.min(ttlMillis, TimeUnit.MINUTES.toMillis(1)));
+        this.sweep = sweeper.scheduleWithFixedDelay(this::sweep, sweepMillis, sweepMillis, TimeUnit.MILLISECONDS);
+    }
+
     @Override
     public void setConsumer(UUID key, Consumer<String> consumer) {
         requireNonNull(key, "Key must be specified");
         requireNonNull(consumer, "Consumer must be specified");
+        expiringConsumers.remove(key);
         consumers.put(key, consumer);
-        // Flush cached buffer
-        List<String> events = buffer.remove(key);
-        if (events != null) {
-            events.forEach(consumer);
-        }
+        flush(key, consumer);
+    }
+
+    /**
+     * Sets a consumer which is removed once not used for the TTL, for the consumers whose removal may never be
+     * requested
+     */
+    void setExpiringConsumer(UUID key, Consumer<String> consumer) {
+        requireNonNull(key, "Key must be specified");
+        requireNonNull(consumer, "Consumer must be specified");
+        expiringConsumers.put(key, System.currentTimeMillis());
+        consumers.put(key, consumer);
+        flush(key, consumer);
     }
 
     @Override
     public void removeConsumer(UUID key) {
         requireNonNull(key, "Key must be specified");
-        buffer.remove(key);
+        final Buffer buffer = buffers.remove(key);
+        if (buffer != null) {
+            bytes.addAndGet(-buffer.bytes);
+        }
         consumers.remove(key);
+        expiringConsumers.remove(key);
     }
 
     @Override
@@ -62,24 +151,170 @@ public class LocalStatusMessageEventBroker implements StatusMessageEventBroker {
         Consumer<String> consumer = consumers.get(event.getId());
         if (consumer == null) {
             // No consumer found, store buffer in a temporary cache
-            buffer.computeIfAbsent(event.getId(), k -> new ArrayList<>()).add(message);
+            buffer(event.getId(), message);
+            // A consumer set in the meantime has already flushed the buffer
+            consumer = consumers.get(event.getId());
+            if (consumer != null) {
+                flush(event.getId(), consumer);
+            }
         } else {
             // No need to cache, just delegate to consumer
+            expiringConsumers.replace(event.getId(), System.currentTimeMillis());
             consumer.accept(message);
         }
     }
 
+    @Override
+    public int getBufferedKeyCount() {
+        return buffers.size();
+    }
+
+    @Override
+    public long getBufferedBytes() {
+        return bytes.get();
+    }
+
+    @Override
+    public long getEvictionCount() {
+        return evictions.get();
+    }
+
+    @Override
+    public long getDeliveredCount() {
+        return delivered.get();
+    }
+
+    @Override
+    public long getDeliveryLagMillis() {
+        return deliveryLag.get();
+    }
+
     @Override
     @PreDestroy
     public void close() {
-        buffer.clear();
+        sweep.cancel(false);
+        buffers.clear();
+        bytes.set(0);
         consumers.clear();
+        expiringConsumers.clear();
     }
 
     /**
      * For testing purposes only
      */
     Map<UUID, List<String>> getBuffer() {
-        return buffer;
+        final Map<UUID, List<String>> snapshot = new LinkedHashMap<>();
+        buffers.forEach((key, buffer) -> {
+            synchronized (buffer) {
+                snapshot.put(key, buffer.messages.stream().map(message -> message.json).collect(Collectors.toList()));
+            }
+        });
+        return snapshot;
+    }
+
+    /**
+     * Drops the buffers not written for the TTL, their consumer is not coming anymore, and the expiring consumers
+     * not used for the TTL
+     */
+    void sweep() {
+        final long now = System.currentTimeMillis();
+        buffers.forEach((key, buffer) -> {
+            if (now - buffer.lastWrite > ttlMillis) {
+                evict(key, buffer);
+            }
+        });
+        expiringConsumers.forEach((key, lastUse) -> {
+            if (now - lastUse > ttlMillis && expiringConsumers.remove(key, lastUse)) {
+                consumers.remove(key);
+            }
+        });
+    }
+
+    private void buffer(UUID key, String json) {
+        final Message message = new Message(json, System.currentTimeMillis());
+        buffers.compute(key, (k, buffer) -> {
+            if (buffer == null) {
+                buffer = new Buffer();
+            }
+            synchronized (buffer) {
+                buffer.messages.addLast(message);
+                buffer.bytes += message.bytes();
+                bytes.addAndGet(message.bytes());
+                if (buffer.messages.size() > maxMessages) {
+                    // Keeps the latest messages, a late consumer still gets the outcome of the launch
+                    final Message dropped = buffer.messages.removeFirst();
+                    buffer.bytes -= dropped.bytes();
+                    bytes.addAndGet(-dropped.bytes());
+                    evictions.incrementAndGet();
+                }
+                buffer.lastWrite = message.time;
+            }
+            return buffer;
+        });
+        while (bytes.get() > maxBytes) {
+            if (!evictLeastRecentlyWritten()) {
+                break;
+            }
+        }
+    }
+
+    private void flush(UUID key, Consumer<String> consumer) {
+        final Buffer buffer = buffers.remove(key);
+        if (buffer != null) {
+            bytes.addAndGet(-buffer.bytes);
+            final long now = System.currentTimeMillis();
+            for (Message message : buffer.messages) {
+                delivered.incrementAndGet();
+                deliveryLag.addAndGet(now - message.time);
+                consumer.accept(message.json);
+            }
+        }
+    }
+
+    private boolean evictLeastRecentlyWritten() {
+        Map.Entry<UUID, Buffer> oldest = null;
+        for (Map.Entry<UUID, Buffer> entry : buffers.entrySet()) {
+            if (oldest == null || entry.getValue().lastWrite < oldest.getValue().lastWrite) {
+                oldest = entry;
+            }
+        }
+        return oldest != null && evict(oldest.getKey(), oldest.getValue());
+    }
+
+    private boolean evict(UUID key, Buffer buffer) {
+        if (buffers.remove(key, buffer)) {
+            bytes.addAndGet(-buffer.bytes);
+            evictions.addAndGet(buffer.messages.size());
+            return true;
+        }
+        return false;
+    }
+
+    private static final class Buffer {
+
+        final Deque<Message> messages = new ArrayDeque<>();
+
+        long bytes;
+
+        volatile long lastWrite;
+    }
+
+    private static final class Message {
+
+        final String json;
+
+        final long time;
+
+        Message(String json, long time) {
+            this.json = json;
+            this.time = time;
+        }
+
+        /**
+         * The JSON messages are mostly ASCII, a character is a byte
+         */
+        long bytes() {
+            return json.length();
+        }
     }
 }
@@ -17,26 +17,24 @@ import io.fabric8.launcher.core.spi.PublicKeyProvider;
  * Validates JWT token by looking up public key using kid claim from the header.
  * The actual lookup strategy should be defined by {@link PublicKeyProvider} instance.
  * It assumes that RSA256 has been used as algorithm and public key is in PKCS8 format.
+ * Instances are thread-safe and meant to be reused.
  */
 class JWTValidator {
 
     private static final Logger log = Logger.getLogger(JWTValidator.class.getName());
 
-    private final String expectedIssuer;
-
     private final PublicKeyProvider publicKeyProvider;
 
+    private final JWTVerifier verifier;
+
     JWTValidator(String expectedIssuer, PublicKeyProvider publicKeyProvider) {
-        this.expectedIssuer = expectedIssuer;
         this.publicKeyProvider = publicKeyProvider;
+        this.verifier = JWT.require(Algorithm.RSA256(new RSAPublicKeyProvider()))
+                .withIssuer(expectedIssuer)
+                .build();
     }
 
     boolean validate(String token) {
-
-        final Algorithm rsa = Algorithm.RSA256(new RSAPublicKeyProvider());
-        final JWTVerifier verifier = JWT.require(rsa)
-                .withIssuer(expectedIssuer)
-                .build();
         try {
             verifier.verify(token);
             return true;
@@ -1,5 +1,9 @@
 package io.fabric8.launcher.core.impl.filters;
 
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -38,9 +42,17 @@ public class SecuredFilter implements ContainerRequestFilter {
 
     private static final Logger log = Logger.getLogger(SecuredFilter.class.getName());
 
+    /**
+     * The validators of the issuers seen, an unknown issuer is not kept
+     */
+    private final ConcurrentMap<String, JWTValidator> validators = new ConcurrentHashMap<>();
+
     @Inject
     PublicKeyProvider publicKeyProvider;
 
+    @Inject
+    VerifiedTokens verifiedTokens;
+
     @Override
     public void filter(ContainerRequestContext requestContext) {
 
@@ -58,9 +70,19 @@ public class SecuredFilter implements ContainerRequestFilter {
         String token = Authorizations.removeBearerPrefix(authorizationHeader);
 
         try {
-            final DecodedJWT jwt = JWT.decode(token);
-            if (shouldValidate(requestContext)) {
-                validateToken(jwt);
+            final Application.ApplicationType application = fromHeaderValue(requestContext.getHeaderString(Application.APP_HEADER));
+            final DecodedJWT jwt;
+            if (shouldValidate(application)) {
+                final Optional<DecodedJWT> verified = verifiedTokens.get(application, token);
+                if (verified.isPresent()) {
+                    jwt = verified.get();
+                } else {
+                    jwt = JWT.decode(token);
+                    validateToken(jwt);
+                    verifiedTokens.put(application, jwt);
+                }
+            } else {
+                jwt = JWT.decode(token);
             }
             propagateSecurityContext(requestContext, jwt);
         } catch (Exception e) {
@@ -78,18 +100,25 @@ public class SecuredFilter implements ContainerRequestFilter {
     }
 
     // We do not validate tokens in case no keycloak linked for standalone launcher
-    private boolean shouldValidate(ContainerRequestContext context) {
-        if (Application.ApplicationType.LAUNCHER.equals(fromHeaderValue(context.getHeaderString(Application.APP_HEADER)))) {
+    private boolean shouldValidate(Application.ApplicationType application) {
+        if (Application.ApplicationType.LAUNCHER.equals(application)) {
             return LAUNCHER_KEYCLOAK_URL.isSet();
         }
         return true;
     }
 
     private void validateToken(DecodedJWT jwt) {
-        final JWTValidator jwtValidator = new JWTValidator(jwt.getIssuer(), publicKeyProvider);
+        JWTValidator jwtValidator = validators.get(Objects.toString(jwt.getIssuer(), ""));
+        final boolean knownIssuer = jwtValidator != null;
+        if (!knownIssuer) {
+            jwtValidator = new JWTValidator(jwt.getIssuer(), publicKeyProvider);
+        }
         if (!jwtValidator.validate(jwt.getToken())) {
             throw new IllegalArgumentException("Invalid token");
         }
+        if (!knownIssuer) {
+            validators.putIfAbsent(Objects.toString(jwt.getIssuer(), ""), jwtValidator);
+        }
     }
 
     private void abortWithUnauthorized(ContainerRequestContext requestContext) {
@@ -0,0 +1,106 @@
+package io.fabric8.launcher.core.impl.filters;
+
+import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.PostConstruct;
+import javax.enterprise.context.ApplicationScoped;
+
+import com.auth0.jwt.interfaces.DecodedJWT;
+import io.fabric8.launcher.base.http.Authorizations;
+import io.fabric8.launcher.base.identity.TokenIdentity;
+import io.fabric8.launcher.core.api.security.TokenVerificationStatistics;
+import io.fabric8.launcher.core.spi.Application;
+import org.cache2k.Cache;
+import org.cache2k.Cache2kBuilder;
+
+import static io.fabric8.launcher.core.impl.CoreEnvironment.LAUNCHER_TOKEN_CACHE_SIZE;
+import static io.fabric8.launcher.core.impl.CoreEnvironment.LAUNCHER_TOKEN_CACHE_SKEW;
+
+/**
+ * Remembers the tokens whose signature was verified, so a token sent again skips the RSA verification.
+ * <p>
+ * Tokens are kept by a digest of their content (never the token itself) until LAUNCHER_TOKEN_CACHE_SKEW seconds
+ * (30 by default) before they expire. Tokens without an expiration are never kept. At most LAUNCHER_TOKEN_CACHE_SIZE
+ * tokens (10000 by default) are kept.
+ */
+@ApplicationScoped
+public class VerifiedTokens implements TokenVerificationStatistics {
+
+    private Cache<String, DecodedJWT> tokens;
+
+    private long skewMillis;
+
+    private final AtomicLong hits = new AtomicLong();
+
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * Used in proxies, the cache is created by {@link #start()}
+     */
+    @Deprecated
+    public VerifiedTokens() {
+    }
+
+    VerifiedTokens(long capacity, long skewMillis) {
+        start(capacity, skewMillis);
+    }
+
+    @PostConstruct
+    void start() {
+        start(LAUNCHER_TOKEN_CACHE_SIZE.intValue(10_000), TimeUnit.SECONDS.toMillis(LAUNCHER_TOKEN_CACHE_SKEW.intValue(30)));
+    }
+
+    private void start(long capacity, long skewMillis) {
+        this.skewMillis = skewMillis;
+        this.tokens = Cache2kBuilder.of(String.class, DecodedJWT.class)
+                .entryCapacity(capacity)
+                .sharpExpiry(true)
+                .expiryPolicy((key, jwt, loadTime, oldEntry) -> expiry(jwt))
+                .build();
+    }
+
+    /**
+     * @return the token, decoded, if it was verified for the given application and has not expired
+     */
+    Optional<DecodedJWT> get(Application.ApplicationType application, String token) {
+        final DecodedJWT jwt = tokens.peek(key(application, token));
+        (jwt != null ? hits : misses).incrementAndGet();
+        return Optional.ofNullable(jwt);
+    }
+
+    /**
+     * @param jwt a token whose signature, issuer and expiration were verified
+     */
+    void put(Application.ApplicationType application, DecodedJWT jwt) {
+        if (expiry(jwt) > System.currentTimeMillis()) {
+            tokens.put(key(application, jwt.getToken()), jwt);
+        }
+    }
+
+    @Override
+    public int getSize() {
+        return tokens.asMap().size();
+    }
+
+    @Override
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    @Override
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    private long expiry(DecodedJWT jwt) {
+        final Date expiresAt = jwt.getExpiresAt();
+        return expiresAt != null ? expiresAt.getTime() - skewMillis : 0;
+    }
+
+    private static String key(Application.ApplicationType application, String token) {
+        return application + ":" + Authorizations.fingerprint(TokenIdentity.of(token));
+    }
+}
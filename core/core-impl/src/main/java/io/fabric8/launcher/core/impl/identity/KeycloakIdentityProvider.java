@@ -1,14 +1,18 @@
 package io.fabric8.launcher.core.impl.identity;
 
 import java.io.IOException;
+import java.time.Instant;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import io.fabric8.launcher.base.JsonUtils;
+import io.fabric8.launcher.base.SingleFlight;
+import io.fabric8.launcher.base.http.Authorizations;
 import io.fabric8.launcher.base.http.HttpClient;
 import io.fabric8.launcher.base.identity.Identity;
 import io.fabric8.launcher.base.identity.TokenIdentity;
@@ -16,12 +20,20 @@ import io.fabric8.launcher.core.spi.IdentityProvider;
 import okhttp3.Request;
 import okhttp3.Response;
 import okhttp3.ResponseBody;
+import org.cache2k.Cache;
+import org.cache2k.Cache2kBuilder;
 
 import static io.fabric8.launcher.base.http.Requests.securedRequest;
+import static io.fabric8.launcher.core.impl.CoreEnvironment.LAUNCHER_KEYCLOAK_BROKER_TOKEN_CACHE_SIZE;
+import static io.fabric8.launcher.core.impl.CoreEnvironment.LAUNCHER_KEYCLOAK_BROKER_TOKEN_CACHE_TTL;
 import static java.util.Objects.requireNonNull;
 
 /**
  * The implementation of the {@link IdentityProvider}
+ * <p>
+ * The broker tokens are kept by service and authorization for LAUNCHER_KEYCLOAK_BROKER_TOKEN_CACHE_TTL seconds
+ * (5 minutes by default), never past the expiration of the broker token or of the authorization. Concurrent exchanges
+ * of the same authorization for the same service share a single request.
  *
  * @author <a href="mailto:ggastald@redhat.com">George Gastaldi</a>
  */
@@ -29,43 +41,66 @@ public class KeycloakIdentityProvider implements IdentityProvider {
 
     private static final Logger logger = Logger.getLogger(KeycloakIdentityProvider.class.getName());
 
+    /**
+     * A broker token is dropped this long before it expires, so it is still valid when used
+     */
+    private static final long EXPIRY_SKEW_MILLIS = TimeUnit.SECONDS.toMillis(30);
+
     private final KeycloakParameters keycloakParameters;
 
     private final HttpClient httpClient;
 
+    private final long ttlMillis;
+
+    private final Cache<String, BrokerToken> tokens;
+
+    private final SingleFlight<String, Optional<Identity>> exchanges = new SingleFlight<>();
+
     public KeycloakIdentityProvider(final KeycloakParameters keycloakParameters, final HttpClient httpClient) {
+        this(keycloakParameters, httpClient, LAUNCHER_KEYCLOAK_BROKER_TOKEN_CACHE_SIZE.intValue(10_000),
+             TimeUnit.SECONDS.toMillis(LAUNCHER_KEYCLOAK_BROKER_TOKEN_CACHE_TTL.intValue(300)));
+    }
+
+    KeycloakIdentityProvider(final KeycloakParameters keycloakParameters, final HttpClient httpClient, long capacity, long ttlMillis) {
         this.keycloakParameters = Objects.requireNonNull(keycloakParameters, "keycloakParameters must be specified");
         this.httpClient = Objects.requireNonNull(httpClient, "httpClient must be specified");
+        this.ttlMillis = ttlMillis;
+        this.tokens = Cache2kBuilder.of(String.class, BrokerToken.class)
+                .entryCapacity(capacity)
+                .sharpExpiry(true)
+                .expiryPolicy((key, token, loadTime, oldEntry) -> token.expiresAt)
+                .build();
     }
 
     @Override
     public CompletableFuture<Optional<Identity>> getIdentityAsync(final Identity authorization, final String service) {
         requireNonNull(authorization, "authorization must be specified.");
         requireNonNull(service, "service must be specified.");
-        String url = this.keycloakParameters.buildTokenUrl(service);
-        return getToken(url, authorization).handle((r, e) -> {
-            if (e != null) {
-                logger.log(Level.FINE, "Error while fetching token from keycloak for provider: " + service, e);
-                return Optional.empty();
-            }
-            return r;
-        });
+        final String key = service + ':' + Authorizations.fingerprint(authorization);
+        final BrokerToken cached = tokens.peek(key);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(Optional.of(cached.identity));
+        }
+        return exchanges.call(key, () -> getToken(keycloakParameters.buildTokenUrl(service), authorization)
+                .handle((token, e) -> {
+                    if (e != null) {
+                        logger.log(Level.FINE, "Error while fetching token from keycloak for provider: " + service, e);
+                        return Optional.empty();
+                    }
+                    token.ifPresent(brokerToken -> {
+                        final long expiresAt = Math.min(Math.min(brokerToken.expiresAt, System.currentTimeMillis() + ttlMillis),
+                                                        expiresAt(authorization));
+                        if (expiresAt > System.currentTimeMillis()) {
+                            tokens.put(key, new BrokerToken(brokerToken.identity, expiresAt));
+                        }
+                    });
+                    return token.map(brokerToken -> brokerToken.identity);
+                }));
     }
 
     @Override
     public Optional<Identity> getIdentity(Identity authorization, String service) {
-        requireNonNull(authorization, "authorization must be specified.");
-        requireNonNull(service, "service must be specified.");
-        String url = this.keycloakParameters.buildTokenUrl(service);
-        Request request = securedRequest(authorization)
-                .url(url)
-                .build();
-        try {
-            return httpClient.executeAndMap(request, KeycloakIdentityProvider::parseIdentity);
-        } catch (final Exception e) {
-            logger.log(Level.FINE, "Error while fetching token from keycloak for provider: " + service, e);
-            return Optional.empty();
-        }
+        return getIdentityAsync(authorization, service).join();
     }
 
     /**
@@ -76,14 +111,14 @@ public class KeycloakIdentityProvider implements IdentityProvider {
      * @param authorization
      * @return
      */
-    private CompletableFuture<Optional<Identity>> getToken(final String url, final Identity authorization) {
+    private CompletableFuture<Optional<BrokerToken>> getToken(final String url, final Identity authorization) {
         Request request = securedRequest(authorization)
                 .url(url)
                 .build();
         return httpClient.executeAndMapAsync(request, KeycloakIdentityProvider::parseIdentity);
     }
 
-    private static Optional<Identity> parseIdentity(Response r) {
+    private static Optional<BrokerToken> parseIdentity(Response r) {
         try (ResponseBody body = r.body()) {
             if (body == null) {
                 return Optional.empty();
@@ -93,7 +128,8 @@ public class KeycloakIdentityProvider implements IdentityProvider {
             if (content.startsWith("{")) {
                 final JsonNode node = JsonUtils.readTree(content);
                 if (r.isSuccessful()) {
-                    return Optional.of(TokenIdentity.of(node.get("access_token").asText()));
+                    final JsonNode expiresIn = node.get("expires_in");
+                    return Optional.of(BrokerToken.of(node.get("access_token").asText(), expiresIn != null ? expiresIn.asText() : null));
                 } else if (r.code() == 400) {
                     throw new IllegalArgumentException(node.get("errorMessage").asText());
                 }
@@ -105,9 +141,51 @@ public class KeycloakIdentityProvider implements IdentityProvider {
                 throw new IllegalStateException("Access Token not found");
             }
             final String token = content.substring(idxAccessToken + tokenParam.length(), content.indexOf('&', idxAccessToken + tokenParam.length()));
-            return Optional.of(TokenIdentity.of(token));
+            return Optional.of(BrokerToken.of(token, formParameter(content, "expires_in")));
         } catch (final IOException e) {
             throw new IllegalStateException("Error while fetching token from keycloak", e);
         }
     }
+
+    private static String formParameter(String content, String name) {
+        for (String parameter : content.split("&")) {
+            if (parameter.startsWith(name + "=")) {
+                return parameter.substring(name.length() + 1);
+            }
+        }
+        return null;
+    }
+
+    private static long expiresAt(Identity identity) {
+        if (identity instanceof TokenIdentity) {
+            return Authorizations.getExpirationTime(((TokenIdentity) identity).getToken())
+                    .map(Instant::toEpochMilli)
+                    .orElse(Long.MAX_VALUE);
+        }
+        return Long.MAX_VALUE;
+    }
+
+    private static final class BrokerToken {
+
+        final Identity identity;
+
+        final long expiresAt;
+
+        BrokerToken(Identity identity, long expiresAt) {
+            this.identity = identity;
+            this.expiresAt = expiresAt;
+        }
+
+        /**
+         * @param expiresIn the seconds the token is valid for, if known
+         */
+        static BrokerToken of(String token, String expiresIn) {
+            final TokenIdentity identity = TokenIdentity.of(token);
+            long expiresAt = expiresAt(identity);
+            if (expiresIn != null && expiresIn.matches("\\d+")) {
+                expiresAt = Math.min(expiresAt, System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(Long.parseLong(expiresIn)));
+            }
+            return new BrokerToken(identity, expiresAt == Long.MAX_VALUE ? expiresAt : expiresAt - EXPIRY_SKEW_MILLIS);
+        }
+    }
 }
@@ -7,18 +7,23 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-import javax.enterprise.context.RequestScoped;
+import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.TextNode;
 import io.fabric8.launcher.base.JsonUtils;
 import io.fabric8.launcher.base.http.HttpClient;
+import io.fabric8.launcher.base.http.HttpUpstream;
 import io.fabric8.launcher.base.identity.RSAPublicKeyConverter;
-import io.fabric8.launcher.base.identity.TokenIdentity;
 import io.fabric8.launcher.core.spi.Application;
 import io.fabric8.launcher.core.spi.PublicKeyProvider;
 import okhttp3.Request;
@@ -26,9 +31,20 @@ import okhttp3.Response;
 import okhttp3.ResponseBody;
 
 import static io.fabric8.launcher.base.http.HttpClient.getContent;
-import static io.fabric8.launcher.base.http.Requests.securedRequest;
-
-@RequestScoped
+import static io.fabric8.launcher.base.http.Upstream.KEYCLOAK;
+import static io.fabric8.launcher.core.impl.CoreEnvironment.LAUNCHER_KEYCLOAK_KEYS_FETCH_TIMEOUT;
+import static io.fabric8.launcher.core.impl.CoreEnvironment.LAUNCHER_KEYCLOAK_KEYS_REFETCH_INTERVAL;
+import static io.fabric8.launcher.core.impl.CoreEnvironment.LAUNCHER_KEYCLOAK_KEYS_REFRESH_INTERVAL;
+
+/**
+ * Keeps the public keys of the Keycloak realm, so validating a token is a local signature check.
+ * <p>
+ * The keys are refreshed in the background once they are older than LAUNCHER_KEYCLOAK_KEYS_REFRESH_INTERVAL seconds
+ * (10 minutes by default). An unknown kid (eg. after a key rotation) fetches them again, at most once every
+ * LAUNCHER_KEYCLOAK_KEYS_REFETCH_INTERVAL seconds (10 by default), and waits at most
+ * LAUNCHER_KEYCLOAK_KEYS_FETCH_TIMEOUT seconds (5 by default) for them. The last keys fetched are kept while Keycloak is down.
+ */
+@ApplicationScoped
 @Application(Application.ApplicationType.LAUNCHER)
 public class KeycloakPublicKeyProvider implements PublicKeyProvider {
 
@@ -36,44 +52,108 @@ public class KeycloakPublicKeyProvider implements PublicKeyProvider {
 
     private final KeycloakParameters keycloakParameters;
 
-    private final TokenIdentity identity;
-
     private final HttpClient httpClient;
 
+    private final long refreshMillis;
+
+    private final long refetchMillis;
+
+    private final long fetchTimeoutMillis;
+
+    private volatile Keys keys = new Keys(Collections.emptyMap(), 0);
+
+    private volatile long lastFetch;
+
+    private final AtomicReference<CompletableFuture<Keys>> fetch = new AtomicReference<>();
+
     /**
      * Used in proxies
      */
     @Deprecated
     public KeycloakPublicKeyProvider() {
         this.keycloakParameters = null;
-        this.identity = null;
         this.httpClient = null;
+        this.refreshMillis = 0;
+        this.refetchMillis = 0;
+        this.fetchTimeoutMillis = 0;
     }
 
     @Inject
-    public KeycloakPublicKeyProvider(final KeycloakParameters keycloakParameters, TokenIdentity identity, final HttpClient httpClient) {
+    public KeycloakPublicKeyProvider(final KeycloakParameters keycloakParameters, @HttpUpstream(KEYCLOAK) final HttpClient httpClient) {
+        this(keycloakParameters, httpClient,
+             TimeUnit.SECONDS.toMillis(LAUNCHER_KEYCLOAK_KEYS_REFRESH_INTERVAL.intValue(600)),
+             TimeUnit.SECONDS.toMillis(LAUNCHER_KEYCLOAK_KEYS_REFETCH_INTERVAL.intValue(10)),
+             TimeUnit.SECONDS.toMillis(LAUNCHER_KEYCLOAK_KEYS_FETCH_TIMEOUT.intValue(5)));
+    }
+
+    KeycloakPublicKeyProvider(final KeycloakParameters keycloakParameters, final HttpClient httpClient,
+                              long refreshMillis, long refetchMillis, long fetchTimeoutMillis) {
         this.keycloakParameters = Objects.requireNonNull(keycloakParameters, "keycloakParameters must be specified");
-        this.identity = Objects.requireNonNull(identity, "Token identity must be specified");
         this.httpClient = Objects.requireNonNull(httpClient, "httpClient must be specified");
+        this.refreshMillis = refreshMillis;
+        this.refetchMillis = refetchMillis;
+        this.fetchTimeoutMillis = fetchTimeoutMillis;
     }
 
     @Override
     public Optional<RSAPublicKey> getKey(String keyId) {
-        final String url = this.keycloakParameters.buildKeysUrl();
-        final Request request = securedRequest(identity)
-                .url(url)
-                .build();
-        try {
-            final Map<String, RSAPublicKey> publicKeys = httpClient.executeAndMap(request, KeycloakPublicKeyProvider::findKeys);
-            final RSAPublicKey publicKey = Objects.requireNonNull(publicKeys).get(keyId);
-            if (publicKey == null) {
-                logger.log(Level.SEVERE, "Key not found for kid: " + keyId);
+        final Keys current = keys;
+        RSAPublicKey publicKey = current.publicKeys.get(keyId);
+        if (publicKey != null) {
+            if (System.currentTimeMillis() - current.time > refreshMillis) {
+                fetchKeys();
             }
-            return Optional.ofNullable(publicKey);
-        } catch (final Exception e) {
-            logger.log(Level.SEVERE, "Error while fetching keys from keycloak for kid: " + keyId, e);
+            return Optional.of(publicKey);
+        }
+        // Any token can carry an unknown kid, these are not worth more than a debug message
+        if (System.currentTimeMillis() - lastFetch < refetchMillis) {
+            logger.log(Level.FINE, "Key not found for kid: {0}", keyId);
             return Optional.empty();
         }
+        try {
+            publicKey = fetchKeys().get(fetchTimeoutMillis, TimeUnit.MILLISECONDS).publicKeys.get(keyId);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (final ExecutionException e) {
+            // The last keys fetched are still good
+            publicKey = keys.publicKeys.get(keyId);
+        } catch (final TimeoutException e) {
+            // The fetch goes on in the background, the key is not found for now
+            logger.log(Level.WARNING, "Keys not fetched from keycloak within {0} ms", fetchTimeoutMillis);
+        }
+        if (publicKey == null) {
+            logger.log(Level.FINE, "Key not found for kid: {0}", keyId);
+        }
+        return Optional.ofNullable(publicKey);
+    }
+
+    /**
+     * Concurrent callers share the same request
+     */
+    private CompletableFuture<Keys> fetchKeys() {
+        final CompletableFuture<Keys> started = new CompletableFuture<>();
+        final CompletableFuture<Keys> running = fetch.updateAndGet(existing -> existing != null ? existing : started);
+        if (running != started) {
+            return running;
+        }
+        lastFetch = System.currentTimeMillis();
+        // The keys of the realm are public
+        final Request request = new Request.Builder()
+                .url(keycloakParameters.buildKeysUrl())
+                .build();
+        httpClient.executeAndMapAsync(request, KeycloakPublicKeyProvider::findKeys)
+                .whenComplete((publicKeys, error) -> {
+                    fetch.set(null);
+                    if (error != null) {
+                        logger.log(Level.SEVERE, "Error while fetching keys from keycloak", error);
+                        started.completeExceptionally(error);
+                    } else {
+                        Keys fetched = new Keys(publicKeys, System.currentTimeMillis());
+                        keys = fetched;
+                        started.complete(fetched);
+                    }
+                });
+        return started;
     }
 
     private static Map<String, RSAPublicKey> findKeys(Response r) {
@@ -119,4 +199,15 @@ public class KeycloakPublicKeyProvider implements PublicKeyProvider {
         return Optional.ofNullable(node.get(name)).orElse(new TextNode(defaultValue)).asText();
     }
 
-}
\ No newline at end of file
+    private static final class Keys {
+
+        final Map<String, RSAPublicKey> publicKeys;
+
+        final long time;
+
+        Keys(Map<String, RSAPublicKey> publicKeys, long time) {
+            this.publicKeys = publicKeys;
+            this.time = time;
+        }
+    }
+}
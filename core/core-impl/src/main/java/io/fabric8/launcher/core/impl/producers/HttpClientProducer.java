@@ -1,18 +1,74 @@
 package io.fabric8.launcher.core.impl.producers;
 
 import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.inject.Instance;
 import javax.enterprise.inject.Produces;
 import javax.inject.Singleton;
 
 import io.fabric8.launcher.base.http.HttpClient;
+import io.fabric8.launcher.base.http.HttpClientProfile;
+import io.fabric8.launcher.base.http.HttpEventRecorder;
+import io.fabric8.launcher.base.http.HttpResponseCache;
+import io.fabric8.launcher.base.http.HttpUpstream;
+import io.fabric8.launcher.base.http.Upstream;
 import org.eclipse.microprofile.context.ManagedExecutor;
 
+import static io.fabric8.launcher.base.http.Upstream.GIT;
+import static io.fabric8.launcher.base.http.Upstream.KEYCLOAK;
+import static io.fabric8.launcher.base.http.Upstream.OPENSHIFT;
+import static io.fabric8.launcher.base.http.Upstream.SUBSCRIPTION;
+import static io.fabric8.launcher.core.impl.CoreEnvironment.LAUNCHER_HTTP_CACHE_MAX_SIZE;
+
 @ApplicationScoped
 public class HttpClientProducer {
 
+    /**
+     * 10 MB, set LAUNCHER_HTTP_CACHE_MAX_SIZE to 0 to disable the cache
+     */
+    private static final int DEFAULT_CACHE_MAX_SIZE = 10 * 1024 * 1024;
+
     @Produces
     @Singleton
     public HttpClient produceHttpClient(final ManagedExecutor executorService) {
         return HttpClient.create(executorService);
     }
+
+    @Produces
+    @Singleton
+    @HttpUpstream(KEYCLOAK)
+    public HttpClient produceKeycloakHttpClient(final HttpClient httpClient, final Instance<HttpEventRecorder> recorder) {
+        return forUpstream(httpClient, KEYCLOAK, recorder);
+    }
+
+    @Produces
+    @Singleton
+    @HttpUpstream(GIT)
+    public HttpClient produceGitHttpClient(final HttpClient httpClient, final Instance<HttpEventRecorder> recorder) {
+        return forUpstream(httpClient, GIT, recorder);
+    }
+
+    @Produces
+    @Singleton
+    @HttpUpstream(OPENSHIFT)
+    public HttpClient produceOpenShiftHttpClient(final HttpClient httpClient, final Instance<HttpEventRecorder> recorder) {
+        return forUpstream(httpClient, OPENSHIFT, recorder);
+    }
+
+    @Produces
+    @Singleton
+    @HttpUpstream(SUBSCRIPTION)
+    public HttpClient produceSubscriptionHttpClient(final HttpClient httpClient, final Instance<HttpEventRecorder> recorder) {
+        return forUpstream(httpClient, SUBSCRIPTION, recorder);
+    }
+
+    @Produces
+    @Singleton
+    public HttpResponseCache produceHttpResponseCache() {
+        return new HttpResponseCache(LAUNCHER_HTTP_CACHE_MAX_SIZE.intValue(DEFAULT_CACHE_MAX_SIZE));
+    }
+
+    private static HttpClient forUpstream(HttpClient httpClient, Upstream upstream, Instance<HttpEventRecorder> recorder) {
+        return httpClient.withProfile(HttpClientProfile.forUpstream(upstream),
+                                      recorder.isResolvable() ? recorder.get() : HttpEventRecorder.NOOP);
+    }
 }
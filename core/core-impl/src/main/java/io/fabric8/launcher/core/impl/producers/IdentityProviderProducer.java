@@ -4,10 +4,12 @@ import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.inject.Produces;
 
 import io.fabric8.launcher.base.http.HttpClient;
+import io.fabric8.launcher.base.http.HttpUpstream;
 import io.fabric8.launcher.core.impl.identity.ImmutableKeycloakParameters;
 import io.fabric8.launcher.core.impl.identity.KeycloakIdentityProvider;
 import io.fabric8.launcher.core.spi.IdentityProvider;
 
+import static io.fabric8.launcher.base.http.Upstream.KEYCLOAK;
 import static io.fabric8.launcher.core.impl.CoreEnvironment.LAUNCHER_KEYCLOAK_REALM;
 import static io.fabric8.launcher.core.impl.CoreEnvironment.LAUNCHER_KEYCLOAK_URL;
 
@@ -19,7 +21,7 @@ public class IdentityProviderProducer {
 
     @Produces
     @ApplicationScoped
-    IdentityProvider produceIdentityProvider(HttpClient httpClient) {
+    IdentityProvider produceIdentityProvider(@HttpUpstream(KEYCLOAK) HttpClient httpClient) {
         if (LAUNCHER_KEYCLOAK_URL.isSet() && LAUNCHER_KEYCLOAK_REALM.isSet()) {
             return new KeycloakIdentityProvider(ImmutableKeycloakParameters.builder().build(), httpClient);
         }
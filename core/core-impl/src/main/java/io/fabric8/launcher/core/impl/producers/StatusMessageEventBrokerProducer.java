@@ -0,0 +1,34 @@
+package io.fabric8.launcher.core.impl.producers;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.inject.Disposes;
+import javax.enterprise.inject.Instance;
+import javax.enterprise.inject.Produces;
+
+import io.fabric8.launcher.core.api.events.StatusMessageEventBroker;
+import io.fabric8.launcher.core.impl.events.DistributedStatusMessageEventBroker;
+import io.fabric8.launcher.core.impl.events.LocalStatusMessageEventBroker;
+import io.fabric8.launcher.core.spi.StatusMessageTransport;
+
+/**
+ * Spans the {@link StatusMessageEventBroker} over all the replicas when a {@link StatusMessageTransport} is available
+ */
+@ApplicationScoped
+public class StatusMessageEventBrokerProducer {
+
+    @Produces
+    @ApplicationScoped
+    StatusMessageEventBroker produceStatusMessageEventBroker(LocalStatusMessageEventBroker local,
+                                                             Instance<StatusMessageTransport> transport) {
+        if (transport.isResolvable()) {
+            return new DistributedStatusMessageEventBroker(local, transport.get());
+        }
+        return local;
+    }
+
+    void close(@Disposes StatusMessageEventBroker broker) {
+        if (broker instanceof DistributedStatusMessageEventBroker) {
+            broker.close();
+        }
+    }
+}
@@ -15,15 +15,16 @@ import java.util.logging.Logger;
 import javax.enterprise.context.Dependent;
 import javax.inject.Inject;
 
+import io.fabric8.launcher.core.api.availability.NameAvailabilityService;
 import io.fabric8.launcher.core.api.events.LauncherStatusEventKind;
 import io.fabric8.launcher.core.api.events.StatusMessageEvent;
 import io.fabric8.launcher.core.api.projectiles.CreateProjectile;
-import io.fabric8.launcher.service.git.api.DuplicateHookException;
 import io.fabric8.launcher.service.git.api.GitRepository;
 import io.fabric8.launcher.service.git.api.GitService;
 import io.fabric8.launcher.service.git.api.ImmutableGitOrganization;
 import io.fabric8.launcher.service.git.api.NoSuchRepositoryException;
 import org.apache.commons.text.StringSubstitutor;
+import org.eclipse.microprofile.context.ManagedExecutor;
 
 import static io.fabric8.launcher.core.api.events.LauncherStatusEventKind.GITHUB_CREATE;
 import static io.fabric8.launcher.core.api.events.LauncherStatusEventKind.GITHUB_PUSHED;
@@ -40,6 +41,12 @@ public class GitSteps {
     @Inject
     GitService gitService;
 
+    @Inject
+    NameAvailabilityService nameAvailability;
+
+    @Inject
+    ManagedExecutor executor;
+
     private static final Logger log = Logger.getLogger(GitSteps.class.getName());
 
     public GitRepository findRepository(String organization, String repositoryName) {
@@ -77,6 +84,7 @@ public class GitSteps {
             } else {
                 gitRepository = gitService.createRepository(repositoryName, repositoryDescription);
             }
+            nameAvailability.repositoryCreated(gitService, gitRepository);
         }
         projectile.getEventConsumer().accept(new StatusMessageEvent(projectile.getId(), GITHUB_CREATE,
                                                                     singletonMap("location", gitRepository.getHomepage())));
@@ -110,14 +118,8 @@ public class GitSteps {
      * Creates a webhook on the github repo to fire a build / deploy when changes happen on the project.
      */
     public void createWebHooks(CreateProjectile projectile, GitRepository gitRepository, List<URL> webhooks) {
-        for (URL webhookUrl : webhooks) {
-            try {
-                gitService.createHook(gitRepository, null, webhookUrl);
-            } catch (final DuplicateHookException dpe) {
-                // Swallow, it's OK, we've already forked this repo
-                log.log(Level.FINE, dpe.getMessage(), dpe);
-            }
-        }
+        // Existing hooks are skipped, it's OK, we've already forked this repo
+        gitService.createHooks(gitRepository, null, webhooks, executor);
         projectile.getEventConsumer().accept(new StatusMessageEvent(projectile.getId(), GITHUB_WEBHOOK));
     }
 }
\ No newline at end of file
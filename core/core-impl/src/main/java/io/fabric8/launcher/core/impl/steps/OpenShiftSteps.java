@@ -1,8 +1,6 @@
 package io.fabric8.launcher.core.impl.steps;
 
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.net.URL;
 import java.nio.file.Files;
@@ -21,11 +19,15 @@ import javax.annotation.Nullable;
 import javax.enterprise.context.Dependent;
 import javax.inject.Inject;
 
+import io.fabric8.launcher.core.api.availability.NameAvailabilityService;
 import io.fabric8.launcher.core.api.events.StatusMessageEvent;
 import io.fabric8.launcher.core.api.projectiles.CreateProjectile;
 import io.fabric8.launcher.service.git.api.GitRepository;
+import io.fabric8.launcher.service.openshift.api.ImmutableOpenShiftTemplate;
 import io.fabric8.launcher.service.openshift.api.OpenShiftProject;
 import io.fabric8.launcher.service.openshift.api.OpenShiftService;
+import io.fabric8.launcher.service.openshift.api.OpenShiftTemplate;
+import org.eclipse.microprofile.context.ManagedExecutor;
 
 import static io.fabric8.launcher.core.api.events.LauncherStatusEventKind.OPENSHIFT_CREATE;
 import static io.fabric8.launcher.core.api.events.LauncherStatusEventKind.OPENSHIFT_PIPELINE;
@@ -48,48 +50,86 @@ public class OpenShiftSteps {
 
     private final OpenShiftService openShiftService;
 
+    private final NameAvailabilityService nameAvailability;
+
+    private final ManagedExecutor executor;
+
     @Inject
-    public OpenShiftSteps(OpenShiftService openShiftService) {
+    public OpenShiftSteps(OpenShiftService openShiftService, NameAvailabilityService nameAvailability, ManagedExecutor executor) {
         this.openShiftService = openShiftService;
+        this.nameAvailability = nameAvailability;
+        this.executor = executor;
     }
 
     /**
      * Creates an Openshift project if the project doesn't exist.
      */
     public OpenShiftProject createOpenShiftProject(CreateProjectile projectile) {
+        OpenShiftProject openShiftProject = findOrCreateOpenShiftProject(projectile);
+        openShiftProjectCreated(projectile, openShiftProject);
+        return openShiftProject;
+    }
+
+    /**
+     * Creates an Openshift project if the project doesn't exist, without reporting it.
+     *
+     * @see #openShiftProjectCreated(CreateProjectile, OpenShiftProject)
+     */
+    public OpenShiftProject findOrCreateOpenShiftProject(CreateProjectile projectile) {
         String projectName = projectile.getOpenShiftProjectName();
-        OpenShiftProject openShiftProject = openShiftService.findProject(projectName)
-                .orElseGet(() -> openShiftService.createProject(projectName));
+        return openShiftService.findProject(projectName)
+                .orElseGet(() -> {
+                    OpenShiftProject created = openShiftService.createProject(projectName);
+                    nameAvailability.projectCreated(openShiftService, projectName);
+                    return created;
+                });
+    }
+
+    /**
+     * Reports the {@link io.fabric8.launcher.core.api.events.LauncherStatusEventKind#OPENSHIFT_CREATE} step
+     */
+    public void openShiftProjectCreated(CreateProjectile projectile, OpenShiftProject openShiftProject) {
         projectile.getEventConsumer().accept(new StatusMessageEvent(projectile.getId(), OPENSHIFT_CREATE,
                                                                     singletonMap("location", openShiftProject.getConsoleOverviewUrl())));
-        return openShiftProject;
+    }
+
+    /**
+     * @return the S2I builder templates found in the project, empty if the project is built by a Jenkins pipeline
+     */
+    public List<OpenShiftTemplate> findTemplates(CreateProjectile projectile) {
+        List<AppInfo> apps = findProjectApps(projectile.getProjectLocation().toFile());
+        List<OpenShiftTemplate> templates = new ArrayList<>();
+        // The services and apps may refer to the routes created by the previous phases
+        for (AppInfo app : apps) {
+            addTemplates(templates, app, app.resources, 0);
+        }
+        for (AppInfo app : apps) {
+            addTemplates(templates, app, app.services, 1);
+        }
+        for (AppInfo app : apps) {
+            addTemplates(templates, app, app.apps, 2);
+        }
+        return templates;
     }
 
     public void configureBuildPipeline(CreateProjectile projectile, OpenShiftProject openShiftProject, @Nullable GitRepository gitRepository) {
-        File path = projectile.getProjectLocation().toFile();
-        List<AppInfo> apps = findProjectApps(path);
-        if (apps.isEmpty()) {
+        configureBuildPipeline(projectile, openShiftProject, gitRepository, findTemplates(projectile));
+    }
+
+    public void configureBuildPipeline(CreateProjectile projectile, OpenShiftProject openShiftProject, @Nullable GitRepository gitRepository,
+                                       List<OpenShiftTemplate> templates) {
+        if (templates.isEmpty()) {
             // Use Jenkins pipeline build
             openShiftService.configureProject(openShiftProject,
                                               PROVIDER,
                                               (gitRepository == null) ? null : gitRepository.getGitCloneUri());
         } else {
             // Use S2I builder templates
-            for (AppInfo app : apps) {
-                for (File tpl : app.resources) {
-                    applyTemplate(openShiftService, gitRepository, openShiftProject, app, tpl);
-                }
-            }
-            for (AppInfo app : apps) {
-                for (File tpl : app.services) {
-                    applyTemplate(openShiftService, gitRepository, openShiftProject, app, tpl);
-                }
-            }
-            for (AppInfo app : apps) {
-                for (File tpl : app.apps) {
-                    applyTemplate(openShiftService, gitRepository, openShiftProject, app, tpl);
-                }
-            }
+            openShiftService.configureProject(openShiftProject,
+                                              templates,
+                                              PROVIDER,
+                                              (gitRepository == null) ? null : gitRepository.getGitCloneUri(),
+                                              executor);
         }
 
         projectile.getEventConsumer().accept(new StatusMessageEvent(projectile.getId(), OPENSHIFT_PIPELINE,
@@ -144,18 +184,13 @@ public class OpenShiftSteps {
         return ymls != null ? Arrays.asList(ymls) : Collections.emptyList();
     }
 
-    private void applyTemplate(OpenShiftService openShiftService, @Nullable GitRepository gitRepository,
-                               OpenShiftProject openShiftProject, AppInfo app, File tpl) {
-        try (FileInputStream fis = new FileInputStream(tpl)) {
-            openShiftService.configureProject(openShiftProject,
-                                              fis,
-                                              PROVIDER,
-                                              (gitRepository == null) ? null : gitRepository.getGitCloneUri(),
-                                              app.contextDir);
-        } catch (FileNotFoundException e) {
-            throw new IllegalStateException("Could not apply services template", e);
-        } catch (IOException e) {
-            throw new IllegalStateException("Could not read services template", e);
+    private void addTemplates(List<OpenShiftTemplate> templates, AppInfo app, List<File> files, int phase) {
+        for (File tpl : files) {
+            templates.add(ImmutableOpenShiftTemplate.builder()
+                                  .path(tpl.toPath())
+                                  .sourceRepositoryContextDir(app.contextDir)
+                                  .phase(phase)
+                                  .build());
         }
     }
 
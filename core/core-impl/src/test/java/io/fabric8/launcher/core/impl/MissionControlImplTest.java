@@ -0,0 +1,191 @@
+package io.fabric8.launcher.core.impl;
+
+import java.net.URL;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nullable;
+import javax.enterprise.inject.Instance;
+
+import io.fabric8.launcher.core.api.Boom;
+import io.fabric8.launcher.core.api.projectiles.CreateProjectile;
+import io.fabric8.launcher.core.api.projectiles.ImmutableLauncherCreateProjectile;
+import io.fabric8.launcher.core.impl.steps.GitSteps;
+import io.fabric8.launcher.core.impl.steps.OpenShiftSteps;
+import io.fabric8.launcher.service.git.api.GitRepository;
+import io.fabric8.launcher.service.openshift.api.OpenShiftProject;
+import io.fabric8.launcher.service.openshift.api.OpenShiftTemplate;
+import org.eclipse.microprofile.context.ManagedExecutor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SuppressWarnings("unchecked")
+class MissionControlImplTest {
+
+    private final List<String> steps = new CopyOnWriteArrayList<>();
+
+    private final GitRepository gitRepository = mock(GitRepository.class);
+
+    private final OpenShiftProject openShiftProject = mock(OpenShiftProject.class);
+
+    private final CreateProjectile projectile = ImmutableLauncherCreateProjectile.builder()
+            .projectLocation(Paths.get("project"))
+            .gitRepositoryName("repository")
+            .openShiftProjectName("project")
+            .build();
+
+    private RecordingGitSteps gitSteps;
+
+    private RecordingOpenShiftSteps openShiftSteps;
+
+    private MissionControlImpl missionControl;
+
+    @BeforeEach
+    void setUp() {
+        gitSteps = new RecordingGitSteps();
+        openShiftSteps = new RecordingOpenShiftSteps();
+        missionControl = new MissionControlImpl();
+        missionControl.enrichers = mock(Instance.class);
+        missionControl.gitStepsInstance = mock(Instance.class);
+        when(missionControl.gitStepsInstance.get()).thenReturn(gitSteps);
+        missionControl.openShiftStepsInstance = mock(Instance.class);
+        when(missionControl.openShiftStepsInstance.get()).thenReturn(openShiftSteps);
+        missionControl.executor = mock(ManagedExecutor.class);
+        doAnswer(invocation -> {
+            new Thread(invocation.<Runnable>getArgument(0)).start();
+            return null;
+        }).when(missionControl.executor).execute(any());
+    }
+
+    @Test
+    void should_create_the_repository_and_the_project_at_the_same_time() {
+        //given
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        gitSteps.onCreate = bothStarted;
+        openShiftSteps.onCreate = bothStarted;
+        //when
+        Boom boom = missionControl.launch(projectile);
+        //then
+        assertThat(boom.getCreatedRepository()).isSameAs(gitRepository);
+        assertThat(boom.getCreatedProject()).isSameAs(openShiftProject);
+        assertThat(steps).containsSubsequence("GITHUB_CREATE", "GITHUB_PUSHED", "OPENSHIFT_CREATE", "OPENSHIFT_PIPELINE", "GITHUB_WEBHOOK");
+    }
+
+    @Test
+    void should_report_the_git_failure_before_the_project() {
+        //given
+        IllegalStateException failure = new IllegalStateException("Repository already exists");
+        gitSteps.failure = failure;
+        //when
+        assertThatThrownBy(() -> missionControl.launch(projectile)).isSameAs(failure);
+        //then
+        assertThat(steps).doesNotContain("OPENSHIFT_CREATE", "OPENSHIFT_PIPELINE");
+        verify(missionControl.gitStepsInstance).destroy(gitSteps);
+        verify(missionControl.openShiftStepsInstance).destroy(openShiftSteps);
+    }
+
+    @Test
+    void should_report_the_git_failure_when_both_sides_fail() {
+        //given
+        IllegalStateException failure = new IllegalStateException("Repository already exists");
+        gitSteps.failure = failure;
+        IllegalStateException openShiftFailure = new IllegalStateException("Quota exceeded");
+        openShiftSteps.failure = openShiftFailure;
+        //when
+        assertThatThrownBy(() -> missionControl.launch(projectile)).isSameAs(failure);
+        //then
+        assertThat(failure.getSuppressed()).containsExactly(openShiftFailure);
+    }
+
+    private static void await(@Nullable CountDownLatch latch) {
+        if (latch != null) {
+            latch.countDown();
+            try {
+                assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    private class RecordingGitSteps extends GitSteps {
+
+        CountDownLatch onCreate;
+
+        RuntimeException failure;
+
+        @Override
+        public GitRepository createGitRepository(CreateProjectile projectile) {
+            await(onCreate);
+            if (failure != null) {
+                throw failure;
+            }
+            steps.add("GITHUB_CREATE");
+            return gitRepository;
+        }
+
+        @Override
+        public void pushToGitRepository(CreateProjectile projectile, GitRepository repository) {
+            steps.add("GITHUB_PUSHED");
+        }
+
+        @Override
+        public void createWebHooks(CreateProjectile projectile, GitRepository gitRepository, List<URL> webhooks) {
+            steps.add("GITHUB_WEBHOOK");
+        }
+    }
+
+    private class RecordingOpenShiftSteps extends OpenShiftSteps {
+
+        CountDownLatch onCreate;
+
+        RuntimeException failure;
+
+        RecordingOpenShiftSteps() {
+            super(null, null, null);
+        }
+
+        @Override
+        public OpenShiftProject findOrCreateOpenShiftProject(CreateProjectile projectile) {
+            await(onCreate);
+            if (failure != null) {
+                throw failure;
+            }
+            return openShiftProject;
+        }
+
+        @Override
+        public void openShiftProjectCreated(CreateProjectile projectile, OpenShiftProject openShiftProject) {
+            steps.add("OPENSHIFT_CREATE");
+        }
+
+        @Override
+        public List<OpenShiftTemplate> findTemplates(CreateProjectile projectile) {
+            return emptyList();
+        }
+
+        @Override
+        public void configureBuildPipeline(CreateProjectile projectile, OpenShiftProject openShiftProject, @Nullable GitRepository gitRepository,
+                                           List<OpenShiftTemplate> templates) {
+            steps.add("OPENSHIFT_PIPELINE");
+        }
+
+        @Override
+        public List<URL> getWebhooks(OpenShiftProject project) {
+            return emptyList();
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package io.fabric8.launcher.core.impl.availability;
+
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import io.fabric8.kubernetes.client.Config;
+import io.fabric8.kubernetes.client.ConfigBuilder;
+import io.fabric8.launcher.base.identity.TokenIdentity;
+import io.fabric8.launcher.service.git.api.GitRepository;
+import io.fabric8.launcher.service.git.api.GitService;
+import io.fabric8.launcher.service.git.api.ImmutableGitRepository;
+import io.fabric8.launcher.service.git.api.ImmutableGitUser;
+import io.fabric8.launcher.service.openshift.api.OpenShiftService;
+import io.fabric8.openshift.client.DefaultOpenShiftClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class NameAvailabilityServiceImplTest {
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    private final GitService gitService = mock(GitService.class);
+
+    @BeforeEach
+    void setUp() {
+        when(gitService.getLoggedUser()).thenReturn(ImmutableGitUser.of("joe", "avatar"));
+        when(gitService.getProvider()).thenReturn("GitHub");
+        when(gitService.getIdentity()).thenReturn(TokenIdentity.of("token"));
+        when(gitService.getRepositoriesAsync(any(), any())).thenReturn(CompletableFuture.completedFuture(Arrays.asList(
+                repository("joe/Launcher-Backend"),
+                repository("fabric8/launcher-frontend"))));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void should_answer_from_the_snapshot() {
+        NameAvailabilityServiceImpl service = new NameAvailabilityServiceImpl(executor, 100, 60_000, 60_000);
+
+        assertThat(service.repositoryExists(gitService, "launcher-backend")).isTrue();
+        assertThat(service.repositoryExists(gitService, "fabric8/launcher-frontend")).isTrue();
+        assertThat(service.repositoryExists(gitService, "my-app")).isFalse();
+
+        verify(gitService, times(1)).getRepositoriesAsync(any(), any());
+        verify(gitService, never()).getRepository(anyString());
+    }
+
+    @Test
+    void should_look_up_names_outside_of_the_snapshot_once() throws Exception {
+        NameAvailabilityServiceImpl service = new NameAvailabilityServiceImpl(executor, 100, 60_000, 60_000);
+        CountDownLatch called = new CountDownLatch(1);
+        when(gitService.getRepository("fabric8/my-app")).thenAnswer(invocation -> {
+            called.countDown();
+            Thread.sleep(200);
+            return Optional.empty();
+        });
+
+        Future<Boolean> first = executor.submit(() -> service.repositoryExists(gitService, "fabric8/my-app"));
+        called.await(1, TimeUnit.SECONDS);
+        Future<Boolean> second = executor.submit(() -> service.repositoryExists(gitService, "fabric8/my-app"));
+
+        assertThat(first.get()).isFalse();
+        assertThat(second.get()).isFalse();
+        assertThat(service.repositoryExists(gitService, "fabric8/my-app")).isFalse();
+        verify(gitService, times(1)).getRepository("fabric8/my-app");
+    }
+
+    @Test
+    void should_expire_negative_lookups_and_record_created_names() throws Exception {
+        NameAvailabilityServiceImpl service = new NameAvailabilityServiceImpl(executor, 100, 60_000, 50);
+        when(gitService.getRepository("fabric8/my-app")).thenReturn(Optional.empty());
+
+        assertThat(service.repositoryExists(gitService, "fabric8/my-app")).isFalse();
+        Thread.sleep(100);
+        assertThat(service.repositoryExists(gitService, "fabric8/my-app")).isFalse();
+        verify(gitService, times(2)).getRepository("fabric8/my-app");
+
+        service.repositoryCreated(gitService, repository("fabric8/my-app"));
+        assertThat(service.repositoryExists(gitService, "fabric8/my-app")).isTrue();
+        verify(gitService, times(2)).getRepository("fabric8/my-app");
+    }
+
+    @Test
+    void should_confirm_the_projects_missing_from_the_snapshot() {
+        NameAvailabilityServiceImpl service = new NameAvailabilityServiceImpl(executor, 100, 60_000, 60_000);
+        OpenShiftService openShiftService = mock(OpenShiftService.class);
+        Config config = new ConfigBuilder()
+                .withMasterUrl("https://openshift.example.com")
+                .withOauthToken("token")
+                .build();
+        when(openShiftService.getOpenShiftClient()).thenReturn(new DefaultOpenShiftClient(config));
+        when(openShiftService.getProjectNamesAsync(any())).thenReturn(CompletableFuture.completedFuture(
+                new HashSet<>(Collections.singletonList("my-project"))));
+        when(openShiftService.projectExists("other-project")).thenReturn(true);
+
+        assertThat(service.projectExists(openShiftService, "my-project")).isTrue();
+        assertThat(service.projectExists(openShiftService, "other-project")).isTrue();
+        verify(openShiftService, never()).projectExists("my-project");
+        verify(openShiftService).projectExists("other-project");
+    }
+
+    private static GitRepository repository(String fullName) {
+        return ImmutableGitRepository.builder()
+                .fullName(fullName)
+                .homepage(URI.create("https://github.com/" + fullName))
+                .gitCloneUri(URI.create("https://github.com/" + fullName + ".git"))
+                .build();
+    }
+}
@@ -0,0 +1,167 @@
+package io.fabric8.launcher.core.impl.events;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import io.fabric8.launcher.base.JsonUtils;
+import io.fabric8.launcher.core.api.events.LauncherStatusEventKind;
+import io.fabric8.launcher.core.api.events.StatusMessageEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DistributedStatusMessageEventBrokerTest {
+
+    InProcessStatusMessageTransport transport;
+
+    LocalStatusMessageEventBroker firstLocal;
+
+    LocalStatusMessageEventBroker secondLocal;
+
+    DistributedStatusMessageEventBroker first;
+
+    DistributedStatusMessageEventBroker second;
+
+    @BeforeEach
+    public void createBrokers() {
+        transport = new InProcessStatusMessageTransport();
+        firstLocal = new LocalStatusMessageEventBroker(600_000, 256, 16 * 1024 * 1024);
+        secondLocal = new LocalStatusMessageEventBroker(600_000, 256, 16 * 1024 * 1024);
+        first = new DistributedStatusMessageEventBroker(firstLocal, transport);
+        second = new DistributedStatusMessageEventBroker(secondLocal, transport);
+    }
+
+    @AfterEach
+    public void closeBrokers() {
+        first.close();
+        second.close();
+        firstLocal.close();
+        secondLocal.close();
+    }
+
+    @Test
+    public void should_forward_messages_to_the_consumer_of_another_replica() throws Exception {
+        //given
+        UUID key = UUID.randomUUID();
+        List<String> consumedEvents = new ArrayList<>();
+        second.setConsumer(key, consumedEvents::add);
+
+        //when
+        first.send(githubCreateEvent(key));
+        first.send(githubPushEvent(key));
+
+        //then
+        assertThat(consumedEvents).containsExactly(asJson(githubCreateEvent(key)), asJson(githubPushEvent(key)));
+        assertThat(firstLocal.getBuffer()).doesNotContainKey(key);
+    }
+
+    @Test
+    public void should_replay_the_messages_buffered_by_another_replica() throws Exception {
+        //given
+        UUID key = UUID.randomUUID();
+        List<String> consumedEvents = new ArrayList<>();
+        first.send(githubCreateEvent(key));
+        first.send(githubPushEvent(key));
+
+        //when
+        second.setConsumer(key, consumedEvents::add);
+        first.send(githubWebhookEvent(key));
+
+        //then
+        assertThat(consumedEvents).containsExactly(asJson(githubCreateEvent(key)), asJson(githubPushEvent(key)),
+                                                   asJson(githubWebhookEvent(key)));
+        assertThat(firstLocal.getBuffer()).doesNotContainKey(key);
+    }
+
+    @Test
+    public void should_deliver_messages_of_the_same_replica_without_the_transport() throws Exception {
+        //given
+        UUID key = UUID.randomUUID();
+        List<String> consumedEvents = new ArrayList<>();
+        first.setConsumer(key, consumedEvents::add);
+        int published = transport.getPublished().size();
+
+        //when
+        first.send(githubCreateEvent(key));
+
+        //then
+        assertThat(consumedEvents).containsExactly(asJson(githubCreateEvent(key)));
+        assertThat(transport.getPublished()).hasSize(published);
+    }
+
+    @Test
+    public void should_stop_forwarding_after_removing_the_consumer() throws Exception {
+        //given
+        UUID key = UUID.randomUUID();
+        List<String> consumedEvents = new ArrayList<>();
+        second.setConsumer(key, consumedEvents::add);
+
+        //when
+        second.removeConsumer(key);
+        first.send(githubCreateEvent(key));
+
+        //then
+        assertThat(consumedEvents).isEmpty();
+        assertThat(firstLocal.getBuffer().get(key)).containsExactly(asJson(githubCreateEvent(key)));
+    }
+
+    @Test
+    public void should_stop_forwarding_when_the_consumer_removal_is_lost() throws Exception {
+        //given
+        UUID key = UUID.randomUUID();
+        LocalStatusMessageEventBroker expiringLocal = new LocalStatusMessageEventBroker(50, 256, 1024 * 1024);
+        DistributedStatusMessageEventBroker expiring = new DistributedStatusMessageEventBroker(expiringLocal, transport);
+        try {
+            second.setConsumer(key, message -> {
+            });
+            // The replica of the consumer goes away without removing it
+            second.close();
+
+            //when
+            Thread.sleep(100);
+            expiringLocal.sweep();
+            expiring.send(githubCreateEvent(key));
+
+            //then
+            assertThat(expiringLocal.getBuffer().get(key)).containsExactly(asJson(githubCreateEvent(key)));
+        } finally {
+            expiring.close();
+            expiringLocal.close();
+        }
+    }
+
+    @Test
+    public void should_not_fail_the_sender_when_the_transport_fails() throws Exception {
+        //given
+        UUID key = UUID.randomUUID();
+        second.setConsumer(key, message -> {
+        });
+        transport.setFailing(true);
+
+        //when
+        first.send(githubCreateEvent(key));
+
+        //then
+        assertThat(firstLocal.getBuffer()).doesNotContainKey(key);
+    }
+
+    private String asJson(StatusMessageEvent event) throws IOException {
+        return JsonUtils.toString(event);
+    }
+
+    private StatusMessageEvent githubWebhookEvent(UUID key) {
+        return new StatusMessageEvent(key, LauncherStatusEventKind.GITHUB_WEBHOOK);
+    }
+
+    private StatusMessageEvent githubPushEvent(UUID key) {
+        return new StatusMessageEvent(key, LauncherStatusEventKind.GITHUB_PUSHED);
+    }
+
+    private StatusMessageEvent githubCreateEvent(UUID key) {
+        return new StatusMessageEvent(key, LauncherStatusEventKind.GITHUB_CREATE);
+    }
+}
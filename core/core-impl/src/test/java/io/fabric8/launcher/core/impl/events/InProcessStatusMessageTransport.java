@@ -0,0 +1,47 @@
+package io.fabric8.launcher.core.impl.events;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import io.fabric8.launcher.core.spi.StatusMessageTransport;
+
+/**
+ * A {@link StatusMessageTransport} delivering the messages synchronously to the brokers of the same JVM, each broker
+ * standing for a replica
+ */
+class InProcessStatusMessageTransport implements StatusMessageTransport {
+
+    private final List<Consumer<String>> listeners = new CopyOnWriteArrayList<>();
+
+    private final List<String> published = new CopyOnWriteArrayList<>();
+
+    private volatile boolean failing;
+
+    @Override
+    public synchronized void publish(String message) {
+        if (failing) {
+            throw new IllegalStateException("Transport is down");
+        }
+        published.add(message);
+        listeners.forEach(listener -> listener.accept(message));
+    }
+
+    @Override
+    public void subscribe(Consumer<String> listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void unsubscribe(Consumer<String> listener) {
+        listeners.remove(listener);
+    }
+
+    void setFailing(boolean failing) {
+        this.failing = failing;
+    }
+
+    List<String> getPublished() {
+        return published;
+    }
+}
@@ -24,7 +24,7 @@ class LocalStatusMessageEventBrokerTest {
 
     @BeforeEach
     public void createBroker() {
-        broker = new LocalStatusMessageEventBroker();
+        broker = new LocalStatusMessageEventBroker(600_000, 256, 16 * 1024 * 1024);
     }
 
     @AfterEach
@@ -103,6 +103,82 @@ class LocalStatusMessageEventBrokerTest {
         assertThat(broker.getBuffer().get(key)).containsExactlyElementsOf(expectedEvents);
     }
 
+    @Test
+    public void should_keep_the_latest_messages_of_a_key() throws Exception {
+        //given
+        UUID key = UUID.randomUUID();
+        LocalStatusMessageEventBroker bounded = new LocalStatusMessageEventBroker(60_000, 2, 1_000_000);
+
+        //when
+        bounded.send(githubCreateEvent(key));
+        bounded.send(githubPushEvent(key));
+        bounded.send(githubWebhookEvent(key));
+
+        //then
+        assertThat(bounded.getBuffer().get(key)).containsExactly(asJson(githubPushEvent(key)), asJson(githubWebhookEvent(key)));
+        assertThat(bounded.getEvictionCount()).isEqualTo(1);
+        assertThat(bounded.getBufferedBytes()).isEqualTo(asJson(githubPushEvent(key)).length() + asJson(githubWebhookEvent(key)).length());
+        bounded.close();
+    }
+
+    @Test
+    public void should_drop_the_buffers_not_written_for_the_ttl() throws Exception {
+        //given
+        UUID key = UUID.randomUUID();
+        LocalStatusMessageEventBroker expiring = new LocalStatusMessageEventBroker(50, 256, 1_000_000);
+        expiring.send(githubCreateEvent(key));
+
+        //when
+        Thread.sleep(100);
+        expiring.sweep();
+
+        //then
+        assertThat(expiring.getBuffer()).doesNotContainKey(key);
+        assertThat(expiring.getBufferedKeyCount()).isZero();
+        assertThat(expiring.getBufferedBytes()).isZero();
+        assertThat(expiring.getEvictionCount()).isEqualTo(1);
+        expiring.close();
+    }
+
+    @Test
+    public void should_drop_the_least_recently_written_buffers_over_the_memory_cap() throws Exception {
+        //given
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        long size = asJson(githubCreateEvent(first)).length();
+        LocalStatusMessageEventBroker capped = new LocalStatusMessageEventBroker(60_000, 256, 2 * size);
+
+        //when
+        capped.send(githubCreateEvent(first));
+        Thread.sleep(5);
+        capped.send(githubCreateEvent(second));
+        Thread.sleep(5);
+        capped.send(githubCreateEvent(second));
+
+        //then
+        assertThat(capped.getBuffer()).containsOnlyKeys(second);
+        assertThat(capped.getBufferedBytes()).isEqualTo(2 * size);
+        capped.close();
+    }
+
+    @Test
+    public void should_count_the_buffered_messages_delivered() throws Exception {
+        //given
+        UUID key = UUID.randomUUID();
+        broker.send(githubCreateEvent(key));
+        broker.send(githubPushEvent(key));
+
+        //when
+        broker.setConsumer(key, message -> {
+        });
+
+        //then
+        assertThat(broker.getDeliveredCount()).isEqualTo(2);
+        assertThat(broker.getDeliveryLagMillis()).isNotNegative();
+        assertThat(broker.getBufferedKeyCount()).isZero();
+        assertThat(broker.getBufferedBytes()).isZero();
+    }
+
     private String asJson(StatusMessageEvent event) throws IOException {
         return JsonUtils.toString(event);
     }
@@ -0,0 +1,82 @@
+package io.fabric8.launcher.core.impl.filters;
+
+import java.security.interfaces.RSAPublicKey;
+import java.util.Optional;
+
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.core.HttpHeaders;
+
+import io.fabric8.launcher.base.identity.RSAPublicKeyConverter;
+import io.fabric8.launcher.core.spi.Application;
+import io.fabric8.launcher.core.spi.PublicKeyProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static io.fabric8.launcher.base.test.identity.TokenFixtures.OUTDATED_TOKEN;
+import static io.fabric8.launcher.base.test.identity.TokenFixtures.PUBLIC_KEY;
+import static io.fabric8.launcher.base.test.identity.TokenFixtures.TOKEN_SIGNED_WITH_DIFFERENT_KEY;
+import static io.fabric8.launcher.base.test.identity.TokenFixtures.VALID_TOKEN;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class SecuredFilterTest {
+
+    private final SecuredFilter filter = new SecuredFilter();
+
+    private final PublicKeyProvider publicKeyProvider = mock(PublicKeyProvider.class);
+
+    @BeforeEach
+    public void setUp() {
+        final RSAPublicKey publicKey = RSAPublicKeyConverter.fromString(PUBLIC_KEY);
+        when(publicKeyProvider.getKey(anyString())).thenReturn(Optional.of(publicKey));
+        filter.publicKeyProvider = publicKeyProvider;
+        filter.verifiedTokens = new VerifiedTokens(100, 30_000);
+    }
+
+    @Test
+    public void should_verify_the_signature_of_a_token_once() {
+        // when
+        final ContainerRequestContext first = request(VALID_TOKEN);
+        final ContainerRequestContext second = request(VALID_TOKEN);
+        filter.filter(first);
+        filter.filter(second);
+
+        // then
+        verify(first, never()).abortWith(any());
+        verify(second, never()).abortWith(any());
+        verify(second).setSecurityContext(any());
+        verify(publicKeyProvider, times(1)).getKey(anyString());
+        assertThat(filter.verifiedTokens.getHitCount()).isEqualTo(1);
+        assertThat(filter.verifiedTokens.getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void should_still_verify_new_tokens() {
+        // given
+        filter.filter(request(VALID_TOKEN));
+
+        // when
+        final ContainerRequestContext otherKey = request(TOKEN_SIGNED_WITH_DIFFERENT_KEY);
+        final ContainerRequestContext outdated = request(OUTDATED_TOKEN);
+        filter.filter(otherKey);
+        filter.filter(outdated);
+
+        // then
+        verify(otherKey).abortWith(any());
+        verify(outdated).abortWith(any());
+        assertThat(filter.verifiedTokens.getSize()).isEqualTo(1);
+    }
+
+    private static ContainerRequestContext request(String token) {
+        final ContainerRequestContext request = mock(ContainerRequestContext.class);
+        when(request.getHeaderString(HttpHeaders.AUTHORIZATION)).thenReturn("Bearer " + token);
+        when(request.getHeaderString(Application.APP_HEADER)).thenReturn("osio");
+        return request;
+    }
+}
@@ -0,0 +1,37 @@
+package io.fabric8.launcher.core.impl.filters;
+
+import com.auth0.jwt.JWT;
+import org.junit.jupiter.api.Test;
+
+import static io.fabric8.launcher.base.test.identity.TokenFixtures.OUTDATED_TOKEN;
+import static io.fabric8.launcher.base.test.identity.TokenFixtures.VALID_TOKEN;
+import static io.fabric8.launcher.core.spi.Application.ApplicationType.LAUNCHER;
+import static io.fabric8.launcher.core.spi.Application.ApplicationType.OSIO;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class VerifiedTokensTest {
+
+    private final VerifiedTokens verifiedTokens = new VerifiedTokens(100, 30_000);
+
+    @Test
+    public void should_keep_the_verified_tokens_of_each_application() {
+        // when
+        verifiedTokens.put(OSIO, JWT.decode(VALID_TOKEN));
+
+        // then
+        assertThat(verifiedTokens.get(OSIO, VALID_TOKEN)).get().extracting("token").isEqualTo(VALID_TOKEN);
+        assertThat(verifiedTokens.get(LAUNCHER, VALID_TOKEN)).isNotPresent();
+        assertThat(verifiedTokens.getHitCount()).isEqualTo(1);
+        assertThat(verifiedTokens.getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void should_not_keep_expired_tokens() {
+        // when
+        verifiedTokens.put(OSIO, JWT.decode(OUTDATED_TOKEN));
+
+        // then
+        assertThat(verifiedTokens.get(OSIO, OUTDATED_TOKEN)).isNotPresent();
+        assertThat(verifiedTokens.getSize()).isZero();
+    }
+}
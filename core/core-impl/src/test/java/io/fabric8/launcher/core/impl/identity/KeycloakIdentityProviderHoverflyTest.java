@@ -1,6 +1,7 @@
 package io.fabric8.launcher.core.impl.identity;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import io.fabric8.launcher.base.http.HttpClient;
 import io.fabric8.launcher.base.identity.Identity;
@@ -20,6 +21,8 @@ import static io.fabric8.launcher.base.test.hoverfly.LauncherHoverflyEnvironment
 import static io.fabric8.launcher.base.test.hoverfly.LauncherHoverflyRuleConfigurer.createMultiTestHoverflyProxy;
 import static io.fabric8.launcher.core.impl.CoreEnvironment.LAUNCHER_KEYCLOAK_REALM;
 import static io.fabric8.launcher.core.impl.CoreEnvironment.LAUNCHER_KEYCLOAK_URL;
+import static io.specto.hoverfly.junit.dsl.HoverflyDsl.service;
+import static io.specto.hoverfly.junit.verification.HoverflyVerifications.times;
 
 public class KeycloakIdentityProviderHoverflyTest {
 
@@ -100,6 +103,21 @@ public class KeycloakIdentityProviderHoverflyTest {
                 .isEmpty();
     }
 
+    @Test
+    public void should_exchange_the_token_of_a_service_once() throws Exception {
+        KeycloakParameters keycloakParameters = ImmutableKeycloakParameters.builder().build();
+        final IdentityProvider keycloakIdentityProvider = new KeycloakIdentityProvider(keycloakParameters, HttpClient.create());
+
+        final CompletableFuture<Optional<Identity>> first = keycloakIdentityProvider.getIdentityAsync(getKeycloakToken(), "github");
+        final CompletableFuture<Optional<Identity>> second = keycloakIdentityProvider.getIdentityAsync(getKeycloakToken(), "github");
+        softly.assertThat(second.get()).isEqualTo(first.get()).isPresent();
+
+        final Optional<Identity> cached = keycloakIdentityProvider.getIdentity(getKeycloakToken(), "github");
+        softly.assertThat(cached).isEqualTo(first.get());
+
+        HOVERFLY_RULE.verify(service("sso.openshift.io").get("/auth/realms/rh-developers-launch/broker/github/token"), times(1));
+    }
+
     private static TokenIdentity getKeycloakToken() {
         return TokenIdentity.of(getRequiredEnvVarOrSysProp("KEYCLOAK_TOKEN"));
     }
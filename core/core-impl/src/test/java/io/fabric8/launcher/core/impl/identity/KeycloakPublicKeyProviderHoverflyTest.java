@@ -2,12 +2,11 @@ package io.fabric8.launcher.core.impl.identity;
 
 import java.security.interfaces.RSAPublicKey;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 import io.fabric8.launcher.base.http.HttpClient;
 import io.fabric8.launcher.base.identity.RSAPublicKeyConverter;
-import io.fabric8.launcher.base.identity.TokenIdentity;
 import io.fabric8.launcher.base.test.hoverfly.LauncherPerTestHoverflyRule;
-import io.fabric8.launcher.base.test.identity.TokenFixtures;
 import io.fabric8.launcher.core.spi.PublicKeyProvider;
 import io.specto.hoverfly.junit.rule.HoverflyRule;
 import org.junit.ClassRule;
@@ -15,24 +14,29 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.RuleChain;
 
-import static io.fabric8.launcher.base.EnvironmentSupport.getRequiredEnvVarOrSysProp;
 import static io.fabric8.launcher.base.test.hoverfly.LauncherHoverflyEnvironment.createDefaultHoverflyEnvironment;
 import static io.fabric8.launcher.base.test.hoverfly.LauncherHoverflyRuleConfigurer.createMultiTestHoverflyProxy;
 import static io.fabric8.launcher.core.impl.CoreEnvironment.LAUNCHER_KEYCLOAK_REALM;
 import static io.fabric8.launcher.core.impl.CoreEnvironment.LAUNCHER_KEYCLOAK_URL;
 import static io.fabric8.launcher.base.test.identity.TokenFixtures.KID;
 import static io.fabric8.launcher.base.test.identity.TokenFixtures.STRIP_PUBLIC_KEY;
+import static io.specto.hoverfly.junit.core.SimulationSource.defaultPath;
+import static io.specto.hoverfly.junit.core.SimulationSource.dsl;
+import static io.specto.hoverfly.junit.dsl.HoverflyDsl.service;
+import static io.specto.hoverfly.junit.dsl.ResponseCreators.success;
+import static io.specto.hoverfly.junit.verification.HoverflyVerifications.times;
 import static org.assertj.core.api.Assertions.assertThat;
 
 public class KeycloakPublicKeyProviderHoverflyTest {
 
     private static final HoverflyRule HOVERFLY_RULE = createMultiTestHoverflyProxy("sso.openshift.io");
 
+    private static final String KEYS_PATH = "/auth/realms/rh-developers-launch/protocol/openid-connect/certs";
+
     @ClassRule
     public static final RuleChain RULE_CHAIN = RuleChain// After recording on a real environment against a real service,
             // You should adapt the Hoverfly descriptors (.json) to make them work in simulation mode with the mock environment.
             .outerRule(createDefaultHoverflyEnvironment(HOVERFLY_RULE)
-                               .andForSimulationOnly("KEYCLOAK_TOKEN", TokenFixtures.VALID_TOKEN)
                                .andForSimulationOnly(LAUNCHER_KEYCLOAK_URL.propertyKey(), "https://sso.openshift.io/auth")
                                .andForSimulationOnly(LAUNCHER_KEYCLOAK_REALM.propertyKey(), "rh-developers-launch"))
             .around(HOVERFLY_RULE);
@@ -41,7 +45,7 @@ public class KeycloakPublicKeyProviderHoverflyTest {
     public LauncherPerTestHoverflyRule hoverflyPerTestRule = new LauncherPerTestHoverflyRule(HOVERFLY_RULE);
 
     private final PublicKeyProvider publicKeyProvider =
-            new KeycloakPublicKeyProvider(ImmutableKeycloakParameters.builder().build(), getKeycloakToken(), HttpClient.create());
+            new KeycloakPublicKeyProvider(ImmutableKeycloakParameters.builder().build(), HttpClient.create());
 
     @Test
     public void should_receive_key_based_on_its_kid() {
@@ -80,8 +84,62 @@ public class KeycloakPublicKeyProviderHoverflyTest {
         assertThat(publicKey).isNotPresent();
     }
 
+    @Test
+    public void should_fetch_the_keys_once() {
+        // when
+        publicKeyProvider.getKey(KID);
+        publicKeyProvider.getKey(KID);
+
+        // then
+        HOVERFLY_RULE.verify(service("sso.openshift.io").get(KEYS_PATH), times(1));
+    }
+
+    @Test
+    public void should_not_fetch_the_keys_again_for_unknown_kids_more_than_once_per_interval() {
+        // given
+        final PublicKeyProvider provider =
+                new KeycloakPublicKeyProvider(ImmutableKeycloakParameters.builder().build(), HttpClient.create(), 600_000, 60_000, 10_000);
+
+        // when
+        provider.getKey("non-existing-key");
+        provider.getKey("other-non-existing-key");
+
+        // then
+        HOVERFLY_RULE.verify(service("sso.openshift.io").get(KEYS_PATH), times(1));
+        assertThat(provider.getKey(KID)).isPresent();
+    }
+
+    @Test
+    public void should_keep_the_keys_while_keycloak_is_down() {
+        // given
+        final PublicKeyProvider provider =
+                new KeycloakPublicKeyProvider(ImmutableKeycloakParameters.builder().build(), HttpClient.create(), 0, 0, 10_000);
+        provider.getKey(KID);
+
+        // when
+        HOVERFLY_RULE.simulate(defaultPath("keycloakpublickeyproviderhoverflytest/should_return_empty_response_when_error_occurs.json"));
+
+        // then
+        assertThat(provider.getKey(KID)).isPresent();
+        assertThat(provider.getKey("non-existing-key")).isNotPresent();
+        assertThat(provider.getKey(KID)).isPresent();
+    }
 
-    private static TokenIdentity getKeycloakToken() {
-        return TokenIdentity.of(getRequiredEnvVarOrSysProp("KEYCLOAK_TOKEN"));
+    @Test
+    public void should_not_find_the_key_when_keycloak_does_not_answer_in_time() {
+        // given
+        HOVERFLY_RULE.simulate(dsl(service("sso.openshift.io")
+                                           .get(KEYS_PATH)
+                                           .willReturn(success().withDelay(2, TimeUnit.SECONDS))));
+        final PublicKeyProvider provider =
+                new KeycloakPublicKeyProvider(ImmutableKeycloakParameters.builder().build(), HttpClient.create(), 600_000, 60_000, 100);
+
+        // when
+        final long start = System.currentTimeMillis();
+        final Optional<RSAPublicKey> publicKey = provider.getKey(KID);
+
+        // then
+        assertThat(publicKey).isNotPresent();
+        assertThat(System.currentTimeMillis() - start).isLessThan(2_000);
     }
-}
\ No newline at end of file
+}
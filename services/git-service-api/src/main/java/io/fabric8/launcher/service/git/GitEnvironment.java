@@ -11,5 +11,10 @@ public enum GitEnvironment implements EnvironmentEnum {
     LAUNCHER_GIT_PROVIDER,
     LAUNCHER_GIT_COMMITTER_AUTHOR,
     LAUNCHER_GIT_COMMITTER_AUTHOR_EMAIL,
-    LAUNCHER_GIT_PROVIDERS_FILE
+    LAUNCHER_GIT_PROVIDERS_FILE,
+    LAUNCHER_GIT_SESSION_CACHE_SIZE,
+    LAUNCHER_GIT_SESSION_TTL,
+    LAUNCHER_GIT_EXECUTOR_THREADS,
+    LAUNCHER_GIT_EXECUTOR_QUEUE,
+    LAUNCHER_GIT_CALL_TIMEOUT
 }
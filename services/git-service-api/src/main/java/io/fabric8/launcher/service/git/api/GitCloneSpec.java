@@ -0,0 +1,52 @@
+package io.fabric8.launcher.service.git.api;
+
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+import org.immutables.value.Value;
+
+/**
+ * How much of a repository {@link GitService#clone(GitRepository, java.nio.file.Path, GitCloneSpec)} fetches.
+ * <p>
+ * The options the local git cannot honor are ignored, the clone then contains more than requested.
+ */
+@Value.Immutable(singleton = true)
+public interface GitCloneSpec {
+
+    /**
+     * @return the number of commits to fetch from the tip of each branch, all of them if null
+     */
+    @Nullable Integer withDepth();
+
+    /**
+     * @return the branch to check out, the default branch of the repository if null
+     */
+    @Nullable String withBranch();
+
+    /**
+     * @return true to only fetch the history of the checked out branch
+     */
+    @Value.Default
+    default boolean withSingleBranch() {
+        return false;
+    }
+
+    /**
+     * @return a partial clone filter, as in "git clone --filter" (eg. "blob:none")
+     */
+    @Nullable String withFilter();
+
+    /**
+     * @return the directories to check out, all of them if empty
+     */
+    List<String> withSparsePaths();
+
+    @Value.Check
+    default void check() {
+        final Integer depth = withDepth();
+        if (depth != null && depth < 1) {
+            throw new IllegalArgumentException("depth must be positive");
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package io.fabric8.launcher.service.git.api;
+
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import io.fabric8.launcher.base.ConcurrencySupport;
+
+import static io.fabric8.launcher.base.ConcurrencySupport.MAX_CONCURRENT_CALLS;
+import static io.fabric8.launcher.base.ConcurrencySupport.applyInLanes;
+
+/**
+ * Helpers to implement {@link GitService#createHooks(GitRepository, String, Collection, Executor, String...)}
+ */
+public final class GitHooks {
+
+    private GitHooks() {
+        throw new IllegalAccessError("Utility class");
+    }
+
+    /**
+     * Creates the hooks whose URL is not among the existing hooks, at most
+     * {@link ConcurrencySupport#MAX_CONCURRENT_CALLS} at a time.
+     * <p>
+     * The hooks are listed once, and again only if some were registered in the meantime, to return them.
+     *
+     * @param listHooks   lists the hooks registered on the repository
+     * @param webhookUrls the URLs of the hooks to register
+     * @param create      creates the hook for a URL
+     * @param executor    the {@link Executor} running the calls
+     * @return the hooks of the given URLs, in the same order
+     * @throws IllegalStateException if a hook reported as registered in the meantime is not listed
+     */
+    public static List<GitHook> createMissing(Supplier<? extends Collection<GitHook>> listHooks, Collection<URL> webhookUrls,
+                                              Function<URL, GitHook> create, Executor executor) {
+        final List<URL> urls = new ArrayList<>(webhookUrls);
+        final GitHook[] hooks = new GitHook[urls.size()];
+        final Collection<GitHook> existing = listHooks.get();
+        final List<Integer> missing = new ArrayList<>();
+        for (int i = 0; i < hooks.length; i++) {
+            hooks[i] = find(existing, urls.get(i));
+            if (hooks[i] == null) {
+                missing.add(i);
+            }
+        }
+        applyInLanes(missing, MAX_CONCURRENT_CALLS, index -> hooks[index] = createOrFind(urls.get(index), create), executor);
+        Collection<GitHook> registered = null;
+        for (int i = 0; i < hooks.length; i++) {
+            if (hooks[i] == null) {
+                if (registered == null) {
+                    registered = listHooks.get();
+                }
+                hooks[i] = find(registered, urls.get(i));
+                if (hooks[i] == null) {
+                    throw new IllegalStateException("Webhook " + urls.get(i) + " was registered in the meantime but is not listed");
+                }
+            }
+        }
+        return Arrays.asList(hooks);
+    }
+
+    private static GitHook createOrFind(URL url, Function<URL, GitHook> create) {
+        try {
+            return create.apply(url);
+        } catch (DuplicateHookException e) {
+            // Registered in the meantime, found once the hooks are listed again
+            return null;
+        }
+    }
+
+    private static GitHook find(Collection<GitHook> hooks, URL url) {
+        final String urlString = url.toString();
+        return hooks.stream()
+                .filter(hook -> urlString.equalsIgnoreCase(hook.getUrl()))
+                .findFirst()
+                .orElse(null);
+    }
+}
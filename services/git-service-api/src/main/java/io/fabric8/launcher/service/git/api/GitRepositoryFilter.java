@@ -15,4 +15,22 @@ public interface GitRepositoryFilter {
     @Nullable String withNameContaining();
 
     @Nullable GitOrganization withOrganization();
+
+    /**
+     * Only honored by {@link GitService#getRepositories(GitRepositoryFilter, String, int)}
+     */
+    @Nullable String withNamePrefix();
+
+    /**
+     * @param repository the {@link GitRepository} to test
+     * @return true if the name of the repository (without its owner) starts with {@link #withNamePrefix()}
+     */
+    default boolean matchesNamePrefix(GitRepository repository) {
+        final String prefix = withNamePrefix();
+        if (prefix == null || prefix.isEmpty()) {
+            return true;
+        }
+        final String fullName = repository.getFullName();
+        return fullName.substring(fullName.lastIndexOf('/') + 1).startsWith(prefix);
+    }
 }
@@ -0,0 +1,20 @@
+package io.fabric8.launcher.service.git.api;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.immutables.value.Value;
+
+/**
+ * A page of repositories returned by {@link GitService#getRepositories(GitRepositoryFilter, String, int)}
+ */
+@Value.Immutable
+public interface GitRepositoryPage {
+
+    List<GitRepository> getRepositories();
+
+    /**
+     * @return the opaque cursor of the next page, empty if this is the last one
+     */
+    Optional<String> getNextCursor();
+}
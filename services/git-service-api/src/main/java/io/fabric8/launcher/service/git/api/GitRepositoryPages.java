@@ -0,0 +1,128 @@
+package io.fabric8.launcher.service.git.api;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import javax.annotation.Nullable;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Helpers for the paginated repository listing
+ */
+public final class GitRepositoryPages {
+
+    /**
+     * The maximum page size accepted by the Git providers
+     */
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private GitRepositoryPages() {
+        throw new IllegalAccessError("Utility class");
+    }
+
+    /**
+     * Lazily requests the pages of repositories matching the filter, one page at a time.
+     *
+     * @param service  the {@link GitService} to query
+     * @param filter   the {@link GitRepositoryFilter} to apply
+     * @param pageSize the number of repositories requested per page
+     * @return an {@link Iterator} over the pages
+     */
+    public static Iterator<GitRepositoryPage> iterate(GitService service, GitRepositoryFilter filter, int pageSize) {
+        requireNonNull(service, "service must be specified.");
+        requireNonNull(filter, "filter must be specified.");
+        return new Iterator<GitRepositoryPage>() {
+            private String cursor;
+
+            private boolean last;
+
+            @Override
+            public boolean hasNext() {
+                return !last;
+            }
+
+            @Override
+            public GitRepositoryPage next() {
+                if (last) {
+                    throw new NoSuchElementException();
+                }
+                final GitRepositoryPage page = service.getRepositories(filter, cursor, pageSize);
+                cursor = page.getNextCursor().orElse(null);
+                last = cursor == null;
+                return page;
+            }
+        };
+    }
+
+    /**
+     * @return a {@link Stream} requesting the next page only once the previous one is consumed
+     * @see GitService#getRepositoryPages(GitRepositoryFilter, int)
+     */
+    public static Stream<GitRepository> stream(GitService service, GitRepositoryFilter filter, int pageSize) {
+        final Spliterator<GitRepositoryPage> pages = Spliterators.spliteratorUnknownSize(
+                service.getRepositoryPages(filter, pageSize), Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(pages, false)
+                .flatMap(page -> page.getRepositories().stream());
+    }
+
+    /**
+     * Returns a page of an already fetched list, the cursor being the offset of the page in the list.
+     *
+     * @param repositories the repositories to paginate
+     * @param filter       the {@link GitRepositoryFilter} whose name prefix is applied
+     * @param cursor       the offset returned with the previous page, null for the first page
+     * @param pageSize     the maximum number of repositories in the page
+     * @return the {@link GitRepositoryPage}
+     */
+    public static GitRepositoryPage slice(List<GitRepository> repositories, GitRepositoryFilter filter,
+                                          @Nullable String cursor, int pageSize) {
+        final List<GitRepository> matching = repositories.stream()
+                .filter(filter::matchesNamePrefix)
+                .collect(Collectors.toList());
+        final int from = Math.min(parseCursor(cursor, 0), matching.size());
+        final int to = Math.min(from + checkPageSize(pageSize), matching.size());
+        return ImmutableGitRepositoryPage.builder()
+                .repositories(matching.subList(from, to))
+                .nextCursor(to < matching.size() ? Optional.of(String.valueOf(to)) : Optional.empty())
+                .build();
+    }
+
+    /**
+     * @param cursor       the cursor received from the client
+     * @param defaultValue the value of a null cursor
+     * @return the cursor as a non-negative number
+     * @throws IllegalArgumentException if the cursor is not a non-negative number
+     */
+    public static int parseCursor(@Nullable String cursor, int defaultValue) {
+        if (cursor == null) {
+            return defaultValue;
+        }
+        try {
+            final int value = Integer.parseInt(cursor);
+            if (value >= 0) {
+                return value;
+            }
+        } catch (NumberFormatException e) {
+            // handled below
+        }
+        throw new IllegalArgumentException("Invalid cursor: " + cursor);
+    }
+
+    /**
+     * @throws IllegalArgumentException if the page size is not between 1 and {@link #MAX_PAGE_SIZE}
+     */
+    public static int checkPageSize(int pageSize) {
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("pageSize must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        return pageSize;
+    }
+}
@@ -2,8 +2,13 @@ package io.fabric8.launcher.service.git.api;
 
 import java.net.URL;
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 
 import javax.annotation.Nullable;
 
@@ -33,15 +38,74 @@ public interface GitService {
      */
     List<GitRepository> getRepositories(GitRepositoryFilter filter);
 
+    /**
+     * Get a page of repositories.
+     *
+     * The default implementation fetches every repository and slices the result, providers with a paginated API
+     * should override it.
+     *
+     * @param filter   the {@see GitRepositoryFilter} to filter repositories, including by name prefix
+     * @param cursor   the cursor returned with the previous page, null for the first page
+     * @param pageSize the maximum number of repositories to return, up to {@link GitRepositoryPages#MAX_PAGE_SIZE}
+     * @return the {@link GitRepositoryPage}
+     * @throws IllegalArgumentException if the cursor or the page size is invalid
+     * @see GitRepositoryPages#stream(GitService, GitRepositoryFilter, int)
+     */
+    default GitRepositoryPage getRepositories(GitRepositoryFilter filter, @Nullable String cursor, int pageSize) {
+        return GitRepositoryPages.slice(getRepositories(filter), filter, cursor, pageSize);
+    }
+
+    /**
+     * Lazily requests the pages of repositories matching the filter, one page at a time.
+     *
+     * The default implementation requests each page with the cursor of the previous one, providers whose client
+     * follows the pages by itself should override it.
+     *
+     * @param filter   the {@see GitRepositoryFilter} to filter repositories, including by name prefix
+     * @param pageSize the number of repositories requested per page, up to {@link GitRepositoryPages#MAX_PAGE_SIZE}
+     * @return an {@link Iterator} over the pages
+     */
+    default Iterator<GitRepositoryPage> getRepositoryPages(GitRepositoryFilter filter, int pageSize) {
+        return GitRepositoryPages.iterate(this, filter, pageSize);
+    }
+
+    /**
+     * @param executor the {@link Executor} running the call
+     * @return a {@link CompletionStage} completed with the result of {@link #getOrganizations()}
+     */
+    default CompletionStage<List<GitOrganization>> getOrganizationsAsync(Executor executor) {
+        return CompletableFuture.supplyAsync(this::getOrganizations, executor);
+    }
+
+    /**
+     * @param filter   the {@see GitRepositoryFilter} to filter repositories
+     * @param executor the {@link Executor} running the call
+     * @return a {@link CompletionStage} completed with the result of {@link #getRepositories(GitRepositoryFilter)}
+     */
+    default CompletionStage<List<GitRepository>> getRepositoriesAsync(GitRepositoryFilter filter, Executor executor) {
+        return CompletableFuture.supplyAsync(() -> getRepositories(filter), executor);
+    }
 
     /**
-     * Performs a shallow clone of the repository
+     * Clones the repository with its full history
      *
      * @param repository the repository to perform the clone operation
      * @param path       the {@link Path} to store the cloned repository contents
      * @return the path with the stored cloned repository contents
      */
-    Path clone(GitRepository repository, Path path);
+    default Path clone(GitRepository repository, Path path) {
+        return clone(repository, path, ImmutableGitCloneSpec.of());
+    }
+
+    /**
+     * Clones the part of the repository described by the given {@link GitCloneSpec}
+     *
+     * @param repository the repository to perform the clone operation
+     * @param path       the {@link Path} to store the cloned repository contents
+     * @param spec       the depth, branches, filter and paths to fetch
+     * @return the path with the stored cloned repository contents
+     */
+    Path clone(GitRepository repository, Path path, GitCloneSpec spec);
 
 
     /**
@@ -81,6 +145,14 @@ public interface GitService {
      */
     GitUser getLoggedUser();
 
+    /**
+     * @param executor the {@link Executor} running the call
+     * @return a {@link CompletionStage} completed with the result of {@link #getLoggedUser()}
+     */
+    default CompletionStage<GitUser> getLoggedUserAsync(Executor executor) {
+        return CompletableFuture.supplyAsync(this::getLoggedUser, executor);
+    }
+
     /**
      * Get a repository:
      * - by its repository full name {owner}/{name}
@@ -114,6 +186,28 @@ public interface GitService {
                        String... events)
             throws IllegalArgumentException;
 
+    /**
+     * Registers the webhooks that are not registered yet in the Git repository.
+     * <p>
+     * The existing webhooks are listed once and the missing ones are created concurrently.
+     *
+     * @param repository  - the value object that represents the Git repository
+     * @param secret      - give the choice to add a secret to the created webhooks or leave null for no secret
+     * @param webhookUrls - the URLs of the webhooks
+     * @param executor    - the {@link Executor} running the calls
+     * @param events      - the events that trigger the webhooks; if none specified, {@see getSuggestedNewHookEvents} is used by default.
+     * @return the existing or created {@link GitHook} of each URL
+     * @throws IllegalArgumentException If any of the parameters are unspecified
+     */
+    default List<GitHook> createHooks(GitRepository repository,
+                                      @Nullable String secret,
+                                      Collection<URL> webhookUrls,
+                                      Executor executor,
+                                      String... events)
+            throws IllegalArgumentException {
+        return GitHooks.createMissing(() -> getHooks(repository), webhookUrls, url -> createHook(repository, secret, url, events), executor);
+    }
+
     /**
      * Returns the webhooks for the specified repository
      *
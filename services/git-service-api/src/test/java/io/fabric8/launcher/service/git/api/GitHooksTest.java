@@ -0,0 +1,92 @@
+package io.fabric8.launcher.service.git.api;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static io.fabric8.launcher.base.ConcurrencySupport.MAX_CONCURRENT_CALLS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GitHooksTest {
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void should_only_create_missing_hooks() throws Exception {
+        List<String> created = Collections.synchronizedList(new ArrayList<>());
+        List<GitHook> hooks = GitHooks.createMissing(
+                () -> Collections.singletonList(hook("http://build/a")),
+                Arrays.asList(new URL("http://build/a"), new URL("http://build/b"), new URL("http://build/c")),
+                url -> {
+                    created.add(url.toString());
+                    return hook(url.toString());
+                },
+                executor);
+
+        assertThat(created).containsExactlyInAnyOrder("http://build/b", "http://build/c");
+        assertThat(hooks).extracting(GitHook::getUrl).containsExactly("http://build/a", "http://build/b", "http://build/c");
+    }
+
+    @Test
+    void should_bound_the_concurrent_calls() throws Exception {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<URL> urls = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            urls.add(new URL("http://build/" + i));
+        }
+
+        List<GitHook> hooks = GitHooks.createMissing(Collections::emptyList, urls, url -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            running.decrementAndGet();
+            return hook(url.toString());
+        }, executor);
+
+        assertThat(hooks).hasSize(10);
+        assertThat(maxRunning.get()).isBetween(2, MAX_CONCURRENT_CALLS);
+    }
+
+    @Test
+    void should_list_the_hooks_registered_in_the_meantime_again() throws MalformedURLException {
+        AtomicInteger listed = new AtomicInteger();
+        List<GitHook> hooks = GitHooks.createMissing(
+                () -> listed.getAndIncrement() == 0 ? Collections.emptyList() : Collections.singletonList(hook("http://build/a")),
+                Arrays.asList(new URL("http://build/a"), new URL("http://build/b")),
+                url -> {
+                    if (url.toString().endsWith("/a")) {
+                        throw DuplicateHookException.create(url);
+                    }
+                    return hook(url.toString());
+                },
+                executor);
+
+        assertThat(hooks).extracting(GitHook::getUrl).containsExactly("http://build/a", "http://build/b");
+        assertThat(listed.get()).isEqualTo(2);
+    }
+
+    private static GitHook hook(String url) {
+        return ImmutableGitHook.builder()
+                .name("web")
+                .url(url)
+                .build();
+    }
+}
@@ -0,0 +1,57 @@
+package io.fabric8.launcher.service.git.api;
+
+import java.net.URI;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class GitRepositoryPagesTest {
+
+    private final List<GitRepository> repositories = Arrays.asList(
+            repository("joe/launcher-backend"),
+            repository("joe/launcher-frontend"),
+            repository("joe/booster-catalog"),
+            repository("joe/launcher-operator"));
+
+    @Test
+    void should_slice_repositories_with_an_offset_cursor() {
+        GitRepositoryPage first = GitRepositoryPages.slice(repositories, ImmutableGitRepositoryFilter.of(), null, 3);
+        assertThat(first.getRepositories()).hasSize(3);
+        assertThat(first.getNextCursor()).hasValue("3");
+
+        GitRepositoryPage last = GitRepositoryPages.slice(repositories, ImmutableGitRepositoryFilter.of(), "3", 3);
+        assertThat(last.getRepositories()).extracting(GitRepository::getFullName).containsExactly("joe/launcher-operator");
+        assertThat(last.getNextCursor()).isEmpty();
+    }
+
+    @Test
+    void should_filter_by_name_prefix() {
+        GitRepositoryFilter filter = ImmutableGitRepositoryFilter.builder().withNamePrefix("launcher-").build();
+        GitRepositoryPage page = GitRepositoryPages.slice(repositories, filter, null, 2);
+        assertThat(page.getRepositories()).extracting(GitRepository::getFullName)
+                .containsExactly("joe/launcher-backend", "joe/launcher-frontend");
+        assertThat(page.getNextCursor()).hasValue("2");
+        // The owner is not part of the name
+        assertThat(ImmutableGitRepositoryFilter.builder().withNamePrefix("joe").build().matchesNamePrefix(repositories.get(0))).isFalse();
+    }
+
+    @Test
+    void should_reject_invalid_cursors_and_page_sizes() {
+        assertThatIllegalArgumentException().isThrownBy(() -> GitRepositoryPages.parseCursor("abc", 0));
+        assertThatIllegalArgumentException().isThrownBy(() -> GitRepositoryPages.parseCursor("-1", 0));
+        assertThatIllegalArgumentException().isThrownBy(() -> GitRepositoryPages.checkPageSize(0));
+        assertThatIllegalArgumentException().isThrownBy(() -> GitRepositoryPages.checkPageSize(GitRepositoryPages.MAX_PAGE_SIZE + 1));
+    }
+
+    private static GitRepository repository(String fullName) {
+        return ImmutableGitRepository.builder()
+                .fullName(fullName)
+                .homepage(URI.create("https://github.com/" + fullName))
+                .gitCloneUri(URI.create("https://github.com/" + fullName + ".git"))
+                .build();
+    }
+}
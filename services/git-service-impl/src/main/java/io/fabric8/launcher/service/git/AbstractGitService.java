@@ -2,28 +2,51 @@ package io.fabric8.launcher.service.git;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import io.fabric8.launcher.base.identity.Identity;
 import io.fabric8.launcher.base.identity.IdentityVisitor;
 import io.fabric8.launcher.base.identity.TokenIdentity;
 import io.fabric8.launcher.base.identity.UserPasswordIdentity;
+import io.fabric8.launcher.service.git.api.GitCloneSpec;
 import io.fabric8.launcher.service.git.api.GitRepository;
 import io.fabric8.launcher.service.git.api.NoSuchRepositoryException;
 import io.fabric8.launcher.service.git.spi.GitServiceSpi;
 import net.jodah.failsafe.Failsafe;
 import net.jodah.failsafe.FailsafeException;
 import net.jodah.failsafe.RetryPolicy;
+import org.apache.commons.lang3.StringUtils;
 import org.eclipse.jgit.api.Git;
-import org.eclipse.jgit.api.PushCommand;
 import org.eclipse.jgit.api.errors.GitAPIException;
 import org.eclipse.jgit.errors.NoRemoteRepositoryException;
+import org.eclipse.jgit.errors.TransportException;
+import org.eclipse.jgit.internal.storage.dfs.DfsRepositoryDescription;
+import org.eclipse.jgit.internal.storage.dfs.InMemoryRepository;
+import org.eclipse.jgit.lib.CommitBuilder;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.NullProgressMonitor;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.ObjectInserter;
+import org.eclipse.jgit.lib.PersonIdent;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.RevCommit;
 import org.eclipse.jgit.transport.CredentialsProvider;
+import org.eclipse.jgit.transport.RemoteRefUpdate;
+import org.eclipse.jgit.transport.Transport;
+import org.eclipse.jgit.transport.URIish;
 import org.eclipse.jgit.transport.UsernamePasswordCredentialsProvider;
+import org.eclipse.jgit.util.FS;
 
 import static io.fabric8.launcher.service.git.GitEnvironment.LAUNCHER_GIT_COMMITTER_AUTHOR;
 import static io.fabric8.launcher.service.git.GitEnvironment.LAUNCHER_GIT_COMMITTER_AUTHOR_EMAIL;
@@ -44,18 +67,73 @@ public abstract class AbstractGitService implements GitServiceSpi {
 
     private static final String AUTHOR_EMAIL = LAUNCHER_GIT_COMMITTER_AUTHOR_EMAIL.value("45641108+redhat-developers-launcher@users.noreply.github.com");
 
+    private static final String COMMIT_MESSAGE = "Initial commit";
+
     private final Identity identity;
 
+    /**
+     * Not using JGit here because it doesn't support shallow clones yet.
+     * <p>
+     * The partial clone filter needs git 2.19+ and is dropped on older versions. Sparse paths use
+     * "git sparse-checkout" on git 2.25+ and the .git/info/sparse-checkout file before that.
+     */
     @Override
-    public Path clone(GitRepository repository, Path path) {
+    public Path clone(GitRepository repository, Path path, GitCloneSpec spec) {
         requireNonNull(repository, "repository must not be null.");
         requireNonNull(path, "path must not be null.");
-        // Not using JGit here because it doesn't support shallow clones yet
+        requireNonNull(spec, "spec must not be null.");
+        final List<String> command = new ArrayList<>(Arrays.asList("git", "clone", repository.getGitCloneUri().toString(),
+                                                                   "--quiet",
+                                                                   "-c", "advice.detachedHead=false"));
+        if (spec.withDepth() != null) {
+            command.add("--depth=" + spec.withDepth());
+        }
+        if (spec.withBranch() != null) {
+            command.add("--branch=" + spec.withBranch());
+        }
+        if (spec.withSingleBranch()) {
+            command.add("--single-branch");
+        }
+        if (spec.withFilter() != null) {
+            if (GitVersion.INSTALLED.isAtLeast(2, 19)) {
+                command.add("--filter=" + spec.withFilter());
+            } else {
+                logger.fine(() -> "git " + GitVersion.INSTALLED + " does not support partial clones, ignoring filter " + spec.withFilter());
+            }
+        }
+        final boolean sparse = !spec.withSparsePaths().isEmpty();
+        final boolean sparseCheckoutCommand = sparse && GitVersion.INSTALLED.isAtLeast(2, 25);
+        if (sparseCheckoutCommand) {
+            command.add("--sparse");
+        } else if (sparse) {
+            command.add("--no-checkout");
+        }
+        command.add(path.toString());
+        execute(command);
+
+        if (sparseCheckoutCommand) {
+            final List<String> sparseCheckout = new ArrayList<>(Arrays.asList("git", "-C", path.toString(), "sparse-checkout", "set"));
+            sparseCheckout.addAll(spec.withSparsePaths());
+            execute(sparseCheckout);
+        } else if (sparse) {
+            try {
+                final Path sparseCheckoutFile = path.resolve(".git/info/sparse-checkout");
+                Files.createDirectories(sparseCheckoutFile.getParent());
+                Files.write(sparseCheckoutFile, spec.withSparsePaths().stream()
+                        .map(sparsePath -> "/" + StringUtils.strip(sparsePath, "/") + "/")
+                        .collect(Collectors.toList()));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Error while writing the sparse checkout paths", e);
+            }
+            execute(Arrays.asList("git", "-C", path.toString(), "config", "core.sparseCheckout", "true"));
+            execute(Arrays.asList("git", "-C", path.toString(), "checkout", "--quiet"));
+        }
+        return path;
+    }
+
+    private static void execute(List<String> command) {
         ProcessBuilder builder = new ProcessBuilder()
-                .command("git", "clone", repository.getGitCloneUri().toString(),
-                         "--quiet",
-                         "-c", "advice.detachedHead=false",
-                         path.toString())
+                .command(command)
                 .inheritIO();
         logger.fine(() -> "Executing: " + String.join(" ", builder.command()));
         try {
@@ -69,39 +147,85 @@ public abstract class AbstractGitService implements GitServiceSpi {
             throw new UncheckedIOException("Error while executing " +
                                                    String.join(" ", builder.command()), e);
         }
-        return path;
     }
 
+    /**
+     * Pushes the files in the given path as a single commit.
+     * <p>
+     * Generated projects are committed in memory, without writing a .git directory next to them. Projects that are
+     * already a Git repository (imported ones) keep their history and get an extra commit on their current branch.
+     */
     public void push(GitRepository repository, Path path) {
         requireNonNull(repository, "repository must not be null.");
         requireNonNull(path, "path must not be null.");
 
-        try (Git repo = Git.init().setDirectory(path.toFile()).call()) {
+        if (Files.isDirectory(path.resolve(Constants.DOT_GIT))) {
+            pushWorkingCopy(repository, path);
+            return;
+        }
+        try (Repository repo = new InMemoryRepository.Builder()
+                .setRepositoryDescription(new DfsRepositoryDescription(repository.getFullName()))
+                // Needed by the local transports
+                .setFS(FS.DETECTED)
+                .build()) {
+            final ObjectId commitId;
+            try (ObjectInserter inserter = repo.newObjectInserter()) {
+                final PersonIdent author = new PersonIdent(AUTHOR, AUTHOR_EMAIL);
+                final CommitBuilder commit = new CommitBuilder();
+                commit.setTreeId(GitTrees.insertTree(path, inserter));
+                commit.setAuthor(author);
+                commit.setCommitter(author);
+                commit.setMessage(COMMIT_MESSAGE);
+                commitId = inserter.insert(commit);
+                inserter.flush();
+            }
+            pushCommit(repository, repo, commitId, Constants.R_HEADS + Constants.MASTER);
+        } catch (IOException e) {
+            throw new UncheckedIOException("An error occurred while committing " + path, e);
+        }
+    }
+
+    private void pushWorkingCopy(GitRepository repository, Path path) {
+        try (Git repo = Git.open(path.toFile())) {
             repo.add().addFilepattern(".").call();
-            repo.commit().setMessage("Initial commit")
+            final RevCommit commit = repo.commit().setMessage(COMMIT_MESSAGE)
                     .setAuthor(AUTHOR, AUTHOR_EMAIL)
                     .setCommitter(AUTHOR, AUTHOR_EMAIL)
                     .setSign(false)
                     .call();
-            // Retry push if NoRemoteRepositoryException happens
-            RetryPolicy<Object> retryPolicy = new RetryPolicy<>()
-                    .handle(NoRemoteRepositoryException.class, org.eclipse.jgit.api.errors.TransportException.class)
-                    .withDelay(Duration.ofSeconds(3))
-                    .withMaxRetries(3);
-            Failsafe.with(retryPolicy)
-                    .run(() -> {
-                        PushCommand pushCommand = repo.push();
-                        pushCommand.setRemote(repository.getGitCloneUri().toString());
-                        setCredentialsProvider(pushCommand::setCredentialsProvider);
-                        pushCommand.call();
-                    });
-        } catch (FailsafeException fse) {
-            throw new IllegalStateException("An error occurred while pushing to the git repo", fse.getCause());
+            pushCommit(repository, repo.getRepository(), commit.getId(), repo.getRepository().getFullBranch());
+        } catch (IOException e) {
+            throw new UncheckedIOException("An error occurred while committing " + path, e);
         } catch (GitAPIException e) {
             throw new IllegalStateException("An error occurred while pushing to the git repo", e);
         }
     }
 
+    /**
+     * Sends the commit and the objects it references to the given branch of the remote repository.
+     * Only this step is retried, a newly created repository may take a few seconds to accept pushes.
+     */
+    private void pushCommit(GitRepository repository, Repository repo, ObjectId commitId, String branch) {
+        final RetryPolicy<Object> retryPolicy = new RetryPolicy<>()
+                .handle(NoRemoteRepositoryException.class, TransportException.class)
+                .withBackoff(500, 4000, ChronoUnit.MILLIS)
+                .withMaxRetries(3);
+        try {
+            Failsafe.with(retryPolicy).run(() -> {
+                try (Transport transport = Transport.open(repo, new URIish(repository.getGitCloneUri().toString()))) {
+                    setCredentialsProvider(transport::setCredentialsProvider);
+                    final RemoteRefUpdate update = new RemoteRefUpdate(repo, (String) null, commitId, branch, false, null, null);
+                    transport.push(NullProgressMonitor.INSTANCE, Collections.singleton(update));
+                    if (update.getStatus() != RemoteRefUpdate.Status.OK && update.getStatus() != RemoteRefUpdate.Status.UP_TO_DATE) {
+                        throw new IllegalStateException("Push to " + repository.getFullName() + " was rejected: " + update.getStatus()
+                                                                + (update.getMessage() != null ? " (" + update.getMessage() + ")" : ""));
+                    }
+                }
+            });
+        } catch (FailsafeException fse) {
+            throw new IllegalStateException("An error occurred while pushing to the git repo", fse.getCause());
+        }
+    }
 
     protected void setCredentialsProvider(Consumer<CredentialsProvider> consumer) {
         getIdentity().accept(new IdentityVisitor() {
@@ -0,0 +1,126 @@
+package io.fabric8.launcher.service.git;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.jgit.dircache.DirCache;
+import org.eclipse.jgit.dircache.DirCacheBuilder;
+import org.eclipse.jgit.dircache.DirCacheEntry;
+import org.eclipse.jgit.ignore.IgnoreNode;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.FileMode;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.ObjectInserter;
+
+/**
+ * Writes the files of a directory as a Git tree without a working copy or an index on disk.
+ * <p>
+ * The directory may live on any {@link java.nio.file.FileSystem}. The .gitignore files found along the way are
+ * honored the same way "git add ." does.
+ */
+final class GitTrees {
+
+    private GitTrees() {
+        throw new IllegalAccessError("Utility class");
+    }
+
+    /**
+     * Inserts a blob for every file under the given directory and the trees holding them
+     *
+     * @param directory the root of the tree
+     * @param inserter  the {@link ObjectInserter} receiving the objects, not flushed
+     * @return the id of the root tree
+     */
+    static ObjectId insertTree(Path directory, ObjectInserter inserter) throws IOException {
+        final DirCache index = DirCache.newInCore();
+        final DirCacheBuilder builder = index.builder();
+        final Map<Path, IgnoreNode> ignores = new HashMap<>();
+        Files.walkFileTree(directory, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                if (!dir.equals(directory)) {
+                    if (Constants.DOT_GIT.equals(dir.getFileName().toString()) || isIgnored(directory, ignores, dir, true)) {
+                        return FileVisitResult.SKIP_SUBTREE;
+                    }
+                }
+                Path gitignore = dir.resolve(Constants.DOT_GIT_IGNORE);
+                if (Files.isRegularFile(gitignore)) {
+                    IgnoreNode node = new IgnoreNode();
+                    try (InputStream in = Files.newInputStream(gitignore)) {
+                        node.parse(in);
+                    }
+                    ignores.put(dir, node);
+                }
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                if (isIgnored(directory, ignores, file, false)) {
+                    return FileVisitResult.CONTINUE;
+                }
+                final DirCacheEntry entry = new DirCacheEntry(entryPath(directory, file));
+                if (attrs.isSymbolicLink()) {
+                    byte[] target = Files.readSymbolicLink(file).toString().getBytes(StandardCharsets.UTF_8);
+                    entry.setFileMode(FileMode.SYMLINK);
+                    entry.setLength(target.length);
+                    entry.setObjectId(inserter.insert(Constants.OBJ_BLOB, target));
+                } else if (attrs.isRegularFile()) {
+                    entry.setFileMode(isExecutable(file) ? FileMode.EXECUTABLE_FILE : FileMode.REGULAR_FILE);
+                    entry.setLength(attrs.size());
+                    try (InputStream in = Files.newInputStream(file)) {
+                        entry.setObjectId(inserter.insert(Constants.OBJ_BLOB, attrs.size(), in));
+                    }
+                } else {
+                    return FileVisitResult.CONTINUE;
+                }
+                builder.add(entry);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+        builder.finish();
+        return index.writeTree(inserter);
+    }
+
+    /**
+     * The rules of the nearest .gitignore matching the path win
+     */
+    private static boolean isIgnored(Path root, Map<Path, IgnoreNode> ignores, Path path, boolean directory) {
+        for (Path dir = path.getParent(); dir != null && dir.startsWith(root); dir = dir.getParent()) {
+            IgnoreNode node = ignores.get(dir);
+            if (node != null) {
+                Boolean ignored = node.checkIgnored(entryPath(dir, path), directory);
+                if (ignored != null) {
+                    return ignored;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static String entryPath(Path root, Path path) {
+        final StringBuilder sb = new StringBuilder();
+        for (Path segment : root.relativize(path)) {
+            if (sb.length() > 0) {
+                sb.append('/');
+            }
+            sb.append(segment.toString());
+        }
+        return sb.toString();
+    }
+
+    private static boolean isExecutable(Path file) throws IOException {
+        PosixFileAttributeView view = Files.getFileAttributeView(file, PosixFileAttributeView.class);
+        return view != null && view.readAttributes().permissions().contains(PosixFilePermission.OWNER_EXECUTE);
+    }
+}
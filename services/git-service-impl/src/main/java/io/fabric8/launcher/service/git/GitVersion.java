@@ -0,0 +1,70 @@
+package io.fabric8.launcher.service.git;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Version of the git command line, used to detect the clone options it supports
+ */
+final class GitVersion {
+
+    private static final Logger logger = Logger.getLogger(GitVersion.class.getName());
+
+    private static final Pattern VERSION_PATTERN = Pattern.compile("(\\d+)\\.(\\d+)");
+
+    /**
+     * The version of the git found on the PATH, 0.0 if it could not be determined
+     */
+    static final GitVersion INSTALLED = detect();
+
+    private final int major;
+
+    private final int minor;
+
+    GitVersion(int major, int minor) {
+        this.major = major;
+        this.minor = minor;
+    }
+
+    boolean isAtLeast(int major, int minor) {
+        return this.major > major || (this.major == major && this.minor >= minor);
+    }
+
+    /**
+     * @param output the output of "git --version", eg. "git version 2.25.1"
+     */
+    static GitVersion parse(String output) {
+        final Matcher matcher = VERSION_PATTERN.matcher(output);
+        if (matcher.find()) {
+            return new GitVersion(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)));
+        }
+        return new GitVersion(0, 0);
+    }
+
+    private static GitVersion detect() {
+        try {
+            final Process process = new ProcessBuilder("git", "--version").redirectErrorStream(true).start();
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+                final String output = reader.readLine();
+                process.waitFor();
+                return parse(output != null ? output : "");
+            }
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Could not determine the git version", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return new GitVersion(0, 0);
+    }
+
+    @Override
+    public String toString() {
+        return major + "." + minor;
+    }
+}
@@ -4,6 +4,7 @@ import java.io.IOException;
 import java.net.HttpURLConnection;
 import java.net.URI;
 import java.net.URL;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -27,11 +28,14 @@ import io.fabric8.launcher.service.git.api.GitHook;
 import io.fabric8.launcher.service.git.api.GitOrganization;
 import io.fabric8.launcher.service.git.api.GitRepository;
 import io.fabric8.launcher.service.git.api.GitRepositoryFilter;
+import io.fabric8.launcher.service.git.api.GitRepositoryPage;
+import io.fabric8.launcher.service.git.api.GitRepositoryPages;
 import io.fabric8.launcher.service.git.api.GitService;
 import io.fabric8.launcher.service.git.api.GitUser;
 import io.fabric8.launcher.service.git.api.ImmutableGitHook;
 import io.fabric8.launcher.service.git.api.ImmutableGitOrganization;
 import io.fabric8.launcher.service.git.api.ImmutableGitRepository;
+import io.fabric8.launcher.service.git.api.ImmutableGitRepositoryPage;
 import io.fabric8.launcher.service.git.api.ImmutableGitUser;
 import io.fabric8.launcher.service.git.api.NoSuchOrganizationException;
 import io.fabric8.launcher.service.git.api.NoSuchRepositoryException;
@@ -101,6 +105,15 @@ public class BitbucketService extends AbstractGitService implements GitService {
     @Override
     public List<GitRepository> getRepositories(final GitRepositoryFilter filter) {
         requireNonNull(filter, "filter must be specified.");
+        // Read every page instead of the first 100 repositories only
+        return GitRepositoryPages.stream(this, filter, GitRepositoryPages.MAX_PAGE_SIZE)
+                .collect(toList());
+    }
+
+    @Override
+    public GitRepositoryPage getRepositories(final GitRepositoryFilter filter, @Nullable final String cursor, final int pageSize) {
+        requireNonNull(filter, "filter must be specified.");
+        final int page = GitRepositoryPages.parseCursor(cursor, 1);
 
         final String owner;
         if (filter.withOrganization() != null) {
@@ -110,17 +123,36 @@ public class BitbucketService extends AbstractGitService implements GitService {
         } else {
             owner = getLoggedUser().getLogin();
         }
-        final StringBuilder urlBuilder = new StringBuilder(String.format("%s/2.0/repositories/%s?pagelen=100", baseUri, urlEncode(owner)));
+        final StringBuilder urlBuilder = new StringBuilder(String.format("%s/2.0/repositories/%s?pagelen=%d", baseUri, urlEncode(owner),
+                                                                         GitRepositoryPages.checkPageSize(pageSize)));
+        if (page > 1) {
+            urlBuilder.append("&page=").append(page);
+        }
+        final List<String> conditions = new ArrayList<>();
         if (isNotEmpty(filter.withNameContaining())) {
-            final String query = "name~\"" + filter.withNameContaining() + "\"";
-            urlBuilder.append("&q=").append(urlEncode(query));
+            conditions.add("name~\"" + filter.withNameContaining() + "\"");
+        }
+        if (isNotEmpty(filter.withNamePrefix())) {
+            // BBQL has no "starts with" operator, the prefix is checked on each result
+            conditions.add("name~\"" + filter.withNamePrefix() + "\"");
+        }
+        if (!conditions.isEmpty()) {
+            urlBuilder.append("&q=").append(urlEncode(String.join(" AND ", conditions)));
         }
         final Request request = request()
                 .get()
                 .url(urlBuilder.toString())
                 .build();
-        return httpClient.executeAndParseJson(request, BitbucketService::readGitRepositories)
-                .orElse(Collections.emptyList());
+        return httpClient.executeAndParseJson(request, (JsonNode tree) -> {
+            final ImmutableGitRepositoryPage.Builder builder = ImmutableGitRepositoryPage.builder();
+            readGitRepositories(tree).stream()
+                    .filter(filter::matchesNamePrefix)
+                    .forEach(builder::addRepositories);
+            if (tree.hasNonNull("next")) {
+                builder.nextCursor(String.valueOf(page + 1));
+            }
+            return builder.build();
+        }).orElseGet(() -> ImmutableGitRepositoryPage.builder().build());
     }
 
     @Override
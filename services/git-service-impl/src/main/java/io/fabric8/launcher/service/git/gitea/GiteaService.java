@@ -31,10 +31,13 @@ import io.fabric8.launcher.service.git.api.GitHook;
 import io.fabric8.launcher.service.git.api.GitOrganization;
 import io.fabric8.launcher.service.git.api.GitRepository;
 import io.fabric8.launcher.service.git.api.GitRepositoryFilter;
+import io.fabric8.launcher.service.git.api.GitRepositoryPage;
+import io.fabric8.launcher.service.git.api.GitRepositoryPages;
 import io.fabric8.launcher.service.git.api.GitService;
 import io.fabric8.launcher.service.git.api.ImmutableGitHook;
 import io.fabric8.launcher.service.git.api.ImmutableGitOrganization;
 import io.fabric8.launcher.service.git.api.ImmutableGitRepository;
+import io.fabric8.launcher.service.git.api.ImmutableGitRepositoryPage;
 import io.fabric8.launcher.service.git.api.NoSuchOrganizationException;
 import okhttp3.Request;
 import okhttp3.RequestBody;
@@ -163,11 +166,23 @@ class GiteaService extends AbstractGitService implements GitService {
     @Override
     public List<GitRepository> getRepositories(GitRepositoryFilter filter) {
         requireNonNull(filter, "filter must be specified.");
+        // Read every page instead of the default page size only
+        return GitRepositoryPages.stream(this, filter, GitRepositoryPages.MAX_PAGE_SIZE)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public GitRepositoryPage getRepositories(GitRepositoryFilter filter, @Nullable String cursor, int pageSize) {
+        requireNonNull(filter, "filter must be specified.");
+        final int page = GitRepositoryPages.parseCursor(cursor, 1);
 
         StringBuilder param = new StringBuilder("exclusive=1");
         param.append("&uid=").append(getLoggedUser().getId());
+        // Gitea accepts a single keyword, the prefix is checked on each result
         if (StringUtils.isNotBlank(filter.withNameContaining())) {
             param.append("&q=").append(filter.withNameContaining());
+        } else if (StringUtils.isNotBlank(filter.withNamePrefix())) {
+            param.append("&q=").append(filter.withNamePrefix());
         }
         if (filter.withOrganization() != null) {
             if (!getOrganizations().contains(filter.withOrganization())) {
@@ -177,18 +192,26 @@ class GiteaService extends AbstractGitService implements GitService {
         } else {
             param.append("&mode=source");
         }
+        param.append("&limit=").append(GitRepositoryPages.checkPageSize(pageSize));
+        if (page > 1) {
+            param.append("&page=").append(page);
+        }
 
         Request request = request("/api/v1/repos/search?" + param)
                 .get().build();
-        Optional<List<GitRepository>> repositories =
-                httpClient.executeAndParseJson(request, node -> toList(node.get("data"), GiteaService::toGitRepository));
-        List<GitRepository> gitRepositories = repositories.orElse(emptyList());
-        if (filter.withOrganization() != null) {
-            return gitRepositories.stream()
-                    .filter(r -> r.getFullName().startsWith(filter.withOrganization().getName()))
-                    .collect(Collectors.toList());
-        }
-        return gitRepositories;
+        return httpClient.executeAndParseJson(request, node -> {
+            final List<GitRepository> repositories = toList(node.get("data"), GiteaService::toGitRepository);
+            final ImmutableGitRepositoryPage.Builder builder = ImmutableGitRepositoryPage.builder();
+            repositories.stream()
+                    .filter(r -> filter.withOrganization() == null || r.getFullName().startsWith(filter.withOrganization().getName()))
+                    .filter(filter::matchesNamePrefix)
+                    .forEach(builder::addRepositories);
+            // The server may return less than the requested limit (MAX_RESPONSE_ITEMS), so only an empty page is the last one
+            if (!repositories.isEmpty()) {
+                builder.nextCursor(String.valueOf(page + 1));
+            }
+            return builder.build();
+        }).orElseGet(() -> ImmutableGitRepositoryPage.builder().build());
     }
 
     @Override
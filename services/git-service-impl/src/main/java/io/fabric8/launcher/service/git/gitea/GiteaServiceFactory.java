@@ -7,6 +7,8 @@ import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
 
 import io.fabric8.launcher.base.http.HttpClient;
+import io.fabric8.launcher.base.http.HttpResponseCache;
+import io.fabric8.launcher.base.http.HttpUpstream;
 import io.fabric8.launcher.base.identity.Identity;
 import io.fabric8.launcher.base.identity.TokenIdentity;
 import io.fabric8.launcher.service.git.api.GitService;
@@ -15,6 +17,7 @@ import io.fabric8.launcher.service.git.api.GitServiceFactory;
 import io.fabric8.launcher.service.git.api.ImmutableGitServiceConfig;
 import io.fabric8.launcher.service.git.spi.GitProvider;
 
+import static io.fabric8.launcher.base.http.Upstream.GIT;
 import static io.fabric8.launcher.service.git.gitea.api.GiteaEnvironment.LAUNCHER_MISSIONCONTROL_GITEA_TOKEN;
 import static io.fabric8.launcher.service.git.gitea.api.GiteaEnvironment.LAUNCHER_MISSIONCONTROL_GITEA_URL;
 import static io.fabric8.launcher.service.git.gitea.api.GiteaEnvironment.LAUNCHER_MISSIONCONTROL_GITEA_USERNAME;
@@ -49,11 +52,19 @@ public class GiteaServiceFactory implements GitServiceFactory {
         this.httpClient = HttpClient::create;
     }
 
-    @Inject
     public GiteaServiceFactory(HttpClient httpClient) {
         this.httpClient = () -> httpClient;
     }
 
+    /**
+     * API calls are revalidated against the shared {@link HttpResponseCache}
+     */
+    @Inject
+    public GiteaServiceFactory(@HttpUpstream(GIT) HttpClient httpClient, HttpResponseCache responseCache) {
+        final HttpClient cachingClient = httpClient.withResponseCache(responseCache);
+        this.httpClient = () -> cachingClient;
+    }
+
     @Override
     public GitService create(Identity identity, String login, GitServiceConfig config) {
         requireNonNull(identity, "Identity is required");
@@ -3,33 +3,51 @@ package io.fabric8.launcher.service.git.github;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.net.URI;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import javax.annotation.Nullable;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.fabric8.launcher.base.http.AuthorizationType;
+import io.fabric8.launcher.base.http.HttpClient;
+import io.fabric8.launcher.base.http.HttpException;
 import io.fabric8.launcher.base.identity.Identity;
+import io.fabric8.launcher.base.identity.TokenIdentity;
 import io.fabric8.launcher.service.git.AbstractGitService;
 import io.fabric8.launcher.service.git.api.DuplicateHookException;
 import io.fabric8.launcher.service.git.api.GitHook;
+import io.fabric8.launcher.service.git.api.GitHooks;
 import io.fabric8.launcher.service.git.api.GitOrganization;
 import io.fabric8.launcher.service.git.api.GitRepository;
 import io.fabric8.launcher.service.git.api.GitRepositoryFilter;
+import io.fabric8.launcher.service.git.api.GitRepositoryPage;
+import io.fabric8.launcher.service.git.api.GitRepositoryPages;
 import io.fabric8.launcher.service.git.api.GitService;
 import io.fabric8.launcher.service.git.api.GitUser;
 import io.fabric8.launcher.service.git.api.ImmutableGitOrganization;
+import io.fabric8.launcher.service.git.api.ImmutableGitRepository;
+import io.fabric8.launcher.service.git.api.ImmutableGitRepositoryPage;
 import io.fabric8.launcher.service.git.api.ImmutableGitUser;
 import io.fabric8.launcher.service.git.api.NoSuchOrganizationException;
 import io.fabric8.launcher.service.git.api.NoSuchRepositoryException;
 import io.fabric8.launcher.service.git.github.api.GitHubWebhookEvent;
+import okhttp3.Request;
 import org.kohsuke.github.GHCreateRepositoryBuilder;
 import org.kohsuke.github.GHEvent;
 import org.kohsuke.github.GHException;
@@ -40,7 +58,10 @@ import org.kohsuke.github.GHOrganization;
 import org.kohsuke.github.GHRepository;
 import org.kohsuke.github.GHRepositorySearchBuilder;
 import org.kohsuke.github.GitHub;
+import org.kohsuke.github.PagedIterator;
 
+import static io.fabric8.launcher.base.http.Requests.securedRequest;
+import static io.fabric8.launcher.base.http.Requests.urlEncode;
 import static io.fabric8.launcher.service.git.Gits.checkGitRepositoryFullNameArgument;
 import static io.fabric8.launcher.service.git.Gits.checkGitRepositoryNameArgument;
 import static io.fabric8.launcher.service.git.Gits.createGitRepositoryFullName;
@@ -61,13 +82,15 @@ public final class GitHubService extends AbstractGitService implements GitServic
     /**
      * Creates a new instance with the specified, required delegate
      *
-     * @param delegate the @{See GitHub} delegate
-     * @param identity the @{See Identity}
+     * @param delegate   the @{See GitHub} delegate
+     * @param identity   the @{See Identity}
+     * @param httpClient the {@link HttpClient} for the API calls the delegate does not expose
      */
-    GitHubService(final GitHub delegate, final Identity identity) {
+    GitHubService(final GitHub delegate, final Identity identity, final HttpClient httpClient) {
         super(identity);
         assert delegate != null : "delegate must be specified";
         this.delegate = delegate;
+        this.httpClient = requireNonNull(httpClient, "httpClient must be specified.");
     }
 
     @Override
@@ -84,10 +107,14 @@ public final class GitHubService extends AbstractGitService implements GitServic
 
     private static final Logger log = Logger.getLogger(GitHubService.class.getName());
 
+    private static final int SEARCH_RESULTS_LIMIT = 1000;
+
     private static final String WEBHOOK_URL = "url";
 
     private final GitHub delegate;
 
+    private final HttpClient httpClient;
+
     @Override
     public List<GitOrganization> getOrganizations() {
         try {
@@ -104,21 +131,8 @@ public final class GitHubService extends AbstractGitService implements GitServic
     @Override
     public List<GitRepository> getRepositories(GitRepositoryFilter filter) {
         requireNonNull(filter, "filter must be specified.");
-
-        final GHRepositorySearchBuilder searchBuilder = delegate.searchRepositories()
-                .q("fork:true").q("archived:false");
-        if (filter.withOrganization() != null) {
-            final String orgName = filter.withOrganization().getName();
-            checkOrganizationExists(orgName);
-            searchBuilder.q("org:" + orgName);
-        } else {
-            searchBuilder.user(getMyself().getLogin());
-        }
-        if (isNotEmpty(filter.withNameContaining())) {
-            searchBuilder.q(filter.withNameContaining() + " in:name");
-        }
         try {
-            return searchBuilder.list().asList().stream()
+            return searchRepositories(filter).list().asList().stream()
                     .map(GitHubRepository::new)
                     .collect(Collectors.toList());
         } catch (final GHException e) {
@@ -128,6 +142,144 @@ public final class GitHubService extends AbstractGitService implements GitServic
         }
     }
 
+    @Override
+    public GitRepositoryPage getRepositories(GitRepositoryFilter filter, @Nullable String cursor, int pageSize) {
+        requireNonNull(filter, "filter must be specified.");
+        final int page = GitRepositoryPages.parseCursor(cursor, 1);
+        // The client only follows the Link headers, the requested page is asked for directly
+        final String url = delegate.getApiUrl() + "/search/repositories?q=" + urlEncode(String.join(" ", searchPageTerms(filter))) +
+                "&page=" + page + "&per_page=" + GitRepositoryPages.checkPageSize(pageSize);
+        final Request request = request()
+                .get()
+                .url(url)
+                .build();
+        try {
+            return httpClient.executeAndParseJson(request, (JsonNode tree) -> readPage(tree, filter, page, pageSize))
+                    .orElseGet(() -> ImmutableGitRepositoryPage.builder().build());
+        } catch (final HttpException e) {
+            // Same as above, an empty result is returned as an error
+            log.log(Level.FINE, "Error while searching repositories", e);
+            return ImmutableGitRepositoryPage.builder().build();
+        }
+    }
+
+    private static GitRepositoryPage readPage(JsonNode tree, GitRepositoryFilter filter, int page, int pageSize) {
+        final ImmutableGitRepositoryPage.Builder builder = ImmutableGitRepositoryPage.builder();
+        final JsonNode items = tree.path("items");
+        for (JsonNode node : items) {
+            final GitRepository repository = ImmutableGitRepository.builder()
+                    .fullName(node.get("full_name").asText())
+                    .homepage(URI.create(node.get("html_url").asText()))
+                    .gitCloneUri(URI.create(node.get("clone_url").asText()))
+                    .build();
+            if (filter.matchesNamePrefix(repository)) {
+                builder.addRepositories(repository);
+            }
+        }
+        // A full page may be followed by another one, the search API does not return more than 1000 results
+        final int total = Math.min(tree.path("total_count").asInt(), SEARCH_RESULTS_LIMIT);
+        if (items.size() == pageSize && page * pageSize < total) {
+            builder.nextCursor(String.valueOf(page + 1));
+        }
+        return builder.build();
+    }
+
+    @Override
+    public Iterator<GitRepositoryPage> getRepositoryPages(GitRepositoryFilter filter, int pageSize) {
+        requireNonNull(filter, "filter must be specified.");
+        // A single iterator follows the Link headers, so each page is requested once
+        final PagedIterator<GHRepository> iterator = searchRepositoryPages(filter).list()
+                .withPageSize(GitRepositoryPages.checkPageSize(pageSize))
+                .iterator();
+        return new Iterator<GitRepositoryPage>() {
+            private int page;
+
+            private boolean last;
+
+            @Override
+            public boolean hasNext() {
+                return !last;
+            }
+
+            @Override
+            public GitRepositoryPage next() {
+                if (last) {
+                    throw new NoSuchElementException();
+                }
+                final GitRepositoryPage next = nextPage(iterator, filter, ++page, pageSize);
+                last = !next.getNextCursor().isPresent();
+                return next;
+            }
+        };
+    }
+
+    private GHRepositorySearchBuilder searchRepositoryPages(GitRepositoryFilter filter) {
+        final GHRepositorySearchBuilder searchBuilder = delegate.searchRepositories();
+        searchPageTerms(filter).forEach(searchBuilder::q);
+        return searchBuilder;
+    }
+
+    private List<String> searchPageTerms(GitRepositoryFilter filter) {
+        final List<String> terms = searchTerms(filter);
+        if (isNotEmpty(filter.withNamePrefix())) {
+            terms.add(filter.withNamePrefix() + " in:name");
+        }
+        return terms;
+    }
+
+    private static GitRepositoryPage nextPage(PagedIterator<GHRepository> iterator, GitRepositoryFilter filter, int page, int pageSize) {
+        final ImmutableGitRepositoryPage.Builder builder = ImmutableGitRepositoryPage.builder();
+        try {
+            if (iterator.hasNext()) {
+                final List<GHRepository> repositories = iterator.nextPage();
+                repositories.stream()
+                        .map(GitHubRepository::new)
+                        .filter(filter::matchesNamePrefix)
+                        .forEach(builder::addRepositories);
+                // A full page may be followed by another one, the search API does not return more than 1000 results
+                if (repositories.size() == pageSize && page * pageSize < SEARCH_RESULTS_LIMIT) {
+                    builder.nextCursor(String.valueOf(page + 1));
+                }
+            }
+        } catch (final GHException e) {
+            // Same as above, an empty result is returned as an error
+            log.log(Level.FINE, "Error while searching repositories", e);
+        }
+        return builder.build();
+    }
+
+    private GHRepositorySearchBuilder searchRepositories(GitRepositoryFilter filter) {
+        final GHRepositorySearchBuilder searchBuilder = delegate.searchRepositories();
+        searchTerms(filter).forEach(searchBuilder::q);
+        return searchBuilder;
+    }
+
+    private List<String> searchTerms(GitRepositoryFilter filter) {
+        final List<String> terms = new ArrayList<>();
+        terms.add("fork:true");
+        terms.add("archived:false");
+        if (filter.withOrganization() != null) {
+            final String orgName = filter.withOrganization().getName();
+            checkOrganizationExists(orgName);
+            terms.add("org:" + orgName);
+        } else {
+            terms.add("user:" + getMyself().getLogin());
+        }
+        if (isNotEmpty(filter.withNameContaining())) {
+            terms.add(filter.withNameContaining() + " in:name");
+        }
+        return terms;
+    }
+
+    /**
+     * Authenticates as the delegate does
+     */
+    private Request.Builder request() {
+        final Identity identity = getIdentity();
+        return securedRequest(identity, identity instanceof TokenIdentity ? AuthorizationType.TOKEN : identity.getDefaultAuthorizationType())
+                .header("Accept", "application/vnd.github.v3+json");
+    }
+
     private GHMyself getMyself() {
         try {
             return delegate.getMyself();
@@ -243,10 +395,34 @@ public final class GitHubService extends AbstractGitService implements GitServic
         requireNonNull(webhookUrl, "webhookUrl must not be null.");
         checkGitRepositoryFullNameArgument(repository.getFullName());
 
-        final String[] effectiveEvents = events != null && events.length > 0 ? events : getSuggestedNewHookEvents();
+        return createHook(getRepositoryForHooks(repository), secret, webhookUrl, events);
+    }
 
-        log.info("Adding webhook at '" + webhookUrl.toExternalForm() + "' on repository '" + repository.getFullName() + "'");
-        final GHRepository repo;
+    /**
+     * The repository is resolved once and its hooks are listed once for all the URLs
+     */
+    @Override
+    public List<GitHook> createHooks(final GitRepository repository, @Nullable final String secret, final Collection<URL> webhookUrls,
+                                     final Executor executor, final String... events) throws IllegalArgumentException {
+        requireNonNull(repository, "repository must not be null.");
+        requireNonNull(webhookUrls, "webhookUrls must not be null.");
+        checkGitRepositoryFullNameArgument(repository.getFullName());
+
+        final GHRepository repo = getRepositoryForHooks(repository);
+        return GitHooks.createMissing(() -> listHooks(repo), webhookUrls, url -> createHook(repo, secret, url, events), executor);
+    }
+
+    private List<GitHook> listHooks(final GHRepository repo) {
+        try {
+            return repo.getHooks().stream()
+                    .map(GitHubWebhook::new)
+                    .collect(Collectors.toList());
+        } catch (final IOException ioe) {
+            throw new UncheckedIOException("Could not get webhooks for repository " + repo.getFullName(), ioe);
+        }
+    }
+
+    private GHRepository getRepositoryForHooks(final GitRepository repository) {
         String repoName = repository.getFullName();
         try {
             if (!repoName.contains("/")) {
@@ -254,12 +430,19 @@ public final class GitHubService extends AbstractGitService implements GitServic
             }
             // Make sure that repository is available
             waitForRepository(repoName);
-            repo = delegate.getRepository(repoName);
+            return delegate.getRepository(repoName);
         } catch (GHFileNotFoundException repoNotFound) {
             throw new NoSuchRepositoryException("The repository '" + repoName + "' was not found", repoNotFound);
         } catch (final IOException ioe) {
             throw new UncheckedIOException(ioe);
         }
+    }
+
+    private GitHook createHook(final GHRepository repo, final String secret, final URL webhookUrl, final String... events) {
+        requireNonNull(webhookUrl, "webhookUrl must not be null.");
+        final String[] effectiveEvents = events != null && events.length > 0 ? events : getSuggestedNewHookEvents();
+
+        log.info("Adding webhook at '" + webhookUrl.toExternalForm() + "' on repository '" + repo.getFullName() + "'");
         Map<String, String> configuration = new HashMap<>();
         configuration.put(WEBHOOK_URL, webhookUrl.toString());
         configuration.put("content_type", "json");
@@ -12,6 +12,8 @@ import javax.inject.Inject;
 
 import io.fabric8.launcher.base.JsonUtils;
 import io.fabric8.launcher.base.http.HttpClient;
+import io.fabric8.launcher.base.http.HttpResponseCache;
+import io.fabric8.launcher.base.http.HttpUpstream;
 import io.fabric8.launcher.base.identity.Identity;
 import io.fabric8.launcher.base.identity.IdentityVisitor;
 import io.fabric8.launcher.base.identity.TokenIdentity;
@@ -31,6 +33,7 @@ import org.kohsuke.github.GitHubBuilder;
 import org.kohsuke.github.RateLimitHandler;
 import org.kohsuke.github.extras.OkHttp3Connector;
 
+import static io.fabric8.launcher.base.http.Upstream.GIT;
 import static io.fabric8.launcher.service.git.github.api.GitHubEnvironment.LAUNCHER_MISSIONCONTROL_GITHUB_TOKEN;
 import static io.fabric8.launcher.service.git.spi.GitProviderType.GITHUB;
 
@@ -68,11 +71,19 @@ public class GitHubServiceFactory implements GitServiceFactory {
         this.httpClient = HttpClient::create;
     }
 
-    @Inject
     public GitHubServiceFactory(final HttpClient httpClient) {
         this.httpClient = () -> httpClient;
     }
 
+    /**
+     * API calls are revalidated against the shared {@link HttpResponseCache}
+     */
+    @Inject
+    public GitHubServiceFactory(@HttpUpstream(GIT) final HttpClient httpClient, final HttpResponseCache responseCache) {
+        final HttpClient cachingClient = httpClient.withResponseCache(responseCache);
+        this.httpClient = () -> cachingClient;
+    }
+
     /**
      * Creates a new {@link GitService} with the default authentication.
      *
@@ -93,7 +104,8 @@ public class GitHubServiceFactory implements GitServiceFactory {
 
         final GitHub gitHub;
         try {
-            // Disable Cache completely when accessing Github
+            // The OkHttp disk cache is keyed by URL only and would share responses between users,
+            // conditional requests are handled by the HttpResponseCache interceptor instead
             OkHttpClient client = httpClient.get().getClient()
                     .newBuilder().cache(null).build();
             @SuppressWarnings("deprecation") final GitHubBuilder ghb = new GitHubBuilder()
@@ -129,7 +141,7 @@ public class GitHubServiceFactory implements GitServiceFactory {
             }
             throw new UncheckedIOException("Could not connect to GitHub. " + errorMessage, e);
         }
-        return new GitHubService(gitHub, identity);
+        return new GitHubService(gitHub, identity, httpClient.get());
     }
 
     @Override
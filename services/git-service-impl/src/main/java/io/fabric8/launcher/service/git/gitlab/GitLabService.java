@@ -4,7 +4,6 @@ import java.io.IOException;
 import java.net.HttpURLConnection;
 import java.net.URI;
 import java.net.URL;
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
@@ -15,6 +14,8 @@ import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
+import javax.annotation.Nullable;
+
 import com.fasterxml.jackson.databind.JsonNode;
 import io.fabric8.launcher.base.JsonUtils;
 import io.fabric8.launcher.base.http.HttpClient;
@@ -26,11 +27,14 @@ import io.fabric8.launcher.service.git.api.GitHook;
 import io.fabric8.launcher.service.git.api.GitOrganization;
 import io.fabric8.launcher.service.git.api.GitRepository;
 import io.fabric8.launcher.service.git.api.GitRepositoryFilter;
+import io.fabric8.launcher.service.git.api.GitRepositoryPage;
+import io.fabric8.launcher.service.git.api.GitRepositoryPages;
 import io.fabric8.launcher.service.git.api.GitService;
 import io.fabric8.launcher.service.git.api.GitUser;
 import io.fabric8.launcher.service.git.api.ImmutableGitHook;
 import io.fabric8.launcher.service.git.api.ImmutableGitOrganization;
 import io.fabric8.launcher.service.git.api.ImmutableGitRepository;
+import io.fabric8.launcher.service.git.api.ImmutableGitRepositoryPage;
 import io.fabric8.launcher.service.git.api.ImmutableGitUser;
 import io.fabric8.launcher.service.git.api.NoSuchOrganizationException;
 import io.fabric8.launcher.service.git.api.NoSuchRepositoryException;
@@ -105,7 +109,15 @@ class GitLabService extends AbstractGitService implements GitService {
     @Override
     public List<GitRepository> getRepositories(final GitRepositoryFilter filter) {
         requireNonNull(filter, "filter must be specified.");
+        // /projects is paginated, read every page instead of the first one only
+        return GitRepositoryPages.stream(this, filter, GitRepositoryPages.MAX_PAGE_SIZE)
+                .collect(Collectors.toList());
+    }
 
+    @Override
+    public GitRepositoryPage getRepositories(final GitRepositoryFilter filter, @Nullable final String cursor, final int pageSize) {
+        requireNonNull(filter, "filter must be specified.");
+        final int page = GitRepositoryPages.parseCursor(cursor, 1);
         final StringBuilder urlBuilder = new StringBuilder(baseUri)
                 .append("/api/v4");
         if (filter.withOrganization() != null) {
@@ -115,21 +127,33 @@ class GitLabService extends AbstractGitService implements GitService {
         } else {
             urlBuilder.append("/users/").append(getLoggedUser().getLogin());
         }
-        urlBuilder.append("/projects");
+        urlBuilder.append("/projects?per_page=").append(GitRepositoryPages.checkPageSize(pageSize));
+        if (page > 1) {
+            urlBuilder.append("&page=").append(page);
+        }
+        // GitLab accepts a single search term, the prefix is checked on each result
         if (isNotEmpty(filter.withNameContaining())) {
-            urlBuilder.append("?search=").append(urlEncode(filter.withNameContaining()));
+            urlBuilder.append("&search=").append(urlEncode(filter.withNameContaining()));
+        } else if (isNotEmpty(filter.withNamePrefix())) {
+            urlBuilder.append("&search=").append(urlEncode(filter.withNamePrefix()));
         }
         Request request = request()
                 .get()
                 .url(urlBuilder.toString())
                 .build();
         return httpClient.executeAndParseJson(request, (JsonNode tree) -> {
-            List<GitRepository> orgs = new ArrayList<>();
+            final ImmutableGitRepositoryPage.Builder builder = ImmutableGitRepositoryPage.builder();
             for (JsonNode node : tree) {
-                orgs.add(readGitRepository(node));
+                final GitRepository repository = readGitRepository(node);
+                if (filter.matchesNamePrefix(repository)) {
+                    builder.addRepositories(repository);
+                }
+            }
+            if (tree.size() == pageSize) {
+                builder.nextCursor(String.valueOf(page + 1));
             }
-            return orgs;
-        }).orElse(Collections.emptyList());
+            return builder.build();
+        }).orElseGet(() -> ImmutableGitRepositoryPage.builder().build());
     }
 
     @Override
@@ -8,6 +8,8 @@ import javax.inject.Inject;
 
 import io.fabric8.launcher.base.http.AuthorizationType;
 import io.fabric8.launcher.base.http.HttpClient;
+import io.fabric8.launcher.base.http.HttpResponseCache;
+import io.fabric8.launcher.base.http.HttpUpstream;
 import io.fabric8.launcher.base.identity.Identity;
 import io.fabric8.launcher.base.identity.TokenIdentity;
 import io.fabric8.launcher.service.git.api.GitServiceConfig;
@@ -15,6 +17,7 @@ import io.fabric8.launcher.service.git.api.GitServiceFactory;
 import io.fabric8.launcher.service.git.api.ImmutableGitServiceConfig;
 import io.fabric8.launcher.service.git.spi.GitProvider;
 
+import static io.fabric8.launcher.base.http.Upstream.GIT;
 import static io.fabric8.launcher.service.git.gitlab.api.GitLabEnvironment.LAUNCHER_MISSIONCONTROL_GITLAB_PRIVATE_TOKEN;
 import static io.fabric8.launcher.service.git.gitlab.api.GitLabEnvironment.LAUNCHER_MISSIONCONTROL_GITLAB_URL;
 import static io.fabric8.launcher.service.git.spi.GitProviderType.GITLAB;
@@ -46,12 +49,19 @@ public class GitLabServiceFactory implements GitServiceFactory {
         this.httpClient = HttpClient::create;
     }
 
-
-    @Inject
     public GitLabServiceFactory(HttpClient httpClient) {
         this.httpClient = () -> httpClient;
     }
 
+    /**
+     * API calls are revalidated against the shared {@link HttpResponseCache}
+     */
+    @Inject
+    public GitLabServiceFactory(@HttpUpstream(GIT) HttpClient httpClient, HttpResponseCache responseCache) {
+        final HttpClient cachingClient = httpClient.withResponseCache(responseCache);
+        this.httpClient = () -> cachingClient;
+    }
+
     @Override
     public GitLabService create(Identity identity, String login, GitServiceConfig config) {
         if (!(identity instanceof TokenIdentity)) {
@@ -0,0 +1,99 @@
+package io.fabric8.launcher.service.git;
+
+import java.io.File;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import io.fabric8.launcher.base.identity.TokenIdentity;
+import io.fabric8.launcher.service.git.api.GitRepository;
+import io.fabric8.launcher.service.git.api.ImmutableGitCloneSpec;
+import io.fabric8.launcher.service.git.api.ImmutableGitRepository;
+import org.eclipse.jgit.api.Git;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Clones a local repository over file:// with the git command line
+ */
+public class LocalCloneTest {
+
+    @Rule
+    public final TemporaryFolder tmpFolder = new TemporaryFolder();
+
+    private AbstractGitService gitService;
+
+    private GitRepository repository;
+
+    @Before
+    public void setUp() throws Exception {
+        Assume.assumeTrue("git is not installed", GitVersion.INSTALLED.isAtLeast(1, 0));
+        gitService = mock(AbstractGitService.class, withSettings()
+                .useConstructor(TokenIdentity.of("token"))
+                .defaultAnswer(CALLS_REAL_METHODS));
+        File upstream = tmpFolder.newFolder("upstream");
+        try (Git git = Git.init().setDirectory(upstream).call()) {
+            write(upstream.toPath().resolve("README.md"), "# First");
+            write(upstream.toPath().resolve("docs/index.md"), "docs");
+            write(upstream.toPath().resolve("src/App.java"), "class App {}");
+            git.add().addFilepattern(".").call();
+            git.commit().setMessage("First").setSign(false).call();
+            write(upstream.toPath().resolve("README.md"), "# Second");
+            git.add().addFilepattern(".").call();
+            git.commit().setMessage("Second").setSign(false).call();
+        }
+        // The git command line only honors --depth for file:// URLs
+        URI uri = URI.create("file://" + upstream.getAbsolutePath());
+        repository = ImmutableGitRepository.builder()
+                .fullName("joe/upstream")
+                .homepage(uri)
+                .gitCloneUri(uri)
+                .build();
+    }
+
+    @Test
+    public void should_clone_the_full_history_by_default() throws Exception {
+        Path clone = gitService.clone(repository, tmpFolder.getRoot().toPath().resolve("full"));
+
+        try (Git git = Git.open(clone.toFile())) {
+            assertThat(git.log().call()).hasSize(2);
+        }
+    }
+
+    @Test
+    public void should_honor_the_depth_and_the_sparse_paths() throws Exception {
+        Path clone = gitService.clone(repository, tmpFolder.getRoot().toPath().resolve("shallow"),
+                                      ImmutableGitCloneSpec.builder()
+                                              .withDepth(1)
+                                              .withSingleBranch(true)
+                                              .addWithSparsePaths("src")
+                                              .build());
+
+        try (Git git = Git.open(clone.toFile())) {
+            assertThat(git.log().call()).hasSize(1);
+        }
+        assertThat(clone.resolve("src/App.java")).exists();
+        assertThat(clone.resolve("docs/index.md")).doesNotExist();
+    }
+
+    @Test
+    public void should_parse_the_git_version() {
+        assertThat(GitVersion.parse("git version 2.25.1").isAtLeast(2, 25)).isTrue();
+        assertThat(GitVersion.parse("git version 2.18.0.windows.1").isAtLeast(2, 19)).isFalse();
+        assertThat(GitVersion.parse("").isAtLeast(1, 0)).isFalse();
+    }
+
+    private static void write(Path file, String content) throws Exception {
+        Files.createDirectories(file.getParent());
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,114 @@
+package io.fabric8.launcher.service.git;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
+import java.util.List;
+
+import io.fabric8.launcher.base.identity.TokenIdentity;
+import io.fabric8.launcher.service.git.api.GitRepository;
+import io.fabric8.launcher.service.git.api.ImmutableGitRepository;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.FileMode;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.revwalk.RevWalk;
+import org.eclipse.jgit.treewalk.TreeWalk;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Pushes to a local bare repository over file://
+ */
+public class LocalPushTest {
+
+    @Rule
+    public final TemporaryFolder tmpFolder = new TemporaryFolder();
+
+    private AbstractGitService gitService;
+
+    private File remote;
+
+    private GitRepository repository;
+
+    @Before
+    public void setUp() throws Exception {
+        gitService = mock(AbstractGitService.class, withSettings()
+                .useConstructor(TokenIdentity.of("token"))
+                .defaultAnswer(CALLS_REAL_METHODS));
+        remote = tmpFolder.newFolder("remote.git");
+        Git.init().setBare(true).setDirectory(remote).call().close();
+        repository = ImmutableGitRepository.builder()
+                .fullName("joe/remote")
+                .homepage(remote.toURI())
+                .gitCloneUri(remote.toURI())
+                .build();
+    }
+
+    @Test
+    public void should_push_generated_files_without_writing_a_git_directory() throws Exception {
+        Path project = tmpFolder.newFolder("project").toPath();
+        write(project.resolve("README.md"), "# Hello");
+        write(project.resolve("src/main/java/App.java"), "class App {}");
+        write(project.resolve("mvnw"), "#!/bin/sh");
+        Files.setPosixFilePermissions(project.resolve("mvnw"), PosixFilePermissions.fromString("rwxr-xr-x"));
+        write(project.resolve(".gitignore"), "target/\n*.log\n");
+        write(project.resolve("target/app.jar"), "binary");
+        write(project.resolve("src/debug.log"), "ignored");
+
+        gitService.push(repository, project);
+
+        assertThat(project.resolve(".git")).doesNotExist();
+        List<String> paths = new ArrayList<>();
+        try (Repository repo = Git.open(remote).getRepository(); RevWalk walk = new RevWalk(repo)) {
+            RevCommit commit = walk.parseCommit(repo.resolve(Constants.R_HEADS + Constants.MASTER));
+            assertThat(commit.getFullMessage()).isEqualTo("Initial commit");
+            try (TreeWalk treeWalk = new TreeWalk(repo)) {
+                treeWalk.addTree(commit.getTree());
+                treeWalk.setRecursive(true);
+                while (treeWalk.next()) {
+                    paths.add(treeWalk.getPathString());
+                    if ("mvnw".equals(treeWalk.getPathString())) {
+                        assertThat(treeWalk.getFileMode(0)).isEqualTo(FileMode.EXECUTABLE_FILE);
+                    }
+                }
+            }
+        }
+        assertThat(paths).containsExactly(".gitignore", "README.md", "mvnw", "src/main/java/App.java");
+    }
+
+    @Test
+    public void should_keep_the_history_of_existing_repositories() throws Exception {
+        Path project = tmpFolder.newFolder("imported").toPath();
+        write(project.resolve("README.md"), "# Imported");
+        try (Git git = Git.init().setDirectory(project.toFile()).call()) {
+            git.add().addFilepattern(".").call();
+            git.commit().setMessage("Upstream commit").setSign(false).call();
+        }
+        write(project.resolve("README.md"), "# Imported and changed");
+
+        gitService.push(repository, project);
+
+        try (Git git = Git.open(remote)) {
+            List<String> messages = new ArrayList<>();
+            git.log().call().forEach(commit -> messages.add(commit.getShortMessage()));
+            assertThat(messages).containsExactly("Initial commit", "Upstream commit");
+        }
+    }
+
+    private static void write(Path file, String content) throws Exception {
+        Files.createDirectories(file.getParent());
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -2,20 +2,25 @@ package io.fabric8.launcher.service.git.github;
 
 import io.fabric8.launcher.base.test.hoverfly.LauncherPerTestHoverflyRule;
 import io.fabric8.launcher.service.git.AbstractGitServiceTest;
+import io.fabric8.launcher.service.git.api.GitRepository;
+import io.fabric8.launcher.service.git.api.GitRepositoryPage;
 import io.fabric8.launcher.service.git.api.GitService;
 import io.fabric8.launcher.service.git.api.GitServiceFactory;
 import io.fabric8.launcher.service.git.api.ImmutableGitOrganization;
+import io.fabric8.launcher.service.git.api.ImmutableGitRepositoryFilter;
 import io.fabric8.launcher.service.git.github.api.GitHubWebhookEvent;
 import io.fabric8.launcher.service.git.spi.GitServiceSpi;
 import io.specto.hoverfly.junit.rule.HoverflyRule;
 import org.junit.ClassRule;
 import org.junit.Rule;
+import org.junit.Test;
 import org.junit.rules.RuleChain;
 
 import static io.fabric8.launcher.base.test.hoverfly.LauncherHoverflyEnvironment.createDefaultHoverflyEnvironment;
 import static io.fabric8.launcher.base.test.hoverfly.LauncherHoverflyRuleConfigurer.createMultiTestHoverflyProxy;
 import static io.fabric8.launcher.service.git.github.api.GitHubEnvironment.LAUNCHER_MISSIONCONTROL_GITHUB_TOKEN;
 import static io.fabric8.launcher.service.git.github.api.GitHubEnvironment.LAUNCHER_MISSIONCONTROL_GITHUB_USERNAME;
+import static org.assertj.core.api.Assertions.assertThat;
 
 
 /**
@@ -66,4 +71,17 @@ public class GitHubServiceTest extends AbstractGitServiceTest {
     protected String getRawFileUrl(String fullRepoName, String fileName) {
         return "https://raw.githubusercontent.com/" + fullRepoName + "/master/" + fileName;
     }
+
+    @Test
+    public void getRepositoriesSecondPage() {
+        //When: requesting the second page of the test organization repositories
+        final GitRepositoryPage page = getGitService().getRepositories(
+                ImmutableGitRepositoryFilter.builder().withOrganization(getTestOrganization()).build(), "2", 2);
+
+        //Then: the page is requested directly and the next one is announced
+        assertThat(page.getRepositories())
+                .extracting(GitRepository::getFullName)
+                .containsExactly("fabric8-launcher-it/it-getrepositoriessecondpage-3", "fabric8-launcher-it/it-getrepositoriessecondpage-4");
+        assertThat(page.getNextCursor()).contains("3");
+    }
 }
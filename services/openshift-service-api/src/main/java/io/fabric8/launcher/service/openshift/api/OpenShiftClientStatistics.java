@@ -0,0 +1,47 @@
+package io.fabric8.launcher.service.openshift.api;
+
+/**
+ * Statistics of the pooled clients used by the {@link OpenShiftService} instances
+ */
+public interface OpenShiftClientStatistics {
+
+    /**
+     * @return the number of pooled clients
+     */
+    int getSize();
+
+    /**
+     * @return the number of requests served by a pooled client
+     */
+    long getHitCount();
+
+    /**
+     * @return the number of requests needing a new client
+     */
+    long getMissCount();
+
+    /**
+     * @return the number of clients dropped because they were idle or their token expired
+     */
+    long getExpiredCount();
+
+    /**
+     * @return the number of clusters having a connection pool
+     */
+    int getClusterCount();
+
+    /**
+     * @return the number of open connections to all clusters
+     */
+    int getConnectionCount();
+
+    /**
+     * @return the number of idle connections to all clusters
+     */
+    int getIdleConnectionCount();
+
+    /**
+     * @return the number of calls currently executing on all clusters
+     */
+    int getRunningCallsCount();
+}
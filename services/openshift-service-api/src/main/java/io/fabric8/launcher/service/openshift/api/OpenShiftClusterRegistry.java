@@ -30,6 +30,14 @@ public interface OpenShiftClusterRegistry {
      */
     Set<OpenShiftCluster> getSubscribedClusters(Principal principal);
 
+    /**
+     * @param principal the user in manage.openshift.io
+     * @return the clusters the user is subscribed to, flagged as stale when manage.openshift.io could not answer in time
+     */
+    default SubscribedClusters getSubscriptions(Principal principal) {
+        return ImmutableSubscribedClusters.of(getSubscribedClusters(principal), false);
+    }
+
     /**
      * Find an {@link OpenShiftCluster} by its id
      *
@@ -19,6 +19,51 @@ public enum OpenShiftEnvironment implements EnvironmentEnum {
     LAUNCHER_MISSIONCONTROL_OPENSHIFT_PASSWORD,
     LAUNCHER_MISSIONCONTROL_OPENSHIFT_TOKEN,
 
-    LAUNCHER_MISSIONCONTROL_OPENSHIFT_IMPERSONATE_USER;
+    LAUNCHER_MISSIONCONTROL_OPENSHIFT_IMPERSONATE_USER,
+
+    /**
+     * Seconds a newly requested project has to become available (30 by default)
+     */
+    LAUNCHER_MISSIONCONTROL_OPENSHIFT_PROJECT_READY_TIMEOUT,
+
+    /**
+     * Maximum number of pooled OpenShift clients (1000 by default)
+     */
+    LAUNCHER_MISSIONCONTROL_OPENSHIFT_CLIENT_POOL_SIZE,
+
+    /**
+     * Seconds an unused pooled OpenShift client is kept (300 by default)
+     */
+    LAUNCHER_MISSIONCONTROL_OPENSHIFT_CLIENT_IDLE_TIMEOUT,
+
+    /**
+     * Seconds the verification of a cluster for a user is fresh (60 by default)
+     */
+    LAUNCHER_MISSIONCONTROL_OPENSHIFT_CLUSTER_VERIFICATION_TTL,
+
+    /**
+     * Seconds a verification is still served while it is refreshed in the background (600 by default)
+     */
+    LAUNCHER_MISSIONCONTROL_OPENSHIFT_CLUSTER_VERIFICATION_STALE_TTL,
+
+    /**
+     * Milliseconds a cluster has to answer before it is reported as not connected (3000 by default)
+     */
+    LAUNCHER_MISSIONCONTROL_OPENSHIFT_CLUSTER_VERIFICATION_TIMEOUT,
+
+    /**
+     * Seconds the subscriptions of a user in manage.openshift.com are fresh (300 by default)
+     */
+    LAUNCHER_MISSIONCONTROL_OPENSHIFT_CLUSTERS_SUBSCRIPTION_TTL,
+
+    /**
+     * Seconds the subscriptions of a user are still served when manage.openshift.com is slow or down (3600 by default)
+     */
+    LAUNCHER_MISSIONCONTROL_OPENSHIFT_CLUSTERS_SUBSCRIPTION_STALE_TTL,
+
+    /**
+     * Milliseconds to wait for manage.openshift.com before serving stale subscriptions (2000 by default)
+     */
+    LAUNCHER_MISSIONCONTROL_OPENSHIFT_CLUSTERS_SUBSCRIPTION_TIMEOUT;
 
 }
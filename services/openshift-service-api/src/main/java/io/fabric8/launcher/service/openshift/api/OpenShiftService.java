@@ -6,6 +6,10 @@ import java.net.URL;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 
 import io.fabric8.kubernetes.api.model.ConfigMap;
 import io.fabric8.openshift.api.model.BuildConfig;
@@ -33,6 +37,17 @@ public interface OpenShiftService {
     OpenShiftProject createProject(String name)
             throws DuplicateProjectException, IllegalArgumentException;
 
+    /**
+     * Creates a project with the specified, required name without blocking until it can be used.
+     *
+     * @param name the name of the project to create
+     * @return a {@link CompletionStage} completed with the created {@link OpenShiftProject} once it can be used
+     * @throws DuplicateProjectException
+     * @throws IllegalArgumentException  If the name is not specified
+     */
+    CompletionStage<OpenShiftProject> createProjectAsync(String name)
+            throws DuplicateProjectException, IllegalArgumentException;
+
 
     /**
      * Finds an {@link OpenShiftProject} with the specified, required name
@@ -64,6 +79,20 @@ public interface OpenShiftService {
      */
     void configureProject(OpenShiftProject project, InputStream templateStream, String sourceRepositoryProvider, URI sourceRepositoryUri, String sourceRepositoryContextDir);
 
+    /**
+     * Creates all resources of the given templates for the given {@link OpenShiftProject}, phase after phase.
+     * The resources of the templates of a phase are created in dependency order (ImageStreams, BuildConfigs,
+     * DeploymentConfigs, Services and then Routes), the ones of the same kind at the same time. The parameters of a
+     * template may refer to the routes created in the previous phases.
+     *
+     * @param project                  the project in which the resources will be created
+     * @param templates                the templates to apply, see {@link OpenShiftTemplate#getPhase()}
+     * @param sourceRepositoryProvider the provider used for this source repository
+     * @param sourceRepositoryUri      the location of the source repository to build the OpenShift applications from
+     * @param executor                 the {@link Executor} running the calls
+     */
+    void configureProject(OpenShiftProject project, List<OpenShiftTemplate> templates, String sourceRepositoryProvider, URI sourceRepositoryUri, Executor executor);
+
     /**
      * Creates all resources for the given {@link OpenShiftProject}, using the given template and parameters.
      *
@@ -90,6 +119,19 @@ public interface OpenShiftService {
      */
     boolean projectExists(String name) throws IllegalArgumentException;
 
+    /**
+     * @return the names of the projects visible to the logged user
+     */
+    Set<String> getProjectNames();
+
+    /**
+     * @param executor the {@link Executor} running the call
+     * @return a {@link CompletionStage} completed with the result of {@link #getProjectNames()}
+     */
+    default CompletionStage<Set<String>> getProjectNamesAsync(Executor executor) {
+        return CompletableFuture.supplyAsync(this::getProjectNames, executor);
+    }
+
     /**
      * Returns a {@link Map} of routes for a given project
      *
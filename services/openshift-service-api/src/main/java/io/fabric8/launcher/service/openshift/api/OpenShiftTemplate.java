@@ -0,0 +1,33 @@
+package io.fabric8.launcher.service.openshift.api;
+
+import java.nio.file.Path;
+
+import javax.annotation.Nullable;
+
+import org.immutables.value.Value;
+
+/**
+ * A template file of an application to be created in an {@link OpenShiftProject}
+ */
+@Value.Immutable
+public interface OpenShiftTemplate {
+
+    /**
+     * @return the location of the template file
+     */
+    Path getPath();
+
+    /**
+     * @return the location within the source repository where the application source can be found
+     */
+    @Nullable
+    String getSourceRepositoryContextDir();
+
+    /**
+     * @return the phase of the template, the templates of a phase are applied once the ones of the previous phases are
+     */
+    @Value.Default
+    default int getPhase() {
+        return 0;
+    }
+}
@@ -0,0 +1,22 @@
+package io.fabric8.launcher.service.openshift.api;
+
+import java.util.Set;
+
+import org.immutables.value.Value;
+
+/**
+ * The clusters a user is subscribed to
+ */
+@Value.Immutable
+public interface SubscribedClusters {
+
+    @Value.Parameter
+    Set<OpenShiftCluster> getClusters();
+
+    /**
+     * @return true if the subscriptions could not be looked up in time and the clusters are a previous answer
+     * (or all the clusters when there is none)
+     */
+    @Value.Parameter
+    boolean isStale();
+}
@@ -31,15 +31,19 @@ public class Fabric8OpenShiftServiceFactory implements OpenShiftServiceFactory {
     @Deprecated
     Fabric8OpenShiftServiceFactory() {
         this.clusterRegistry = null;
+        this.clientPool = null;
     }
 
     @Inject
-    public Fabric8OpenShiftServiceFactory(OpenShiftClusterRegistry clusterRegistry) {
+    public Fabric8OpenShiftServiceFactory(OpenShiftClusterRegistry clusterRegistry, OpenShiftClientPool clientPool) {
         this.clusterRegistry = clusterRegistry;
+        this.clientPool = clientPool;
     }
 
     private final OpenShiftClusterRegistry clusterRegistry;
 
+    private final OpenShiftClientPool clientPool;
+
     @Override
     public OpenShiftService create() {
         Parameters parameters = ImmutableParameters.builder()
@@ -52,7 +56,7 @@ public class Fabric8OpenShiftServiceFactory implements OpenShiftServiceFactory {
 
     @Override
     public Fabric8OpenShiftServiceImpl create(Parameters parameters) {
-        return new Fabric8OpenShiftServiceImpl(parameters);
+        return new Fabric8OpenShiftServiceImpl(parameters, clientPool.getClient(parameters));
     }
 
     @Override
@@ -1,16 +1,25 @@
 package io.fabric8.launcher.service.openshift.impl;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.UncheckedIOException;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URL;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.regex.Matcher;
@@ -19,10 +28,11 @@ import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
 
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.fabric8.kubernetes.api.model.ConfigMap;
 import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
 import io.fabric8.kubernetes.api.model.DoneableConfigMap;
-import io.fabric8.kubernetes.api.model.KubernetesList;
+import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.client.Config;
 import io.fabric8.kubernetes.client.ConfigBuilder;
 import io.fabric8.kubernetes.client.KubernetesClientException;
@@ -37,26 +47,25 @@ import io.fabric8.launcher.service.openshift.api.ImmutableOpenShiftResource;
 import io.fabric8.launcher.service.openshift.api.ImmutableOpenShiftUser;
 import io.fabric8.launcher.service.openshift.api.OpenShiftCluster;
 import io.fabric8.launcher.service.openshift.api.OpenShiftProject;
+import io.fabric8.launcher.service.openshift.api.OpenShiftResource;
 import io.fabric8.launcher.service.openshift.api.OpenShiftService;
 import io.fabric8.launcher.service.openshift.api.OpenShiftServiceFactory;
+import io.fabric8.launcher.service.openshift.api.OpenShiftTemplate;
 import io.fabric8.launcher.service.openshift.api.OpenShiftUser;
 import io.fabric8.launcher.service.openshift.spi.OpenShiftServiceSpi;
 import io.fabric8.openshift.api.model.Build;
 import io.fabric8.openshift.api.model.BuildConfig;
 import io.fabric8.openshift.api.model.BuildRequest;
 import io.fabric8.openshift.api.model.BuildRequestBuilder;
-import io.fabric8.openshift.api.model.DoneableTemplate;
 import io.fabric8.openshift.api.model.Parameter;
 import io.fabric8.openshift.api.model.ParameterBuilder;
 import io.fabric8.openshift.api.model.Project;
 import io.fabric8.openshift.api.model.ProjectRequest;
 import io.fabric8.openshift.api.model.Route;
 import io.fabric8.openshift.api.model.RouteList;
-import io.fabric8.openshift.api.model.Template;
-import io.fabric8.openshift.client.DefaultOpenShiftClient;
 import io.fabric8.openshift.client.OpenShiftClient;
-import io.fabric8.openshift.client.dsl.TemplateResource;
 
+import static io.fabric8.launcher.service.openshift.api.OpenShiftEnvironment.LAUNCHER_MISSIONCONTROL_OPENSHIFT_PROJECT_READY_TIMEOUT;
 import static java.util.Objects.requireNonNull;
 import static java.util.logging.Level.FINEST;
 import static java.util.stream.Collectors.toMap;
@@ -74,6 +83,13 @@ public final class Fabric8OpenShiftServiceImpl implements OpenShiftService, Open
 
     private static final Logger log = Logger.getLogger(Fabric8OpenShiftServiceImpl.class.getName());
 
+    /**
+     * Time a newly requested project has to become available, in milliseconds
+     */
+    private static final long PROJECT_READY_TIMEOUT = TimeUnit.SECONDS.toMillis(LAUNCHER_MISSIONCONTROL_OPENSHIFT_PROJECT_READY_TIMEOUT.intValue(30));
+
+    private static final String PIPELINE_TEMPLATE = "/pipeline-template.yml";
+
     private static final Pattern PARAM_VAR_PATTERN = Pattern.compile("\\{\\{(.*?)/(.*?)\\[(.*)\\]\\}\\}");
 
     static {
@@ -90,11 +106,22 @@ public final class Fabric8OpenShiftServiceImpl implements OpenShiftService, Open
 
     /**
      * Creates an {@link OpenShiftService} implementation communicating
-     * with the backend service via the specified parameters
+     * with the backend service through the given client
      *
      * @param parameters
+     * @param client     the {@link OpenShiftClient} created for these parameters
      */
-    Fabric8OpenShiftServiceImpl(final OpenShiftServiceFactory.Parameters parameters) {
+    Fabric8OpenShiftServiceImpl(final OpenShiftServiceFactory.Parameters parameters, final OpenShiftClient client) {
+        OpenShiftCluster cluster = parameters.getCluster();
+        this.client = client;
+        try {
+            this.consoleUrl = (cluster.getConsoleUrl() != null) ? new URL(cluster.getConsoleUrl()) : null;
+        } catch (MalformedURLException e) {
+            throw new UncheckedIOException("Console URL is malformed: " + cluster.getConsoleUrl(), e);
+        }
+    }
+
+    static Config createConfig(final OpenShiftServiceFactory.Parameters parameters) {
         OpenShiftCluster cluster = parameters.getCluster();
         Identity identity = parameters.getIdentity();
         ConfigBuilder configBuilder = new ConfigBuilder()
@@ -122,11 +149,23 @@ public final class Fabric8OpenShiftServiceImpl implements OpenShiftService, Open
             requestConfig.setImpersonateUsername(impersonateUsername);
             requestConfig.setImpersonateGroups("system:authenticated", "system:authenticated:oauth");
         }
-        this.client = new DefaultOpenShiftClient(config);
+        return config;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public OpenShiftProject createProject(final String name) throws
+            DuplicateProjectException,
+            IllegalArgumentException {
         try {
-            this.consoleUrl = (cluster.getConsoleUrl() != null) ? new URL(cluster.getConsoleUrl()) : null;
-        } catch (MalformedURLException e) {
-            throw new UncheckedIOException("Console URL is malformed: " + cluster.getConsoleUrl(), e);
+            return createProjectAsync(name).toCompletableFuture().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
         }
     }
 
@@ -134,7 +173,7 @@ public final class Fabric8OpenShiftServiceImpl implements OpenShiftService, Open
      * {@inheritDoc}
      */
     @Override
-    public OpenShiftProject createProject(final String name) throws
+    public CompletionStage<OpenShiftProject> createProjectAsync(final String name) throws
             DuplicateProjectException,
             IllegalArgumentException {
 
@@ -150,31 +189,10 @@ public final class Fabric8OpenShiftServiceImpl implements OpenShiftService, Open
             throw ExceptionMapper.throwMappedException(kce, name);
         }
 
-        // Block until exists
-        int counter = 0;
-        while (true) {
-            counter++;
-            if (projectExists(name)) {
-                // We good
-                break;
-            }
-            if (counter == 10) {
-                throw new IllegalStateException("Newly-created project "
-                                                        + name + " could not be found ");
-            }
-            log.log(FINEST, "Could not find project {0} after creating; waiting and trying again...", name);
-            try {
-                Thread.sleep(3000);
-            } catch (final InterruptedException ie) {
-                // Restore interrupted state...
-                Thread.currentThread().interrupt();
-                throw new RuntimeException("Someone interrupted thread while finding newly-created project", ie);
-            }
-        }
-        // Populate value object and return it
+        // Populate value object once the project can be used
         final String roundtripDisplayName = projectRequest.getMetadata().getName();
-
-        return new OpenShiftProjectImpl(roundtripDisplayName, consoleUrl);
+        return ProjectReadiness.await(name, client.projects().withName(name)::watch, () -> projectExists(name), PROJECT_READY_TIMEOUT)
+                .thenApply(ready -> new OpenShiftProjectImpl(roundtripDisplayName, consoleUrl));
     }
 
     @Override
@@ -203,9 +221,12 @@ public final class Fabric8OpenShiftServiceImpl implements OpenShiftService, Open
 
     @Override
     public void configureProject(final OpenShiftProject project, String sourceRepositoryProvider, @Nullable final URI sourceRepositoryUri) {
-        final InputStream pipelineTemplateStream = getClass().getResourceAsStream("/pipeline-template.yml");
         List<Parameter> parameters = getParameters(project, sourceRepositoryProvider, sourceRepositoryUri, null);
-        configureProject(project, pipelineTemplateStream, parameters);
+        try {
+            configureProject(project, TemplateProcessor.fromClasspath(PIPELINE_TEMPLATE), parameters);
+        } catch (RuntimeException e) {
+            throw new RuntimeException("Could not create OpenShift pipeline", e);
+        }
         fixJenkinsServiceAccount(project);
     }
 
@@ -215,6 +236,54 @@ public final class Fabric8OpenShiftServiceImpl implements OpenShiftService, Open
         configureProject(project, templateStream, parameters);
     }
 
+    @Override
+    public void configureProject(final OpenShiftProject project, List<OpenShiftTemplate> templates, String sourceRepositoryProvider,
+                                 @Nullable final URI sourceRepositoryUri, Executor executor) {
+        requireNonNull(project, "Project cannot be null");
+        requireNonNull(templates, "Templates cannot be null");
+        try {
+            final Map<Integer, List<OpenShiftTemplate>> phases = templates.stream()
+                    .collect(Collectors.groupingBy(OpenShiftTemplate::getPhase, TreeMap::new, Collectors.toList()));
+            RouteList routes = listRoutes(project);
+            for (List<OpenShiftTemplate> phase : phases.values()) {
+                final List<HasMetadata> items = processTemplates(project, phase, sourceRepositoryProvider, sourceRepositoryUri,
+                                                                 routes, executor);
+                addResources(project, ResourceBatch.apply(items, item -> createResource(project, item), executor));
+                // The templates of the next phases may refer to the routes just created
+                if (items.stream().anyMatch(item -> "Route".equals(item.getKind()))) {
+                    routes = listRoutes(project);
+                }
+            }
+        } catch (Exception e) {
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            throw new RuntimeException("Could not create OpenShift pipeline", cause);
+        }
+    }
+
+    /**
+     * The templates of a phase are processed at the same time
+     */
+    private List<HasMetadata> processTemplates(OpenShiftProject project, List<OpenShiftTemplate> templates,
+                                               String sourceRepositoryProvider, @Nullable URI sourceRepositoryUri,
+                                               RouteList routes, Executor executor) {
+        final List<CompletableFuture<List<HasMetadata>>> processed = templates.stream()
+                .map(template -> CompletableFuture.supplyAsync(() -> {
+                    List<Parameter> parameters = getParameters(project, sourceRepositoryProvider, sourceRepositoryUri,
+                                                               template.getSourceRepositoryContextDir());
+                    try {
+                        return processTemplate(TemplateProcessor.parse(Files.newInputStream(template.getPath())), parameters, routes);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException("Could not read template " + template.getPath(), e);
+                    }
+                }, executor))
+                .collect(Collectors.toList());
+        final List<HasMetadata> items = new ArrayList<>();
+        for (CompletableFuture<List<HasMetadata>> future : processed) {
+            items.addAll(future.join());
+        }
+        return items;
+    }
+
     private List<Parameter> getParameters(OpenShiftProject project, String sourceRepositoryProvider,
                                           @Nullable URI sourceRepositoryUri,
                                           @Nullable String sourceRepositoryContextDir) {
@@ -335,6 +404,13 @@ public final class Fabric8OpenShiftServiceImpl implements OpenShiftService, Open
         }
     }
 
+    @Override
+    public Set<String> getProjectNames() {
+        return client.projects().list().getItems().stream()
+                .map(project -> project.getMetadata().getName())
+                .collect(Collectors.toSet());
+    }
+
     @Override
     public URL getServiceURL(String serviceName, OpenShiftProject project) {
         String serviceURL = null;
@@ -360,51 +436,79 @@ public final class Fabric8OpenShiftServiceImpl implements OpenShiftService, Open
     private void configureProject(final OpenShiftProject project, final InputStream templateStream,
                                   List<Parameter> parameters) {
         try {
-            try (final InputStream pipelineTemplateStream = templateStream) {
-                TemplateResource<Template, KubernetesList, DoneableTemplate> templateResource = client.templates()
-                        .inNamespace(project.getName()).load(pipelineTemplateStream);
-                Map<String, String> parameterValues = applyParameterValueProperties(project, parameters)
-                        .stream()
-                        .collect(toMap(Parameter::getName, Parameter::getValue));
-                if (log.isLoggable(Level.FINEST)) {
-                    parameterValues.forEach((key, value) -> log.finest("\t" + key + '=' + value));
-                }
-                final KubernetesList processedTemplate = templateResource.process(parameterValues);
-                processedTemplate.getItems().stream()
-                        .map(item -> {
-                            log.log(Level.INFO, "Creating {0} {1} in namespace {2}", new Object[]{
-                                    item.getKind(),
-                                    item.getMetadata().getName(),
-                                    project.getName()});
-                            // Create resource
-                            client.resource(item).inNamespace(project.getName()).createOrReplace();
-                            String gitHubWebHookSecret = null;
-                            if (item instanceof BuildConfig) {
-                                final BuildConfig bc = (BuildConfig) item;
-                                gitHubWebHookSecret = bc.getSpec().getTriggers()
-                                        .stream()
-                                        .filter(r -> r.getGithub() != null)
-                                        .map(r -> r.getGithub().getSecret())
-                                        .findFirst().orElse(null);
-                            }
-                            return ImmutableOpenShiftResource.builder()
-                                    .name(item.getMetadata().getName())
-                                    .kind(item.getKind())
-                                    .project(project)
-                                    .gitHubWebhookSecret(gitHubWebHookSecret)
-                                    .build();
-                        })
-                        .forEach(resource -> {
-                            log.finest("Adding resource '" + resource.getName() + "' (" + resource.getKind()
-                                               + ") to project '" + project.getName() + "'");
-                            ((OpenShiftProjectImpl) project).addResource(resource);
-                        });
-            }
+            configureProject(project, TemplateProcessor.parse(templateStream), parameters);
         } catch (Exception e) {
             throw new RuntimeException("Could not create OpenShift pipeline", e);
         }
     }
 
+    private void configureProject(final OpenShiftProject project, final ObjectNode template, List<Parameter> parameters) {
+        List<HasMetadata> items = processTemplate(template, parameters, listRoutes(project));
+        addResources(project, ResourceBatch.apply(items, item -> createResource(project, item), Runnable::run));
+    }
+
+    /**
+     * The template is processed locally, sparing the round trip to the processedtemplates endpoint
+     */
+    private List<HasMetadata> processTemplate(final ObjectNode template, List<Parameter> parameters, RouteList routes) {
+        Map<String, String> parameterValues = parameters.stream()
+                .map(p -> new ParameterBuilder(p)
+                        .withValue(replaceParameterVariable(p, routes))
+                        .build())
+                .collect(toMap(Parameter::getName, Parameter::getValue));
+        // The parameters declared by the template may take their value from a route as well
+        template.path("parameters").forEach(parameter -> {
+            final String name = parameter.path("name").asText();
+            if (parameter.hasNonNull("fabric8-value") && !parameter.hasNonNull("value") && !parameterValues.containsKey(name)) {
+                parameterValues.put(name, replaceVariables(parameter.get("fabric8-value").asText(), routes));
+            }
+        });
+        if (log.isLoggable(Level.FINEST)) {
+            parameterValues.forEach((key, value) -> log.finest("\t" + key + '=' + value));
+        }
+        return TemplateProcessor.process(template, parameterValues);
+    }
+
+    private OpenShiftResource createResource(final OpenShiftProject project, HasMetadata item) {
+        log.log(Level.INFO, "Creating {0} {1} in namespace {2}", new Object[]{
+                item.getKind(),
+                item.getMetadata().getName(),
+                project.getName()});
+        // Create resource
+        client.resource(item).inNamespace(project.getName()).createOrReplace();
+        String gitHubWebHookSecret = null;
+        if (item instanceof BuildConfig) {
+            final BuildConfig bc = (BuildConfig) item;
+            gitHubWebHookSecret = bc.getSpec().getTriggers()
+                    .stream()
+                    .filter(r -> r.getGithub() != null)
+                    .map(r -> r.getGithub().getSecret())
+                    .findFirst().orElse(null);
+        }
+        return ImmutableOpenShiftResource.builder()
+                .name(item.getMetadata().getName())
+                .kind(item.getKind())
+                .project(project)
+                .gitHubWebhookSecret(gitHubWebHookSecret)
+                .build();
+    }
+
+    private void addResources(final OpenShiftProject project, List<OpenShiftResource> resources) {
+        resources.forEach(resource -> {
+            log.finest("Adding resource '" + resource.getName() + "' (" + resource.getKind()
+                               + ") to project '" + project.getName() + "'");
+            ((OpenShiftProjectImpl) project).addResource(resource);
+        });
+    }
+
+    /**
+     * The routes are looked up once per call and again after each phase creating routes, for the parameters with a
+     * "fabric8-value" property
+     */
+    private RouteList listRoutes(final OpenShiftProject project) {
+        return client.routes().inNamespace(project.getName()).list();
+    }
+
     // This function looks for any parameters in the template that have the special
     // property "fabric8-value". If it encounters one it will take the property's
     // value string and look for any variables to replace.
@@ -414,45 +518,40 @@ public final class Fabric8OpenShiftServiceImpl implements OpenShiftService, Open
     // property to get from that object (eg ".spec.host").
     // The variable will be replaced with the value obtained from the indicated
     // object property.
-    private List<Parameter> applyParameterValueProperties(final OpenShiftProject project, List<Parameter> parameters) {
-        RouteList routes = client.routes().inNamespace(project.getName()).list();
-        return parameters.stream()
-                .map(p -> new ParameterBuilder(p)
-                        .withValue(replaceParameterVariable(p, routes))
-                        .build()).collect(Collectors.toList());
-    }
-
     private String replaceParameterVariable(Parameter p, RouteList routes) {
         // Find any parameters with special "fabric8-value" properties
         if (p.getAdditionalProperties().containsKey("fabric8-value")
                 && p.getValue() == null) {
-            String value = p.getAdditionalProperties().get("fabric8-value").toString();
-            Matcher m = PARAM_VAR_PATTERN.matcher(value);
-            StringBuffer newval = new StringBuffer();
-            while (m.find()) {
-                String type = m.group(1);
-                String routeName = m.group(2);
-                String propertyPath = m.group(3);
-                String propertyValue = "";
-                // We only support "route/XXX[.spec.host]" for now,
-                // but we're prepared for future expansion
-                if ("route".equals(type) && ".spec.host".equals(propertyPath)) {
-                    propertyValue = routes.getItems().stream()
-                            .filter(r -> routeName.equals(r.getMetadata().getName()))
-                            .map(r -> r.getSpec().getHost())
-                            .filter(Objects::nonNull)
-                            .findAny()
-                            .orElse(propertyValue);
-                }
-                m.appendReplacement(newval, Matcher.quoteReplacement(propertyValue));
-            }
-            m.appendTail(newval);
-            return newval.toString();
+            return replaceVariables(p.getAdditionalProperties().get("fabric8-value").toString(), routes);
         } else {
             return p.getValue();
         }
     }
 
+    private static String replaceVariables(String value, RouteList routes) {
+        Matcher m = PARAM_VAR_PATTERN.matcher(value);
+        StringBuffer newval = new StringBuffer();
+        while (m.find()) {
+            String type = m.group(1);
+            String routeName = m.group(2);
+            String propertyPath = m.group(3);
+            String propertyValue = "";
+            // We only support "route/XXX[.spec.host]" for now,
+            // but we're prepared for future expansion
+            if ("route".equals(type) && ".spec.host".equals(propertyPath)) {
+                propertyValue = routes.getItems().stream()
+                        .filter(r -> routeName.equals(r.getMetadata().getName()))
+                        .map(r -> r.getSpec().getHost())
+                        .filter(Objects::nonNull)
+                        .findAny()
+                        .orElse(propertyValue);
+            }
+            m.appendReplacement(newval, Matcher.quoteReplacement(propertyValue));
+        }
+        m.appendTail(newval);
+        return newval.toString();
+    }
+
     private void fixJenkinsServiceAccount(final OpenShiftProject project) {
         // Add Admin role to the jenkins serviceaccount
         log.finest(() -> "Adding role admin to jenkins serviceaccount for project '" + project.getName() + "'");
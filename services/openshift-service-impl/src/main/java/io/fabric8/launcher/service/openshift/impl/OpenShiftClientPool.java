@@ -0,0 +1,177 @@
+package io.fabric8.launcher.service.openshift.impl;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToIntFunction;
+
+import javax.annotation.PostConstruct;
+import javax.enterprise.context.ApplicationScoped;
+
+import io.fabric8.kubernetes.client.Config;
+import io.fabric8.kubernetes.client.ConfigBuilder;
+import io.fabric8.kubernetes.client.utils.HttpClientUtils;
+import io.fabric8.launcher.base.http.Authorizations;
+import io.fabric8.launcher.base.identity.Identity;
+import io.fabric8.launcher.base.identity.TokenIdentity;
+import io.fabric8.launcher.service.openshift.api.OpenShiftClientStatistics;
+import io.fabric8.launcher.service.openshift.api.OpenShiftServiceFactory;
+import io.fabric8.openshift.client.DefaultOpenShiftClient;
+import io.fabric8.openshift.client.OpenShiftClient;
+import io.fabric8.openshift.client.OpenShiftConfig;
+import okhttp3.OkHttpClient;
+import org.cache2k.Cache;
+import org.cache2k.Cache2kBuilder;
+import org.cache2k.event.CacheEntryExpiredListener;
+
+import static io.fabric8.launcher.service.openshift.api.OpenShiftEnvironment.LAUNCHER_MISSIONCONTROL_OPENSHIFT_CLIENT_IDLE_TIMEOUT;
+import static io.fabric8.launcher.service.openshift.api.OpenShiftEnvironment.LAUNCHER_MISSIONCONTROL_OPENSHIFT_CLIENT_POOL_SIZE;
+
+/**
+ * Keeps the {@link OpenShiftClient} of each cluster and identity for a while.
+ * <p>
+ * The clients of a cluster share one OkHttp connection pool and dispatcher, so connections (and their TLS
+ * handshakes) are reused across requests and users. A client is dropped after LAUNCHER_MISSIONCONTROL_OPENSHIFT_CLIENT_IDLE_TIMEOUT
+ * seconds without being used (5 minutes by default) or when its token expires, whichever comes first.
+ * Pooled clients must not be closed, closing one would shut the pool of its cluster down.
+ */
+@ApplicationScoped
+public class OpenShiftClientPool implements OpenShiftClientStatistics {
+
+    private static final int MAX_CLUSTERS = 100;
+
+    private Cache<String, OpenShiftClient> clients;
+
+    private Cache<String, OkHttpClient> clusters;
+
+    private long idleMillis;
+
+    private final AtomicLong hits = new AtomicLong();
+
+    private final AtomicLong misses = new AtomicLong();
+
+    private final AtomicLong expirations = new AtomicLong();
+
+    /**
+     * Used in proxies, the pool is created by {@link #start()}
+     */
+    @Deprecated
+    public OpenShiftClientPool() {
+    }
+
+    OpenShiftClientPool(long capacity, long idleMillis) {
+        start(capacity, idleMillis);
+    }
+
+    @PostConstruct
+    void start() {
+        start(LAUNCHER_MISSIONCONTROL_OPENSHIFT_CLIENT_POOL_SIZE.intValue(1000),
+              TimeUnit.SECONDS.toMillis(LAUNCHER_MISSIONCONTROL_OPENSHIFT_CLIENT_IDLE_TIMEOUT.intValue(300)));
+    }
+
+    private void start(long capacity, long idleMillis) {
+        this.idleMillis = idleMillis;
+        this.clients = Cache2kBuilder.of(String.class, OpenShiftClient.class)
+                .entryCapacity(capacity)
+                .sharpExpiry(true)
+                .expiryPolicy((key, client, loadTime, oldEntry) -> loadTime + idleMillis)
+                .addListener((CacheEntryExpiredListener<String, OpenShiftClient>) (cache, entry) -> expirations.incrementAndGet())
+                .build();
+        this.clusters = Cache2kBuilder.of(String.class, OkHttpClient.class)
+                .entryCapacity(MAX_CLUSTERS)
+                .eternal(true)
+                .build();
+    }
+
+    /**
+     * @return the pooled client of the given cluster and identity, created if none exists
+     */
+    OpenShiftClient getClient(OpenShiftServiceFactory.Parameters parameters) {
+        final String key = parameters.getCluster().getApiUrl() + ':' + parameters.getImpersonateUsername() + ':'
+                + Authorizations.fingerprint(parameters.getIdentity());
+        final boolean[] created = new boolean[1];
+        final OpenShiftClient client = clients.computeIfAbsent(key, () -> {
+            created[0] = true;
+            return createClient(parameters);
+        });
+        (created[0] ? misses : hits).incrementAndGet();
+        // Every use pushes the idle timeout back, never past the token expiry
+        clients.expireAt(key, Math.min(System.currentTimeMillis() + idleMillis, tokenExpiry(parameters.getIdentity())));
+        return client;
+    }
+
+    @Override
+    public int getSize() {
+        return clients.asMap().size();
+    }
+
+    @Override
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    @Override
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    @Override
+    public long getExpiredCount() {
+        return expirations.get();
+    }
+
+    @Override
+    public int getClusterCount() {
+        return clusters.asMap().size();
+    }
+
+    @Override
+    public int getConnectionCount() {
+        return sum(httpClient -> httpClient.connectionPool().connectionCount());
+    }
+
+    @Override
+    public int getIdleConnectionCount() {
+        return sum(httpClient -> httpClient.connectionPool().idleConnectionCount());
+    }
+
+    @Override
+    public int getRunningCallsCount() {
+        return sum(httpClient -> httpClient.dispatcher().runningCallsCount());
+    }
+
+    private OpenShiftClient createClient(OpenShiftServiceFactory.Parameters parameters) {
+        final Config config = Fabric8OpenShiftServiceImpl.createConfig(parameters);
+        final OkHttpClient clusterClient = clusters.computeIfAbsent(config.getMasterUrl(), () -> createClusterClient(config));
+        // The identity only lives in the interceptors and the authenticator, everything else is shared
+        final OkHttpClient identityClient = HttpClientUtils.createHttpClient(config);
+        final OkHttpClient.Builder builder = clusterClient.newBuilder();
+        builder.interceptors().clear();
+        builder.interceptors().addAll(identityClient.interceptors());
+        builder.authenticator(identityClient.authenticator());
+        return new DefaultOpenShiftClient(builder.build(), new OpenShiftConfig(config));
+    }
+
+    private static OkHttpClient createClusterClient(Config config) {
+        final OkHttpClient httpClient = HttpClientUtils.createHttpClient(new ConfigBuilder()
+                                                                                .withMasterUrl(config.getMasterUrl())
+                                                                                .withTrustCerts(config.isTrustCerts())
+                                                                                .build());
+        // All the calls of the cluster go to the same host, from many users
+        httpClient.dispatcher().setMaxRequestsPerHost(httpClient.dispatcher().getMaxRequests());
+        return httpClient;
+    }
+
+    private int sum(ToIntFunction<OkHttpClient> value) {
+        return clusters.asMap().values().stream().mapToInt(value).sum();
+    }
+
+    private static long tokenExpiry(Identity identity) {
+        if (identity instanceof TokenIdentity) {
+            return Authorizations.getExpirationTime(((TokenIdentity) identity).getToken())
+                    .map(Instant::toEpochMilli)
+                    .orElse(Long.MAX_VALUE);
+        }
+        return Long.MAX_VALUE;
+    }
+}
@@ -7,42 +7,98 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.security.Principal;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import io.fabric8.launcher.base.SingleFlight;
 import io.fabric8.launcher.base.YamlUtils;
 import io.fabric8.launcher.base.http.HttpClient;
+import io.fabric8.launcher.base.http.HttpUpstream;
 import io.fabric8.launcher.service.openshift.api.ImmutableOpenShiftCluster;
+import io.fabric8.launcher.service.openshift.api.ImmutableSubscribedClusters;
 import io.fabric8.launcher.service.openshift.api.OpenShiftCluster;
 import io.fabric8.launcher.service.openshift.api.OpenShiftClusterRegistry;
 import io.fabric8.launcher.service.openshift.api.OpenShiftEnvironment;
+import io.fabric8.launcher.service.openshift.api.SubscribedClusters;
 import okhttp3.Request;
+import org.cache2k.Cache;
+import org.cache2k.Cache2kBuilder;
 
 import static io.fabric8.launcher.base.http.Requests.securedRequest;
+import static io.fabric8.launcher.base.http.Upstream.SUBSCRIPTION;
 import static io.fabric8.launcher.base.identity.TokenIdentity.of;
+import static io.fabric8.launcher.service.openshift.api.OpenShiftEnvironment.LAUNCHER_MISSIONCONTROL_OPENSHIFT_CLUSTERS_SUBSCRIPTION_STALE_TTL;
+import static io.fabric8.launcher.service.openshift.api.OpenShiftEnvironment.LAUNCHER_MISSIONCONTROL_OPENSHIFT_CLUSTERS_SUBSCRIPTION_TIMEOUT;
+import static io.fabric8.launcher.service.openshift.api.OpenShiftEnvironment.LAUNCHER_MISSIONCONTROL_OPENSHIFT_CLUSTERS_SUBSCRIPTION_TTL;
 
 /**
+ * The subscriptions of each user are kept for LAUNCHER_MISSIONCONTROL_OPENSHIFT_CLUSTERS_SUBSCRIPTION_TTL seconds
+ * (5 minutes by default). Past that, they are served right away flagged as stale while a single lookup per user
+ * refreshes them in the background, for up to LAUNCHER_MISSIONCONTROL_OPENSHIFT_CLUSTERS_SUBSCRIPTION_STALE_TTL seconds
+ * (1 hour by default). Only the callers without any previous subscriptions wait for the lookup, up to
+ * LAUNCHER_MISSIONCONTROL_OPENSHIFT_CLUSTERS_SUBSCRIPTION_TIMEOUT milliseconds (2 seconds by default), then get all
+ * the clusters flagged as stale while the lookup completes in the background.
+ *
  * @author <a href="mailto:ggastald@redhat.com">George Gastaldi</a>
  */
 @Singleton
 public class OpenShiftClusterRegistryImpl implements OpenShiftClusterRegistry {
 
-    private final HttpClient httpClient;
+    private static final Logger log = Logger.getLogger(OpenShiftClusterRegistryImpl.class.getName());
 
     private static final String CLUSTER_SUBSCRIPTION_PATTERN = "https://manage.openshift.com/api/accounts/%s/subscriptions?authorization_username=rhdp-launch";
 
-    private static final String SUBSCRIPTION_TOKEN = OpenShiftEnvironment.LAUNCHER_MISSIONCONTROL_OPENSHIFT_CLUSTERS_SUBSCRIPTION_TOKEN.value();
+    private static final int MAX_SUBSCRIBERS = 10_000;
+
+    private final HttpClient httpClient;
+
+    private final String subscriptionToken;
+
+    private final long ttlMillis;
+
+    private final long timeoutMillis;
+
+    private final Cache<String, Subscriptions> subscriptions;
+
+    private final SingleFlight<String, Subscriptions> lookups = new SingleFlight<>();
+
+    /**
+     * Users share a few subscription sets (plan names), each resolved once to the clusters
+     */
+    private final ConcurrentMap<Set<String>, SubscribedClusters> clustersByPlans = new ConcurrentHashMap<>();
 
     @Inject
-    public OpenShiftClusterRegistryImpl(HttpClient httpClient) {
+    public OpenShiftClusterRegistryImpl(@HttpUpstream(SUBSCRIPTION) HttpClient httpClient) {
+        this(httpClient, OpenShiftEnvironment.LAUNCHER_MISSIONCONTROL_OPENSHIFT_CLUSTERS_SUBSCRIPTION_TOKEN.value(),
+             TimeUnit.SECONDS.toMillis(LAUNCHER_MISSIONCONTROL_OPENSHIFT_CLUSTERS_SUBSCRIPTION_TTL.intValue(300)),
+             TimeUnit.SECONDS.toMillis(LAUNCHER_MISSIONCONTROL_OPENSHIFT_CLUSTERS_SUBSCRIPTION_STALE_TTL.intValue(3600)),
+             LAUNCHER_MISSIONCONTROL_OPENSHIFT_CLUSTERS_SUBSCRIPTION_TIMEOUT.intValue(2000));
+    }
+
+    OpenShiftClusterRegistryImpl(HttpClient httpClient, String subscriptionToken, long ttlMillis, long staleTtlMillis, long timeoutMillis) {
         this.httpClient = httpClient;
+        this.subscriptionToken = subscriptionToken != null ? subscriptionToken.trim() : null;
+        this.ttlMillis = ttlMillis;
+        this.timeoutMillis = timeoutMillis;
+        this.subscriptions = Cache2kBuilder.of(String.class, Subscriptions.class)
+                .entryCapacity(MAX_SUBSCRIBERS)
+                .expireAfterWrite(staleTtlMillis, TimeUnit.MILLISECONDS)
+                .build();
         Set<OpenShiftCluster> clusters = new LinkedHashSet<>();
         String apiUrl = OpenShiftEnvironment.LAUNCHER_MISSIONCONTROL_OPENSHIFT_API_URL.value();
         String consoleUrl = OpenShiftEnvironment.LAUNCHER_MISSIONCONTROL_OPENSHIFT_CONSOLE_URL.value();
@@ -101,19 +157,77 @@ public class OpenShiftClusterRegistryImpl implements OpenShiftClusterRegistry {
 
     @Override
     public Set<OpenShiftCluster> getSubscribedClusters(Principal principal) {
-        if (SUBSCRIPTION_TOKEN == null || principal == null) {
+        return getSubscriptions(principal).getClusters();
+    }
+
+    @Override
+    public SubscribedClusters getSubscriptions(Principal principal) {
+        if (subscriptionToken == null || principal == null) {
             // Token does not exist or user is not authenticated, just return all clusters
-            return getClusters();
+            return ImmutableSubscribedClusters.of(getClusters(), false);
         }
-        String url = String.format(CLUSTER_SUBSCRIPTION_PATTERN, principal.getName());
-        Request request = securedRequest(of(SUBSCRIPTION_TOKEN.trim())).url(url).build();
-        return httpClient.executeAndParseJson(request, tree -> {
-            Set<OpenShiftCluster> clusterSet = new HashSet<>();
-            for (JsonNode subscription : tree.get("subscriptions")) {
-                String clusterId = subscription.get("plan").get("name").asText();
-                findClusterById(clusterId).ifPresent(clusterSet::add);
+        final String user = principal.getName();
+        final Subscriptions previous = subscriptions.peek(user);
+        if (previous != null) {
+            if (System.currentTimeMillis() - previous.time < ttlMillis) {
+                return previous.clusters;
             }
-            return clusterSet;
-        }).orElseGet(this::getClusters);
+            // Served while refreshed in the background
+            lookup(user).whenComplete((result, error) -> {
+                if (error != null) {
+                    log.log(Level.FINE, "Could not refresh the subscriptions of " + user, error);
+                }
+            });
+            return ImmutableSubscribedClusters.copyOf(previous.clusters).withIsStale(true);
+        }
+        try {
+            return lookup(user).get(timeoutMillis, TimeUnit.MILLISECONDS).clusters;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            log.log(Level.FINE, "Could not look up the subscriptions of " + user, e);
+        }
+        return ImmutableSubscribedClusters.of(getClusters(), true);
+    }
+
+    private CompletableFuture<Subscriptions> lookup(String user) {
+        return lookups.call(user, () -> {
+            final Request request = securedRequest(of(subscriptionToken)).url(String.format(CLUSTER_SUBSCRIPTION_PATTERN, user)).build();
+            return httpClient.executeAndParseJsonAsync(request, tree -> {
+                Set<String> plans = new TreeSet<>();
+                for (JsonNode subscription : tree.path("subscriptions")) {
+                    plans.add(subscription.get("plan").get("name").asText());
+                }
+                return plans;
+            }).thenApply(plans -> {
+                if (!plans.isPresent()) {
+                    throw new IllegalStateException("No subscriptions returned for " + user);
+                }
+                Subscriptions result = new Subscriptions(clustersByPlans.computeIfAbsent(plans.get(), this::findClusters),
+                                                         System.currentTimeMillis());
+                subscriptions.put(user, result);
+                return result;
+            });
+        });
+    }
+
+    private SubscribedClusters findClusters(Set<String> plans) {
+        Set<OpenShiftCluster> clusterSet = new LinkedHashSet<>();
+        for (String plan : plans) {
+            findClusterById(plan).ifPresent(clusterSet::add);
+        }
+        return ImmutableSubscribedClusters.of(clusterSet, false);
+    }
+
+    private static final class Subscriptions {
+
+        final SubscribedClusters clusters;
+
+        final long time;
+
+        Subscriptions(SubscribedClusters clusters, long time) {
+            this.clusters = clusters;
+            this.time = time;
+        }
     }
-}
\ No newline at end of file
+}
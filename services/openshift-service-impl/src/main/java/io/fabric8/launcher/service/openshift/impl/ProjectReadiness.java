@@ -0,0 +1,164 @@
+package io.fabric8.launcher.service.openshift.impl;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.openshift.api.model.Project;
+
+/**
+ * Completes once a newly requested project can be used.
+ * <p>
+ * The project is watched and, in case the watch cannot be opened or closes before the project is active, looked up
+ * with a backoff going from 100 milliseconds to 3 seconds. No thread sleeps while waiting: the scheduler only keeps the
+ * time, the lookups run on their own threads so a slow API call does not hold up the other projects.
+ */
+final class ProjectReadiness {
+
+    private static final Logger log = Logger.getLogger(ProjectReadiness.class.getName());
+
+    private static final long INITIAL_DELAY_MILLIS = 100;
+
+    private static final long MAX_DELAY_MILLIS = 3000;
+
+    private static final String ACTIVE = "Active";
+
+    private static final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(daemon("project-readiness"));
+
+    private static final ExecutorService lookups = Executors.newCachedThreadPool(daemon("project-lookup"));
+
+    private ProjectReadiness() {
+        throw new IllegalAccessError("Utility class");
+    }
+
+    /**
+     * @param name          the project name
+     * @param watch         opens a watch on the project
+     * @param exists        looks the project up
+     * @param timeoutMillis the time the project has to become ready
+     * @return a future completed when the project is ready, or with an {@link IllegalStateException} after the timeout
+     */
+    static CompletableFuture<Void> await(String name, Function<Watcher<Project>, Watch> watch, BooleanSupplier exists, long timeoutMillis) {
+        final CompletableFuture<Void> ready = new CompletableFuture<>();
+        final ScheduledFuture<?> deadline = scheduler.schedule(
+                () -> ready.completeExceptionally(new IllegalStateException("Newly-created project " + name + " could not be found ")),
+                timeoutMillis, TimeUnit.MILLISECONDS);
+        final Lookup lookup = new Lookup(name, exists, ready);
+        final Watch projectWatch = openWatch(name, watch, ready, lookup);
+        if (projectWatch == null) {
+            lookup.start();
+        }
+        ready.whenComplete((result, error) -> {
+            deadline.cancel(false);
+            if (projectWatch != null) {
+                projectWatch.close();
+            }
+        });
+        return ready;
+    }
+
+    private static Watch openWatch(String name, Function<Watcher<Project>, Watch> watch, CompletableFuture<Void> ready, Lookup lookup) {
+        try {
+            return watch.apply(new Watcher<Project>() {
+                @Override
+                public void eventReceived(Action action, Project project) {
+                    if (action != Action.DELETED && project.getStatus() != null && ACTIVE.equals(project.getStatus().getPhase())) {
+                        ready.complete(null);
+                    }
+                }
+
+                @Override
+                public void onClose(KubernetesClientException cause) {
+                    // A watch closed without an error before the project is active does not report it either
+                    if (!ready.isDone()) {
+                        log.log(Level.FINE, "Watch of project " + name + " closed, looking it up instead", cause);
+                        lookup.start();
+                    }
+                }
+            });
+        } catch (KubernetesClientException e) {
+            log.log(Level.FINE, "Could not watch project " + name + ", looking it up instead", e);
+            return null;
+        }
+    }
+
+    private static ThreadFactory daemon(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Looks the project up until it is found
+     */
+    private static final class Lookup implements Runnable {
+
+        private final String name;
+
+        private final BooleanSupplier exists;
+
+        private final CompletableFuture<Void> ready;
+
+        private final AtomicBoolean started = new AtomicBoolean();
+
+        private final AtomicInteger attempts = new AtomicInteger();
+
+        Lookup(String name, BooleanSupplier exists, CompletableFuture<Void> ready) {
+            this.name = name;
+            this.exists = exists;
+            this.ready = ready;
+        }
+
+        void start() {
+            if (started.compareAndSet(false, true)) {
+                schedule(INITIAL_DELAY_MILLIS);
+            }
+        }
+
+        @Override
+        public void run() {
+            if (ready.isDone()) {
+                return;
+            }
+            if (exists()) {
+                ready.complete(null);
+            } else {
+                long delay = Math.min(MAX_DELAY_MILLIS, INITIAL_DELAY_MILLIS << Math.min(attempts.incrementAndGet(), 5));
+                log.log(Level.FINEST, "Could not find project {0} after creating; trying again in {1} ms", new Object[]{name, delay});
+                schedule(delay);
+            }
+        }
+
+        private void schedule(long delay) {
+            scheduler.schedule(() -> {
+                if (!ready.isDone()) {
+                    lookups.execute(this);
+                }
+            }, delay, TimeUnit.MILLISECONDS);
+        }
+
+        private boolean exists() {
+            try {
+                return exists.getAsBoolean();
+            } catch (RuntimeException e) {
+                log.log(Level.FINE, "Error while looking up project " + name, e);
+                return false;
+            }
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package io.fabric8.launcher.service.openshift.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.launcher.base.ConcurrencySupport;
+
+import static io.fabric8.launcher.base.ConcurrencySupport.MAX_CONCURRENT_CALLS;
+import static io.fabric8.launcher.base.ConcurrencySupport.applyInLanes;
+
+/**
+ * Applies the resources of one or more processed templates in dependency order.
+ * <p>
+ * ImageStreams and the other standalone resources come first, then BuildConfigs, DeploymentConfigs, Services and
+ * Routes. The resources of the same rank do not depend on each other and are applied at most
+ * {@link ConcurrencySupport#MAX_CONCURRENT_CALLS} at a time.
+ */
+final class ResourceBatch {
+
+    private static final List<String> ORDERED_KINDS = Arrays.asList("BuildConfig", "DeploymentConfig", "Service", "Route");
+
+    private ResourceBatch() {
+        throw new IllegalAccessError("Utility class");
+    }
+
+    /**
+     * @param item a resource
+     * @return the rank of the resource, lower ranks are applied first
+     */
+    static int rank(HasMetadata item) {
+        return ORDERED_KINDS.indexOf(item.getKind()) + 1;
+    }
+
+    /**
+     * Applies the given resources, waiting for a rank to be applied before starting the next one.
+     *
+     * @param items    the resources to apply
+     * @param apply    applies a resource
+     * @param executor the {@link Executor} running the calls
+     * @return the results of the given resources, in the same order
+     */
+    @SuppressWarnings("unchecked")
+    static <T> List<T> apply(List<? extends HasMetadata> items, Function<HasMetadata, T> apply, Executor executor) {
+        final TreeMap<Integer, List<Integer>> ranks = new TreeMap<>();
+        for (int i = 0; i < items.size(); i++) {
+            ranks.computeIfAbsent(rank(items.get(i)), rank -> new ArrayList<>()).add(i);
+        }
+        final Object[] results = new Object[items.size()];
+        for (List<Integer> rank : ranks.values()) {
+            applyInLanes(rank, MAX_CONCURRENT_CALLS, index -> results[index] = apply.apply(items.get(index)), executor);
+        }
+        final List<T> result = new ArrayList<>(results.length);
+        for (Object r : results) {
+            result.add((T) r);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,300 @@
+package io.fabric8.launcher.service.openshift.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.KubernetesResource;
+import io.fabric8.kubernetes.client.utils.Serialization;
+
+/**
+ * Processes OpenShift templates locally, the way the processedtemplates endpoint of the cluster does.
+ * <ul>
+ * <li>The given values replace the values of the parameters declared in the template</li>
+ * <li>Parameters without a value and a {@code generate: expression} get a value generated from their {@code from}
+ * expression (eg. {@code [a-zA-Z0-9]{40}})</li>
+ * <li>Required parameters must end up with a value</li>
+ * <li>{@code ${PARAM}} is replaced in every string of the objects and the labels of the template. A string made of
+ * nothing but {@code ${{PARAM}}} is replaced by the JSON value of the parameter, so {@code "${{REPLICAS}}"} becomes
+ * a number</li>
+ * <li>Hardcoded namespaces are stripped from the objects and the labels of the template are added to them</li>
+ * </ul>
+ */
+final class TemplateProcessor {
+
+    private static final Pattern STRING_PARAMETER = Pattern.compile("\\$\\{([a-zA-Z0-9_]+?)\\}");
+
+    private static final Pattern NON_STRING_PARAMETER = Pattern.compile("^\\$\\{\\{([a-zA-Z0-9_]+)\\}\\}$");
+
+    private static final Pattern GENERATOR = Pattern.compile("\\[([a-zA-Z0-9\\-\\\\]+)\\](\\{(\\w+)\\})");
+
+    private static final Pattern RANGE = Pattern.compile("\\\\[wdaA]|[a-zA-Z0-9]-[a-zA-Z0-9]|[a-zA-Z0-9]");
+
+    private static final String ALPHABET = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ";
+
+    private static final String NUMERALS = "0123456789";
+
+    private static final String SYMBOLS = "~!@#$%^&*()-_+={}[]\\|<,>.?/\"';:`";
+
+    private static final int MAX_GENERATED_LENGTH = 255;
+
+    private static final Random random = new SecureRandom();
+
+    private static final ConcurrentMap<String, ObjectNode> classpathTemplates = new ConcurrentHashMap<>();
+
+    private TemplateProcessor() {
+        throw new IllegalAccessError("Utility class");
+    }
+
+    /**
+     * @param templateStream a template in YAML or JSON, closed once read
+     * @return the parsed template
+     */
+    static ObjectNode parse(InputStream templateStream) throws IOException {
+        try (InputStream in = templateStream) {
+            JsonNode template = Serialization.yamlMapper().readTree(in);
+            if (template == null || !template.isObject()) {
+                throw new IllegalArgumentException("Template is not an object");
+            }
+            return (ObjectNode) template;
+        }
+    }
+
+    /**
+     * The templates shipped with the launcher are parsed once
+     *
+     * @param resource the absolute name of the template in the classpath
+     * @return the parsed template, which must not be modified
+     */
+    static ObjectNode fromClasspath(String resource) {
+        return classpathTemplates.computeIfAbsent(resource, name -> {
+            InputStream in = TemplateProcessor.class.getResourceAsStream(name);
+            if (in == null) {
+                throw new IllegalArgumentException("Template " + name + " not found in the classpath");
+            }
+            try {
+                return parse(in);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not read template " + name, e);
+            }
+        });
+    }
+
+    /**
+     * @param template the parsed template, left untouched
+     * @param values   the values of the parameters, the ones not declared in the template are ignored
+     * @return the objects of the template with the parameters substituted
+     * @throws IllegalArgumentException if a parameter cannot get a value
+     */
+    static List<HasMetadata> process(ObjectNode template, Map<String, String> values) {
+        final Map<String, String> parameters = parameterValues(template, values);
+        final Map<String, String> labels = new LinkedHashMap<>();
+        template.path("labels").fields().forEachRemaining(
+                label -> labels.put(substitute(label.getKey(), parameters), substitute(label.getValue().asText(), parameters)));
+        final List<HasMetadata> items = new ArrayList<>();
+        for (JsonNode object : template.path("objects")) {
+            ObjectNode item = object.deepCopy();
+            stripNamespace(item);
+            JsonNode processed = substitute(item, parameters);
+            addLabels((ObjectNode) processed, labels);
+            try {
+                items.add((HasMetadata) Serialization.jsonMapper().treeToValue(processed, KubernetesResource.class));
+            } catch (JsonProcessingException e) {
+                throw new IllegalArgumentException("Invalid object in template: " + e.getMessage(), e);
+            }
+        }
+        return items;
+    }
+
+    /**
+     * Generates a value from an expression like {@code [a-zA-Z0-9]{40}}, {@code [\w]{8}} or {@code x-[\d]{4}}.
+     * <p>
+     * {@code \w} stands for letters, digits and underscore, {@code \d} for digits, {@code \a} for letters and
+     * digits and {@code \A} for symbols.
+     */
+    static String generate(String expression) {
+        final Matcher matcher = GENERATOR.matcher(expression);
+        final StringBuffer result = new StringBuffer();
+        while (matcher.find()) {
+            final int length;
+            try {
+                length = Integer.parseInt(matcher.group(3));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Malformed length in expression " + expression);
+            }
+            if (length <= 0 || length > MAX_GENERATED_LENGTH) {
+                throw new IllegalArgumentException("Range must be within [1-" + MAX_GENERATED_LENGTH + "] characters: " + expression);
+            }
+            final String chars = characters(matcher.group(1));
+            final StringBuilder generated = new StringBuilder(length);
+            for (int i = 0; i < length; i++) {
+                generated.append(chars.charAt(random.nextInt(chars.length())));
+            }
+            matcher.appendReplacement(result, Matcher.quoteReplacement(generated.toString()));
+        }
+        matcher.appendTail(result);
+        return result.toString();
+    }
+
+    private static Map<String, String> parameterValues(ObjectNode template, Map<String, String> values) {
+        final Map<String, String> parameters = new HashMap<>();
+        final List<String> missing = new ArrayList<>();
+        int index = 0;
+        for (JsonNode parameter : template.path("parameters")) {
+            final String name = parameter.path("name").asText();
+            String value = values.containsKey(name) ? values.get(name) : parameter.path("value").asText("");
+            if (value == null || value.isEmpty()) {
+                value = "";
+                String generate = parameter.path("generate").asText("");
+                if (!generate.isEmpty()) {
+                    if (!"expression".equals(generate)) {
+                        throw new IllegalArgumentException("template.parameters[" + index + "]: Unknown generator name '" + generate + "' for parameter " + name);
+                    }
+                    String from = parameter.path("from").asText("");
+                    if (from.isEmpty()) {
+                        throw new IllegalArgumentException("template.parameters[" + index + "]: from must be specified to generate a value for parameter " + name);
+                    }
+                    value = generate(from);
+                }
+            }
+            if (value.isEmpty() && parameter.path("required").asBoolean(false)) {
+                missing.add("template.parameters[" + index + "]: parameter " + name + " is required and must be specified");
+            }
+            parameters.put(name, value);
+            index++;
+        }
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException(String.join(", ", missing));
+        }
+        return parameters;
+    }
+
+    private static JsonNode substitute(JsonNode node, Map<String, String> parameters) {
+        if (node.isTextual()) {
+            final String text = node.asText();
+            final Matcher nonString = NON_STRING_PARAMETER.matcher(text);
+            if (nonString.matches() && parameters.containsKey(nonString.group(1))) {
+                String value = parameters.get(nonString.group(1));
+                try {
+                    JsonNode json = Serialization.jsonMapper().readTree(value);
+                    if (json != null && !json.isMissingNode()) {
+                        return json;
+                    }
+                } catch (IOException e) {
+                    // Not a JSON value, kept as a string
+                }
+                return TextNode.valueOf(value);
+            }
+            return TextNode.valueOf(substitute(text, parameters));
+        } else if (node.isArray()) {
+            final ArrayNode array = (ArrayNode) node;
+            for (int i = 0; i < array.size(); i++) {
+                array.set(i, substitute(array.get(i), parameters));
+            }
+        } else if (node.isObject()) {
+            final ObjectNode object = (ObjectNode) node;
+            final Map<String, JsonNode> fields = new LinkedHashMap<>();
+            object.fields().forEachRemaining(field -> fields.put(substitute(field.getKey(), parameters),
+                                                                 substitute(field.getValue(), parameters)));
+            object.removeAll();
+            object.setAll(fields);
+        }
+        return node;
+    }
+
+    private static String substitute(String text, Map<String, String> parameters) {
+        final Matcher matcher = STRING_PARAMETER.matcher(text);
+        final StringBuffer result = new StringBuffer();
+        while (matcher.find()) {
+            String value = parameters.get(matcher.group(1));
+            matcher.appendReplacement(result, Matcher.quoteReplacement(value != null ? value : matcher.group()));
+        }
+        matcher.appendTail(result);
+        return result.toString();
+    }
+
+    /**
+     * Namespaces referencing a parameter are kept, the object is created in the namespace it resolves to
+     */
+    private static void stripNamespace(ObjectNode item) {
+        JsonNode metadata = item.path("metadata");
+        if (metadata.isObject() && metadata.has("namespace") && !metadata.path("namespace").asText().contains("${")) {
+            ((ObjectNode) metadata).remove("namespace");
+        }
+    }
+
+    private static void addLabels(ObjectNode item, Map<String, String> labels) {
+        if (labels.isEmpty()) {
+            return;
+        }
+        ObjectNode metadata = item.with("metadata");
+        ObjectNode itemLabels = metadata.with("labels");
+        for (Map.Entry<String, String> label : labels.entrySet()) {
+            JsonNode existing = itemLabels.get(label.getKey());
+            if (existing != null && !existing.asText().equals(label.getValue())) {
+                throw new IllegalArgumentException("Label " + label.getKey() + " of " + item.path("kind").asText() + " "
+                                                           + metadata.path("name").asText() + " conflicts with the template labels");
+            }
+            itemLabels.put(label.getKey(), label.getValue());
+        }
+    }
+
+    private static String characters(String ranges) {
+        final Set<Character> chars = new LinkedHashSet<>();
+        final Matcher matcher = RANGE.matcher(ranges);
+        while (matcher.find()) {
+            String range = matcher.group();
+            switch (range) {
+                case "\\w":
+                    addAll(chars, ALPHABET + NUMERALS + "_");
+                    break;
+                case "\\d":
+                    addAll(chars, NUMERALS);
+                    break;
+                case "\\a":
+                    addAll(chars, ALPHABET + NUMERALS);
+                    break;
+                case "\\A":
+                    addAll(chars, SYMBOLS);
+                    break;
+                default:
+                    char first = range.charAt(0);
+                    char last = range.charAt(range.length() - 1);
+                    if (first > last) {
+                        throw new IllegalArgumentException("Invalid range specified: " + range);
+                    }
+                    for (char c = first; c <= last; c++) {
+                        chars.add(c);
+                    }
+            }
+        }
+        final StringBuilder sb = new StringBuilder(chars.size());
+        chars.forEach(sb::append);
+        return sb.toString();
+    }
+
+    private static void addAll(Set<Character> chars, String string) {
+        for (char c : string.toCharArray()) {
+            chars.add(c);
+        }
+    }
+}
@@ -1,7 +1,29 @@
 package io.fabric8.launcher.service.openshift.impl;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
 import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.fabric8.kubernetes.client.ConfigBuilder;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import io.fabric8.launcher.base.identity.TokenIdentity;
+import io.fabric8.launcher.service.openshift.api.ImmutableOpenShiftCluster;
+import io.fabric8.launcher.service.openshift.api.ImmutableOpenShiftTemplate;
+import io.fabric8.launcher.service.openshift.api.ImmutableParameters;
+import io.fabric8.openshift.client.DefaultOpenShiftClient;
 import org.junit.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -34,4 +56,75 @@ public class Fabric8OpenShiftServiceImplTest {
         URI uri = URI.create("https://github.com");
         assertThat(Fabric8OpenShiftServiceImpl.getRepositoryName(uri)).isEmpty();
     }
-}
\ No newline at end of file
+
+    @Test
+    public void should_resolve_the_routes_created_by_a_previous_phase() throws Exception {
+        List<JsonNode> created = new ArrayList<>();
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> handle(exchange, created));
+        server.start();
+        try {
+            String apiUrl = "http://localhost:" + server.getAddress().getPort();
+            Fabric8OpenShiftServiceImpl service = new Fabric8OpenShiftServiceImpl(
+                    ImmutableParameters.builder()
+                            .cluster(ImmutableOpenShiftCluster.builder().id("local").apiUrl(apiUrl).build())
+                            .identity(TokenIdentity.of("token"))
+                            .build(),
+                    new DefaultOpenShiftClient(new ConfigBuilder().withMasterUrl(apiUrl).withOauthToken("token").build()));
+
+            // The template referring to the route comes first, its phase comes last
+            service.configureProject(new OpenShiftProjectImpl("my-project", null),
+                                     Arrays.asList(ImmutableOpenShiftTemplate.builder().path(template("route-host-template.yaml")).phase(1).build(),
+                                                   ImmutableOpenShiftTemplate.builder().path(template("route-template.yaml")).phase(0).build()),
+                                     "GitHub", null, Runnable::run);
+        } finally {
+            server.stop(0);
+        }
+
+        assertThat(created).extracting(item -> item.path("kind").asText()).containsExactly("Route", "ConfigMap");
+        assertThat(created.get(1).path("data").path("host").asText()).isEqualTo("my-app.apps.example.com");
+    }
+
+    private Path template(String name) throws URISyntaxException {
+        return Paths.get(getClass().getResource("/templates/" + name).toURI());
+    }
+
+    /**
+     * Creates the posted objects, the routes getting a host, and lists the routes created
+     */
+    private static void handle(HttpExchange exchange, List<JsonNode> created) throws IOException {
+        final String method = exchange.getRequestMethod();
+        final String path = exchange.getRequestURI().getPath();
+        JsonNode response;
+        int status = 200;
+        synchronized (created) {
+            if ("POST".equals(method)) {
+                ObjectNode item = (ObjectNode) Serialization.jsonMapper().readTree(exchange.getRequestBody());
+                if ("Route".equals(item.path("kind").asText())) {
+                    ((ObjectNode) item.path("spec")).put("host", item.path("metadata").path("name").asText() + ".apps.example.com");
+                }
+                created.add(item);
+                response = item;
+                status = 201;
+            } else if ("GET".equals(method) && path.endsWith("/routes")) {
+                ObjectNode list = Serialization.jsonMapper().createObjectNode()
+                        .put("apiVersion", "v1")
+                        .put("kind", "RouteList");
+                ArrayNode items = list.putArray("items");
+                created.stream().filter(item -> "Route".equals(item.path("kind").asText())).forEach(items::add);
+                response = list;
+            } else {
+                response = Serialization.jsonMapper().createObjectNode()
+                        .put("kind", "Status")
+                        .put("code", 404);
+                status = 404;
+            }
+        }
+        byte[] body = Serialization.jsonMapper().writeValueAsString(response).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package io.fabric8.launcher.service.openshift.impl;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import io.fabric8.launcher.base.identity.TokenIdentity;
+import io.fabric8.launcher.service.openshift.api.ImmutableOpenShiftCluster;
+import io.fabric8.launcher.service.openshift.api.ImmutableParameters;
+import io.fabric8.launcher.service.openshift.api.OpenShiftServiceFactory;
+import io.fabric8.openshift.client.DefaultOpenShiftClient;
+import io.fabric8.openshift.client.OpenShiftClient;
+import okhttp3.OkHttpClient;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class OpenShiftClientPoolTest {
+
+    private final OpenShiftClientPool pool = new OpenShiftClientPool(100, 60_000);
+
+    @Test
+    public void should_reuse_the_client_of_a_cluster_and_identity() {
+        OpenShiftClient client = pool.getClient(parameters("https://api.starter-us-east-2.openshift.com", "token"));
+
+        assertThat(pool.getClient(parameters("https://api.starter-us-east-2.openshift.com", "token"))).isSameAs(client);
+        assertThat(pool.getSize()).isEqualTo(1);
+        assertThat(pool.getHitCount()).isEqualTo(1);
+        assertThat(pool.getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void should_share_the_connection_pool_of_a_cluster() {
+        OkHttpClient joe = httpClient(pool.getClient(parameters("https://api.starter-us-east-2.openshift.com", "joe")));
+        OkHttpClient jane = httpClient(pool.getClient(parameters("https://api.starter-us-east-2.openshift.com", "jane")));
+        OkHttpClient other = httpClient(pool.getClient(parameters("https://api.pro-us-east-1.openshift.com", "joe")));
+
+        assertThat(jane).isNotSameAs(joe);
+        assertThat(jane.connectionPool()).isSameAs(joe.connectionPool());
+        assertThat(jane.dispatcher()).isSameAs(joe.dispatcher());
+        assertThat(jane.sslSocketFactory()).isSameAs(joe.sslSocketFactory());
+        assertThat(other.connectionPool()).isNotSameAs(joe.connectionPool());
+        assertThat(pool.getSize()).isEqualTo(3);
+        assertThat(pool.getClusterCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void should_not_keep_the_clients_of_expired_tokens() {
+        String payload = Base64.getUrlEncoder().encodeToString("{\"exp\":1500000000}".getBytes(StandardCharsets.UTF_8));
+        String expiredToken = "eyJhbGciOiJub25lIn0." + payload + ".signature";
+
+        pool.getClient(parameters("https://api.starter-us-east-2.openshift.com", expiredToken));
+
+        assertThat(pool.getSize()).isZero();
+    }
+
+    @Test
+    public void should_drop_the_idle_clients() throws Exception {
+        OpenShiftClientPool idlePool = new OpenShiftClientPool(100, 50);
+        OpenShiftClient client = idlePool.getClient(parameters("https://api.starter-us-east-2.openshift.com", "token"));
+
+        Thread.sleep(200);
+
+        assertThat(idlePool.getSize()).isZero();
+        assertThat(idlePool.getClient(parameters("https://api.starter-us-east-2.openshift.com", "token"))).isNotSameAs(client);
+    }
+
+    private static OpenShiftServiceFactory.Parameters parameters(String apiUrl, String token) {
+        return ImmutableParameters.builder()
+                .cluster(ImmutableOpenShiftCluster.builder().id("cluster").apiUrl(apiUrl).build())
+                .identity(TokenIdentity.of(token))
+                .build();
+    }
+
+    private static OkHttpClient httpClient(OpenShiftClient client) {
+        return ((DefaultOpenShiftClient) client).getHttpClient();
+    }
+}
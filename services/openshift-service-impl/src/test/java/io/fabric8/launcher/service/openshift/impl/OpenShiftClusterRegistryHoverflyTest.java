@@ -0,0 +1,98 @@
+package io.fabric8.launcher.service.openshift.impl;
+
+import java.io.File;
+import java.security.Principal;
+import java.util.Set;
+
+import io.fabric8.launcher.base.http.HttpClient;
+import io.fabric8.launcher.base.test.hoverfly.LauncherPerTestHoverflyRule;
+import io.fabric8.launcher.service.openshift.api.OpenShiftCluster;
+import io.fabric8.launcher.service.openshift.api.SubscribedClusters;
+import io.specto.hoverfly.junit.rule.HoverflyRule;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.RuleChain;
+
+import static io.fabric8.launcher.base.test.hoverfly.LauncherHoverflyEnvironment.createDefaultHoverflyEnvironment;
+import static io.fabric8.launcher.base.test.hoverfly.LauncherHoverflyRuleConfigurer.createMultiTestHoverflyProxy;
+import static io.fabric8.launcher.service.openshift.api.OpenShiftEnvironment.LAUNCHER_MISSIONCONTROL_OPENSHIFT_CLUSTERS_FILE;
+import static io.specto.hoverfly.junit.core.SimulationSource.defaultPath;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The simulations are written after the subscription lookup API, they cannot be captured without a subscription token
+ */
+public class OpenShiftClusterRegistryHoverflyTest {
+
+    private static final HoverflyRule HOVERFLY_RULE = createMultiTestHoverflyProxy("manage.openshift.com");
+
+    @ClassRule
+    public static final RuleChain RULE_CHAIN = RuleChain
+            .outerRule(createDefaultHoverflyEnvironment(HOVERFLY_RULE)
+                               .and(LAUNCHER_MISSIONCONTROL_OPENSHIFT_CLUSTERS_FILE.propertyKey(),
+                                    new File("src/test/resources/openshift-clusters.yaml").getAbsolutePath()))
+            .around(HOVERFLY_RULE);
+
+    @Rule
+    public LauncherPerTestHoverflyRule hoverflyPerTestRule = new LauncherPerTestHoverflyRule(HOVERFLY_RULE);
+
+    @Test
+    public void should_return_the_subscribed_clusters() {
+        OpenShiftClusterRegistryImpl registry = registry(60_000, 5_000);
+
+        SubscribedClusters subscriptions = registry.getSubscriptions(user("joe"));
+
+        assertThat(subscriptions.isStale()).isFalse();
+        assertThat(subscriptions.getClusters()).extracting(OpenShiftCluster::getId).containsExactly("openshift-online-int");
+    }
+
+    @Test
+    public void should_keep_the_subscriptions_of_a_user() {
+        OpenShiftClusterRegistryImpl registry = registry(60_000, 5_000);
+        Set<OpenShiftCluster> clusters = registry.getSubscribedClusters(user("joe"));
+
+        HOVERFLY_RULE.simulate(defaultPath("openshiftclusterregistryhoverflytest/unavailable.json"));
+
+        assertThat(registry.getSubscriptions(user("joe")).isStale()).isFalse();
+        assertThat(registry.getSubscribedClusters(user("joe"))).isEqualTo(clusters);
+    }
+
+    @Test
+    public void should_share_the_clusters_of_the_same_subscriptions() {
+        OpenShiftClusterRegistryImpl registry = registry(60_000, 5_000);
+
+        assertThat(registry.getSubscribedClusters(user("jane"))).isSameAs(registry.getSubscribedClusters(user("joe")));
+    }
+
+    @Test
+    public void should_serve_the_previous_subscriptions_when_the_lookup_fails() {
+        OpenShiftClusterRegistryImpl registry = registry(0, 5_000);
+        Set<OpenShiftCluster> clusters = registry.getSubscribedClusters(user("joe"));
+
+        HOVERFLY_RULE.simulate(defaultPath("openshiftclusterregistryhoverflytest/unavailable.json"));
+        SubscribedClusters subscriptions = registry.getSubscriptions(user("joe"));
+
+        assertThat(subscriptions.isStale()).isTrue();
+        assertThat(subscriptions.getClusters()).isEqualTo(clusters);
+    }
+
+    @Test
+    public void should_serve_all_the_clusters_when_the_lookup_is_slow() {
+        HOVERFLY_RULE.simulate(defaultPath("openshiftclusterregistryhoverflytest/slow.json"));
+        OpenShiftClusterRegistryImpl registry = registry(60_000, 200);
+
+        SubscribedClusters subscriptions = registry.getSubscriptions(user("joe"));
+
+        assertThat(subscriptions.isStale()).isTrue();
+        assertThat(subscriptions.getClusters()).isEqualTo(registry.getClusters());
+    }
+
+    private static OpenShiftClusterRegistryImpl registry(long ttlMillis, long timeoutMillis) {
+        return new OpenShiftClusterRegistryImpl(HttpClient.create(), "subscription-token", ttlMillis, 600_000, timeoutMillis);
+    }
+
+    private static Principal user(String name) {
+        return () -> name;
+    }
+}
@@ -43,7 +43,7 @@ public class OpenShiftServiceIT {
 
     @Before
     public void setUp() {
-        this.openShiftServiceFactory = new Fabric8OpenShiftServiceFactory(new OpenShiftClusterRegistryImpl());
+        this.openShiftServiceFactory = new Fabric8OpenShiftServiceFactory(new OpenShiftClusterRegistryImpl(), new OpenShiftClientPool(1000, 300_000));
         this.openShiftService = openShiftServiceFactory.create();
     }
 
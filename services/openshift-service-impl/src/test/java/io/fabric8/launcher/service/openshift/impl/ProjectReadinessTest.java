@@ -0,0 +1,124 @@
+package io.fabric8.launcher.service.openshift.impl;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.openshift.api.model.Project;
+import io.fabric8.openshift.api.model.ProjectBuilder;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public class ProjectReadinessTest {
+
+    @Test
+    public void should_complete_when_the_watch_reports_an_active_project() throws Exception {
+        Watch watch = mock(Watch.class);
+        CompletableFuture<Void> ready = ProjectReadiness.await("my-project", watcher -> {
+            watcher.eventReceived(Watcher.Action.ADDED, project("Active"));
+            return watch;
+        }, () -> false, 10_000);
+
+        ready.get(1, TimeUnit.SECONDS);
+        verify(watch).close();
+    }
+
+    @Test
+    public void should_look_the_project_up_when_the_watch_is_not_allowed() throws Exception {
+        AtomicInteger lookups = new AtomicInteger();
+        long start = System.currentTimeMillis();
+        CompletableFuture<Void> ready = ProjectReadiness.await("my-project", watcher -> {
+            throw new KubernetesClientException("Forbidden");
+        }, () -> lookups.incrementAndGet() == 3, 10_000);
+
+        ready.get(5, TimeUnit.SECONDS);
+        assertThat(lookups.get()).isEqualTo(3);
+        // 100 + 200 + 400 ms
+        assertThat(System.currentTimeMillis() - start).isLessThan(2000);
+    }
+
+    @Test
+    public void should_fail_after_the_deadline() {
+        CompletableFuture<Void> ready = ProjectReadiness.await("my-project", watcher -> {
+            watcher.eventReceived(Watcher.Action.ADDED, project("Terminating"));
+            return mock(Watch.class);
+        }, () -> false, 300);
+
+        assertThatThrownBy(() -> ready.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("could not be found");
+    }
+
+    @Test
+    public void should_not_look_the_project_up_while_the_watch_is_open() {
+        AtomicInteger lookups = new AtomicInteger();
+        CompletableFuture<Void> ready = ProjectReadiness.await("my-project", watcher -> mock(Watch.class), () -> {
+            lookups.incrementAndGet();
+            return true;
+        }, 500);
+
+        assertThatThrownBy(() -> ready.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(lookups.get()).isZero();
+    }
+
+    @Test
+    public void should_look_the_project_up_when_the_watch_closes_with_an_error() throws Exception {
+        AtomicReference<Watcher<Project>> projectWatcher = new AtomicReference<>();
+        CompletableFuture<Void> ready = ProjectReadiness.await("my-project", watcher -> {
+            projectWatcher.set(watcher);
+            return mock(Watch.class);
+        }, () -> true, 10_000);
+
+        assertThat(ready).isNotDone();
+        projectWatcher.get().onClose(new KubernetesClientException("Connection reset"));
+        ready.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void should_look_the_project_up_when_the_watch_closes_normally() throws Exception {
+        AtomicReference<Watcher<Project>> projectWatcher = new AtomicReference<>();
+        CompletableFuture<Void> ready = ProjectReadiness.await("my-project", watcher -> {
+            projectWatcher.set(watcher);
+            return mock(Watch.class);
+        }, () -> true, 10_000);
+
+        assertThat(ready).isNotDone();
+        projectWatcher.get().onClose(null);
+        ready.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void should_fail_after_the_deadline_while_a_lookup_hangs() {
+        long start = System.currentTimeMillis();
+        CompletableFuture<Void> ready = ProjectReadiness.await("my-project", watcher -> {
+            throw new KubernetesClientException("Forbidden");
+        }, () -> {
+            try {
+                Thread.sleep(5000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return true;
+        }, 300);
+
+        assertThatThrownBy(() -> ready.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(System.currentTimeMillis() - start).isLessThan(2000);
+    }
+
+    private static Project project(String phase) {
+        return new ProjectBuilder()
+                .withNewMetadata().withName("my-project").endMetadata()
+                .withNewStatus().withPhase(phase).endStatus()
+                .build();
+    }
+}
@@ -0,0 +1,101 @@
+package io.fabric8.launcher.service.openshift.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.ServiceBuilder;
+import io.fabric8.openshift.api.model.BuildConfigBuilder;
+import io.fabric8.openshift.api.model.DeploymentConfigBuilder;
+import io.fabric8.openshift.api.model.ImageStreamBuilder;
+import io.fabric8.openshift.api.model.RouteBuilder;
+import org.junit.After;
+import org.junit.Test;
+
+import static io.fabric8.launcher.base.ConcurrencySupport.MAX_CONCURRENT_CALLS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ResourceBatchTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void should_apply_the_resources_in_dependency_order() {
+        // Two applications, as the S2I templates of a multi-app projectile yield them
+        List<HasMetadata> items = Arrays.asList(
+                new RouteBuilder().withNewMetadata().withName("front").endMetadata().build(),
+                new ServiceBuilder().withNewMetadata().withName("front").endMetadata().build(),
+                new DeploymentConfigBuilder().withNewMetadata().withName("front").endMetadata().build(),
+                new BuildConfigBuilder().withNewMetadata().withName("front").endMetadata().build(),
+                new ImageStreamBuilder().withNewMetadata().withName("front").endMetadata().build(),
+                new RouteBuilder().withNewMetadata().withName("back").endMetadata().build(),
+                new ServiceBuilder().withNewMetadata().withName("back").endMetadata().build(),
+                new DeploymentConfigBuilder().withNewMetadata().withName("back").endMetadata().build(),
+                new BuildConfigBuilder().withNewMetadata().withName("back").endMetadata().build(),
+                new ImageStreamBuilder().withNewMetadata().withName("back").endMetadata().build(),
+                new ConfigMapBuilder().withNewMetadata().withName("settings").endMetadata().build());
+        List<Integer> appliedRanks = Collections.synchronizedList(new ArrayList<>());
+
+        List<String> results = ResourceBatch.apply(items, item -> {
+            appliedRanks.add(ResourceBatch.rank(item));
+            return item.getKind() + "/" + item.getMetadata().getName();
+        }, executor);
+
+        assertThat(appliedRanks).isSorted().hasSize(items.size());
+        assertThat(results).containsExactly("Route/front", "Service/front", "DeploymentConfig/front",
+                                            "BuildConfig/front", "ImageStream/front", "Route/back", "Service/back",
+                                            "DeploymentConfig/back", "BuildConfig/back", "ImageStream/back",
+                                            "ConfigMap/settings");
+    }
+
+    @Test
+    public void should_bound_the_concurrent_calls() {
+        List<HasMetadata> items = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            items.add(new ServiceBuilder().withNewMetadata().withName("service-" + i).endMetadata().build());
+        }
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        ResourceBatch.apply(items, item -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return running.decrementAndGet();
+        }, executor);
+
+        assertThat(maxRunning.get()).isBetween(1, MAX_CONCURRENT_CALLS);
+    }
+
+    @Test
+    public void should_not_apply_the_next_rank_after_a_failure() {
+        List<HasMetadata> items = Arrays.asList(
+                new BuildConfigBuilder().withNewMetadata().withName("app").endMetadata().build(),
+                new RouteBuilder().withNewMetadata().withName("app").endMetadata().build());
+        List<String> applied = Collections.synchronizedList(new ArrayList<>());
+
+        assertThatThrownBy(() -> ResourceBatch.apply(items, item -> {
+            applied.add(item.getKind());
+            if ("BuildConfig".equals(item.getKind())) {
+                throw new IllegalStateException("Quota exceeded");
+            }
+            return item;
+        }, executor)).isInstanceOf(IllegalStateException.class).hasMessage("Quota exceeded");
+        assertThat(applied).containsExactly("BuildConfig");
+    }
+}
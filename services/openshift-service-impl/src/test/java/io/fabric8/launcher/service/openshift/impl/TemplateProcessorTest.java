@@ -0,0 +1,86 @@
+package io.fabric8.launcher.service.openshift.impl;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.KubernetesResource;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import io.fabric8.openshift.api.model.BuildConfig;
+import io.fabric8.openshift.api.model.DeploymentConfig;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TemplateProcessorTest {
+
+    @Test
+    public void should_produce_the_objects_returned_by_the_processedtemplates_endpoint() throws Exception {
+        Map<String, String> values = new HashMap<>();
+        values.put("APP_NAME", "my-app");
+        values.put("SOURCE_REPOSITORY_URL", "https://github.com/foo/my-app");
+        values.put("SOURCE_REPOSITORY_DIR", "backend");
+        values.put("GITHUB_WEBHOOK_SECRET", "s3cr3t");
+        values.put("NOT_IN_THE_TEMPLATE", "ignored");
+
+        List<HasMetadata> objects = TemplateProcessor.process(template("/templates/application-template.yaml"), values);
+
+        // The Template model sorts its objects, so they are read one by one
+        List<HasMetadata> expected = new ArrayList<>();
+        try (InputStream in = getClass().getResourceAsStream("/templates/application-template-processed.json")) {
+            for (JsonNode object : Serialization.jsonMapper().readTree(in).path("objects")) {
+                expected.add((HasMetadata) Serialization.jsonMapper().treeToValue(object, KubernetesResource.class));
+            }
+        }
+        assertThat(objects).isEqualTo(expected);
+        assertThat(((DeploymentConfig) objects.get(2)).getSpec().getReplicas()).isEqualTo(1);
+    }
+
+    @Test
+    public void should_generate_the_missing_values() {
+        Map<String, String> values = new HashMap<>();
+        values.put("PROJECT", "my-project");
+        values.put("SOURCE_REPOSITORY_URL", "https://github.com/foo/my-project");
+
+        List<HasMetadata> objects = TemplateProcessor.process(TemplateProcessor.fromClasspath("/pipeline-template.yml"), values);
+
+        assertThat(objects).extracting(HasMetadata::getKind).containsExactly("BuildConfig", "ImageStream", "ImageStream");
+        BuildConfig buildConfig = (BuildConfig) objects.get(0);
+        assertThat(buildConfig.getMetadata().getName()).isEqualTo("my-project");
+        assertThat(buildConfig.getSpec().getTriggers().get(1).getGithub().getSecret()).matches("[a-zA-Z0-9]{40}");
+        // The parsed template is cached and left untouched
+        assertThat(TemplateProcessor.fromClasspath("/pipeline-template.yml"))
+                .isSameAs(TemplateProcessor.fromClasspath("/pipeline-template.yml"));
+        assertThat(TemplateProcessor.fromClasspath("/pipeline-template.yml").toString()).contains("${PROJECT}");
+    }
+
+    @Test
+    public void should_fail_when_a_required_value_is_missing() throws Exception {
+        Map<String, String> values = new HashMap<>();
+        values.put("APP_NAME", "my-app");
+        values.put("SOURCE_REPOSITORY_REF", "");
+
+        assertThatThrownBy(() -> TemplateProcessor.process(template("/templates/application-template.yaml"), values))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("template.parameters[1]: parameter SOURCE_REPOSITORY_URL is required and must be specified, "
+                                    + "template.parameters[2]: parameter SOURCE_REPOSITORY_REF is required and must be specified");
+    }
+
+    @Test
+    public void should_generate_values_from_expressions() {
+        assertThat(TemplateProcessor.generate("[a-f0-9]{16}")).matches("[a-f0-9]{16}");
+        assertThat(TemplateProcessor.generate("user-[\\d]{4}")).matches("user-[0-9]{4}");
+        assertThat(TemplateProcessor.generate("[\\w]{8}-[\\a]{2}")).matches("[a-zA-Z0-9_]{8}-[a-zA-Z0-9]{2}");
+        assertThatThrownBy(() -> TemplateProcessor.generate("[a-z]{256}")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private ObjectNode template(String resource) throws Exception {
+        return TemplateProcessor.parse(getClass().getResourceAsStream(resource));
+    }
+}
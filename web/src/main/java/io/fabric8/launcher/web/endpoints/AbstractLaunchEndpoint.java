@@ -1,23 +1,37 @@
 package io.fabric8.launcher.web.endpoints;
 
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.Collection;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import javax.enterprise.inject.Instance;
 import javax.inject.Inject;
 import javax.servlet.ServletOutputStream;
+import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Response;
 
+import io.fabric8.launcher.base.identity.TokenIdentity;
 import io.fabric8.launcher.core.api.ImmutableAsyncBoom;
 import io.fabric8.launcher.core.api.Projectile;
 import io.fabric8.launcher.core.api.events.StatusEventKind;
 import io.fabric8.launcher.core.api.events.StatusMessageEvent;
+import io.fabric8.launcher.core.api.projectiles.CreateProjectile;
 import io.fabric8.launcher.core.spi.DirectoryReaper;
+import io.fabric8.launcher.service.git.api.GitService;
+import io.fabric8.launcher.service.openshift.api.OpenShiftService;
+import io.fabric8.launcher.web.endpoints.launch.LaunchExecutor;
+import io.quarkus.arc.ClientProxy;
 import org.apache.commons.lang3.time.StopWatch;
 
+import static java.util.Collections.singletonMap;
+
 public abstract class AbstractLaunchEndpoint {
 
     private static final Logger log = Logger.getLogger("io.fabric8.launcher.web.endpoints.launch");
@@ -25,11 +39,48 @@ public abstract class AbstractLaunchEndpoint {
     @Inject
     protected DirectoryReaper reaper;
 
+    @Inject
+    LaunchExecutor launchExecutor;
+
+    @Inject
+    HttpServletRequest request;
+
+    @Inject
+    Instance<TokenIdentity> authorization;
+
+    @Inject
+    Instance<GitService> gitService;
+
+    @Inject
+    Instance<OpenShiftService> openShiftService;
+
     /**
-     * Performs the launch
+     * Performs the launch in the {@link LaunchExecutor}, answering 429 (Too Many Requests) if it is full
+     *
+     * @param workDirectory deleted once the launch is over
      */
     protected <P extends Projectile> void doLaunch(P projectile, Consumer<P> handler, Collection<StatusEventKind> events,
-                                                   HttpServletResponse response, AsyncResponse asyncResponse) throws IOException {
+                                                   Path workDirectory, HttpServletResponse response,
+                                                   AsyncResponse asyncResponse) throws IOException {
+        // The request is over when the launch runs, its services must be resolved now
+        final RuntimeException unresolved = resolveServices(projectile);
+        try {
+            launchExecutor.execute((String) request.getAttribute("USER_NAME"), projectile, () -> {
+                try {
+                    launch(projectile, handler, unresolved);
+                } finally {
+                    reaper.delete(workDirectory);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.log(Level.FINE, "Projectile {0} rejected: {1}", new Object[]{projectile.getId(), e.getMessage()});
+            reaper.delete(workDirectory);
+            asyncResponse.resume(Response.status(Response.Status.TOO_MANY_REQUESTS)
+                                         .header(HttpHeaders.RETRY_AFTER, launchExecutor.getRetryAfterSeconds())
+                                         .entity(singletonMap("error", e.getMessage()))
+                                         .build());
+            return;
+        }
         // No need to hold off the processing, return the status link immediately
         // Need to close the response's OutputStream after resuming to automatically flush the contents
         try (ServletOutputStream stream = response.getOutputStream()) {
@@ -38,11 +89,16 @@ public abstract class AbstractLaunchEndpoint {
                                          .eventTypes(events)
                                          .build());
         }
+    }
 
+    private <P extends Projectile> void launch(P projectile, Consumer<P> handler, RuntimeException unresolved) {
         StopWatch stopWatch = new StopWatch();
         stopWatch.start();
         try {
             log.log(Level.INFO, "Launching projectile {0}", projectile);
+            if (unresolved != null) {
+                throw unresolved;
+            }
             handler.accept(projectile);
             stopWatch.stop();
             log.log(Level.INFO, "Projectile {0} launched. Time Elapsed: {1}", new Object[]{projectile.getId(), stopWatch});
@@ -53,4 +109,26 @@ public abstract class AbstractLaunchEndpoint {
         }
     }
 
+    /**
+     * @return the error resolving the request scoped services used by the launch, null if none
+     */
+    private RuntimeException resolveServices(Projectile projectile) {
+        try {
+            resolve(authorization);
+            if (!(projectile instanceof CreateProjectile) || ((CreateProjectile) projectile).getGitRepositoryName() != null) {
+                resolve(gitService);
+            }
+            resolve(openShiftService);
+            return null;
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+
+    private static void resolve(Instance<?> instance) {
+        final Object service = instance.get();
+        if (service instanceof ClientProxy) {
+            ((ClientProxy) service).arc_contextualInstance();
+        }
+    }
 }
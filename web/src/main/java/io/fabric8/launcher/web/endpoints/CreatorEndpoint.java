@@ -60,6 +60,7 @@ import io.fabric8.launcher.creator.core.deploy.DeploymentDescriptor;
 import io.fabric8.launcher.creator.core.resource.BuilderImage;
 import io.fabric8.launcher.creator.core.resource.ImagesKt;
 import io.fabric8.launcher.web.endpoints.inputs.CreatorImportProjectileInput;
+import io.fabric8.launcher.web.filters.PrefetchIdentities;
 import io.fabric8.launcher.web.producers.CacheProducer.AppPath;
 import org.apache.commons.lang3.StringUtils;
 import org.cache2k.Cache;
@@ -164,6 +165,7 @@ public class CreatorEndpoint extends AbstractLaunchEndpoint {
     @POST
     @Path("/launch")
     @Secured
+    @PrefetchIdentities
     @Produces(MediaType.APPLICATION_JSON)
     @Consumes(MediaType.APPLICATION_JSON)
     public Response launch(@Valid CreatorLaunchProjectileContext input,
@@ -237,6 +239,7 @@ public class CreatorEndpoint extends AbstractLaunchEndpoint {
     @POST
     @Path("/import/launch")
     @Secured
+    @PrefetchIdentities
     @Produces(MediaType.APPLICATION_JSON)
     public Response launch(@Valid @BeanParam CreatorImportProjectileInput input,
                            @HeaderParam("X-Execution-Step-Index")
@@ -272,9 +275,15 @@ public class CreatorEndpoint extends AbstractLaunchEndpoint {
             int executionStep,
             AsyncResponse asyncResponse,
             HttpServletResponse response) {
-        return ApplyKt.withDeployment(deployment, projectLocation -> {
+        java.nio.file.Path projectLocation = null;
+        boolean launched = false;
+        try {
+            // Deleted once the launch is over
+            projectLocation = Files.createTempDirectory("creator");
+            ApplyKt.applyDeployment(projectLocation, deployment);
             // Run the preparers on top of the uploaded code
-            preparers.forEach(preparer -> preparer.prepare(projectLocation, null, input));
+            final java.nio.file.Path location = projectLocation;
+            preparers.forEach(preparer -> preparer.prepare(location, null, input));
             CreateProjectile projectile = ImmutableLauncherCreateProjectile.builder()
                     .projectLocation(projectLocation)
                     .eventConsumer(eventBroker::send)
@@ -288,12 +297,15 @@ public class CreatorEndpoint extends AbstractLaunchEndpoint {
                     projectile.getGitRepositoryName() == null ?
                             asList(LauncherStatusEventKind.OPENSHIFT_CREATE, LauncherStatusEventKind.OPENSHIFT_PIPELINE) :
                             asList(LauncherStatusEventKind.values());
-            try {
-                doLaunch(projectile, missionControl::launch, events, response, asyncResponse);
-            } catch (IOException ex) {
-                throw new UncheckedIOException(ex);
-            }
+            launched = true;
+            doLaunch(projectile, missionControl::launch, events, projectLocation, response, asyncResponse);
             return Response.ok().build();
-        });
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        } finally {
+            if (!launched && projectLocation != null) {
+                reaper.delete(projectLocation);
+            }
+        }
     }
 }
@@ -1,7 +1,21 @@
 package io.fabric8.launcher.web.endpoints;
 
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
-import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 import javax.enterprise.context.RequestScoped;
@@ -14,21 +28,32 @@ import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.QueryParam;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
+import javax.ws.rs.core.UriInfo;
 
+import io.fabric8.launcher.base.JsonUtils;
+import io.fabric8.launcher.core.api.availability.NameAvailabilityService;
 import io.fabric8.launcher.core.api.security.Secured;
 import io.fabric8.launcher.service.git.OAuthTokenProvider;
 import io.fabric8.launcher.service.git.api.GitOrganization;
 import io.fabric8.launcher.service.git.api.GitRepository;
 import io.fabric8.launcher.service.git.api.GitRepositoryFilter;
+import io.fabric8.launcher.service.git.api.GitRepositoryPage;
+import io.fabric8.launcher.service.git.api.GitRepositoryPages;
 import io.fabric8.launcher.service.git.api.GitService;
 import io.fabric8.launcher.service.git.api.GitServiceConfig;
+import io.fabric8.launcher.service.git.api.GitUser;
 import io.fabric8.launcher.service.git.api.ImmutableGitOrganization;
 import io.fabric8.launcher.service.git.api.ImmutableGitRepositoryFilter;
 import io.fabric8.launcher.service.git.spi.GitServiceConfigs;
 import io.fabric8.launcher.web.endpoints.models.GitDetailedUser;
 import io.fabric8.launcher.web.endpoints.models.ImmutableGitDetailedUser;
+import io.fabric8.launcher.web.producers.GitServiceExecutor;
 
 /**
  * @author <a href="mailto:ggastald@redhat.com">George Gastaldi</a>
@@ -37,6 +62,12 @@ import io.fabric8.launcher.web.endpoints.models.ImmutableGitDetailedUser;
 @RequestScoped
 public class GitEndpoint {
 
+    static final String APPLICATION_NDJSON = "application/x-ndjson";
+
+    private static final MediaType NDJSON_TYPE = MediaType.valueOf(APPLICATION_NDJSON);
+
+    private static final Logger log = Logger.getLogger(GitEndpoint.class.getName());
+
     @Inject
     Instance<GitService> gitService;
 
@@ -46,6 +77,12 @@ public class GitEndpoint {
     @Inject
     OAuthTokenProvider.Factory tokenProviderFactory;
 
+    @Inject
+    GitServiceExecutor executor;
+
+    @Inject
+    NameAvailabilityService nameAvailability;
+
     @GET
     @Path("/providers")
     @Produces(MediaType.APPLICATION_JSON)
@@ -58,10 +95,21 @@ public class GitEndpoint {
     @Secured
     @Produces(MediaType.APPLICATION_JSON)
     public GitDetailedUser getUser() {
+        // The calls run concurrently and share one deadline. The user is required, but the organizations and
+        // repositories are left empty when the provider does not answer in time
+        final GitService service = gitService.get();
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(executor.getCallTimeout());
+        final CompletableFuture<GitUser> user = service.getLoggedUserAsync(executor).toCompletableFuture();
+        final CompletableFuture<List<GitOrganization>> organizations = submit(() -> service.getOrganizationsAsync(executor));
+        final CompletableFuture<List<GitRepository>> repositories = submit(() -> service.getRepositoriesAsync(filter(null, null), executor));
         return ImmutableGitDetailedUser.builder()
-                .user(gitService.get().getLoggedUser())
-                .organizations(getOrganizations())
-                .repositories(getRepositories(null))
+                .user(await(user, deadline))
+                .organizations(awaitOrEmpty(organizations, deadline, "organizations").stream()
+                                       .map(GitOrganization::getName)
+                                       .collect(Collectors.toList()))
+                .repositories(awaitOrEmpty(repositories, deadline, "repositories").stream()
+                                      .map(GitRepository::getFullName)
+                                      .collect(Collectors.toSet()))
                 .build();
     }
 
@@ -75,24 +123,50 @@ public class GitEndpoint {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Lists the full names of the repositories.
+     * <p>
+     * Without cursor nor limit, every repository is returned at once. Otherwise a single page is returned, with a
+     * {@code Link: <...>; rel="next"} header pointing to the next one. When {@value #APPLICATION_NDJSON} is accepted,
+     * all the repositories are streamed as one JSON string per line, requesting one page at a time.
+     */
     @GET
     @Path("/repositories")
     @Secured
-    @Produces(MediaType.APPLICATION_JSON)
-    public Set<String> getRepositories(@QueryParam("organization") String organization) {
-        final GitRepositoryFilter filter = ImmutableGitRepositoryFilter.builder()
-                .withOrganization(organization != null ? ImmutableGitOrganization.of(organization) : null)
-                .build();
-        return gitService.get().getRepositories(filter).stream()
-                .map(GitRepository::getFullName)
-                .collect(Collectors.toSet());
+    @Produces({MediaType.APPLICATION_JSON, APPLICATION_NDJSON})
+    public Response getRepositories(@QueryParam("organization") String organization,
+                                    @QueryParam("prefix") String prefix,
+                                    @QueryParam("cursor") String cursor,
+                                    @QueryParam("limit") Integer limit,
+                                    @Context HttpHeaders headers,
+                                    @Context UriInfo uriInfo) {
+        final GitService service = gitService.get();
+        final GitRepositoryFilter filter = filter(organization, prefix);
+        final int pageSize = limit != null ? limit : GitRepositoryPages.MAX_PAGE_SIZE;
+        if (headers.getAcceptableMediaTypes().stream().anyMatch(GitEndpoint::isNdjson)) {
+            return Response.ok(streamRepositories(service, filter, pageSize), APPLICATION_NDJSON).build();
+        }
+        if (cursor == null && limit == null) {
+            return Response.ok(service.getRepositories(filter).stream()
+                                       .filter(filter::matchesNamePrefix)
+                                       .map(GitRepository::getFullName)
+                                       .collect(Collectors.toSet()), MediaType.APPLICATION_JSON).build();
+        }
+        final GitRepositoryPage page = service.getRepositories(filter, cursor, pageSize);
+        final Response.ResponseBuilder response = Response.ok(page.getRepositories().stream()
+                                                                      .map(GitRepository::getFullName)
+                                                                      .collect(Collectors.toList()), MediaType.APPLICATION_JSON);
+        page.getNextCursor().ifPresent(next -> response.link(uriInfo.getRequestUriBuilder()
+                                                                     .replaceQueryParam("cursor", next)
+                                                                     .build(), "next"));
+        return response.build();
     }
 
     @HEAD
     @Secured
     @Path("/repositories/{repo}")
     public Response repositoryExists(@NotNull @PathParam("repo") String repository) {
-        if (gitService.get().getRepository(repository).isPresent()) {
+        if (nameAvailability.repositoryExists(gitService.get(), repository)) {
             return Response.ok().build();
         } else {
             return Response.status(Response.Status.NOT_FOUND).build();
@@ -108,4 +182,77 @@ public class GitEndpoint {
         String token = tokenProviderFactory.getProvider(config).getToken(code, config);
         return Response.ok(token).build();
     }
+
+    private static GitRepositoryFilter filter(String organization, String prefix) {
+        return ImmutableGitRepositoryFilter.builder()
+                .withOrganization(organization != null ? ImmutableGitOrganization.of(organization) : null)
+                .withNamePrefix(prefix)
+                .build();
+    }
+
+    private static StreamingOutput streamRepositories(GitService service, GitRepositoryFilter filter, int pageSize) {
+        // The first page is requested right away, so errors are still reported with the right status
+        final Iterator<GitRepositoryPage> pages = service.getRepositoryPages(filter, pageSize);
+        final GitRepositoryPage first = pages.next();
+        return output -> {
+            final Writer writer = new OutputStreamWriter(output, StandardCharsets.UTF_8);
+            GitRepositoryPage page = first;
+            while (true) {
+                for (GitRepository repository : page.getRepositories()) {
+                    writer.write(JsonUtils.toString(repository.getFullName()));
+                    writer.write('\n');
+                }
+                // Send each page while the next one is requested
+                writer.flush();
+                if (!pages.hasNext()) {
+                    break;
+                }
+                page = pages.next();
+            }
+        };
+    }
+
+    private static boolean isNdjson(MediaType mediaType) {
+        return NDJSON_TYPE.getType().equals(mediaType.getType()) && NDJSON_TYPE.getSubtype().equals(mediaType.getSubtype());
+    }
+
+    private static <T> CompletableFuture<T> submit(Supplier<CompletionStage<T>> call) {
+        try {
+            return call.get().toCompletableFuture();
+        } catch (RejectedExecutionException e) {
+            final CompletableFuture<T> rejected = new CompletableFuture<>();
+            rejected.completeExceptionally(e);
+            return rejected;
+        }
+    }
+
+    private static <T> T await(Future<T> future, long deadline) {
+        try {
+            return future.get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new WebApplicationException("Git provider did not answer in time", e, Response.Status.GATEWAY_TIMEOUT);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static <T> List<T> awaitOrEmpty(Future<List<T>> future, long deadline, String what) {
+        try {
+            return future.get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException | ExecutionException e) {
+            future.cancel(true);
+            log.log(Level.WARNING, "Returning the user without " + what, e);
+            return Collections.emptyList();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Collections.emptyList();
+        }
+    }
 }
@@ -37,6 +37,7 @@ import io.fabric8.launcher.core.spi.ProjectilePreparer;
 import io.fabric8.launcher.web.endpoints.inputs.LaunchProjectileInput;
 import io.fabric8.launcher.web.endpoints.inputs.UploadZipProjectileInput;
 import io.fabric8.launcher.web.endpoints.inputs.DownloadZipProjectileInput;
+import io.fabric8.launcher.web.filters.PrefetchIdentities;
 import org.jboss.resteasy.annotations.providers.multipart.MultipartForm;
 
 import static java.util.Arrays.asList;
@@ -83,6 +84,7 @@ public class LaunchEndpoint extends AbstractLaunchEndpoint {
     @POST
     @Path("/launch")
     @Secured
+    @PrefetchIdentities
     @Produces(MediaType.APPLICATION_JSON)
     public void launch(@Valid @BeanParam LaunchProjectileInput launchProjectileInput, @Suspended AsyncResponse asyncResponse,
                        @Context HttpServletResponse response) throws IOException {
@@ -91,20 +93,17 @@ public class LaunchEndpoint extends AbstractLaunchEndpoint {
                 .startOfStep(launchProjectileInput.getExecutionStep())
                 .eventConsumer(eventBroker::send)
                 .build();
-        try {
-            Collection<StatusEventKind> events =
-                    projectile.getGitRepositoryName() == null ?
-                            asList(LauncherStatusEventKind.OPENSHIFT_CREATE, LauncherStatusEventKind.OPENSHIFT_PIPELINE) :
-                            asList(LauncherStatusEventKind.values());
-            doLaunch(projectile, missionControl::launch, events, response, asyncResponse);
-        } finally {
-            reaper.delete(projectile.getProjectLocation());
-        }
+        Collection<StatusEventKind> events =
+                projectile.getGitRepositoryName() == null ?
+                        asList(LauncherStatusEventKind.OPENSHIFT_CREATE, LauncherStatusEventKind.OPENSHIFT_PIPELINE) :
+                        asList(LauncherStatusEventKind.values());
+        doLaunch(projectile, missionControl::launch, events, projectile.getProjectLocation(), response, asyncResponse);
     }
 
     @POST
     @Path("/upload")
     @Secured
+    @PrefetchIdentities
     @Produces(MediaType.APPLICATION_JSON)
     public void uploadZip(@Valid @MultipartForm UploadZipProjectileInput input,
                           @HeaderParam("X-Execution-Step-Index")
@@ -128,14 +127,10 @@ public class LaunchEndpoint extends AbstractLaunchEndpoint {
                 .startOfStep(executionStep)
                 .openShiftProjectName(input.getProjectName())
                 .build();
-        try {
-            Collection<StatusEventKind> events =
-                    projectile.getGitRepositoryName() == null ?
-                            asList(LauncherStatusEventKind.OPENSHIFT_CREATE, LauncherStatusEventKind.OPENSHIFT_PIPELINE) :
-                            asList(LauncherStatusEventKind.values());
-            doLaunch(projectile, missionControl::launch, events, response, asyncResponse);
-        } finally {
-            reaper.delete(projectDir);
-        }
+        Collection<StatusEventKind> events =
+                projectile.getGitRepositoryName() == null ?
+                        asList(LauncherStatusEventKind.OPENSHIFT_CREATE, LauncherStatusEventKind.OPENSHIFT_PIPELINE) :
+                        asList(LauncherStatusEventKind.values());
+        doLaunch(projectile, missionControl::launch, events, projectDir, response, asyncResponse);
     }
 }
\ No newline at end of file
@@ -1,10 +1,10 @@
 package io.fabric8.launcher.web.endpoints;
 
-import java.util.Collection;
+import java.security.Principal;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutionException;
+import java.util.concurrent.CompletionStage;
 
 import javax.enterprise.context.RequestScoped;
 import javax.enterprise.inject.Instance;
@@ -23,17 +23,18 @@ import javax.ws.rs.core.SecurityContext;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.spotify.futures.CompletableFutures;
-import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.launcher.base.identity.Identity;
 import io.fabric8.launcher.base.identity.TokenIdentity;
+import io.fabric8.launcher.core.api.availability.NameAvailabilityService;
 import io.fabric8.launcher.core.api.security.Secured;
 import io.fabric8.launcher.core.spi.IdentityProvider;
-import io.fabric8.launcher.service.openshift.api.ImmutableParameters;
 import io.fabric8.launcher.service.openshift.api.OpenShiftCluster;
 import io.fabric8.launcher.service.openshift.api.OpenShiftClusterRegistry;
 import io.fabric8.launcher.service.openshift.api.OpenShiftService;
 import io.fabric8.launcher.service.openshift.api.OpenShiftServiceFactory;
 import io.fabric8.launcher.service.openshift.api.OpenShiftUser;
+import io.fabric8.launcher.service.openshift.api.SubscribedClusters;
+import io.fabric8.launcher.web.producers.OpenShiftClusterVerifier;
 
 import static java.util.stream.Collectors.toList;
 
@@ -44,6 +45,13 @@ import static java.util.stream.Collectors.toList;
 @RequestScoped
 public class OpenShiftEndpoint {
 
+    private static final String WARNING = "Warning";
+
+    /**
+     * The subscriptions in manage.openshift.com could not be looked up in time, see RFC 7234 section 5.5.1
+     */
+    private static final String STALE_WARNING = "110 - \"Response is Stale\"";
+
     @Inject
     OpenShiftServiceFactory openShiftServiceFactory;
 
@@ -59,6 +67,12 @@ public class OpenShiftEndpoint {
     @Inject
     Instance<TokenIdentity> authorizationInstance;
 
+    @Inject
+    NameAvailabilityService nameAvailability;
+
+    @Inject
+    OpenShiftClusterVerifier clusterVerifier;
+
     @Context
     SecurityContext securityContext;
 
@@ -66,7 +80,7 @@ public class OpenShiftEndpoint {
     @Path("/clusters")
     @Produces(MediaType.APPLICATION_JSON)
     @Secured
-    public Collection<ClusterVerified> getSupportedOpenShiftClusters(@HeaderParam("X-OpenShift-Authorization") String openShiftAuth) throws ExecutionException, InterruptedException {
+    public CompletionStage<Response> getSupportedOpenShiftClusters(@HeaderParam("X-OpenShift-Authorization") String openShiftAuth) {
         final Identity authorization;
         final IdentityProvider identityProvider;
         if (openShiftAuth != null) {
@@ -79,26 +93,22 @@ public class OpenShiftEndpoint {
             authorization = authorizationInstance.get();
             identityProvider = identityProviderInstance.get();
         }
+        final Principal principal = securityContext.getUserPrincipal();
+        final String user = principal != null ? principal.getName() : null;
+        final SubscribedClusters subscriptions = clusterRegistry.getSubscriptions(principal);
+        // Each cluster answers on its own, an unreachable one is reported as not connected once it times out
         List<CompletableFuture<ClusterVerified>> futures =
-                clusterRegistry.getSubscribedClusters(securityContext.getUserPrincipal()).stream()
-                        .map(cluster -> identityProvider.getIdentityAsync(authorization, cluster.getId())
-                                .thenApply(
-                                        identity -> identity.map(value -> getClusterVerified(cluster, value))
-                                                .orElseGet(() -> new ClusterVerified(cluster, false))))
+                subscriptions.getClusters().stream()
+                        .map(cluster -> clusterVerifier.isConnected(user, cluster, authorization, identityProvider, openShiftServiceFactory)
+                                .thenApply(connected -> new ClusterVerified(cluster, connected)))
                         .collect(toList());
-        return CompletableFutures.allAsList(futures).get();
-    }
-
-    private ClusterVerified getClusterVerified(OpenShiftCluster cluster, Identity identity) {
-        final ImmutableParameters.Builder builder = ImmutableParameters.builder().cluster(cluster).identity(identity);
-        final OpenShiftService service = openShiftServiceFactory.create(builder.build());
-        try {
-            service.getLoggedUser();
-            return new ClusterVerified(cluster, true);
-        } catch (KubernetesClientException e) {
-            //means that we have an invalid token e.g. cluster got deprovisioned
-            return new ClusterVerified(cluster, false);
-        }
+        return CompletableFutures.allAsList(futures).thenApply(clusters -> {
+            Response.ResponseBuilder response = Response.ok(clusters);
+            if (subscriptions.isStale()) {
+                response.header(WARNING, STALE_WARNING);
+            }
+            return response.build();
+        });
     }
 
     @GET
@@ -114,7 +124,7 @@ public class OpenShiftEndpoint {
     @Secured
     @Path("/projects/{project}")
     public Response openShiftProjectExists(@NotNull @PathParam("project") String project) {
-        if (openShiftService.get().projectExists(project)) {
+        if (nameAvailability.projectExists(openShiftService.get(), project)) {
             return Response.ok().build();
         } else {
             return Response.status(Response.Status.NOT_FOUND).build();
@@ -0,0 +1,21 @@
+package io.fabric8.launcher.web.endpoints.launch;
+
+import io.fabric8.launcher.base.EnvironmentEnum;
+
+/**
+ * Properties used to tune the {@link LaunchExecutor}
+ */
+public enum LaunchEnvironment implements EnvironmentEnum {
+    /**
+     * The number of launches running at the same time (8 by default)
+     */
+    LAUNCHER_LAUNCH_THREADS,
+    /**
+     * The number of launches waiting for a thread, more are rejected (32 by default)
+     */
+    LAUNCHER_LAUNCH_QUEUE_SIZE,
+    /**
+     * The number of launches a user may have running or waiting, more are rejected (2 by default)
+     */
+    LAUNCHER_LAUNCH_USER_LIMIT
+}
@@ -0,0 +1,292 @@
+package io.fabric8.launcher.web.endpoints.launch;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.enterprise.context.ApplicationScoped;
+
+import io.fabric8.launcher.core.api.Projectile;
+import io.fabric8.launcher.core.api.events.StatusMessageEvent;
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.InjectableContext;
+import io.quarkus.arc.ManagedContext;
+import org.eclipse.microprofile.context.ManagedExecutor;
+import org.eclipse.microprofile.context.ThreadContext;
+
+import static io.fabric8.launcher.web.endpoints.launch.LaunchEnvironment.LAUNCHER_LAUNCH_QUEUE_SIZE;
+import static io.fabric8.launcher.web.endpoints.launch.LaunchEnvironment.LAUNCHER_LAUNCH_THREADS;
+import static io.fabric8.launcher.web.endpoints.launch.LaunchEnvironment.LAUNCHER_LAUNCH_USER_LIMIT;
+import static java.util.Collections.singletonMap;
+
+/**
+ * Runs the launches out of the HTTP worker threads.
+ * <p>
+ * LAUNCHER_LAUNCH_THREADS launches run at the same time (8 by default) and LAUNCHER_LAUNCH_QUEUE_SIZE more may wait
+ * (32 by default), a user having at most LAUNCHER_LAUNCH_USER_LIMIT of them (2 by default). Launches over these limits
+ * are rejected at once. A waiting launch is told its position in the queue through its status messages.
+ * <p>
+ * The request context of the launching request is handed over to the launch, so the request scoped services it
+ * resolved keep working once the request is over.
+ */
+@ApplicationScoped
+public class LaunchExecutor {
+
+    /**
+     * Suggested to rejected clients until a launch completes
+     */
+    private static final long DEFAULT_LAUNCH_MILLIS = TimeUnit.SECONDS.toMillis(30);
+
+    private Executor executor;
+
+    private int threads;
+
+    private int capacity;
+
+    private int userLimit;
+
+    private final ConcurrentLinkedDeque<Launch> queue = new ConcurrentLinkedDeque<>();
+
+    private final Map<String, AtomicInteger> launchesByUser = new ConcurrentHashMap<>();
+
+    private final AtomicInteger admitted = new AtomicInteger();
+
+    private final AtomicInteger running = new AtomicInteger();
+
+    private final AtomicLong rejected = new AtomicLong();
+
+    private final AtomicLong started = new AtomicLong();
+
+    private final AtomicLong waitMillis = new AtomicLong();
+
+    private final AtomicLong completed = new AtomicLong();
+
+    private final AtomicLong launchMillis = new AtomicLong();
+
+    /**
+     * Used in proxies, the executor is created by {@link #start()}
+     */
+    @Deprecated
+    public LaunchExecutor() {
+    }
+
+    LaunchExecutor(Executor executor, int threads, int queueSize, int userLimit) {
+        start(executor, threads, queueSize, userLimit);
+    }
+
+    @PostConstruct
+    void start() {
+        final int threads = LAUNCHER_LAUNCH_THREADS.intValue(8);
+        // The queue is bounded by the admission of the launches
+        start(ManagedExecutor.builder()
+                      .maxAsync(threads)
+                      .maxQueued(-1)
+                      .propagated(ThreadContext.NONE)
+                      .cleared(ThreadContext.ALL_REMAINING)
+                      .build(),
+              threads, LAUNCHER_LAUNCH_QUEUE_SIZE.intValue(32), LAUNCHER_LAUNCH_USER_LIMIT.intValue(2));
+    }
+
+    private void start(Executor executor, int threads, int queueSize, int userLimit) {
+        this.executor = executor;
+        this.threads = threads;
+        this.capacity = threads + queueSize;
+        this.userLimit = userLimit;
+    }
+
+    /**
+     * @param user       the user launching, null if unknown
+     * @param projectile the projectile launched, receiving the queue positions
+     * @param launch     performs the launch
+     * @throws RejectedExecutionException if the executor or the launches of the user are at their limit
+     */
+    public void execute(String user, Projectile projectile, Runnable launch) {
+        admit(user);
+        final Launch task = new Launch(user, projectile, launch, RequestContextState.handOver());
+        queue.addLast(task);
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            queue.remove(task);
+            task.context.giveBack();
+            release(user);
+            rejected.incrementAndGet();
+            throw e;
+        }
+        if (running.get() >= threads) {
+            notifyPositions();
+        }
+    }
+
+    /**
+     * @return the seconds a rejected client should wait before trying again
+     */
+    public long getRetryAfterSeconds() {
+        final long count = completed.get();
+        final long average = count == 0 ? DEFAULT_LAUNCH_MILLIS : launchMillis.get() / count;
+        final long waves = 1 + queue.size() / Math.max(1, threads);
+        return Math.max(1, TimeUnit.MILLISECONDS.toSeconds(average * waves));
+    }
+
+    public int getQueuedCount() {
+        return queue.size();
+    }
+
+    public int getRunningCount() {
+        return running.get();
+    }
+
+    public long getRejectedCount() {
+        return rejected.get();
+    }
+
+    public long getStartedCount() {
+        return started.get();
+    }
+
+    /**
+     * @return the total time, in milliseconds, the started launches waited in the queue
+     */
+    public long getWaitMillis() {
+        return waitMillis.get();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (executor instanceof ManagedExecutor) {
+            ((ManagedExecutor) executor).shutdown();
+        }
+    }
+
+    private void admit(String user) {
+        if (admitted.incrementAndGet() > capacity) {
+            admitted.decrementAndGet();
+            rejected.incrementAndGet();
+            throw new RejectedExecutionException("Too many launches in progress");
+        }
+        if (user != null && launchesByUser.computeIfAbsent(user, key -> new AtomicInteger()).incrementAndGet() > userLimit) {
+            release(user);
+            rejected.incrementAndGet();
+            throw new RejectedExecutionException("Too many launches in progress for " + user);
+        }
+    }
+
+    private void release(String user) {
+        admitted.decrementAndGet();
+        if (user != null) {
+            launchesByUser.computeIfPresent(user, (key, count) -> count.decrementAndGet() == 0 ? null : count);
+        }
+    }
+
+    private void notifyPositions() {
+        int position = 0;
+        for (Launch waiting : queue) {
+            position++;
+            waiting.projectile.getEventConsumer().accept(new StatusMessageEvent(waiting.projectile.getId(), LaunchQueueEventKind.LAUNCH_QUEUED,
+                                                                                singletonMap("position", position)));
+        }
+    }
+
+    private final class Launch implements Runnable {
+
+        private final String user;
+
+        private final Projectile projectile;
+
+        private final Runnable launch;
+
+        private final RequestContextState context;
+
+        private final long queuedAt = System.currentTimeMillis();
+
+        Launch(String user, Projectile projectile, Runnable launch, RequestContextState context) {
+            this.user = user;
+            this.projectile = projectile;
+            this.launch = launch;
+            this.context = context;
+        }
+
+        @Override
+        public void run() {
+            final long startedAt = System.currentTimeMillis();
+            queue.remove(this);
+            running.incrementAndGet();
+            started.incrementAndGet();
+            waitMillis.addAndGet(startedAt - queuedAt);
+            notifyPositions();
+            context.activate();
+            try {
+                launch.run();
+            } finally {
+                context.terminate();
+                running.decrementAndGet();
+                completed.incrementAndGet();
+                launchMillis.addAndGet(System.currentTimeMillis() - startedAt);
+                release(user);
+            }
+        }
+    }
+
+    /**
+     * The request context of a launching request, taken away from the request so it is not destroyed when the request
+     * is over. The request goes on with a new request context.
+     */
+    private static final class RequestContextState {
+
+        private static final RequestContextState NONE = new RequestContextState(null, null);
+
+        private final ManagedContext requestContext;
+
+        private final InjectableContext.ContextState state;
+
+        private RequestContextState(ManagedContext requestContext, InjectableContext.ContextState state) {
+            this.requestContext = requestContext;
+            this.state = state;
+        }
+
+        static RequestContextState handOver() {
+            final ArcContainer container = Arc.container();
+            if (container == null || !container.requestContext().isActive()) {
+                return NONE;
+            }
+            final ManagedContext requestContext = container.requestContext();
+            final InjectableContext.ContextState state = requestContext.getState();
+            requestContext.deactivate();
+            requestContext.activate();
+            return new RequestContextState(requestContext, state);
+        }
+
+        void activate() {
+            if (requestContext != null) {
+                requestContext.activate(state);
+            }
+        }
+
+        /**
+         * Destroys the beans of the request once the launch is over
+         */
+        void terminate() {
+            if (requestContext != null) {
+                requestContext.terminate();
+            }
+        }
+
+        /**
+         * Gives the request context back to the request when the launch does not run
+         */
+        void giveBack() {
+            if (requestContext != null) {
+                requestContext.terminate();
+                requestContext.activate(state);
+            }
+        }
+    }
+}
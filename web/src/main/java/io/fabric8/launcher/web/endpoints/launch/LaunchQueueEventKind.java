@@ -0,0 +1,28 @@
+package io.fabric8.launcher.web.endpoints.launch;
+
+import io.fabric8.launcher.core.api.events.StatusEventKind;
+
+/**
+ * Status messages telling a client its launch is waiting for a thread. They are not steps of the launch, so they are
+ * not listed in the event types returned by the launch endpoints.
+ */
+public enum LaunchQueueEventKind implements StatusEventKind {
+
+    LAUNCH_QUEUED("Waiting for the launch to start");
+
+    LaunchQueueEventKind(String message) {
+        this.message = message;
+    }
+
+    private final String message;
+
+    @Override
+    public String message() {
+        return message;
+    }
+
+    @Override
+    public String toString() {
+        return message;
+    }
+}
@@ -0,0 +1,50 @@
+package io.fabric8.launcher.web.endpoints.sse;
+
+import java.util.UUID;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+import javax.ws.rs.GET;
+import javax.ws.rs.HeaderParam;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.sse.Sse;
+import javax.ws.rs.sse.SseEventSink;
+
+/**
+ * A Server-Sent Events alternative to the websocket {@link io.fabric8.launcher.web.endpoints.websocket.MissionControlStatusEndpoint}.
+ * A client reconnecting with the Last-Event-ID header resumes the stream where it stopped.
+ */
+@Path("/status")
+@ApplicationScoped
+public class StatusEventStreamEndpoint {
+
+    @Inject
+    StatusEventStreams streams;
+
+    @GET
+    @Path("/{uuid}/events")
+    @Produces(MediaType.SERVER_SENT_EVENTS)
+    public void events(@PathParam("uuid") UUID uuid,
+                       @HeaderParam(HttpHeaders.LAST_EVENT_ID_HEADER) String lastEventId,
+                       @Context SseEventSink sink,
+                       @Context Sse sse) {
+        streams.attach(uuid, parseEventId(lastEventId), sink, sse);
+    }
+
+    private static long parseEventId(String lastEventId) {
+        if (lastEventId == null) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            // Not one of our ids, the client gets all the events
+            return 0;
+        }
+    }
+}
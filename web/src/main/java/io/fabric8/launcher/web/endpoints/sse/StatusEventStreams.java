@@ -0,0 +1,227 @@
+package io.fabric8.launcher.web.endpoints.sse;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.annotation.PreDestroy;
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.sse.OutboundSseEvent;
+import javax.ws.rs.sse.Sse;
+import javax.ws.rs.sse.SseEventSink;
+
+import io.fabric8.launcher.core.api.events.StatusMessageEventBroker;
+import org.cache2k.Cache;
+import org.cache2k.Cache2kBuilder;
+import org.cache2k.event.CacheEntryExpiredListener;
+
+import static io.fabric8.launcher.web.endpoints.sse.StatusEventsEnvironment.LAUNCHER_STATUS_EVENTS_HISTORY_SIZE;
+import static io.fabric8.launcher.web.endpoints.sse.StatusEventsEnvironment.LAUNCHER_STATUS_EVENTS_TTL;
+
+/**
+ * Streams the status messages of the launches as numbered Server-Sent Events.
+ * <p>
+ * The messages of a launch are consumed from the {@link StatusMessageEventBroker} while it has a stream, numbered
+ * from 1 and kept (the last LAUNCHER_STATUS_EVENTS_HISTORY_SIZE ones) so a stream reconnecting with a Last-Event-ID
+ * only gets the events it missed. They are dropped LAUNCHER_STATUS_EVENTS_TTL seconds after the last event or stream
+ * of the launch. Events are written without blocking, one after the other on each stream.
+ */
+@ApplicationScoped
+public class StatusEventStreams {
+
+    private static final Logger log = Logger.getLogger(StatusEventStreams.class.getName());
+
+    private final StatusMessageEventBroker broker;
+
+    private final int historySize;
+
+    private final long ttlMillis;
+
+    private final Cache<UUID, Stream> streams;
+
+    /**
+     * Used in proxies
+     */
+    @Deprecated
+    StatusEventStreams() {
+        this.broker = null;
+        this.historySize = 0;
+        this.ttlMillis = 0;
+        this.streams = null;
+    }
+
+    @Inject
+    StatusEventStreams(StatusMessageEventBroker broker) {
+        this(broker, LAUNCHER_STATUS_EVENTS_HISTORY_SIZE.intValue(256),
+             TimeUnit.SECONDS.toMillis(LAUNCHER_STATUS_EVENTS_TTL.intValue(600)));
+    }
+
+    StatusEventStreams(StatusMessageEventBroker broker, int historySize, long ttlMillis) {
+        this.broker = broker;
+        this.historySize = historySize;
+        this.ttlMillis = ttlMillis;
+        this.streams = Cache2kBuilder.of(UUID.class, Stream.class)
+                .entryCapacity(10_000)
+                .sharpExpiry(true)
+                .expiryPolicy((key, stream, loadTime, oldEntry) -> loadTime + ttlMillis)
+                .addListener((CacheEntryExpiredListener<UUID, Stream>) (cache, entry) -> entry.getValue().close())
+                .build();
+    }
+
+    /**
+     * @param key         the launch to stream
+     * @param lastEventId the last event received by the client, 0 if none
+     * @param sink        the stream to write to
+     * @param sse         builds the events
+     */
+    public void attach(UUID key, long lastEventId, SseEventSink sink, Sse sse) {
+        final Stream stream = streams.computeIfAbsent(key, () -> new Stream(key));
+        stream.attach(new Subscriber(stream, sink, sse), lastEventId);
+        touch(key);
+    }
+
+    @PreDestroy
+    void close() {
+        streams.asMap().values().forEach(Stream::close);
+        streams.removeAll();
+    }
+
+    /**
+     * For testing purposes only
+     */
+    int getSubscriberCount(UUID key) {
+        final Stream stream = streams.peek(key);
+        return stream == null ? 0 : stream.subscribers.size();
+    }
+
+    private void touch(UUID key) {
+        streams.expireAt(key, System.currentTimeMillis() + ttlMillis);
+    }
+
+    private final class Stream {
+
+        private final UUID key;
+
+        private final Deque<Event> history = new ArrayDeque<>();
+
+        private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+
+        private long lastId;
+
+        private boolean consuming;
+
+        Stream(UUID key) {
+            this.key = key;
+        }
+
+        synchronized void attach(Subscriber subscriber, long lastEventId) {
+            // A client ahead of the history saw a previous stream of the launch, it gets all the events again
+            final long from = lastEventId > lastId ? 0 : lastEventId;
+            for (Event event : history) {
+                if (event.id > from) {
+                    subscriber.send(event);
+                }
+            }
+            subscribers.add(subscriber);
+            if (!consuming) {
+                consuming = true;
+                broker.setConsumer(key, this::accept);
+            }
+        }
+
+        synchronized void accept(String data) {
+            final Event event = new Event(++lastId, data);
+            history.addLast(event);
+            if (history.size() > historySize) {
+                history.removeFirst();
+            }
+            subscribers.forEach(subscriber -> subscriber.send(event));
+            touch(key);
+        }
+
+        synchronized void detach(Subscriber subscriber) {
+            if (subscribers.remove(subscriber) && subscribers.isEmpty() && consuming) {
+                // The next messages are buffered by the broker until a stream comes back
+                consuming = false;
+                broker.removeConsumer(key);
+            }
+        }
+
+        synchronized void close() {
+            subscribers.forEach(Subscriber::close);
+            subscribers.clear();
+            if (consuming) {
+                consuming = false;
+                broker.removeConsumer(key);
+            }
+        }
+    }
+
+    private static final class Subscriber {
+
+        private final Stream stream;
+
+        private final SseEventSink sink;
+
+        private final Sse sse;
+
+        /**
+         * Completed once the last event sent is written
+         */
+        private CompletionStage<Void> written = CompletableFuture.completedFuture(null);
+
+        Subscriber(Stream stream, SseEventSink sink, Sse sse) {
+            this.stream = stream;
+            this.sink = sink;
+            this.sse = sse;
+        }
+
+        void send(Event event) {
+            final OutboundSseEvent outbound = sse.newEventBuilder()
+                    .id(Long.toString(event.id))
+                    .mediaType(MediaType.APPLICATION_JSON_TYPE)
+                    .data(event.data)
+                    .build();
+            written = written.thenCompose(previous -> write(outbound));
+            written.exceptionally(e -> {
+                log.log(Level.FINE, "Status event stream closed", e);
+                stream.detach(this);
+                return null;
+            });
+        }
+
+        void close() {
+            written.whenComplete((previous, e) -> sink.close());
+        }
+
+        private CompletionStage<Void> write(OutboundSseEvent event) {
+            if (sink.isClosed()) {
+                final CompletableFuture<Void> closed = new CompletableFuture<>();
+                closed.completeExceptionally(new IllegalStateException("Status event stream closed by the client"));
+                return closed;
+            }
+            return sink.send(event).thenApply(sent -> null);
+        }
+    }
+
+    private static final class Event {
+
+        final long id;
+
+        final String data;
+
+        Event(long id, String data) {
+            this.id = id;
+            this.data = data;
+        }
+    }
+}
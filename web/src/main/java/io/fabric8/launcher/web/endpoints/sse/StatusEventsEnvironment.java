@@ -0,0 +1,17 @@
+package io.fabric8.launcher.web.endpoints.sse;
+
+import io.fabric8.launcher.base.EnvironmentEnum;
+
+/**
+ * Properties used to tune the {@link StatusEventStreams}
+ */
+public enum StatusEventsEnvironment implements EnvironmentEnum {
+    /**
+     * The number of events kept for each launch to resume its streams (256 by default)
+     */
+    LAUNCHER_STATUS_EVENTS_HISTORY_SIZE,
+    /**
+     * The seconds the events of a launch are kept after its last event or stream (10 minutes by default)
+     */
+    LAUNCHER_STATUS_EVENTS_TTL
+}
@@ -0,0 +1,53 @@
+package io.fabric8.launcher.web.filters;
+
+import java.util.Locale;
+
+/**
+ * Parses the Accept-Encoding request header, honouring quality values
+ */
+public final class AcceptEncoding {
+
+    private AcceptEncoding() {
+        throw new IllegalAccessError("Utility class");
+    }
+
+    /**
+     * @param acceptEncoding the Accept-Encoding header value, may be null
+     * @param coding         the content coding to look for (eg. gzip)
+     * @return true if the given coding is accepted with a quality value greater than zero
+     */
+    public static boolean accepts(String acceptEncoding, String coding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        boolean accepted = false;
+        for (String entry : acceptEncoding.split(",")) {
+            String[] parts = entry.split(";");
+            String name = parts[0].trim().toLowerCase(Locale.ENGLISH);
+            boolean exact = coding.equals(name) || ("x-" + coding).equals(name);
+            if (exact || "*".equals(name)) {
+                boolean allowed = qualityOf(parts) > 0;
+                if (exact) {
+                    // An explicit entry wins over the wildcard
+                    return allowed;
+                }
+                accepted = allowed;
+            }
+        }
+        return accepted;
+    }
+
+    private static float qualityOf(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String param = parts[i].trim();
+            if (param.startsWith("q=")) {
+                try {
+                    return Float.parseFloat(param.substring(2));
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,57 @@
+package io.fabric8.launcher.web.filters;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.annotation.Priority;
+import javax.enterprise.context.Dependent;
+import javax.inject.Inject;
+import javax.servlet.http.HttpServletRequest;
+import javax.ws.rs.Priorities;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.ext.Provider;
+
+import io.fabric8.launcher.base.identity.TokenIdentity;
+import io.fabric8.launcher.core.spi.IdentityProvider;
+import io.fabric8.launcher.web.producers.GitServiceProducer;
+import io.fabric8.launcher.web.producers.OpenShiftServiceProducer;
+
+/**
+ * Starts the Git and OpenShift identity exchanges of a {@link PrefetchIdentities} endpoint once the request is
+ * authenticated. The services produced later on join the exchanges in flight instead of running them one after the other.
+ */
+@PrefetchIdentities
+@Provider
+@Priority(Priorities.AUTHORIZATION)
+@Dependent
+public class IdentityPrefetchFilter implements ContainerRequestFilter {
+
+    private static final Logger log = Logger.getLogger(IdentityPrefetchFilter.class.getName());
+
+    @Context
+    HttpServletRequest request;
+
+    @Inject
+    IdentityProvider identityProvider;
+
+    @Inject
+    GitServiceProducer gitServiceProducer;
+
+    @Inject
+    OpenShiftServiceProducer openShiftServiceProducer;
+
+    @Override
+    public void filter(ContainerRequestContext requestContext) {
+        final TokenIdentity authorization = TokenIdentity.fromBearerAuthorizationHeader(requestContext.getHeaderString(HttpHeaders.AUTHORIZATION));
+        try {
+            gitServiceProducer.prefetchIdentity(request, identityProvider, authorization);
+            openShiftServiceProducer.prefetchIdentity(request, identityProvider, authorization);
+        } catch (RuntimeException e) {
+            // The producers report the same error when the endpoint asks for the services
+            log.log(Level.FINE, "Could not prefetch the identities", e);
+        }
+    }
+}
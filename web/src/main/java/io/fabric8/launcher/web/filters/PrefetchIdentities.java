@@ -0,0 +1,20 @@
+package io.fabric8.launcher.web.filters;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import javax.ws.rs.NameBinding;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Used in {@link io.fabric8.launcher.core.api.security.Secured} JAX-RS endpoints needing both the Git and the OpenShift
+ * identities of the user, so they are exchanged in parallel when the request starts
+ */
+@NameBinding
+@Retention(RUNTIME)
+@Target({TYPE, METHOD})
+public @interface PrefetchIdentities {
+}
@@ -0,0 +1,160 @@
+package io.fabric8.launcher.web.filters.assets;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.servlet.Filter;
+import javax.servlet.FilterChain;
+import javax.servlet.FilterConfig;
+import javax.servlet.ServletContext;
+import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.annotation.WebFilter;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import io.fabric8.launcher.web.filters.AcceptEncoding;
+import org.apache.commons.io.IOUtils;
+
+/**
+ * Serves the static assets listed in the {@link StaticAssetManifest}, picking the precompressed variant matching
+ * the Accept-Encoding header. Fingerprinted files are cached forever, the others are revalidated using their ETag.
+ */
+@WebFilter(filterName = "StaticAssetFilter", urlPatterns = "/*", asyncSupported = true)
+public class StaticAssetFilter implements Filter {
+
+    private static final Logger log = Logger.getLogger(StaticAssetFilter.class.getName());
+
+    static final String IMMUTABLE = "public, max-age=31536000, immutable";
+
+    static final String REVALIDATE = "no-cache";
+
+    private static final String RESOURCES_PREFIX = "META-INF/resources";
+
+    private StaticAssetManifest manifest;
+
+    private ServletContext servletContext;
+
+    @Override
+    public void init(FilterConfig filterConfig) {
+        servletContext = filterConfig.getServletContext();
+        try {
+            manifest = StaticAssetManifest.load(classLoader());
+        } catch (IOException e) {
+            log.log(Level.WARNING, "Could not read " + StaticAssetManifest.MANIFEST_RESOURCE + ", static assets served as-is", e);
+            manifest = new StaticAssetManifest(Collections.emptyMap());
+        }
+    }
+
+    void init(StaticAssetManifest manifest, ServletContext servletContext) {
+        this.manifest = manifest;
+        this.servletContext = servletContext;
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
+        if (manifest.isEmpty() || !(request instanceof HttpServletRequest)) {
+            chain.doFilter(request, response);
+            return;
+        }
+        HttpServletRequest httpRequest = (HttpServletRequest) request;
+        HttpServletResponse httpResponse = (HttpServletResponse) response;
+        String method = httpRequest.getMethod();
+        Optional<StaticAssetManifest.Asset> asset = manifest.find(pathOf(httpRequest));
+        if (!asset.isPresent() || !("GET".equals(method) || "HEAD".equals(method))) {
+            chain.doFilter(request, response);
+            return;
+        }
+        serve(asset.get(), httpRequest, httpResponse, chain);
+    }
+
+    private void serve(StaticAssetManifest.Asset asset, HttpServletRequest request, HttpServletResponse response,
+                       FilterChain chain) throws IOException, ServletException {
+        String encoding = selectEncoding(asset, request.getHeader("Accept-Encoding"));
+        String resource = RESOURCES_PREFIX + asset.path + (encoding == null ? "" : encodingExtension(encoding));
+        String etag = asset.etag(encoding);
+        try (InputStream stream = classLoader().getResourceAsStream(resource)) {
+            if (stream == null) {
+                // Manifest and resources are out of sync, let the container handle it
+                chain.doFilter(request, response);
+                return;
+            }
+            response.setHeader("ETag", etag);
+            response.setHeader("Cache-Control", asset.isFingerprinted() ? IMMUTABLE : REVALIDATE);
+            if (!asset.encodings.isEmpty()) {
+                response.addHeader("Vary", "Accept-Encoding");
+            }
+            if (matches(request.getHeader("If-None-Match"), etag)) {
+                response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+                return;
+            }
+            String contentType = servletContext.getMimeType(asset.path);
+            response.setContentType(contentType == null ? "application/octet-stream" : contentType);
+            if (encoding != null) {
+                response.setHeader("Content-Encoding", encoding);
+            }
+            response.setContentLengthLong(encoding == null ? asset.size : asset.encodings.get(encoding));
+            if (!"HEAD".equals(request.getMethod())) {
+                IOUtils.copy(stream, response.getOutputStream());
+            }
+        }
+    }
+
+    /**
+     * @return the best precompressed variant accepted by the client, null if the original should be sent
+     */
+    static String selectEncoding(StaticAssetManifest.Asset asset, String acceptEncoding) {
+        if (asset.encodings.containsKey(StaticAssetManifest.BROTLI) && AcceptEncoding.accepts(acceptEncoding, StaticAssetManifest.BROTLI)) {
+            return StaticAssetManifest.BROTLI;
+        }
+        if (asset.encodings.containsKey(StaticAssetManifest.GZIP) && AcceptEncoding.accepts(acceptEncoding, StaticAssetManifest.GZIP)) {
+            return StaticAssetManifest.GZIP;
+        }
+        return null;
+    }
+
+    /**
+     * Weak comparison, as required for If-None-Match
+     */
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmed = candidate.trim();
+            if (trimmed.startsWith("W/")) {
+                trimmed = trimmed.substring(2);
+            }
+            if ("*".equals(trimmed) || etag.equals(trimmed)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String encodingExtension(String encoding) {
+        return StaticAssetManifest.GZIP.equals(encoding) ? ".gz" : "." + encoding;
+    }
+
+    private static String pathOf(HttpServletRequest request) {
+        String path = request.getServletPath();
+        if (request.getPathInfo() != null) {
+            path = path + request.getPathInfo();
+        }
+        return path;
+    }
+
+    private static ClassLoader classLoader() {
+        return Thread.currentThread().getContextClassLoader();
+    }
+
+    @Override
+    public void destroy() {
+
+    }
+}
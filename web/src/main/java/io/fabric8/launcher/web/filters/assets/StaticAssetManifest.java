@@ -0,0 +1,125 @@
+package io.fabric8.launcher.web.filters.assets;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.fabric8.launcher.base.JsonUtils;
+import org.apache.commons.io.IOUtils;
+
+/**
+ * Describes the static assets produced at build time: content hash, size and the precompressed variants available
+ *
+ * @see StaticAssetPrecompressor
+ */
+final class StaticAssetManifest {
+
+    /**
+     * Location of the manifest in the classpath. Kept outside META-INF/resources so it is not served
+     */
+    static final String MANIFEST_RESOURCE = "META-INF/launcher-static-assets.json";
+
+    static final String GZIP = "gzip";
+
+    static final String BROTLI = "br";
+
+    /**
+     * Bundlers (eg. webpack) add a content hash to the file name (main.1a2b3c4d.chunk.js)
+     */
+    private static final Pattern FINGERPRINTED = Pattern.compile(".*[.-][0-9a-f]{8,}\\.[^/]+$");
+
+    private final Map<String, Asset> assets;
+
+    StaticAssetManifest(Map<String, Asset> assets) {
+        this.assets = Collections.unmodifiableMap(assets);
+    }
+
+    /**
+     * @return the manifest found in the classpath or an empty one if not found (eg. frontend not bundled)
+     */
+    static StaticAssetManifest load(ClassLoader classLoader) throws IOException {
+        try (InputStream stream = classLoader.getResourceAsStream(MANIFEST_RESOURCE)) {
+            if (stream == null) {
+                return new StaticAssetManifest(Collections.emptyMap());
+            }
+            return fromJson(JsonUtils.readTree(IOUtils.toString(stream, StandardCharsets.UTF_8)));
+        }
+    }
+
+    static StaticAssetManifest fromJson(JsonNode json) {
+        Map<String, Asset> assets = new HashMap<>();
+        Iterator<Map.Entry<String, JsonNode>> fields = json.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            JsonNode node = field.getValue();
+            Map<String, Long> encodings = new LinkedHashMap<>();
+            JsonNode encodingsNode = node.path("encodings");
+            encodingsNode.fieldNames().forEachRemaining(name -> encodings.put(name, encodingsNode.get(name).asLong()));
+            assets.put(field.getKey(), new Asset(field.getKey(), node.get("hash").asText(), node.get("size").asLong(), encodings));
+        }
+        return new StaticAssetManifest(assets);
+    }
+
+    ObjectNode toJson() {
+        ObjectNode json = JsonUtils.createObjectNode();
+        assets.values().stream()
+                .sorted((a, b) -> a.path.compareTo(b.path))
+                .forEach(asset -> {
+                    ObjectNode node = json.putObject(asset.path);
+                    node.put("hash", asset.hash);
+                    node.put("size", asset.size);
+                    ObjectNode encodings = node.putObject("encodings");
+                    asset.encodings.forEach(encodings::put);
+                });
+        return json;
+    }
+
+    Optional<Asset> find(String path) {
+        return Optional.ofNullable(assets.get(path));
+    }
+
+    boolean isEmpty() {
+        return assets.isEmpty();
+    }
+
+    static final class Asset {
+
+        final String path;
+
+        final String hash;
+
+        final long size;
+
+        /**
+         * Content coding -> size of the precompressed variant
+         */
+        final Map<String, Long> encodings;
+
+        Asset(String path, String hash, long size, Map<String, Long> encodings) {
+            this.path = path;
+            this.hash = hash;
+            this.size = size;
+            this.encodings = Collections.unmodifiableMap(encodings);
+        }
+
+        boolean isFingerprinted() {
+            return FINGERPRINTED.matcher(path).matches();
+        }
+
+        /**
+         * @return a strong ETag, distinct for every representation of this asset
+         */
+        String etag(String encoding) {
+            return encoding == null ? '"' + hash + '"' : '"' + hash + '-' + encoding + '"';
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package io.fabric8.launcher.web.filters.assets;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+import io.fabric8.launcher.base.JsonUtils;
+
+import static java.util.Arrays.asList;
+
+/**
+ * Runs while packaging the web module (see pom.xml): writes a gzip variant next to every compressible static asset
+ * and a {@link StaticAssetManifest} with the content hashes.
+ * <p>
+ * Brotli variants (.br) are not produced here, but are picked up if the frontend build already generated them.
+ */
+public final class StaticAssetPrecompressor {
+
+    private static final List<String> COMPRESSIBLE_EXTENSIONS = asList("js", "css", "html", "json", "map", "svg",
+                                                                         "txt", "xml", "ico", "webmanifest");
+
+    /**
+     * Served by IndexServlet with the settings applied
+     */
+    private static final String INDEX_HTML = "index.html";
+
+    /**
+     * A variant is only kept if it is at most this fraction of the original size
+     */
+    private static final double MAX_RATIO = 0.9;
+
+    private StaticAssetPrecompressor() {
+        throw new IllegalAccessError("Utility class");
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("Usage: StaticAssetPrecompressor <resources directory> <manifest file>");
+        }
+        Path resources = Paths.get(args[0].trim());
+        Path manifestFile = Paths.get(args[1].trim());
+        StaticAssetManifest manifest = precompress(resources);
+        Files.createDirectories(manifestFile.getParent());
+        JsonUtils.writeTree(manifest.toJson(), manifestFile.toFile());
+    }
+
+    static StaticAssetManifest precompress(Path resources) throws IOException {
+        Map<String, StaticAssetManifest.Asset> assets = new HashMap<>();
+        if (!Files.isDirectory(resources)) {
+            return new StaticAssetManifest(assets);
+        }
+        List<Path> files;
+        try (Stream<Path> stream = Files.walk(resources)) {
+            files = stream.filter(Files::isRegularFile)
+                    .filter(file -> !isVariant(file))
+                    .filter(file -> !resources.relativize(file).toString().equals(INDEX_HTML))
+                    .collect(Collectors.toList());
+        }
+        for (Path file : files) {
+            String path = "/" + resources.relativize(file).toString().replace(file.getFileSystem().getSeparator(), "/");
+            long size = Files.size(file);
+            Map<String, Long> encodings = new LinkedHashMap<>();
+            Path brotli = file.resolveSibling(file.getFileName() + ".br");
+            if (Files.isRegularFile(brotli)) {
+                encodings.put(StaticAssetManifest.BROTLI, Files.size(brotli));
+            }
+            if (isCompressible(file)) {
+                Path gzip = file.resolveSibling(file.getFileName() + ".gz");
+                long gzipSize = gzip(file, gzip);
+                if (gzipSize <= size * MAX_RATIO) {
+                    encodings.put(StaticAssetManifest.GZIP, gzipSize);
+                } else {
+                    Files.delete(gzip);
+                }
+            }
+            assets.put(path, new StaticAssetManifest.Asset(path, hash(file), size, encodings));
+        }
+        return new StaticAssetManifest(assets);
+    }
+
+    private static long gzip(Path source, Path target) throws IOException {
+        try (OutputStream os = Files.newOutputStream(target);
+             GZIPOutputStream gzip = new GZIPOutputStream(os) {
+                 {
+                     def.setLevel(Deflater.BEST_COMPRESSION);
+                 }
+             }) {
+            Files.copy(source, gzip);
+        }
+        return Files.size(target);
+    }
+
+    private static String hash(Path file) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+        byte[] buffer = new byte[8192];
+        try (InputStream is = Files.newInputStream(file)) {
+            int read;
+            while ((read = is.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        StringBuilder sb = new StringBuilder();
+        // 128 bits are more than enough to tell versions of the same file apart
+        byte[] bytes = digest.digest();
+        for (int i = 0; i < 16; i++) {
+            sb.append(String.format("%02x", bytes[i]));
+        }
+        return sb.toString();
+    }
+
+    private static boolean isVariant(Path file) {
+        String name = file.getFileName().toString();
+        return name.endsWith(".gz") || name.endsWith(".br");
+    }
+
+    private static boolean isCompressible(Path file) {
+        String name = file.getFileName().toString();
+        int idx = name.lastIndexOf('.');
+        return idx > -1 && COMPRESSIBLE_EXTENSIONS.contains(name.substring(idx + 1).toLowerCase(Locale.ENGLISH));
+    }
+}
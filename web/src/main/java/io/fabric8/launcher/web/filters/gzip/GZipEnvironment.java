@@ -0,0 +1,25 @@
+package io.fabric8.launcher.web.filters.gzip;
+
+import io.fabric8.launcher.base.EnvironmentEnum;
+
+/**
+ * Properties used to tune the {@link GZipFilter}
+ */
+public enum GZipEnvironment implements EnvironmentEnum {
+    /**
+     * The deflate level (0-9 or -1 for the JDK default)
+     */
+    LAUNCHER_GZIP_LEVEL,
+    /**
+     * Responses smaller than this number of bytes are sent uncompressed
+     */
+    LAUNCHER_GZIP_MIN_SIZE,
+    /**
+     * Comma-separated list of media types to compress (eg. text/*,application/json)
+     */
+    LAUNCHER_GZIP_MIME_TYPES,
+    /**
+     * Comma-separated list of media types that must never be compressed
+     */
+    LAUNCHER_GZIP_EXCLUDED_MIME_TYPES
+}
@@ -2,6 +2,8 @@ package io.fabric8.launcher.web.filters.gzip;
 
 import java.io.IOException;
 
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
 import javax.servlet.Filter;
 import javax.servlet.FilterChain;
 import javax.servlet.FilterConfig;
@@ -12,14 +14,22 @@ import javax.servlet.annotation.WebFilter;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
+import io.fabric8.launcher.web.filters.AcceptEncoding;
+
 /**
+ * Compresses responses whose content type is worth compressing and whose size is above a threshold.
+ *
  * @author <a href="mailto:ggastald@redhat.com">George Gastaldi</a>
+ * @see GZipEnvironment
  */
 @WebFilter(filterName = "GZipFilter", urlPatterns = "/*", asyncSupported = true)
 public class GZipFilter implements Filter {
+
+    private GZipSettings settings;
+
     @Override
     public void init(FilterConfig filterConfig) {
-
+        settings = GZipSettings.fromEnvironment();
     }
 
     @Override
@@ -32,29 +42,60 @@ public class GZipFilter implements Filter {
         HttpServletRequest httpRequest = (HttpServletRequest) request;
         HttpServletResponse httpResponse = (HttpServletResponse) response;
 
-        if (acceptsGZipEncoding(httpRequest)) {
-            httpResponse.setHeader("Content-Encoding", "gzip");
-            try (GZipServletResponseWrapper gzipResponse =
-                         new GZipServletResponseWrapper(httpResponse)) {
-                chain.doFilter(request, gzipResponse);
-            }
-        } else {
+        if ("HEAD".equals(httpRequest.getMethod())) {
             chain.doFilter(request, response);
+            return;
         }
 
+        GZipServletResponseWrapper gzipResponse =
+                new GZipServletResponseWrapper(httpResponse, settings, acceptsGZipEncoding(httpRequest));
+        try {
+            chain.doFilter(request, gzipResponse);
+        } finally {
+            if (httpRequest.isAsyncStarted()) {
+                // The response is written later, finish the compressed stream once the request completes
+                httpRequest.getAsyncContext().addListener(new CloseOnCompleteListener(gzipResponse));
+            } else {
+                gzipResponse.close();
+            }
+        }
     }
 
-    private boolean acceptsGZipEncoding(HttpServletRequest httpRequest) {
-        String acceptEncoding =
-                httpRequest.getHeader("Accept-Encoding");
-
-        return acceptEncoding != null &&
-                acceptEncoding.contains("gzip");
+    static boolean acceptsGZipEncoding(HttpServletRequest httpRequest) {
+        return AcceptEncoding.accepts(httpRequest.getHeader("Accept-Encoding"), "gzip");
     }
 
-
     @Override
     public void destroy() {
 
     }
+
+    private static class CloseOnCompleteListener implements AsyncListener {
+
+        private final GZipServletResponseWrapper response;
+
+        CloseOnCompleteListener(GZipServletResponseWrapper response) {
+            this.response = response;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) throws IOException {
+            response.close();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            // Nothing to do, onComplete is called afterwards
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            // Nothing to do, onComplete is called afterwards
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // Nothing to do
+        }
+    }
 }
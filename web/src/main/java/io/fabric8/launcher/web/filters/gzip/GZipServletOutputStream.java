@@ -1,57 +1,209 @@
 package io.fabric8.launcher.web.filters.gzip;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.OutputStream;
 import java.util.zip.GZIPOutputStream;
 
 import javax.servlet.ServletOutputStream;
 import javax.servlet.WriteListener;
 
 /**
+ * Buffers the first bytes of a response until it is known if compressing it is worth it, then either gzips or
+ * passes the content through.
+ * <p>
+ * When a {@link WriteListener} is registered (non-blocking mode), compressed bytes are only written to the
+ * underlying stream while it is ready, and the listener is only notified once everything pending was flushed.
+ *
  * @author <a href="mailto:ggastald@redhat.com">George Gastaldi</a>
  */
 class GZipServletOutputStream extends ServletOutputStream {
 
-    private GZIPOutputStream gzipOutputStream;
+    private static final int BUFFER_SIZE = 8192;
 
-    public GZipServletOutputStream(OutputStream output)
-            throws IOException {
-        super();
-        this.gzipOutputStream = new GZIPOutputStream(output);
+    private enum State {
+        BUFFERING, COMPRESSING, PASSTHROUGH
     }
 
-    @Override
-    public void close() throws IOException {
-        this.gzipOutputStream.close();
+    private final GZipServletResponseWrapper response;
+
+    private final ServletOutputStream output;
+
+    private final GZipSettings settings;
+
+    /**
+     * Bytes written before a decision was taken
+     */
+    private ByteArrayOutputStream buffer;
+
+    /**
+     * Bytes ready to be written to the underlying stream
+     */
+    private final ByteArrayOutputStream pending = new ByteArrayOutputStream(BUFFER_SIZE);
+
+    private GZIPOutputStream gzipOutputStream;
+
+    private State state = State.BUFFERING;
+
+    private WriteListener writeListener;
+
+    private boolean closed;
+
+    GZipServletOutputStream(GZipServletResponseWrapper response, ServletOutputStream output, GZipSettings settings) {
+        this.response = response;
+        this.output = output;
+        this.settings = settings;
     }
 
     @Override
-    public void flush() throws IOException {
-        this.gzipOutputStream.flush();
+    public void write(int b) throws IOException {
+        write(new byte[]{(byte) b}, 0, 1);
     }
 
     @Override
     public void write(byte[] b) throws IOException {
-        this.gzipOutputStream.write(b);
+        write(b, 0, b.length);
     }
 
     @Override
     public void write(byte[] b, int off, int len) throws IOException {
-        this.gzipOutputStream.write(b, off, len);
+        if (closed) {
+            throw new IOException("Stream already closed");
+        }
+        if (state == State.BUFFERING) {
+            int buffered = buffer == null ? 0 : buffer.size();
+            if (!response.isCompressionCandidate()) {
+                decide(false, buffered, false);
+            } else if (buffered + len < settings.getMinSize()) {
+                if (buffer == null) {
+                    buffer = new ByteArrayOutputStream(settings.getMinSize());
+                }
+                buffer.write(b, off, len);
+                return;
+            } else {
+                decide(response.shouldCompress(buffered + len), buffered, false);
+            }
+        }
+        if (state == State.COMPRESSING) {
+            gzipOutputStream.write(b, off, len);
+            drain();
+        } else if (pending.size() == 0 && isBlockingOrReady()) {
+            output.write(b, off, len);
+        } else {
+            pending.write(b, off, len);
+            drain();
+        }
     }
 
     @Override
-    public void write(int b) throws IOException {
-        this.gzipOutputStream.write(b);
+    public void flush() throws IOException {
+        if (closed) {
+            return;
+        }
+        if (state == State.BUFFERING) {
+            // Flushing means the caller wants the content on the wire, the final size is unknown
+            decide(response.isCompressionCandidate() && response.shouldCompress(-1), bufferSize(), false);
+        }
+        if (state == State.COMPRESSING) {
+            gzipOutputStream.flush();
+        }
+        drain();
+        if (pending.size() == 0 && isBlockingOrReady()) {
+            output.flush();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        if (state == State.BUFFERING) {
+            int size = bufferSize();
+            // The response is complete, so the real size is known
+            decide(size > 0 && response.isCompressionCandidate() && response.shouldCompress(size), size, true);
+        }
+        if (state == State.COMPRESSING) {
+            gzipOutputStream.finish();
+        }
+        closed = true;
+        drain();
+        if (pending.size() == 0) {
+            output.close();
+        }
     }
 
     @Override
     public boolean isReady() {
-        return true;
+        return pending.size() == 0 && isBlockingOrReady();
     }
 
     @Override
     public void setWriteListener(WriteListener writeListener) {
+        this.writeListener = writeListener;
+        output.setWriteListener(new WriteListener() {
+            @Override
+            public void onWritePossible() throws IOException {
+                drain();
+                if (pending.size() == 0) {
+                    if (closed) {
+                        output.close();
+                    } else if (output.isReady()) {
+                        writeListener.onWritePossible();
+                    }
+                }
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                writeListener.onError(t);
+            }
+        });
+    }
+
+    /**
+     * Discards the buffered content if no decision was taken yet
+     */
+    void resetBuffer() {
+        if (state == State.BUFFERING && buffer != null) {
+            buffer.reset();
+        }
+    }
+
+    private void decide(boolean compress, int bufferedSize, boolean complete) throws IOException {
+        if (compress) {
+            response.startCompression();
+            final int level = settings.getLevel();
+            gzipOutputStream = new GZIPOutputStream(pending, BUFFER_SIZE, true) {
+                {
+                    def.setLevel(level);
+                }
+            };
+            state = State.COMPRESSING;
+            if (buffer != null) {
+                buffer.writeTo(gzipOutputStream);
+            }
+        } else {
+            response.startPassthrough(bufferedSize, complete);
+            state = State.PASSTHROUGH;
+            if (buffer != null) {
+                buffer.writeTo(pending);
+            }
+        }
+        buffer = null;
+    }
+
+    private void drain() throws IOException {
+        if (pending.size() > 0 && isBlockingOrReady()) {
+            pending.writeTo(output);
+            pending.reset();
+        }
+    }
+
+    private boolean isBlockingOrReady() {
+        return writeListener == null || output.isReady();
+    }
 
+    private int bufferSize() {
+        return buffer == null ? 0 : buffer.size();
     }
 }
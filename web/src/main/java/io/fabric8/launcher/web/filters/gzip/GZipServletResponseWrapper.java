@@ -12,12 +12,36 @@ import javax.servlet.http.HttpServletResponseWrapper;
  * @author <a href="mailto:ggastald@redhat.com">George Gastaldi</a>
  */
 class GZipServletResponseWrapper extends HttpServletResponseWrapper implements AutoCloseable {
+
+    private static final String CONTENT_LENGTH = "Content-Length";
+
+    private static final String CONTENT_ENCODING = "Content-Encoding";
+
+    private static final String VARY = "Vary";
+
+    private static final String ACCEPT_ENCODING = "Accept-Encoding";
+
+    private final GZipSettings settings;
+
+    private final boolean acceptsGZip;
+
     private GZipServletOutputStream gzipOutputStream = null;
 
     private PrintWriter printWriter = null;
 
-    public GZipServletResponseWrapper(HttpServletResponse response) {
+    /**
+     * Content length declared by the application, only forwarded if the response is not compressed
+     */
+    private long contentLength = -1;
+
+    private boolean decided;
+
+    private boolean compressing;
+
+    GZipServletResponseWrapper(HttpServletResponse response, GZipSettings settings, boolean acceptsGZip) {
         super(response);
+        this.settings = settings;
+        this.acceptsGZip = acceptsGZip;
     }
 
     @Override
@@ -77,7 +101,7 @@ class GZipServletResponseWrapper extends HttpServletResponseWrapper implements A
         }
         if (this.gzipOutputStream == null) {
             this.gzipOutputStream = new GZipServletOutputStream(
-                    getResponse().getOutputStream());
+                    this, getResponse().getOutputStream(), settings);
         }
         return this.gzipOutputStream;
     }
@@ -90,18 +114,134 @@ class GZipServletResponseWrapper extends HttpServletResponseWrapper implements A
         }
         if (this.printWriter == null) {
             this.gzipOutputStream = new GZipServletOutputStream(
-                    getResponse().getOutputStream());
+                    this, getResponse().getOutputStream(), settings);
             this.printWriter = new PrintWriter(new OutputStreamWriter(
                     this.gzipOutputStream, getResponse().getCharacterEncoding()));
         }
         return this.printWriter;
     }
 
-
     @Override
     public void setContentLength(int len) {
-        //ignore, since content length of zipped content
-        //does not match content length of unzipped content.
+        setContentLengthLong(len);
     }
 
+    @Override
+    public void setContentLengthLong(long len) {
+        //content length of zipped content does not match content length of unzipped content,
+        //so it is only forwarded once it is known that the response is sent uncompressed
+        if (decided) {
+            if (!compressing) {
+                super.setContentLengthLong(len);
+            }
+        } else {
+            this.contentLength = len;
+        }
+    }
+
+    @Override
+    public void setHeader(String name, String value) {
+        if (CONTENT_LENGTH.equalsIgnoreCase(name)) {
+            setContentLengthLong(value == null ? -1 : Long.parseLong(value));
+        } else {
+            super.setHeader(name, value);
+        }
+    }
+
+    @Override
+    public void addHeader(String name, String value) {
+        if (CONTENT_LENGTH.equalsIgnoreCase(name)) {
+            setContentLengthLong(value == null ? -1 : Long.parseLong(value));
+        } else {
+            super.addHeader(name, value);
+        }
+    }
+
+    @Override
+    public void setIntHeader(String name, int value) {
+        if (CONTENT_LENGTH.equalsIgnoreCase(name)) {
+            setContentLengthLong(value);
+        } else {
+            super.setIntHeader(name, value);
+        }
+    }
+
+    @Override
+    public void addIntHeader(String name, int value) {
+        if (CONTENT_LENGTH.equalsIgnoreCase(name)) {
+            setContentLengthLong(value);
+        } else {
+            super.addIntHeader(name, value);
+        }
+    }
+
+    @Override
+    public void resetBuffer() {
+        super.resetBuffer();
+        if (this.gzipOutputStream != null) {
+            this.gzipOutputStream.resetBuffer();
+        }
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        this.contentLength = -1;
+        if (this.gzipOutputStream != null) {
+            this.gzipOutputStream.resetBuffer();
+        }
+    }
+
+    /**
+     * @return true if the response may be compressed depending on its size
+     */
+    boolean isCompressionCandidate() {
+        return acceptsGZip
+                && getHeader(CONTENT_ENCODING) == null
+                && getStatus() != SC_NO_CONTENT
+                && getStatus() != SC_NOT_MODIFIED
+                && getStatus() != SC_PARTIAL_CONTENT
+                && (contentLength < 0 || contentLength >= settings.getMinSize())
+                && settings.isCompressible(getContentType());
+    }
+
+    /**
+     * @param size the number of bytes known so far or -1 if unknown
+     * @return true if compressing a response of the given size is worth it
+     */
+    boolean shouldCompress(long size) {
+        return size < 0 || size >= settings.getMinSize();
+    }
+
+    void startCompression() {
+        decided = true;
+        compressing = true;
+        addVaryHeader();
+        super.setHeader(CONTENT_ENCODING, "gzip");
+    }
+
+    void startPassthrough(long bufferedSize, boolean complete) {
+        decided = true;
+        if (settings.isCompressible(getContentType())) {
+            // A client sending a different Accept-Encoding might get a compressed representation
+            addVaryHeader();
+        }
+        if (contentLength >= 0) {
+            super.setContentLengthLong(contentLength);
+        } else if (complete && bufferedSize > 0) {
+            super.setContentLengthLong(bufferedSize);
+        }
+    }
+
+    private void addVaryHeader() {
+        for (String vary : getHeaders(VARY)) {
+            for (String value : vary.split(",")) {
+                String trimmed = value.trim();
+                if ("*".equals(trimmed) || ACCEPT_ENCODING.equalsIgnoreCase(trimmed)) {
+                    return;
+                }
+            }
+        }
+        super.addHeader(VARY, ACCEPT_ENCODING);
+    }
 }
@@ -0,0 +1,118 @@
+package io.fabric8.launcher.web.filters.gzip;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.zip.Deflater;
+
+import static io.fabric8.launcher.web.filters.gzip.GZipEnvironment.LAUNCHER_GZIP_EXCLUDED_MIME_TYPES;
+import static io.fabric8.launcher.web.filters.gzip.GZipEnvironment.LAUNCHER_GZIP_LEVEL;
+import static io.fabric8.launcher.web.filters.gzip.GZipEnvironment.LAUNCHER_GZIP_MIME_TYPES;
+import static io.fabric8.launcher.web.filters.gzip.GZipEnvironment.LAUNCHER_GZIP_MIN_SIZE;
+
+/**
+ * Decides which responses are worth compressing and how
+ */
+final class GZipSettings {
+
+    static final int DEFAULT_MIN_SIZE = 1024;
+
+    static final String DEFAULT_MIME_TYPES = "text/*,application/json,application/*+json,application/javascript," +
+            "application/xml,application/*+xml,application/x-yaml,application/yaml,image/svg+xml";
+
+    /**
+     * Streaming responses must reach the client as soon as they are written
+     */
+    static final String DEFAULT_EXCLUDED_MIME_TYPES = "text/event-stream";
+
+    private final int level;
+
+    private final int minSize;
+
+    private final List<String> mimeTypes;
+
+    private final List<String> excludedMimeTypes;
+
+    GZipSettings(int level, int minSize, String mimeTypes, String excludedMimeTypes) {
+        if (level < Deflater.DEFAULT_COMPRESSION || level > Deflater.BEST_COMPRESSION) {
+            throw new IllegalArgumentException("Invalid compression level: " + level);
+        }
+        this.level = level;
+        this.minSize = Math.max(0, minSize);
+        this.mimeTypes = parse(mimeTypes);
+        this.excludedMimeTypes = parse(excludedMimeTypes);
+    }
+
+    static GZipSettings fromEnvironment() {
+        return new GZipSettings(LAUNCHER_GZIP_LEVEL.intValue(Deflater.DEFAULT_COMPRESSION),
+                                LAUNCHER_GZIP_MIN_SIZE.intValue(DEFAULT_MIN_SIZE),
+                                LAUNCHER_GZIP_MIME_TYPES.value(DEFAULT_MIME_TYPES),
+                                LAUNCHER_GZIP_EXCLUDED_MIME_TYPES.value(DEFAULT_EXCLUDED_MIME_TYPES));
+    }
+
+    int getLevel() {
+        return level;
+    }
+
+    int getMinSize() {
+        return minSize;
+    }
+
+    /**
+     * @param contentType the Content-Type header value, parameters are ignored
+     * @return true if a response with the given content type should be compressed
+     */
+    boolean isCompressible(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        String mimeType = contentType;
+        int idx = mimeType.indexOf(';');
+        if (idx > -1) {
+            mimeType = mimeType.substring(0, idx);
+        }
+        mimeType = mimeType.trim().toLowerCase(Locale.ENGLISH);
+        for (String excluded : excludedMimeTypes) {
+            if (matches(excluded, mimeType)) {
+                return false;
+            }
+        }
+        for (String included : mimeTypes) {
+            if (matches(included, mimeType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Supports exact matches, wildcard subtypes (text/*) and suffix subtypes (application/*+json)
+     */
+    private static boolean matches(String pattern, String mimeType) {
+        if (pattern.equals(mimeType)) {
+            return true;
+        }
+        int idx = pattern.indexOf("/*");
+        if (idx < 0) {
+            return false;
+        }
+        String type = pattern.substring(0, idx + 1);
+        String suffix = pattern.substring(idx + 2);
+        return mimeType.startsWith(type) && mimeType.endsWith(suffix) && mimeType.length() > type.length() + suffix.length();
+    }
+
+    private static List<String> parse(String list) {
+        if (list == null || list.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<String> result = new ArrayList<>();
+        for (String item : list.split(",")) {
+            String trimmed = item.trim().toLowerCase(Locale.ENGLISH);
+            if (!trimmed.isEmpty()) {
+                result.add(trimmed);
+            }
+        }
+        return Collections.unmodifiableList(result);
+    }
+}
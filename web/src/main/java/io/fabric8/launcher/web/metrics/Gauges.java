@@ -0,0 +1,30 @@
+package io.fabric8.launcher.web.metrics;
+
+import org.eclipse.microprofile.metrics.Gauge;
+import org.eclipse.microprofile.metrics.Metadata;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.MetricType;
+import org.eclipse.microprofile.metrics.MetricUnits;
+
+/**
+ * Registers the gauges published under /metrics/application
+ */
+final class Gauges {
+
+    private Gauges() {
+        throw new IllegalAccessError("Utility class");
+    }
+
+    static <T extends Number> void gauge(MetricRegistry registry, String name, String description, Gauge<T> gauge) {
+        gauge(registry, name, description, MetricUnits.NONE, gauge);
+    }
+
+    static <T extends Number> void gauge(MetricRegistry registry, String name, String description, String unit, Gauge<T> gauge) {
+        registry.register(Metadata.builder()
+                                  .withName(name)
+                                  .withDescription(description)
+                                  .withType(MetricType.GAUGE)
+                                  .withUnit(unit)
+                                  .build(), gauge);
+    }
+}
@@ -0,0 +1,69 @@
+package io.fabric8.launcher.web.metrics;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToIntFunction;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+import javax.enterprise.inject.Instance;
+import javax.inject.Inject;
+
+import io.fabric8.launcher.base.http.HttpClient;
+import io.fabric8.launcher.base.http.HttpEventRecorder;
+import io.fabric8.launcher.base.http.HttpUpstream.HttpUpstreamLiteral;
+import io.fabric8.launcher.base.http.Upstream;
+import io.quarkus.runtime.StartupEvent;
+import org.eclipse.microprofile.metrics.Gauge;
+import org.eclipse.microprofile.metrics.Metadata;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.MetricType;
+import org.eclipse.microprofile.metrics.MetricUnits;
+import org.eclipse.microprofile.metrics.Tag;
+
+/**
+ * Publishes the timings and the dispatcher/connection pool state of every {@link Upstream} under /metrics/application
+ */
+@ApplicationScoped
+public class HttpClientMetrics implements HttpEventRecorder {
+
+    @Inject
+    MetricRegistry registry;
+
+    /**
+     * Looked up on startup, the upstream clients depend on this recorder
+     */
+    @Inject
+    Instance<HttpClient> httpClients;
+
+    @Override
+    public void record(String profile, Phase phase, long durationNanos) {
+        registry.timer(Metadata.builder()
+                               .withName("launcher.http.client." + phase.name().toLowerCase(Locale.ENGLISH))
+                               .withType(MetricType.TIMER)
+                               .withUnit(MetricUnits.NANOSECONDS)
+                               .build(),
+                       new Tag("upstream", profile))
+                .update(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    void register(@Observes StartupEvent event) {
+        for (Upstream upstream : Upstream.values()) {
+            HttpClient httpClient = httpClients.select(HttpUpstreamLiteral.of(upstream)).get();
+            Tag tag = new Tag("upstream", upstream.name().toLowerCase(Locale.ENGLISH));
+            gauge("launcher.http.client.queued", "Async calls waiting for the dispatcher", httpClient, HttpClient::getQueuedCallsCount, tag);
+            gauge("launcher.http.client.running", "Calls currently executing", httpClient, HttpClient::getRunningCallsCount, tag);
+            gauge("launcher.http.client.connections", "Open connections", httpClient, HttpClient::getConnectionCount, tag);
+            gauge("launcher.http.client.idleConnections", "Idle connections", httpClient, HttpClient::getIdleConnectionCount, tag);
+        }
+    }
+
+    private void gauge(String name, String description, HttpClient httpClient, ToIntFunction<HttpClient> value, Tag tag) {
+        registry.register(Metadata.builder()
+                                  .withName(name)
+                                  .withDescription(description)
+                                  .withType(MetricType.GAUGE)
+                                  .build(),
+                          (Gauge<Integer>) () -> value.applyAsInt(httpClient), tag);
+    }
+}
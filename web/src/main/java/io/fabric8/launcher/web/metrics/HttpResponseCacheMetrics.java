@@ -0,0 +1,38 @@
+package io.fabric8.launcher.web.metrics;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+import javax.inject.Inject;
+
+import io.fabric8.launcher.base.http.HttpResponseCache;
+import io.quarkus.runtime.StartupEvent;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.MetricUnits;
+
+import static io.fabric8.launcher.web.metrics.Gauges.gauge;
+
+/**
+ * Publishes the {@link HttpResponseCache} statistics under /metrics/application
+ */
+@ApplicationScoped
+public class HttpResponseCacheMetrics {
+
+    @Inject
+    MetricRegistry registry;
+
+    @Inject
+    HttpResponseCache cache;
+
+    void register(@Observes StartupEvent event) {
+        gauge(registry, "launcher.http.cache.hits", "Git provider requests answered from the cache after a 304", MetricUnits.NONE,
+              cache::getHitCount);
+        gauge(registry, "launcher.http.cache.misses", "Git provider requests needing a full response", MetricUnits.NONE,
+              cache::getMissCount);
+        gauge(registry, "launcher.http.cache.evictions", "Entries evicted to stay below the maximum size", MetricUnits.NONE,
+              cache::getEvictionCount);
+        gauge(registry, "launcher.http.cache.hitRatio", "Ratio of hits among the cacheable requests", MetricUnits.NONE,
+              cache::getHitRatio);
+        gauge(registry, "launcher.http.cache.size", "Bytes held by the cache", MetricUnits.BYTES,
+              cache::getSize);
+    }
+}
@@ -0,0 +1,33 @@
+package io.fabric8.launcher.web.metrics;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+import javax.inject.Inject;
+
+import io.fabric8.launcher.web.endpoints.launch.LaunchExecutor;
+import io.quarkus.runtime.StartupEvent;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+
+import static io.fabric8.launcher.web.metrics.Gauges.gauge;
+
+/**
+ * Publishes the state of the {@link LaunchExecutor} under /metrics/application, the queue depth being the signal to
+ * scale the deployment on
+ */
+@ApplicationScoped
+public class LaunchMetrics {
+
+    @Inject
+    MetricRegistry registry;
+
+    @Inject
+    LaunchExecutor launches;
+
+    void register(@Observes StartupEvent event) {
+        gauge(registry, "launcher.launches.queued", "Launches waiting for a thread", launches::getQueuedCount);
+        gauge(registry, "launcher.launches.running", "Launches running", launches::getRunningCount);
+        gauge(registry, "launcher.launches.rejected", "Launches rejected with 429 (Too Many Requests)", launches::getRejectedCount);
+        gauge(registry, "launcher.launches.started", "Launches started", launches::getStartedCount);
+        gauge(registry, "launcher.launches.wait.time", "Total milliseconds the started launches waited for a thread", launches::getWaitMillis);
+    }
+}
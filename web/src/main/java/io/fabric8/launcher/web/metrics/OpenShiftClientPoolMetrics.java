@@ -0,0 +1,35 @@
+package io.fabric8.launcher.web.metrics;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+import javax.inject.Inject;
+
+import io.fabric8.launcher.service.openshift.api.OpenShiftClientStatistics;
+import io.quarkus.runtime.StartupEvent;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+
+import static io.fabric8.launcher.web.metrics.Gauges.gauge;
+
+/**
+ * Publishes the {@link OpenShiftClientStatistics} under /metrics/application
+ */
+@ApplicationScoped
+public class OpenShiftClientPoolMetrics {
+
+    @Inject
+    MetricRegistry registry;
+
+    @Inject
+    OpenShiftClientStatistics pool;
+
+    void register(@Observes StartupEvent event) {
+        gauge(registry, "launcher.openshift.clients.size", "Pooled OpenShift clients", pool::getSize);
+        gauge(registry, "launcher.openshift.clients.hits", "Requests served by a pooled OpenShift client", pool::getHitCount);
+        gauge(registry, "launcher.openshift.clients.misses", "Requests needing a new OpenShift client", pool::getMissCount);
+        gauge(registry, "launcher.openshift.clients.expired", "OpenShift clients dropped when idle or when their token expired", pool::getExpiredCount);
+        gauge(registry, "launcher.openshift.clusters", "OpenShift clusters having a connection pool", pool::getClusterCount);
+        gauge(registry, "launcher.openshift.connections", "Open connections to the OpenShift clusters", pool::getConnectionCount);
+        gauge(registry, "launcher.openshift.idleConnections", "Idle connections to the OpenShift clusters", pool::getIdleConnectionCount);
+        gauge(registry, "launcher.openshift.running", "Calls currently executing on the OpenShift clusters", pool::getRunningCallsCount);
+    }
+}
@@ -0,0 +1,32 @@
+package io.fabric8.launcher.web.metrics;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+import javax.inject.Inject;
+
+import io.fabric8.launcher.core.api.events.StatusMessageStatistics;
+import io.quarkus.runtime.StartupEvent;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+
+import static io.fabric8.launcher.web.metrics.Gauges.gauge;
+
+/**
+ * Publishes the {@link StatusMessageStatistics} under /metrics/application
+ */
+@ApplicationScoped
+public class StatusMessageMetrics {
+
+    @Inject
+    MetricRegistry registry;
+
+    @Inject
+    StatusMessageStatistics messages;
+
+    void register(@Observes StartupEvent event) {
+        gauge(registry, "launcher.status.buffered.keys", "Launches having status messages waiting for their consumer", messages::getBufferedKeyCount);
+        gauge(registry, "launcher.status.buffered.bytes", "Size of the status messages waiting for their consumer", messages::getBufferedBytes);
+        gauge(registry, "launcher.status.evictions", "Buffered status messages dropped before reaching their consumer", messages::getEvictionCount);
+        gauge(registry, "launcher.status.delivered", "Buffered status messages delivered to their consumer", messages::getDeliveredCount);
+        gauge(registry, "launcher.status.delivery.lag", "Total milliseconds the delivered status messages waited in the buffer", messages::getDeliveryLagMillis);
+    }
+}
@@ -0,0 +1,30 @@
+package io.fabric8.launcher.web.metrics;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+import javax.inject.Inject;
+
+import io.fabric8.launcher.core.api.security.TokenVerificationStatistics;
+import io.quarkus.runtime.StartupEvent;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+
+import static io.fabric8.launcher.web.metrics.Gauges.gauge;
+
+/**
+ * Publishes the {@link TokenVerificationStatistics} under /metrics/application
+ */
+@ApplicationScoped
+public class TokenVerificationMetrics {
+
+    @Inject
+    MetricRegistry registry;
+
+    @Inject
+    TokenVerificationStatistics tokens;
+
+    void register(@Observes StartupEvent event) {
+        gauge(registry, "launcher.tokens.verified.size", "Verified tokens kept", tokens::getSize);
+        gauge(registry, "launcher.tokens.verified.hits", "Requests carrying a token already verified", tokens::getHitCount);
+        gauge(registry, "launcher.tokens.verified.misses", "Requests whose token signature was verified", tokens::getMissCount);
+    }
+}
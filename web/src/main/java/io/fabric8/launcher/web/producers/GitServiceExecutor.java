@@ -0,0 +1,74 @@
+package io.fabric8.launcher.web.producers;
+
+import java.util.concurrent.Executor;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.enterprise.context.ApplicationScoped;
+
+import org.eclipse.microprofile.context.ManagedExecutor;
+import org.eclipse.microprofile.context.ThreadContext;
+
+import static io.fabric8.launcher.service.git.GitEnvironment.LAUNCHER_GIT_CALL_TIMEOUT;
+import static io.fabric8.launcher.service.git.GitEnvironment.LAUNCHER_GIT_EXECUTOR_QUEUE;
+import static io.fabric8.launcher.service.git.GitEnvironment.LAUNCHER_GIT_EXECUTOR_THREADS;
+
+/**
+ * Bounded pool running the Git provider calls that a single request fans out.
+ * <p>
+ * At most LAUNCHER_GIT_EXECUTOR_THREADS (16 by default) calls run at once and LAUNCHER_GIT_EXECUTOR_QUEUE (64 by default)
+ * wait for a thread, further submissions are rejected. Each call should complete within LAUNCHER_GIT_CALL_TIMEOUT
+ * milliseconds (5 seconds by default).
+ */
+@ApplicationScoped
+public class GitServiceExecutor implements Executor {
+
+    private ManagedExecutor executor;
+
+    private long callTimeout;
+
+    /**
+     * Used in proxies, the pool is created by {@link #start()}
+     */
+    @Deprecated
+    public GitServiceExecutor() {
+    }
+
+    public GitServiceExecutor(int threads, int queue, long callTimeout) {
+        start(threads, queue, callTimeout);
+    }
+
+    @PostConstruct
+    void start() {
+        start(LAUNCHER_GIT_EXECUTOR_THREADS.intValue(16), LAUNCHER_GIT_EXECUTOR_QUEUE.intValue(64),
+              LAUNCHER_GIT_CALL_TIMEOUT.intValue(5000));
+    }
+
+    private void start(int threads, int queue, long callTimeout) {
+        // The calls are made on the GitService instances, not on their request-scoped proxies
+        this.executor = ManagedExecutor.builder()
+                .maxAsync(threads)
+                .maxQueued(queue)
+                .propagated(ThreadContext.NONE)
+                .cleared(ThreadContext.ALL_REMAINING)
+                .build();
+        this.callTimeout = callTimeout;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        executor.execute(command);
+    }
+
+    /**
+     * @return the time in milliseconds a call may take before its result is dropped
+     */
+    public long getCallTimeout() {
+        return callTimeout;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -43,6 +43,8 @@ public class GitServiceProducer {
 
     private final GitServiceConfigs gitServiceConfigs;
 
+    private final GitServiceSessions gitServiceSessions;
+
     /**
      * Used in proxies
      */
@@ -50,12 +52,15 @@ public class GitServiceProducer {
     GitServiceProducer() {
         this.gitServiceFactories = null;
         this.gitServiceConfigs = null;
+        this.gitServiceSessions = null;
     }
 
     @Inject
-    GitServiceProducer(GitServiceFactories gitServiceFactories, GitServiceConfigs gitServiceConfigs) {
+    GitServiceProducer(GitServiceFactories gitServiceFactories, GitServiceConfigs gitServiceConfigs,
+                       GitServiceSessions gitServiceSessions) {
         this.gitServiceFactories = gitServiceFactories;
         this.gitServiceConfigs = gitServiceConfigs;
+        this.gitServiceSessions = gitServiceSessions;
     }
 
     @Produces
@@ -76,7 +81,22 @@ public class GitServiceProducer {
                     .orElseThrow(() -> new NotFoundException("Git token not found")));
         }
         String userName = (String) request.getAttribute("USER_NAME");
-        return gitServiceFactory.create(identity, userName, gitServiceConfig);
+        return gitServiceSessions.getGitService(gitServiceFactory, identity, userName, gitServiceConfig);
+    }
+
+    /**
+     * Starts the Git identity exchange {@link #getGitService(HttpServletRequest, IdentityProvider, TokenIdentity)}
+     * needs, without waiting for it
+     */
+    public void prefetchIdentity(final HttpServletRequest request,
+                                 final IdentityProvider identityProvider,
+                                 final TokenIdentity authorization) {
+        if (request.getHeader(GIT_AUTHORIZATION_HEADER) == null) {
+            GitServiceFactory gitServiceFactory = gitServiceFactories.getGitServiceFactory(getGitServiceConfig(request).getType());
+            if (!gitServiceFactory.getDefaultIdentity().isPresent()) {
+                identityProvider.getIdentityAsync(authorization, gitServiceFactory.getName().toLowerCase());
+            }
+        }
     }
 
     /**
@@ -0,0 +1,79 @@
+package io.fabric8.launcher.web.producers;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nullable;
+import javax.annotation.PostConstruct;
+import javax.enterprise.context.ApplicationScoped;
+
+import io.fabric8.launcher.base.http.Authorizations;
+import io.fabric8.launcher.base.identity.Identity;
+import io.fabric8.launcher.base.identity.TokenIdentity;
+import io.fabric8.launcher.service.git.api.GitService;
+import io.fabric8.launcher.service.git.api.GitServiceConfig;
+import io.fabric8.launcher.service.git.api.GitServiceFactory;
+import org.cache2k.Cache;
+import org.cache2k.Cache2kBuilder;
+
+import static io.fabric8.launcher.service.git.GitEnvironment.LAUNCHER_GIT_SESSION_CACHE_SIZE;
+import static io.fabric8.launcher.service.git.GitEnvironment.LAUNCHER_GIT_SESSION_TTL;
+
+/**
+ * Keeps the initialized {@link GitService} of each identity for a while, so the "who am I" calls made when a
+ * service is created are not repeated on every request.
+ * <p>
+ * Sessions are keyed by Git provider, login and a fingerprint of the credentials, and expire after
+ * LAUNCHER_GIT_SESSION_TTL seconds (5 minutes by default) or when the token expires, whichever comes first.
+ */
+@ApplicationScoped
+public class GitServiceSessions {
+
+    private Cache<String, GitService> sessions;
+
+    /**
+     * Used in proxies, the cache is created by {@link #start()}
+     */
+    @Deprecated
+    public GitServiceSessions() {
+    }
+
+    GitServiceSessions(long capacity, long ttlSeconds) {
+        start(capacity, ttlSeconds);
+    }
+
+    @PostConstruct
+    void start() {
+        start(LAUNCHER_GIT_SESSION_CACHE_SIZE.intValue(1000), LAUNCHER_GIT_SESSION_TTL.intValue(300));
+    }
+
+    private void start(long capacity, long ttlSeconds) {
+        final long ttlMillis = TimeUnit.SECONDS.toMillis(ttlSeconds);
+        this.sessions = Cache2kBuilder.of(String.class, GitService.class)
+                .entryCapacity(capacity)
+                .sharpExpiry(true)
+                .expiryPolicy((key, service, loadTime, oldEntry) -> Math.min(loadTime + ttlMillis, tokenExpiry(service.getIdentity())))
+                .build();
+    }
+
+    /**
+     * @return the {@link GitService} of this identity, created with the given factory if no session exists
+     */
+    public GitService getGitService(GitServiceFactory factory, Identity identity, @Nullable String login, GitServiceConfig config) {
+        String key = config.getId() + ':' + login + ':' + Authorizations.fingerprint(identity);
+        return sessions.computeIfAbsent(key, () -> new MemoizingGitService(factory.create(identity, login, config)));
+    }
+
+    public void invalidateAll() {
+        sessions.removeAll();
+    }
+
+    private static long tokenExpiry(Identity identity) {
+        if (identity instanceof TokenIdentity) {
+            return Authorizations.getExpirationTime(((TokenIdentity) identity).getToken())
+                    .map(Instant::toEpochMilli)
+                    .orElse(Long.MAX_VALUE);
+        }
+        return Long.MAX_VALUE;
+    }
+}
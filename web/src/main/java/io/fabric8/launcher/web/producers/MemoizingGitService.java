@@ -0,0 +1,158 @@
+package io.fabric8.launcher.web.producers;
+
+import java.net.URL;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+import javax.annotation.Nullable;
+
+import io.fabric8.launcher.base.identity.Identity;
+import io.fabric8.launcher.service.git.api.GitCloneSpec;
+import io.fabric8.launcher.service.git.api.GitHook;
+import io.fabric8.launcher.service.git.api.GitOrganization;
+import io.fabric8.launcher.service.git.api.GitRepository;
+import io.fabric8.launcher.service.git.api.GitRepositoryFilter;
+import io.fabric8.launcher.service.git.api.GitRepositoryPage;
+import io.fabric8.launcher.service.git.api.GitService;
+import io.fabric8.launcher.service.git.api.GitUser;
+
+/**
+ * A {@link GitService} remembering the logged user and the organizations for as long as its session lives
+ *
+ * @see GitServiceSessions
+ */
+class MemoizingGitService implements GitService {
+
+    private final GitService delegate;
+
+    private volatile GitUser loggedUser;
+
+    private volatile List<GitOrganization> organizations;
+
+    MemoizingGitService(GitService delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public GitUser getLoggedUser() {
+        GitUser user = loggedUser;
+        if (user == null) {
+            user = delegate.getLoggedUser();
+            loggedUser = user;
+        }
+        return user;
+    }
+
+    @Override
+    public CompletionStage<GitUser> getLoggedUserAsync(Executor executor) {
+        GitUser user = loggedUser;
+        return user != null ? CompletableFuture.completedFuture(user) : GitService.super.getLoggedUserAsync(executor);
+    }
+
+    @Override
+    public List<GitOrganization> getOrganizations() {
+        List<GitOrganization> orgs = organizations;
+        if (orgs == null) {
+            orgs = delegate.getOrganizations();
+            organizations = orgs;
+        }
+        return orgs;
+    }
+
+    @Override
+    public CompletionStage<List<GitOrganization>> getOrganizationsAsync(Executor executor) {
+        List<GitOrganization> orgs = organizations;
+        return orgs != null ? CompletableFuture.completedFuture(orgs) : GitService.super.getOrganizationsAsync(executor);
+    }
+
+    @Override
+    public List<GitRepository> getRepositories(GitRepositoryFilter filter) {
+        return delegate.getRepositories(filter);
+    }
+
+    @Override
+    public GitRepositoryPage getRepositories(GitRepositoryFilter filter, @Nullable String cursor, int pageSize) {
+        return delegate.getRepositories(filter, cursor, pageSize);
+    }
+
+    @Override
+    public Iterator<GitRepositoryPage> getRepositoryPages(GitRepositoryFilter filter, int pageSize) {
+        return delegate.getRepositoryPages(filter, pageSize);
+    }
+
+    @Override
+    public Path clone(GitRepository repository, Path path, GitCloneSpec spec) {
+        return delegate.clone(repository, path, spec);
+    }
+
+    @Override
+    public GitRepository createRepository(GitOrganization organization, String repositoryName, String description) {
+        return delegate.createRepository(organization, repositoryName, description);
+    }
+
+    @Override
+    public GitRepository createRepository(String repositoryName, String description) {
+        return delegate.createRepository(repositoryName, description);
+    }
+
+    @Override
+    public void push(GitRepository repository, Path path) {
+        delegate.push(repository, path);
+    }
+
+    @Override
+    public Optional<GitRepository> getRepository(String name) {
+        return delegate.getRepository(name);
+    }
+
+    @Override
+    public Optional<GitRepository> getRepository(GitOrganization organization, String repositoryName) {
+        return delegate.getRepository(organization, repositoryName);
+    }
+
+    @Override
+    public GitHook createHook(GitRepository repository, @Nullable String secret, URL webhookUrl, String... events) {
+        return delegate.createHook(repository, secret, webhookUrl, events);
+    }
+
+    @Override
+    public List<GitHook> createHooks(GitRepository repository, @Nullable String secret, Collection<URL> webhookUrls, Executor executor, String... events) {
+        return delegate.createHooks(repository, secret, webhookUrls, executor, events);
+    }
+
+    @Override
+    public List<GitHook> getHooks(GitRepository repository) {
+        return delegate.getHooks(repository);
+    }
+
+    @Override
+    public Optional<GitHook> getHook(GitRepository repository, URL url) {
+        return delegate.getHook(repository, url);
+    }
+
+    @Override
+    public void deleteWebhook(GitRepository repository, GitHook webhook) {
+        delegate.deleteWebhook(repository, webhook);
+    }
+
+    @Override
+    public String[] getSuggestedNewHookEvents() {
+        return delegate.getSuggestedNewHookEvents();
+    }
+
+    @Override
+    public Identity getIdentity() {
+        return delegate.getIdentity();
+    }
+
+    @Override
+    public String getProvider() {
+        return delegate.getProvider();
+    }
+}
@@ -0,0 +1,182 @@
+package io.fabric8.launcher.web.producers;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.enterprise.context.ApplicationScoped;
+
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.launcher.base.SingleFlight;
+import io.fabric8.launcher.base.http.Authorizations;
+import io.fabric8.launcher.base.identity.Identity;
+import io.fabric8.launcher.core.spi.IdentityProvider;
+import io.fabric8.launcher.service.openshift.api.ImmutableParameters;
+import io.fabric8.launcher.service.openshift.api.OpenShiftCluster;
+import io.fabric8.launcher.service.openshift.api.OpenShiftServiceFactory;
+import org.cache2k.Cache;
+import org.cache2k.Cache2kBuilder;
+import org.eclipse.microprofile.context.ManagedExecutor;
+import org.eclipse.microprofile.context.ThreadContext;
+
+import static io.fabric8.launcher.service.openshift.api.OpenShiftEnvironment.LAUNCHER_MISSIONCONTROL_OPENSHIFT_CLUSTER_VERIFICATION_STALE_TTL;
+import static io.fabric8.launcher.service.openshift.api.OpenShiftEnvironment.LAUNCHER_MISSIONCONTROL_OPENSHIFT_CLUSTER_VERIFICATION_TIMEOUT;
+import static io.fabric8.launcher.service.openshift.api.OpenShiftEnvironment.LAUNCHER_MISSIONCONTROL_OPENSHIFT_CLUSTER_VERIFICATION_TTL;
+
+/**
+ * Tells whether a user can connect to an OpenShift cluster, remembering the answer for a while.
+ * <p>
+ * Verifications are keyed by user, cluster and a fingerprint of the authorization. They are fresh for
+ * LAUNCHER_MISSIONCONTROL_OPENSHIFT_CLUSTER_VERIFICATION_TTL seconds (60 by default), then served while a
+ * background probe refreshes them until LAUNCHER_MISSIONCONTROL_OPENSHIFT_CLUSTER_VERIFICATION_STALE_TTL seconds
+ * (10 minutes by default). A cluster not answering within LAUNCHER_MISSIONCONTROL_OPENSHIFT_CLUSTER_VERIFICATION_TIMEOUT
+ * milliseconds (3 seconds by default) is reported as not connected, its probe goes on and caches the answer.
+ */
+@ApplicationScoped
+public class OpenShiftClusterVerifier {
+
+    private static final Logger log = Logger.getLogger(OpenShiftClusterVerifier.class.getName());
+
+    private static final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "openshift-cluster-verification");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private Cache<String, Verification> verifications;
+
+    private final SingleFlight<String, Boolean> probes = new SingleFlight<>();
+
+    private Executor executor;
+
+    private long ttlMillis;
+
+    private long timeoutMillis;
+
+    /**
+     * Used in proxies, the executor and the cache are created by {@link #start()}
+     */
+    @Deprecated
+    public OpenShiftClusterVerifier() {
+    }
+
+    OpenShiftClusterVerifier(Executor executor, long ttlMillis, long staleTtlMillis, long timeoutMillis) {
+        start(executor, ttlMillis, staleTtlMillis, timeoutMillis);
+    }
+
+    @PostConstruct
+    void start() {
+        start(ManagedExecutor.builder()
+                      .maxAsync(8)
+                      .maxQueued(64)
+                      .propagated(ThreadContext.NONE)
+                      .cleared(ThreadContext.ALL_REMAINING)
+                      .build(),
+              TimeUnit.SECONDS.toMillis(LAUNCHER_MISSIONCONTROL_OPENSHIFT_CLUSTER_VERIFICATION_TTL.intValue(60)),
+              TimeUnit.SECONDS.toMillis(LAUNCHER_MISSIONCONTROL_OPENSHIFT_CLUSTER_VERIFICATION_STALE_TTL.intValue(600)),
+              LAUNCHER_MISSIONCONTROL_OPENSHIFT_CLUSTER_VERIFICATION_TIMEOUT.intValue(3000));
+    }
+
+    private void start(Executor executor, long ttlMillis, long staleTtlMillis, long timeoutMillis) {
+        this.executor = executor;
+        this.ttlMillis = ttlMillis;
+        this.timeoutMillis = timeoutMillis;
+        this.verifications = Cache2kBuilder.of(String.class, Verification.class)
+                .entryCapacity(10_000)
+                .expireAfterWrite(staleTtlMillis, TimeUnit.MILLISECONDS)
+                .build();
+    }
+
+    /**
+     * @param user             the name of the logged user
+     * @param cluster          the cluster to verify
+     * @param authorization    the authorization of the request
+     * @param identityProvider resolves the identity of the user in the cluster
+     * @param factory          creates the {@link io.fabric8.launcher.service.openshift.api.OpenShiftService} probing the cluster
+     * @return a future completed with true if the user can connect to the cluster, never completed exceptionally
+     */
+    public CompletableFuture<Boolean> isConnected(String user, OpenShiftCluster cluster, Identity authorization,
+                                                  IdentityProvider identityProvider, OpenShiftServiceFactory factory) {
+        final String key = user + ':' + cluster.getId() + ':' + Authorizations.fingerprint(authorization);
+        final Verification verification = verifications.peek(key);
+        if (verification != null) {
+            if (System.currentTimeMillis() - verification.time > ttlMillis) {
+                probe(key, cluster, authorization, identityProvider, factory);
+            }
+            return CompletableFuture.completedFuture(verification.connected);
+        }
+        final CompletableFuture<Boolean> result = new CompletableFuture<>();
+        probe(key, cluster, authorization, identityProvider, factory)
+                .whenComplete((connected, error) -> result.complete(error == null && connected));
+        final ScheduledFuture<?> timeout = timer.schedule(() -> {
+            if (result.complete(false)) {
+                log.log(Level.FINE, "OpenShift cluster {0} did not answer in time", cluster.getId());
+            }
+        }, timeoutMillis, TimeUnit.MILLISECONDS);
+        result.whenComplete((connected, error) -> timeout.cancel(false));
+        return result;
+    }
+
+    public void invalidateAll() {
+        verifications.removeAll();
+    }
+
+    private CompletableFuture<Boolean> probe(String key, OpenShiftCluster cluster, Identity authorization,
+                                             IdentityProvider identityProvider, OpenShiftServiceFactory factory) {
+        return probes.call(key, () -> identityProvider.getIdentityAsync(authorization, cluster.getId())
+                .thenCompose(identity -> identity.map(value -> getLoggedUser(cluster, value, factory))
+                        .orElseGet(() -> CompletableFuture.completedFuture(false)))
+                .whenComplete((connected, error) -> {
+                    if (error == null) {
+                        verifications.put(key, new Verification(connected, System.currentTimeMillis()));
+                    } else {
+                        log.log(Level.FINE, "Could not verify OpenShift cluster " + cluster.getId(), error);
+                    }
+                }));
+    }
+
+    private CompletableFuture<Boolean> getLoggedUser(OpenShiftCluster cluster, Identity identity, OpenShiftServiceFactory factory) {
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    factory.create(ImmutableParameters.builder().cluster(cluster).identity(identity).build()).getLoggedUser();
+                    return true;
+                } catch (KubernetesClientException e) {
+                    //means that we have an invalid token e.g. cluster got deprovisioned
+                    return false;
+                }
+            }, executor);
+        } catch (RejectedExecutionException e) {
+            final CompletableFuture<Boolean> rejected = new CompletableFuture<>();
+            rejected.completeExceptionally(e);
+            return rejected;
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (executor instanceof ManagedExecutor) {
+            ((ManagedExecutor) executor).shutdownNow();
+        }
+    }
+
+    private static final class Verification {
+
+        final boolean connected;
+
+        final long time;
+
+        Verification(boolean connected, long time) {
+            this.connected = connected;
+            this.time = time;
+        }
+    }
+}
@@ -99,4 +99,16 @@ public class OpenShiftServiceProducer {
         return factory.create(builder.build());
     }
 
+    /**
+     * Starts the OpenShift identity exchange {@link #getOpenShiftService(HttpServletRequest, IdentityProvider, TokenIdentity)}
+     * needs, without waiting for it
+     */
+    public void prefetchIdentity(final HttpServletRequest request,
+                                 final IdentityProvider identityProvider,
+                                 final TokenIdentity authorization) {
+        if (request.getHeader(OPENSHIFT_AUTHORIZATION_HEADER) == null && !factory.getDefaultIdentity().isPresent()) {
+            final String clusterId = Objects.toString(request.getHeader(OPENSHIFT_CLUSTER_HEADER), IdentityProvider.ServiceType.OPENSHIFT);
+            identityProvider.getIdentityAsync(authorization, clusterId);
+        }
+    }
 }
@@ -0,0 +1,164 @@
+package io.fabric8.launcher.web.endpoints;
+
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import javax.enterprise.inject.Instance;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
+import javax.ws.rs.core.UriBuilder;
+import javax.ws.rs.core.UriInfo;
+
+import io.fabric8.launcher.service.git.api.GitRepositoryPage;
+import io.fabric8.launcher.service.git.api.GitRepositoryPages;
+import io.fabric8.launcher.service.git.api.GitService;
+import io.fabric8.launcher.service.git.api.ImmutableGitOrganization;
+import io.fabric8.launcher.service.git.api.ImmutableGitRepository;
+import io.fabric8.launcher.service.git.api.ImmutableGitRepositoryPage;
+import io.fabric8.launcher.service.git.api.ImmutableGitUser;
+import io.fabric8.launcher.web.endpoints.models.GitDetailedUser;
+import io.fabric8.launcher.web.producers.GitServiceExecutor;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.mockito.stubbing.Answer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class GitEndpointTest {
+
+    @Mock
+    Instance<GitService> gitServiceInstance;
+
+    @Mock
+    GitService gitService;
+
+    @Mock
+    HttpHeaders headers;
+
+    @Mock
+    UriInfo uriInfo;
+
+    private final GitEndpoint endpoint = new GitEndpoint();
+
+    @Before
+    public void setUp() {
+        endpoint.gitService = gitServiceInstance;
+        endpoint.executor = new GitServiceExecutor(4, 8, 500);
+        when(gitServiceInstance.get()).thenReturn(gitService);
+        lenient().when(gitService.getLoggedUserAsync(any()))
+                .thenAnswer(invocation -> CompletableFuture.supplyAsync(gitService::getLoggedUser, invocation.getArgument(0)));
+        lenient().when(gitService.getOrganizationsAsync(any()))
+                .thenAnswer(invocation -> CompletableFuture.supplyAsync(gitService::getOrganizations, invocation.getArgument(0)));
+        lenient().when(gitService.getRepositoriesAsync(any(), any()))
+                .thenAnswer(invocation -> CompletableFuture.supplyAsync(() -> gitService.getRepositories(invocation.getArgument(0)),
+                                                                        invocation.getArgument(1)));
+    }
+
+    @Test
+    public void should_call_the_provider_concurrently() {
+        when(gitService.getLoggedUser()).thenAnswer(slow(300, ImmutableGitUser.of("joe", "avatar")));
+        when(gitService.getOrganizations()).thenAnswer(slow(300, Collections.singletonList(ImmutableGitOrganization.of("fabric8"))));
+        when(gitService.getRepositories(any())).thenAnswer(slow(300, Collections.singletonList(
+                ImmutableGitRepository.builder()
+                        .fullName("fabric8/launcher")
+                        .homepage(URI.create("https://github.com/fabric8/launcher"))
+                        .gitCloneUri(URI.create("https://github.com/fabric8/launcher.git"))
+                        .build())));
+
+        long start = System.currentTimeMillis();
+        GitDetailedUser user = endpoint.getUser();
+
+        assertThat(System.currentTimeMillis() - start).isLessThan(500);
+        assertThat(user.getUser().getLogin()).isEqualTo("joe");
+        assertThat(user.getOrganizations()).containsExactly("fabric8");
+        assertThat(user.getRepositories()).containsExactly("fabric8/launcher");
+    }
+
+    @Test
+    public void should_return_partial_results_when_the_provider_is_slow() {
+        when(gitService.getLoggedUser()).thenReturn(ImmutableGitUser.of("joe", "avatar"));
+        when(gitService.getOrganizations()).thenReturn(Collections.singletonList(ImmutableGitOrganization.of("fabric8")));
+        when(gitService.getRepositories(any())).thenAnswer(slow(5000, Collections.emptyList()));
+
+        long start = System.currentTimeMillis();
+        GitDetailedUser user = endpoint.getUser();
+
+        assertThat(System.currentTimeMillis() - start).isLessThan(2000);
+        assertThat(user.getUser().getLogin()).isEqualTo("joe");
+        assertThat(user.getOrganizations()).containsExactly("fabric8");
+        assertThat(user.getRepositories()).isEmpty();
+    }
+
+    @Test
+    public void should_fail_when_the_user_is_not_available_in_time() {
+        when(gitService.getLoggedUser()).thenAnswer(slow(5000, ImmutableGitUser.of("joe", "avatar")));
+        when(gitService.getOrganizations()).thenReturn(Collections.emptyList());
+        when(gitService.getRepositories(any())).thenReturn(Collections.emptyList());
+
+        assertThatThrownBy(endpoint::getUser)
+                .isInstanceOf(WebApplicationException.class)
+                .hasMessageContaining("did not answer in time");
+    }
+
+    @Test
+    public void should_link_to_the_next_page() {
+        when(headers.getAcceptableMediaTypes()).thenReturn(Collections.singletonList(MediaType.APPLICATION_JSON_TYPE));
+        when(uriInfo.getRequestUriBuilder()).thenReturn(UriBuilder.fromUri("http://localhost/api/services/git/repositories?limit=1"));
+        when(gitService.getRepositories(any(), isNull(), eq(1))).thenReturn(page("2", "joe/launcher-backend"));
+
+        Response response = endpoint.getRepositories(null, "launcher", null, 1, headers, uriInfo);
+
+        assertThat(response.getEntity()).isEqualTo(Collections.singletonList("joe/launcher-backend"));
+        assertThat(response.getLink("next").getUri()).hasParameter("cursor", "2").hasParameter("limit", "1");
+    }
+
+    @Test
+    public void should_stream_every_page_as_ndjson() throws Exception {
+        when(headers.getAcceptableMediaTypes()).thenReturn(Collections.singletonList(MediaType.valueOf(GitEndpoint.APPLICATION_NDJSON)));
+        when(gitService.getRepositories(any(), isNull(), eq(100))).thenReturn(page("2", "joe/launcher-backend"));
+        when(gitService.getRepositories(any(), eq("2"), eq(100))).thenReturn(page(null, "joe/launcher-frontend"));
+        when(gitService.getRepositoryPages(any(), eq(100)))
+                .thenAnswer(invocation -> GitRepositoryPages.iterate(gitService, invocation.getArgument(0), 100));
+
+        Response response = endpoint.getRepositories(null, null, null, null, headers, uriInfo);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ((StreamingOutput) response.getEntity()).write(output);
+
+        assertThat(response.getMediaType().toString()).isEqualTo(GitEndpoint.APPLICATION_NDJSON);
+        assertThat(output.toString("UTF-8")).isEqualTo("\"joe/launcher-backend\"\n\"joe/launcher-frontend\"\n");
+    }
+
+    private static GitRepositoryPage page(String nextCursor, String fullName) {
+        return ImmutableGitRepositoryPage.builder()
+                .addRepositories(ImmutableGitRepository.builder()
+                                         .fullName(fullName)
+                                         .homepage(URI.create("https://github.com/" + fullName))
+                                         .gitCloneUri(URI.create("https://github.com/" + fullName + ".git"))
+                                         .build())
+                .nextCursor(Optional.ofNullable(nextCursor))
+                .build();
+    }
+
+    private static <T> Answer<T> slow(long millis, T result) {
+        return invocation -> {
+            Thread.sleep(millis);
+            return result;
+        };
+    }
+}
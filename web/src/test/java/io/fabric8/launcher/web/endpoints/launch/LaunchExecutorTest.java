@@ -0,0 +1,108 @@
+package io.fabric8.launcher.web.endpoints.launch;
+
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import io.fabric8.launcher.core.api.Projectile;
+import io.fabric8.launcher.core.api.events.StatusMessageEvent;
+import io.fabric8.launcher.core.api.projectiles.ImmutableLauncherCreateProjectile;
+import org.junit.After;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class LaunchExecutorTest {
+
+    private final ExecutorService threads = Executors.newFixedThreadPool(1);
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private final List<StatusMessageEvent> events = new CopyOnWriteArrayList<>();
+
+    @After
+    public void tearDown() {
+        release.countDown();
+        threads.shutdownNow();
+    }
+
+    @Test
+    public void should_reject_launches_over_the_queue_size() {
+        LaunchExecutor executor = new LaunchExecutor(threads, 1, 1, 10);
+        executor.execute("joe", projectile(), this::block);
+        executor.execute("jane", projectile(), this::block);
+
+        assertThatThrownBy(() -> executor.execute("jack", projectile(), this::block))
+                .isInstanceOf(RejectedExecutionException.class);
+        assertThat(executor.getRejectedCount()).isEqualTo(1);
+        assertThat(executor.getRetryAfterSeconds()).isPositive();
+    }
+
+    @Test
+    public void should_reject_launches_over_the_user_limit() {
+        LaunchExecutor executor = new LaunchExecutor(threads, 1, 10, 1);
+        executor.execute("joe", projectile(), this::block);
+
+        assertThatThrownBy(() -> executor.execute("joe", projectile(), this::block))
+                .isInstanceOf(RejectedExecutionException.class);
+        executor.execute("jane", projectile(), this::block);
+    }
+
+    @Test
+    public void should_tell_waiting_launches_their_position() throws Exception {
+        LaunchExecutor executor = new LaunchExecutor(threads, 1, 10, 10);
+        CountDownLatch running = new CountDownLatch(1);
+        executor.execute("joe", projectile(), () -> {
+            running.countDown();
+            block();
+        });
+        running.await(5, TimeUnit.SECONDS);
+
+        Projectile second = projectile();
+        Projectile third = projectile();
+        executor.execute("jane", second, this::block);
+        executor.execute("jack", third, this::block);
+
+        assertThat(executor.getQueuedCount()).isEqualTo(2);
+        assertThat(events).filteredOn(event -> event.getId().equals(third.getId()))
+                .extracting(event -> event.getData().get("position"))
+                .containsExactly(2);
+        assertThat(events).filteredOn(event -> event.getId().equals(second.getId()))
+                .extracting(event -> event.getData().get("position"))
+                .containsExactly(1, 1);
+    }
+
+    @Test
+    public void should_admit_launches_again_once_completed() throws Exception {
+        LaunchExecutor executor = new LaunchExecutor(threads, 1, 0, 1);
+        CountDownLatch done = new CountDownLatch(1);
+        executor.execute("joe", projectile(), done::countDown);
+        done.await(5, TimeUnit.SECONDS);
+        threads.submit(() -> null).get(5, TimeUnit.SECONDS);
+
+        executor.execute("joe", projectile(), () -> {
+        });
+        assertThat(executor.getStartedCount()).isGreaterThanOrEqualTo(1);
+    }
+
+    private Projectile projectile() {
+        return ImmutableLauncherCreateProjectile.builder()
+                .projectLocation(Paths.get("target"))
+                .eventConsumer(events::add)
+                .build();
+    }
+
+    private void block() {
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package io.fabric8.launcher.web.endpoints.sse;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+import javax.ws.rs.sse.OutboundSseEvent;
+import javax.ws.rs.sse.SseEventSink;
+
+import io.fabric8.launcher.core.api.events.StatusMessageEventBroker;
+import org.jboss.resteasy.plugins.providers.sse.SseImpl;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class StatusEventStreamsTest {
+
+    private static final UUID KEY = UUID.randomUUID();
+
+    @Mock
+    StatusMessageEventBroker broker;
+
+    @Captor
+    ArgumentCaptor<Consumer<String>> consumer;
+
+    @Captor
+    ArgumentCaptor<OutboundSseEvent> events;
+
+    private StatusEventStreams streams;
+
+    @Before
+    public void createStreams() {
+        streams = new StatusEventStreams(broker, 2, 60_000);
+    }
+
+    @Test
+    public void should_number_the_events_of_a_launch() {
+        SseEventSink sink = sink();
+        streams.attach(KEY, 0, sink, new SseImpl());
+        verify(broker).setConsumer(eq(KEY), consumer.capture());
+
+        consumer.getValue().accept("{\"step\":1}");
+        consumer.getValue().accept("{\"step\":2}");
+
+        verify(sink, times(2)).send(events.capture());
+        assertThat(events.getAllValues()).extracting(OutboundSseEvent::getId).containsExactly("1", "2");
+        assertThat(events.getAllValues()).extracting(OutboundSseEvent::getData).containsExactly("{\"step\":1}", "{\"step\":2}");
+    }
+
+    @Test
+    public void should_resume_after_the_last_event_id() {
+        streams.attach(KEY, 0, sink(), new SseImpl());
+        verify(broker).setConsumer(eq(KEY), consumer.capture());
+        consumer.getValue().accept("{\"step\":1}");
+        consumer.getValue().accept("{\"step\":2}");
+
+        SseEventSink reconnected = sink();
+        streams.attach(KEY, 1, reconnected, new SseImpl());
+
+        verify(reconnected).send(events.capture());
+        assertThat(events.getValue().getId()).isEqualTo("2");
+        verify(broker, times(1)).setConsumer(any(), any());
+    }
+
+    @Test
+    public void should_only_keep_the_latest_events() {
+        streams.attach(KEY, 0, sink(), new SseImpl());
+        verify(broker).setConsumer(eq(KEY), consumer.capture());
+        consumer.getValue().accept("{\"step\":1}");
+        consumer.getValue().accept("{\"step\":2}");
+        consumer.getValue().accept("{\"step\":3}");
+
+        SseEventSink reconnected = sink();
+        streams.attach(KEY, 0, reconnected, new SseImpl());
+
+        verify(reconnected, times(2)).send(events.capture());
+        assertThat(events.getAllValues()).extracting(OutboundSseEvent::getId).containsExactly("2", "3");
+    }
+
+    @Test
+    public void should_stop_consuming_once_the_streams_are_closed() {
+        SseEventSink sink = sink();
+        streams.attach(KEY, 0, sink, new SseImpl());
+        verify(broker).setConsumer(eq(KEY), consumer.capture());
+        when(sink.isClosed()).thenReturn(true);
+
+        consumer.getValue().accept("{\"step\":1}");
+
+        verify(sink, never()).send(any());
+        verify(broker).removeConsumer(KEY);
+        assertThat(streams.getSubscriberCount(KEY)).isZero();
+    }
+
+    private static SseEventSink sink() {
+        SseEventSink sink = mock(SseEventSink.class);
+        lenient().when(sink.send(any())).thenAnswer(invocation -> CompletableFuture.completedFuture(null));
+        return sink;
+    }
+}
@@ -0,0 +1,164 @@
+package io.fabric8.launcher.web.filters.assets;
+
+import java.io.ByteArrayOutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletContext;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class StaticAssetFilterTest {
+
+    private static final String MAIN_JS = "/static/js/main.1a2b3c4d.chunk.js";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Mock
+    HttpServletRequest request;
+
+    @Mock
+    HttpServletResponse response;
+
+    @Mock
+    ServletContext servletContext;
+
+    @Mock
+    FilterChain chain;
+
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+    private ClassLoader originalClassLoader;
+
+    private StaticAssetFilter filter;
+
+    @Before
+    public void setUp() throws Exception {
+        Path root = folder.getRoot().toPath();
+        Path resources = root.resolve("META-INF/resources");
+        Files.createDirectories(resources.resolve("static/js"));
+        StringBuilder js = new StringBuilder();
+        for (int i = 0; i < 200; i++) {
+            js.append("console.log('launcher');\n");
+        }
+        Files.write(resources.resolve(MAIN_JS.substring(1)), js.toString().getBytes(StandardCharsets.UTF_8));
+        Files.write(resources.resolve("favicon.png"), new byte[]{1, 2, 3});
+        Files.write(resources.resolve("index.html"), "<html/>".getBytes(StandardCharsets.UTF_8));
+
+        StaticAssetPrecompressor.main(new String[]{resources.toString(),
+                root.resolve(StaticAssetManifest.MANIFEST_RESOURCE).toString()});
+
+        originalClassLoader = Thread.currentThread().getContextClassLoader();
+        Thread.currentThread().setContextClassLoader(new URLClassLoader(new URL[]{root.toUri().toURL()}, null));
+        filter = new StaticAssetFilter();
+        filter.init(StaticAssetManifest.load(Thread.currentThread().getContextClassLoader()), servletContext);
+
+        lenient().when(request.getMethod()).thenReturn("GET");
+        lenient().when(servletContext.getMimeType(anyString())).thenReturn("application/javascript");
+        lenient().when(response.getOutputStream()).thenReturn(new ServletOutputStream() {
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+            }
+
+            @Override
+            public void write(int b) {
+                output.write(b);
+            }
+        });
+    }
+
+    @After
+    public void tearDown() {
+        Thread.currentThread().setContextClassLoader(originalClassLoader);
+    }
+
+    @Test
+    public void should_precompress_and_list_assets() throws Exception {
+        StaticAssetManifest manifest = StaticAssetManifest.load(Thread.currentThread().getContextClassLoader());
+        StaticAssetManifest.Asset js = manifest.find(MAIN_JS).orElseThrow(AssertionError::new);
+        assertThat(js.isFingerprinted()).isTrue();
+        assertThat(js.encodings).containsKey(StaticAssetManifest.GZIP);
+        assertThat(js.encodings.get(StaticAssetManifest.GZIP)).isLessThan(js.size);
+        assertThat(folder.getRoot().toPath().resolve("META-INF/resources" + MAIN_JS + ".gz")).exists();
+
+        StaticAssetManifest.Asset png = manifest.find("/favicon.png").orElseThrow(AssertionError::new);
+        assertThat(png.isFingerprinted()).isFalse();
+        assertThat(png.encodings).isEmpty();
+        assertThat(manifest.find("/index.html")).isEmpty();
+    }
+
+    @Test
+    public void should_serve_gzip_variant_with_immutable_caching() throws Exception {
+        when(request.getServletPath()).thenReturn(MAIN_JS);
+        when(request.getHeader("Accept-Encoding")).thenReturn("gzip, deflate");
+        filter.doFilter(request, response, chain);
+
+        StaticAssetManifest.Asset js = StaticAssetManifest.load(Thread.currentThread().getContextClassLoader())
+                .find(MAIN_JS).orElseThrow(AssertionError::new);
+        verify(chain, never()).doFilter(any(), any());
+        verify(response).setHeader("Content-Encoding", "gzip");
+        verify(response).setHeader("Cache-Control", StaticAssetFilter.IMMUTABLE);
+        verify(response).setHeader("ETag", js.etag("gzip"));
+        verify(response).addHeader("Vary", "Accept-Encoding");
+        verify(response).setContentLengthLong(js.encodings.get("gzip"));
+        assertThat((long) output.size()).isEqualTo(js.encodings.get("gzip"));
+    }
+
+    @Test
+    public void should_serve_identity_when_gzip_not_accepted() throws Exception {
+        when(request.getServletPath()).thenReturn(MAIN_JS);
+        filter.doFilter(request, response, chain);
+        verify(response, never()).setHeader(eq("Content-Encoding"), anyString());
+        assertThat(new String(output.toByteArray(), StandardCharsets.UTF_8)).startsWith("console.log");
+    }
+
+    @Test
+    public void should_answer_not_modified() throws Exception {
+        StaticAssetManifest.Asset js = StaticAssetManifest.load(Thread.currentThread().getContextClassLoader())
+                .find(MAIN_JS).orElseThrow(AssertionError::new);
+        when(request.getServletPath()).thenReturn(MAIN_JS);
+        when(request.getHeader("Accept-Encoding")).thenReturn("gzip");
+        when(request.getHeader("If-None-Match")).thenReturn(js.etag("gzip"));
+        filter.doFilter(request, response, chain);
+        verify(response).setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+        assertThat(output.size()).isZero();
+    }
+
+    @Test
+    public void should_delegate_unknown_paths() throws Exception {
+        when(request.getServletPath()).thenReturn("/api/booster-catalog");
+        filter.doFilter(request, response, chain);
+        verify(chain).doFilter(request, response);
+    }
+}
@@ -0,0 +1,214 @@
+package io.fabric8.launcher.web.filters.gzip;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class GZipFilterTest {
+
+    private static final GZipSettings SETTINGS = new GZipSettings(Deflater.BEST_SPEED, 100,
+                                                                  GZipSettings.DEFAULT_MIME_TYPES,
+                                                                  GZipSettings.DEFAULT_EXCLUDED_MIME_TYPES);
+
+    @Mock
+    HttpServletRequest request;
+
+    @Mock
+    HttpServletResponse response;
+
+    private CapturingOutputStream output;
+
+    @Before
+    public void setUp() throws IOException {
+        output = new CapturingOutputStream();
+        lenient().when(response.getOutputStream()).thenReturn(output);
+        lenient().when(response.getStatus()).thenReturn(HttpServletResponse.SC_OK);
+        lenient().when(response.getHeaders("Vary")).thenReturn(Collections.emptyList());
+        lenient().when(response.getCharacterEncoding()).thenReturn("UTF-8");
+    }
+
+    @Test
+    public void should_compress_large_compressible_responses() throws Exception {
+        when(response.getContentType()).thenReturn("application/json; charset=UTF-8");
+        String content = repeat("{\"name\":\"launcher\"}", 50);
+        try (GZipServletResponseWrapper wrapper = new GZipServletResponseWrapper(response, SETTINGS, true)) {
+            wrapper.getOutputStream().write(content.getBytes(StandardCharsets.UTF_8));
+        }
+        verify(response).setHeader("Content-Encoding", "gzip");
+        verify(response).addHeader("Vary", "Accept-Encoding");
+        verify(response, never()).setContentLengthLong(anyLong());
+        assertThat(output.gunzip()).isEqualTo(content);
+    }
+
+    @Test
+    public void should_not_compress_small_responses() throws Exception {
+        when(response.getContentType()).thenReturn("application/json");
+        try (GZipServletResponseWrapper wrapper = new GZipServletResponseWrapper(response, SETTINGS, true)) {
+            wrapper.getOutputStream().write("{}".getBytes(StandardCharsets.UTF_8));
+        }
+        verify(response, never()).setHeader(eq("Content-Encoding"), anyString());
+        verify(response).addHeader("Vary", "Accept-Encoding");
+        verify(response).setContentLengthLong(2);
+        assertThat(output.asString()).isEqualTo("{}");
+    }
+
+    @Test
+    public void should_not_compress_already_compressed_content() throws Exception {
+        when(response.getContentType()).thenReturn("application/zip");
+        byte[] content = new byte[1024];
+        try (GZipServletResponseWrapper wrapper = new GZipServletResponseWrapper(response, SETTINGS, true)) {
+            wrapper.setContentLength(content.length);
+            wrapper.getOutputStream().write(content);
+        }
+        verify(response, never()).setHeader(eq("Content-Encoding"), anyString());
+        verify(response, never()).addHeader(eq("Vary"), anyString());
+        verify(response).setContentLengthLong(content.length);
+        assertThat(output.bytes.toByteArray()).isEqualTo(content);
+    }
+
+    @Test
+    public void should_not_compress_when_client_does_not_accept_gzip() throws Exception {
+        when(response.getContentType()).thenReturn("text/html");
+        String content = repeat("<p>launcher</p>", 50);
+        try (GZipServletResponseWrapper wrapper = new GZipServletResponseWrapper(response, SETTINGS, false)) {
+            wrapper.getWriter().print(content);
+        }
+        verify(response, never()).setHeader(eq("Content-Encoding"), anyString());
+        verify(response).addHeader("Vary", "Accept-Encoding");
+        assertThat(output.asString()).isEqualTo(content);
+    }
+
+    @Test
+    public void should_only_write_when_underlying_stream_is_ready() throws Exception {
+        when(response.getContentType()).thenReturn("text/plain");
+        AtomicInteger notifications = new AtomicInteger();
+        GZipServletResponseWrapper wrapper = new GZipServletResponseWrapper(response, SETTINGS, true);
+        ServletOutputStream stream = wrapper.getOutputStream();
+        stream.setWriteListener(new WriteListener() {
+            @Override
+            public void onWritePossible() {
+                notifications.incrementAndGet();
+            }
+
+            @Override
+            public void onError(Throwable t) {
+            }
+        });
+        String content = repeat("launcher ", 100);
+        output.ready = false;
+        stream.write(content.getBytes(StandardCharsets.UTF_8));
+        stream.flush();
+        assertThat(stream.isReady()).isFalse();
+        assertThat(output.bytes.size()).isZero();
+
+        output.ready = true;
+        output.listener.onWritePossible();
+        assertThat(stream.isReady()).isTrue();
+        assertThat(notifications).hasValue(1);
+
+        stream.close();
+        assertThat(output.closed).isTrue();
+        assertThat(output.gunzip()).isEqualTo(content);
+    }
+
+    @Test
+    public void should_parse_accept_encoding() {
+        assertThat(acceptsGZip("gzip, deflate, br")).isTrue();
+        assertThat(acceptsGZip("br;q=1.0, gzip;q=0.8")).isTrue();
+        assertThat(acceptsGZip("*")).isTrue();
+        assertThat(acceptsGZip("gzip;q=0")).isFalse();
+        assertThat(acceptsGZip("*, gzip;q=0")).isFalse();
+        assertThat(acceptsGZip("identity")).isFalse();
+        assertThat(acceptsGZip(null)).isFalse();
+    }
+
+    @Test
+    public void should_match_mime_types() {
+        assertThat(SETTINGS.isCompressible("text/html;charset=UTF-8")).isTrue();
+        assertThat(SETTINGS.isCompressible("application/vnd.api+json")).isTrue();
+        assertThat(SETTINGS.isCompressible("text/event-stream")).isFalse();
+        assertThat(SETTINGS.isCompressible("application/octet-stream")).isFalse();
+        assertThat(SETTINGS.isCompressible(null)).isFalse();
+    }
+
+    private boolean acceptsGZip(String acceptEncoding) {
+        when(request.getHeader("Accept-Encoding")).thenReturn(acceptEncoding);
+        return GZipFilter.acceptsGZipEncoding(request);
+    }
+
+    private static String repeat(String value, int times) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < times; i++) {
+            sb.append(value);
+        }
+        return sb.toString();
+    }
+
+    private static class CapturingOutputStream extends ServletOutputStream {
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        volatile boolean ready = true;
+
+        WriteListener listener;
+
+        boolean closed;
+
+        @Override
+        public boolean isReady() {
+            return ready;
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            this.listener = writeListener;
+        }
+
+        @Override
+        public void write(int b) {
+            bytes.write(b);
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+
+        String asString() {
+            return new String(bytes.toByteArray(), StandardCharsets.UTF_8);
+        }
+
+        String gunzip() throws IOException {
+            try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+                return IOUtils.toString(in, StandardCharsets.UTF_8);
+            }
+        }
+    }
+}
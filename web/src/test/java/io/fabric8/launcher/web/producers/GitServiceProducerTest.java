@@ -6,8 +6,10 @@ import javax.servlet.http.HttpServletRequest;
 
 import io.fabric8.launcher.base.identity.TokenIdentity;
 import io.fabric8.launcher.core.spi.IdentityProvider;
+import io.fabric8.launcher.service.git.api.GitService;
 import io.fabric8.launcher.service.git.api.GitServiceConfig;
 import io.fabric8.launcher.service.git.api.GitServiceFactory;
+import io.fabric8.launcher.service.git.api.ImmutableGitUser;
 import io.fabric8.launcher.service.git.spi.GitProviderType;
 import io.fabric8.launcher.service.git.spi.GitServiceConfigs;
 import io.fabric8.launcher.service.git.spi.GitServiceFactories;
@@ -17,6 +19,8 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -44,6 +48,9 @@ public class GitServiceProducerTest {
     @Mock
     GitServiceFactory gitServiceFactory;
 
+    @Mock
+    GitService gitService;
+
     @Test
     public void getGitServiceConfig_should_return_correct_factory_if_header_is_set() {
         // Return the given GitServiceFactory when asked
@@ -53,7 +60,7 @@ public class GitServiceProducerTest {
         when(gitServiceConfigs.findById("BitBucket")).thenReturn(Optional.of(config));
 
         // Test it calls the BitBucket provider
-        GitServiceProducer producer = new GitServiceProducer(gitServiceFactories, gitServiceConfigs);
+        GitServiceProducer producer = new GitServiceProducer(gitServiceFactories, gitServiceConfigs, new GitServiceSessions(1000, 300));
         producer.getGitServiceConfig(mockRequest);
 
         // Verify that list is not called
@@ -69,7 +76,7 @@ public class GitServiceProducerTest {
         when(gitServiceConfigs.defaultConfig()).thenReturn(config);
 
         // Test it
-        GitServiceProducer producer = new GitServiceProducer(gitServiceFactories, gitServiceConfigs);
+        GitServiceProducer producer = new GitServiceProducer(gitServiceFactories, gitServiceConfigs, new GitServiceSessions(1000, 300));
         producer.getGitServiceConfig(mockRequest);
 
         // Verify that GitHub (default provider) was called once
@@ -82,7 +89,7 @@ public class GitServiceProducerTest {
         when(mockRequest.getHeader(GitServiceProducer.GIT_PROVIDER_HEADER)).thenReturn("Blah");
 
         // Test it
-        GitServiceProducer producer = new GitServiceProducer(gitServiceFactories, gitServiceConfigs);
+        GitServiceProducer producer = new GitServiceProducer(gitServiceFactories, gitServiceConfigs, new GitServiceSessions(1000, 300));
         producer.getGitServiceConfig(mockRequest);
     }
 
@@ -98,10 +105,12 @@ public class GitServiceProducerTest {
         when(gitServiceFactories.getGitServiceFactory(GitProviderType.GITHUB)).thenReturn(gitServiceFactory);
 
         when(config.getType()).thenReturn(GitProviderType.GITHUB);
+        when(config.getId()).thenReturn("GitHub");
         when(gitServiceConfigs.defaultConfig()).thenReturn(config);
+        when(gitServiceFactory.create(any(), any(), any())).thenReturn(gitService);
 
         // Test it
-        GitServiceProducer producer = new GitServiceProducer(gitServiceFactories, gitServiceConfigs);
+        GitServiceProducer producer = new GitServiceProducer(gitServiceFactories, gitServiceConfigs, new GitServiceSessions(1000, 300));
         producer.getGitService(mockRequest, identityProvider, identity);
 
         verifyZeroInteractions(identityProvider);
@@ -123,15 +132,42 @@ public class GitServiceProducerTest {
         when(gitServiceFactories.getGitServiceFactory(GitProviderType.GITHUB)).thenReturn(gitServiceFactory);
 
         when(config.getType()).thenReturn(GitProviderType.GITHUB);
+        when(config.getId()).thenReturn("GitHub");
         when(gitServiceConfigs.defaultConfig()).thenReturn(config);
+        when(gitServiceFactory.create(any(), any(), any())).thenReturn(gitService);
 
         // Test it
-        GitServiceProducer producer = new GitServiceProducer(gitServiceFactories, gitServiceConfigs);
+        GitServiceProducer producer = new GitServiceProducer(gitServiceFactories, gitServiceConfigs, new GitServiceSessions(1000, 300));
         producer.getGitService(mockRequest, identityProvider, identity);
 
         verifyZeroInteractions(identityProvider);
         verify(gitServiceFactory).create(identityHeader, userName, config);
     }
 
+    @Test
+    public void getGitService_should_reuse_the_session_of_the_same_identity() {
+        TokenIdentity identity = TokenIdentity.of("authentication_token");
+        when(mockRequest.getHeader(GitServiceProducer.GIT_AUTHORIZATION_HEADER)).thenReturn(identity.toRequestAuthorization());
+        when(gitServiceFactory.getName()).thenReturn("Mocked");
+        when(gitServiceFactories.getGitServiceFactory(GitProviderType.GITHUB)).thenReturn(gitServiceFactory);
+        when(config.getType()).thenReturn(GitProviderType.GITHUB);
+        when(config.getId()).thenReturn("GitHub");
+        when(gitServiceConfigs.defaultConfig()).thenReturn(config);
+        when(gitServiceFactory.create(any(), any(), any())).thenReturn(gitService);
+
+        when(gitService.getLoggedUser()).thenReturn(ImmutableGitUser.of("joe", "avatar"));
 
-}
\ No newline at end of file
+        GitServiceProducer producer = new GitServiceProducer(gitServiceFactories, gitServiceConfigs, new GitServiceSessions(1000, 300));
+        GitService first = producer.getGitService(mockRequest, identityProvider, identity);
+        GitService second = producer.getGitService(mockRequest, identityProvider, identity);
+        first.getLoggedUser();
+        second.getLoggedUser();
+
+        assertThat(second).isSameAs(first);
+        verify(gitServiceFactory, times(1)).create(identity, null, config);
+        verify(gitService, times(1)).getLoggedUser();
+
+        when(mockRequest.getHeader(GitServiceProducer.GIT_AUTHORIZATION_HEADER)).thenReturn(TokenIdentity.of("other_token").toRequestAuthorization());
+        assertThat(producer.getGitService(mockRequest, identityProvider, identity)).isNotSameAs(first);
+    }
+}
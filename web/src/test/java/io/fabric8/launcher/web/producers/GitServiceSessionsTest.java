@@ -0,0 +1,67 @@
+package io.fabric8.launcher.web.producers;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+import io.fabric8.launcher.base.identity.TokenIdentity;
+import io.fabric8.launcher.service.git.api.GitService;
+import io.fabric8.launcher.service.git.api.GitServiceConfig;
+import io.fabric8.launcher.service.git.api.GitServiceFactory;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class GitServiceSessionsTest {
+
+    @Mock
+    GitServiceFactory factory;
+
+    @Mock
+    GitServiceConfig config;
+
+    @Mock
+    GitService gitService;
+
+    @Test
+    public void should_not_keep_sessions_of_expired_tokens() {
+        TokenIdentity identity = TokenIdentity.of(jwt(Instant.now().minusSeconds(60)));
+        when(config.getId()).thenReturn("GitHub");
+        when(factory.create(identity, "joe", config)).thenReturn(gitService);
+        when(gitService.getIdentity()).thenReturn(identity);
+
+        GitServiceSessions sessions = new GitServiceSessions(10, 300);
+        sessions.getGitService(factory, identity, "joe", config);
+        sessions.getGitService(factory, identity, "joe", config);
+
+        verify(factory, times(2)).create(identity, "joe", config);
+    }
+
+    @Test
+    public void should_keep_sessions_of_valid_tokens() {
+        TokenIdentity identity = TokenIdentity.of(jwt(Instant.now().plusSeconds(600)));
+        when(config.getId()).thenReturn("GitHub");
+        when(factory.create(identity, "joe", config)).thenReturn(gitService);
+        when(factory.create(identity, "jane", config)).thenReturn(gitService);
+        when(gitService.getIdentity()).thenReturn(identity);
+
+        GitServiceSessions sessions = new GitServiceSessions(10, 300);
+        GitService first = sessions.getGitService(factory, identity, "joe", config);
+        assertThat(sessions.getGitService(factory, identity, "joe", config)).isSameAs(first);
+        assertThat(sessions.getGitService(factory, identity, "jane", config)).isNotSameAs(first);
+    }
+
+    private static String jwt(Instant expiresAt) {
+        String payload = "{\"exp\":" + expiresAt.getEpochSecond() + "}";
+        return "eyJhbGciOiJSUzI1NiJ9."
+                + Base64.getUrlEncoder().withoutPadding().encodeToString(payload.getBytes(StandardCharsets.UTF_8))
+                + ".c2lnbmF0dXJl";
+    }
+}
@@ -0,0 +1,109 @@
+package io.fabric8.launcher.web.producers;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.launcher.base.identity.TokenIdentity;
+import io.fabric8.launcher.core.spi.IdentityProvider;
+import io.fabric8.launcher.service.openshift.api.ImmutableOpenShiftCluster;
+import io.fabric8.launcher.service.openshift.api.OpenShiftCluster;
+import io.fabric8.launcher.service.openshift.api.OpenShiftService;
+import io.fabric8.launcher.service.openshift.api.OpenShiftServiceFactory;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class OpenShiftClusterVerifierTest {
+
+    private static final OpenShiftCluster CLUSTER = ImmutableOpenShiftCluster.builder()
+            .id("starter-us-east-2")
+            .apiUrl("https://api.starter-us-east-2.openshift.com")
+            .build();
+
+    private static final TokenIdentity AUTHORIZATION = TokenIdentity.of("token");
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    @Mock
+    OpenShiftServiceFactory factory;
+
+    @Mock
+    OpenShiftService openShiftService;
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void should_cache_the_verification() throws Exception {
+        when(factory.create(any())).thenReturn(openShiftService);
+        OpenShiftClusterVerifier verifier = new OpenShiftClusterVerifier(executor, 60_000, 600_000, 5_000);
+
+        assertThat(isConnected(verifier, "joe").get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(isConnected(verifier, "joe").get(5, TimeUnit.SECONDS)).isTrue();
+
+        verify(openShiftService, times(1)).getLoggedUser();
+    }
+
+    @Test
+    public void should_report_invalid_tokens_as_not_connected() throws Exception {
+        when(factory.create(any())).thenReturn(openShiftService);
+        when(openShiftService.getLoggedUser()).thenThrow(new KubernetesClientException("Unauthorized"));
+        OpenShiftClusterVerifier verifier = new OpenShiftClusterVerifier(executor, 60_000, 600_000, 5_000);
+
+        assertThat(isConnected(verifier, "joe").get(5, TimeUnit.SECONDS)).isFalse();
+    }
+
+    @Test
+    public void should_serve_stale_verifications_while_refreshing_them() throws Exception {
+        when(factory.create(any())).thenReturn(openShiftService);
+        OpenShiftClusterVerifier verifier = new OpenShiftClusterVerifier(executor, 0, 600_000, 5_000);
+        assertThat(isConnected(verifier, "joe").get(5, TimeUnit.SECONDS)).isTrue();
+        Thread.sleep(10);
+        when(openShiftService.getLoggedUser()).thenThrow(new KubernetesClientException("Unauthorized"));
+
+        // The stale answer is served at once, the refreshed one on the next call
+        assertThat(isConnected(verifier, "joe").getNow(null)).isTrue();
+        verify(openShiftService, timeout(5_000).times(2)).getLoggedUser();
+        Thread.sleep(100);
+        assertThat(isConnected(verifier, "joe").getNow(null)).isFalse();
+    }
+
+    @Test
+    public void should_not_wait_for_unreachable_clusters() throws Exception {
+        CountDownLatch unreachable = new CountDownLatch(1);
+        when(factory.create(any())).thenReturn(openShiftService);
+        when(openShiftService.getLoggedUser()).thenAnswer(invocation -> {
+            unreachable.await();
+            return null;
+        });
+        OpenShiftClusterVerifier verifier = new OpenShiftClusterVerifier(executor, 60_000, 600_000, 50);
+
+        assertThat(isConnected(verifier, "joe").get(5, TimeUnit.SECONDS)).isFalse();
+
+        // The probe goes on and its answer is cached once the cluster is back
+        unreachable.countDown();
+        Thread.sleep(100);
+        assertThat(isConnected(verifier, "joe").getNow(null)).isTrue();
+        verify(openShiftService, times(1)).getLoggedUser();
+    }
+
+    private CompletableFuture<Boolean> isConnected(OpenShiftClusterVerifier verifier, String user) {
+        return verifier.isConnected(user, CLUSTER, AUTHORIZATION, IdentityProvider.NULL_PROVIDER, factory);
+    }
+}